@@ -228,6 +228,34 @@ public class AdaptableSupportTests {
 
 	}
 
+	@Test
+	public void resolutionCacheIsInvalidatedOnChange() {
+		AdaptableSupportWrapper td = new AdaptableSupportWrapper();
+		ParameterType1 adapter1 = new ParameterType1();
+		ParameterType1 adapter2 = new ParameterType1();
+
+		// resolve (and cache) the adapters
+		td.setAdapter(adapter1, "a");
+		assertEquals(adapter1, td.getAdapter(ParameterType1.class));
+		assertEquals(1, td.getAdapters(ParameterType1.class).size());
+
+		// the resolution reflects an added adapter
+		td.setAdapter(adapter2, "b");
+		assertNull(td.getAdapter(ParameterType1.class));
+		assertEquals(adapter2, td.getAdapter(
+				AdapterKey.get(ParameterType1.class, "b")));
+		assertEquals(2, td.getAdapters(ParameterType1.class).size());
+
+		// modifying a returned map does not affect the resolution
+		td.getAdapters(ParameterType1.class).clear();
+		assertEquals(2, td.getAdapters(ParameterType1.class).size());
+
+		// the resolution reflects a removed adapter
+		td.unsetAdapter(adapter1);
+		assertEquals(adapter2, td.getAdapter(ParameterType1.class));
+		assertNull(td.getAdapter(AdapterKey.get(ParameterType1.class, "a")));
+	}
+
 	@SuppressWarnings({ "serial", "rawtypes" })
 	@Test
 	public void retrievalOfMultipleAdapters() {
@@ -16,6 +16,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.TreeMap;
 
 import org.eclipse.gef.common.beans.property.ReadOnlyMapWrapperEx;
@@ -26,6 +27,7 @@ import com.google.common.reflect.TypeToken;
 
 import javafx.beans.property.ReadOnlyMapProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.MapChangeListener;
 import javafx.collections.ObservableMap;
 
 /**
@@ -44,9 +46,57 @@ import javafx.collections.ObservableMap;
  */
 public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 
+	/**
+	 * The key of a cached {@link Resolution}, i.e. a pair of {@link TypeToken}
+	 * key and role (which may be <code>null</code>).
+	 */
+	private static final class ResolutionKey {
+		private final TypeToken<?> typeKey;
+		private final String role;
+
+		ResolutionKey(TypeToken<?> typeKey, String role) {
+			this.typeKey = typeKey;
+			this.role = role;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof ResolutionKey)) {
+				return false;
+			}
+			ResolutionKey other = (ResolutionKey) obj;
+			return typeKey.equals(other.typeKey)
+					&& Objects.equals(role, other.role);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * typeKey.hashCode() + Objects.hashCode(role);
+		}
+	}
+
+	/**
+	 * The adapters that match a {@link ResolutionKey}, together with the
+	 * number of distinct adapter instances among them.
+	 */
+	private static final class Resolution {
+		private final Map<AdapterKey<?>, Object> adapters;
+		private final int adapterCount;
+
+		Resolution(Map<AdapterKey<?>, Object> adapters) {
+			this.adapters = adapters;
+			// an adapter instance may be registered under different keys
+			this.adapterCount = adapters.size() < 2 ? adapters.size()
+					: new HashSet<>(adapters.values()).size();
+		}
+	}
+
 	// XXX: We keep a sorted map of adapters to have a deterministic order
 	private ObservableMap<AdapterKey<?>, Object> adapters = FXCollections
 			.observableMap(new TreeMap<AdapterKey<?>, Object>());
+	// resolving adapters requires (reflective) type checks for all registered
+	// adapters, so the results are cached until the adapters change
+	private Map<ResolutionKey, Resolution> resolutions = new HashMap<>();
 	private ObservableMap<AdapterKey<?>, Object> adaptersUnmodifiable;
 	private ReadOnlyMapWrapperEx<AdapterKey<?>, Object> adaptersUnmodifiableProperty;
 	private A source;
@@ -65,6 +115,14 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 			throw new IllegalArgumentException("source may not be null.");
 		}
 		this.source = source;
+		adapters.addListener(
+				new MapChangeListener<AdapterKey<?>, Object>() {
+					@Override
+					public void onChanged(
+							MapChangeListener.Change<? extends AdapterKey<?>, ? extends Object> change) {
+						resolutions.clear();
+					}
+				});
 	}
 
 	/**
@@ -108,6 +166,7 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 		}
 
 		adapters.clear();
+		resolutions.clear();
 		source = null;
 	}
 
@@ -126,19 +185,16 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 	 *
 	 * @see IAdaptable#getAdapter(AdapterKey)
 	 */
+	@SuppressWarnings("unchecked")
 	public <T> T getAdapter(AdapterKey<T> key) {
 		if (adapters.isEmpty()) {
 			return null;
 		}
 
 		// see if we can unambiguously retrieve a matching adapter
-		Map<AdapterKey<? extends T>, T> adaptersForTypeKey = getAdapters(
-				key.getKey(), key.getRole());
-
-		// an adapter instance may be registered under different keys
-		int adapterCount = new HashSet<>(adaptersForTypeKey.values()).size();
-		if (adapterCount == 1) {
-			return adaptersForTypeKey.values().iterator().next();
+		Resolution resolution = resolve(key.getKey(), key.getRole());
+		if (resolution.adapterCount == 1) {
+			return (T) resolution.adapters.values().iterator().next();
 		}
 
 		return null;
@@ -182,20 +238,21 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 	 *
 	 * @see IAdaptable#getAdapter(TypeToken)
 	 */
+	@SuppressWarnings("unchecked")
 	public <T> T getAdapter(TypeToken<T> key) {
+		if (adapters.isEmpty()) {
+			return null;
+		}
+
 		// if we have only one adapter (instance) for the given type key
 		// (disregarding the
 		// role), return this one
-		Map<AdapterKey<? extends T>, T> adaptersForTypeKey = getAdapters(key,
-				null);
-
-		// an adapter instance may be registered under different keys
-		int adapterCount = new HashSet<>(adaptersForTypeKey.values()).size();
-		if (adapterCount == 1) {
-			return adaptersForTypeKey.values().iterator().next();
+		Resolution resolution = resolve(key, null);
+		if (resolution.adapterCount == 1) {
+			return (T) resolution.adapters.values().iterator().next();
 		}
 
-		if (adapterCount > 1) {
+		if (resolution.adapterCount > 1) {
 			// if we have more than one adapter instance, try to retrieve one
 			// unambiguously by using the default role
 			return getAdapter(AdapterKey.get(key, AdapterKey.DEFAULT_ROLE));
@@ -286,40 +343,38 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 		if (adapters.isEmpty()) {
 			return Collections.emptyMap();
 		}
-		Map<AdapterKey<? extends T>, T> typeSafeAdapters = new TreeMap<>();
-		for (AdapterKey<?> k : adapters.keySet()) {
-			if (Types.isAssignable(key, k.getKey())) {
-				// check type compliance...
-				typeSafeAdapters.put((AdapterKey<? extends T>) k,
-						(T) adapters.get(k));
-			}
-		}
-		return typeSafeAdapters;
+		// return a copy, so that the cached resolution cannot be modified
+		return new TreeMap<>(
+				(Map<AdapterKey<? extends T>, T>) (Map<?, ?>) resolve(key,
+						null).adapters);
 	}
 
-	@SuppressWarnings("unchecked")
-	private <T> Map<AdapterKey<? extends T>, T> getAdapters(
-			TypeToken<? super T> typeKey, String role) {
+	/**
+	 * Returns the (cached) {@link Resolution} of the adapters that are
+	 * registered under the given role (or any role if <code>null</code>) and
+	 * whose type key is assignable to the given {@link TypeToken} key.
+	 */
+	private Resolution resolve(TypeToken<?> typeKey, String role) {
 		if (typeKey == null) {
 			throw new IllegalArgumentException("typeKey may not be null");
 		}
-		if (adapters.isEmpty()) {
-			return Collections.emptyMap();
-		}
-
-		Map<AdapterKey<? extends T>, T> typeSafeAdapters = new TreeMap<>();
-		for (AdapterKey<?> k : adapters.keySet()) {
-			if (role == null || k.getRole().equals(role)) {
-				// return all adapters assignable to the given type
-				// key
-				if (Types.isAssignable(typeKey, k.getKey())) {
-					typeSafeAdapters.put((AdapterKey<? extends T>) k,
-							(T) adapters.get(k));
-
+		ResolutionKey resolutionKey = new ResolutionKey(typeKey, role);
+		Resolution resolution = resolutions.get(resolutionKey);
+		if (resolution == null) {
+			Map<AdapterKey<?>, Object> typeSafeAdapters = new TreeMap<>();
+			for (AdapterKey<?> k : adapters.keySet()) {
+				if (role == null || k.getRole().equals(role)) {
+					// return all adapters assignable to the given type
+					// key
+					if (Types.isAssignable(typeKey, k.getKey())) {
+						typeSafeAdapters.put(k, adapters.get(k));
+					}
 				}
 			}
+			resolution = new Resolution(typeSafeAdapters);
+			resolutions.put(resolutionKey, resolution);
 		}
-		return typeSafeAdapters;
+		return resolution;
 	}
 
 	/**
@@ -18,7 +18,10 @@ import org.junit.runners.Suite.SuiteClasses;
 
 @RunWith(Suite.class)
 @SuiteClasses({ ConnectionTests.class, GeometryNodeTests.class, GeometryConversionTests.class,
-		OrthogonalProjectionStrategyTests.class, NodeUtilsTests.class, FXCanvasExTests.class})
+		OrthogonalProjectionStrategyTests.class, NodeUtilsTests.class, FXCanvasExTests.class,
+		TransformChangeDispatcherTests.class, SpatialIndexTests.class,
+		InfiniteCanvasTests.class,
+		OrthogonalRouterTests.class, ConnectionBatchCanvasTests.class })
 public class AllTests {
 
 }
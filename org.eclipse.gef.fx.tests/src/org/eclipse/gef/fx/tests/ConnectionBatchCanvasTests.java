@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.gef.fx.nodes.Connection;
+import org.eclipse.gef.fx.nodes.ConnectionBatchCanvas;
+import org.eclipse.gef.fx.nodes.GeometryNode;
+import org.eclipse.gef.fx.tests.rules.FXApplicationThreadRule;
+import org.eclipse.gef.geometry.planar.CubicCurve;
+import org.eclipse.gef.geometry.planar.Line;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Polyline;
+import org.junit.Rule;
+import org.junit.Test;
+
+import javafx.geometry.BoundingBox;
+import javafx.scene.Group;
+import javafx.scene.Scene;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.transform.Affine;
+
+public class ConnectionBatchCanvasTests {
+
+	/**
+	 * Ensure all tests are executed on the JavaFX application thread (and the
+	 * JavaFX toolkit is properly initialized).
+	 */
+	@Rule
+	public FXApplicationThreadRule fxApplicationThreadRule = new FXApplicationThreadRule();
+
+	@Test
+	public void canvasCoversVisibleEdges() {
+		ConnectionBatchCanvas batch = new ConnectionBatchCanvas();
+		new Scene(new Group(batch), 200, 100);
+		batch.putEdge("a", new Line(0, 10, 10000, 10));
+		batch.putEdge("b", new Line(10, 0, 10, 50));
+		batch.layout();
+
+		// the canvas is limited to the scene
+		Canvas canvas = batch.getCanvas();
+		assertEquals(200, canvas.getWidth(), 0);
+		assertEquals(52, canvas.getHeight(), 0);
+
+		// zooming does not enlarge the canvas
+		batch.setScaleX(10);
+		batch.setScaleY(10);
+		batch.layout();
+		assertTrue(canvas.getWidth() <= 200);
+		assertTrue(canvas.getHeight() <= 100);
+
+		// the canvas shrinks when edges are removed
+		batch.setScaleX(1);
+		batch.setScaleY(1);
+		batch.removeEdge("a");
+		batch.layout();
+		assertEquals(new BoundingBox(8, 0, 4, 52), canvas.getBoundsInParent());
+
+		// the canvas is released when nothing is visible
+		batch.removeEdge("b");
+		batch.layout();
+		assertEquals(0, canvas.getWidth(), 0);
+		assertEquals(0, canvas.getHeight(), 0);
+	}
+
+	@Test
+	public void drawWithinScene() {
+		ConnectionBatchCanvas batch = new ConnectionBatchCanvas();
+		Scene scene = new Scene(new Group(batch), 200, 100);
+		batch.getTransforms().add(new Affine(2, 0, 50, 0, 2, 50));
+		batch.putEdge("a", new Line(0, 0, 20, 0), Color.RED, 4);
+		batch.layout();
+
+		// the edge is drawn at its position within the scene
+		WritableImage image = scene.snapshot(null);
+		assertEquals(Color.RED,
+				image.getPixelReader().getColor(70, 50));
+		assertEquals(Color.WHITE,
+				image.getPixelReader().getColor(110, 50));
+	}
+
+	@Test
+	public void edgeAt() {
+		ConnectionBatchCanvas batch = new ConnectionBatchCanvas();
+		batch.putEdge("a", new Line(0, 0, 100, 0));
+		batch.putEdge("b", new Polyline(0, 50, 50, 50, 50, 100));
+		assertEquals("a", batch.getEdgeAt(50, 2));
+		assertEquals("b", batch.getEdgeAt(51, 80));
+		assertNull(batch.getEdgeAt(20, 20));
+
+		// later edges are on top
+		batch.putEdge("c", new Line(0, 1, 100, 1));
+		assertEquals("c", batch.getEdgeAt(50, 1));
+
+		// updated geometries are considered
+		batch.putEdge("c", new Line(0, 200, 100, 200));
+		assertEquals("a", batch.getEdgeAt(50, 1));
+		batch.removeEdge("a");
+		assertNull(batch.getEdgeAt(50, 1));
+		assertEquals(2, batch.getEdges().size());
+	}
+
+	@Test
+	public void promoteAndDemote() {
+		ConnectionBatchCanvas batch = new ConnectionBatchCanvas();
+		batch.putEdge("a", new Polyline(0, 0, 100, 0, 100, 100));
+		assertFalse(batch.isPromoted("a"));
+		assertNull(batch.getConnection("a"));
+
+		batch.promote("a");
+		assertTrue(batch.isPromoted("a"));
+		Connection connection = batch.getConnection("a");
+		assertTrue(batch.getPromotedLayer().getChildren().contains(connection));
+		assertEquals(new Point(0, 0), connection.getStartPoint());
+		assertEquals(new Point(100, 100), connection.getEndPoint());
+
+		// the connection renders the exact geometry of the edge
+		CubicCurve curve = new CubicCurve(0, 0, 100, 0, 0, 100, 100, 100);
+		batch.putEdge("a", curve);
+		connection = batch.getConnection("a");
+		assertEquals(curve,
+				((GeometryNode<?>) connection.getCurve()).getGeometry());
+
+		batch.demote("a");
+		assertFalse(batch.isPromoted("a"));
+		assertTrue(batch.getPromotedLayer().getChildren().isEmpty());
+
+		// removing a promoted edge removes its connection
+		batch.promote("a");
+		batch.removeEdge("a");
+		assertTrue(batch.getPromotedLayer().getChildren().isEmpty());
+	}
+
+}
@@ -13,20 +13,75 @@
 package org.eclipse.gef.fx.tests;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
 
+import javax.swing.SwingUtilities;
+
+import org.eclipse.gef.fx.anchors.DynamicAnchor;
 import org.eclipse.gef.fx.anchors.IAnchor;
 import org.eclipse.gef.fx.anchors.StaticAnchor;
 import org.eclipse.gef.fx.nodes.Connection;
 import org.eclipse.gef.fx.nodes.GeometryNode;
+import org.eclipse.gef.fx.nodes.OrthogonalRouter;
 import org.eclipse.gef.geometry.planar.ICurve;
 import org.eclipse.gef.geometry.planar.Point;
 import org.junit.Test;
 
+import javafx.application.Platform;
+import javafx.embed.swing.JFXPanel;
+import javafx.scene.Group;
+import javafx.scene.Scene;
+import javafx.scene.shape.Rectangle;
+
 public class ConnectionTests {
 
+	private static boolean initializedJavaFxToolkit = false;
+
+	/**
+	 * Executes the given {@link Runnable} on the JavaFX application thread and
+	 * waits for its completion, re-throwing any exception or error.
+	 */
+	private static void runInFXApplicationThread(final Runnable runnable)
+			throws Throwable {
+		if (!initializedJavaFxToolkit) {
+			final CountDownLatch latch = new CountDownLatch(1);
+			SwingUtilities.invokeLater(new Runnable() {
+				@Override
+				public void run() {
+					new JFXPanel(); // initializes JavaFX environment
+					initializedJavaFxToolkit = true;
+					latch.countDown();
+				}
+			});
+			latch.await();
+		}
+
+		final CountDownLatch countDownLatch = new CountDownLatch(1);
+		final AtomicReference<Throwable> throwableRef = new AtomicReference<>();
+		Platform.runLater(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					runnable.run();
+				} catch (Throwable throwable) {
+					throwableRef.set(throwable);
+				}
+				countDownLatch.countDown();
+			}
+		});
+		countDownLatch.await();
+		Throwable thrown = throwableRef.get();
+		if (thrown != null) {
+			throw thrown;
+		}
+	}
+
 	@Test
 	public void controlPoints() throws IllegalArgumentException, IllegalAccessException {
 		Connection connection = new Connection();
@@ -96,6 +151,58 @@ public class ConnectionTests {
 		assertEquals(2, connection.getControlPoints().size());
 	}
 
+	/**
+	 * Ensures that the geometry of a {@link Connection} that defers its
+	 * refreshes is up-to-date when it is queried right after a change, i.e.
+	 * before the next pulse.
+	 */
+	@Test
+	public void deferredRefresh() throws Throwable {
+		runInFXApplicationThread(new Runnable() {
+			@Override
+			public void run() {
+				Rectangle source = new Rectangle(0, 0, 50, 50);
+				Rectangle target = new Rectangle(200, 200, 50, 50);
+				Connection deferred = new Connection();
+				deferred.setRefreshDeferred(true);
+				Connection immediate = new Connection();
+				Group root = new Group(source, target, deferred, immediate);
+				new Scene(root, 500, 500);
+
+				for (Connection connection : Arrays.asList(deferred,
+						immediate)) {
+					connection.setStartAnchor(new DynamicAnchor(source));
+					connection.setEndAnchor(new DynamicAnchor(target));
+					// changing the router schedules a refresh
+					connection.setRouter(new OrthogonalRouter());
+				}
+				assertTrue(deferred.isRefreshDeferred());
+				assertEquals(immediate.getPointsUnmodifiable(),
+						deferred.getPointsUnmodifiable());
+				assertEquals(immediate.getAnchorsUnmodifiable().size(),
+						deferred.getAnchorsUnmodifiable().size());
+
+				// moving an anchorage schedules a refresh
+				target.setX(400);
+				target.setY(100);
+				assertEquals(immediate.getStartPoint(),
+						deferred.getStartPoint());
+				assertEquals(immediate.getEndPoint(), deferred.getEndPoint());
+				assertEquals(immediate.getControlPoints(),
+						deferred.getControlPoints());
+				assertEquals(immediate.getPointsUnmodifiable(),
+						deferred.getPointsUnmodifiable());
+
+				// disabling deferring performs a pending refresh
+				source.setY(300);
+				deferred.setRefreshDeferred(false);
+				assertFalse(deferred.isRefreshDeferred());
+				assertEquals(immediate.getPointsUnmodifiable(),
+						deferred.getPointsUnmodifiable());
+			}
+		});
+	}
+
 	@Test
 	public void exchangeCurve() {
 		// setup connection with start, control, end points
@@ -172,4 +279,9 @@ public class ConnectionTests {
 		assertEquals(wayPoint, points.get(1));
 		assertEquals(endPoint, points.get(2));
 	}
+
+	@Test
+	public void refreshNotDeferredByDefault() {
+		assertFalse(new Connection().isRefreshDeferred());
+	}
 }
@@ -12,12 +12,21 @@
 package org.eclipse.gef.fx.tests;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.eclipse.gef.fx.utils.Geometry2Shape;
 import org.eclipse.gef.fx.utils.Shape2Geometry;
 import org.eclipse.gef.geometry.planar.Path;
 import org.junit.Test;
 
+import javafx.scene.shape.PathElement;
+
 public class GeometryConversionTests {
 	
 	@Test
@@ -28,6 +37,28 @@ public class GeometryConversionTests {
 				.close();
 		assertEquals(p, Shape2Geometry.toPath(Geometry2Shape.toPath(p)));
 	}
+
+	@Test
+	public void test_PathElementsUpdate() {
+		Path p = new Path().moveTo(50, 50).lineTo(100, 100).quadTo(100, 150, 50, 150).cubicTo(20, 120, 20, 80, 50, 50)
+				.close();
+		List<PathElement> elements = new ArrayList<>(Arrays.asList(Geometry2Shape.toPathElements(p)));
+		List<PathElement> original = new ArrayList<>(elements);
+
+		// same structure: elements are updated in place
+		Path q = new Path().moveTo(0, 0).lineTo(10, 10).quadTo(10, 15, 5, 15).cubicTo(2, 12, 2, 8, 5, 5).close();
+		assertTrue(Geometry2Shape.updatePathElements(q, elements));
+		for (int i = 0; i < elements.size(); i++) {
+			assertSame(original.get(i), elements.get(i));
+		}
+		javafx.scene.shape.Path fxPath = new javafx.scene.shape.Path(elements);
+		assertEquals(q, Shape2Geometry.toPath(fxPath));
+
+		// different structure: elements are not changed
+		Path r = new Path().moveTo(0, 0).lineTo(10, 10).lineTo(20, 20).cubicTo(2, 12, 2, 8, 5, 5).close();
+		assertFalse(Geometry2Shape.updatePathElements(r, elements));
+		assertEquals(q, Shape2Geometry.toPath(fxPath));
+	}
 	
 }
 
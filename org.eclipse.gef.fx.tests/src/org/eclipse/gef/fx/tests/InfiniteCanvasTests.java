@@ -0,0 +1,230 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.eclipse.gef.fx.nodes.InfiniteCanvas;
+import org.eclipse.gef.fx.nodes.VirtualizedGroup;
+import org.eclipse.gef.fx.tests.rules.FXApplicationThreadRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.geometry.Point2D;
+import javafx.scene.Group;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.transform.Affine;
+
+public class InfiniteCanvasTests {
+
+	/**
+	 * Ensure all tests are executed on the JavaFX application thread (and the
+	 * JavaFX toolkit is properly initialized).
+	 */
+	@Rule
+	public FXApplicationThreadRule fxApplicationThreadRule = new FXApplicationThreadRule();
+
+	private InfiniteCanvas createCanvas() {
+		InfiniteCanvas canvas = new InfiniteCanvas();
+		canvas.resize(100, 100);
+		canvas.setVirtualizationPadding(0);
+		return canvas;
+	}
+
+	@Test
+	public void bindVisibilityOfVirtualizedChildren() {
+		InfiniteCanvas canvas = createCanvas();
+		Rectangle near = new Rectangle(10, 10, 20, 20);
+		Rectangle far = new Rectangle(1000, 1000, 20, 20);
+		BooleanProperty visible = new SimpleBooleanProperty(true);
+		far.visibleProperty().bind(visible);
+		canvas.getContentGroup().getChildren().addAll(near, far);
+
+		// culling does not touch the (bound) visibility
+		canvas.setVirtualizeContent(true);
+		assertNull(far.getParent());
+		assertTrue(far.isVisible());
+
+		// the application can change the visibility of culled children,
+		// and the change is not overwritten when the child is un-culled
+		visible.set(false);
+		canvas.setVirtualizeContent(false);
+		assertSame(canvas.getContentGroup(), far.getParent());
+		assertFalse(far.isVisible());
+
+		// children that are hidden by the application are culled, too
+		canvas.setVirtualizeContent(true);
+		assertNull(far.getParent());
+		assertFalse(far.isVisible());
+	}
+
+	@Test
+	public void cullAndUncull() {
+		InfiniteCanvas canvas = createCanvas();
+		Group content = canvas.getContentGroup();
+		Rectangle near = new Rectangle(10, 10, 20, 20);
+		Rectangle far = new Rectangle(1000, 1000, 20, 20);
+		content.getChildren().addAll(near, far);
+		assertTrue(content instanceof VirtualizedGroup);
+		VirtualizedGroup group = (VirtualizedGroup) content;
+
+		// children outside of the viewport are detached, but remain children
+		canvas.setVirtualizeContent(true);
+		assertSame(content, near.getParent());
+		assertNull(far.getParent());
+		assertTrue(group.isDetached(far));
+		assertEquals(Arrays.asList(near, far), content.getChildren());
+		assertEquals(Arrays.asList(near), content.getChildrenUnmodifiable());
+		assertTrue(far.isVisible());
+
+		// the content bounds include the culled children
+		assertEquals(1020, canvas.getContentBounds().getMaxX(), 0);
+
+		// scroll to the far child
+		canvas.setHorizontalScrollOffset(-990);
+		canvas.setVerticalScrollOffset(-990);
+		canvas.layout();
+		assertNull(near.getParent());
+		assertSame(content, far.getParent());
+		assertEquals(Arrays.asList(far), content.getChildrenUnmodifiable());
+
+		// move the near child into the viewport
+		near.setX(1010);
+		near.setY(1010);
+		canvas.layout();
+		assertEquals(Arrays.asList(near, far),
+				content.getChildrenUnmodifiable());
+
+		// disabling the virtualization attaches all children
+		canvas.setHorizontalScrollOffset(0);
+		canvas.setVerticalScrollOffset(0);
+		canvas.layout();
+		assertNull(far.getParent());
+		canvas.setVirtualizeContent(false);
+		assertEquals(Arrays.asList(near, far),
+				content.getChildrenUnmodifiable());
+		assertFalse(group.isDetached(far));
+	}
+
+	@Test
+	public void levelOfDetailProxiesForCulledChildren() {
+		InfiniteCanvas canvas = createCanvas();
+		VirtualizedGroup content = (VirtualizedGroup) canvas.getContentGroup();
+		Rectangle near = new Rectangle(10, 10, 20, 20);
+		Rectangle far = new Rectangle(1000, 1000, 20, 20);
+		content.getChildren().addAll(near, far);
+		Rectangle nearProxy = new Rectangle(10, 10, 20, 20);
+		Rectangle farProxy = new Rectangle(1000, 1000, 20, 20);
+		canvas.setLevelOfDetailProxy(near, nearProxy);
+		canvas.setLevelOfDetailProxy(far, farProxy);
+		canvas.setVirtualizeContent(true);
+		assertTrue(content.isDetached(far));
+
+		// zoom out, so that proxies are shown for all children (including the
+		// culled ones), which are detached without changing their visibility
+		canvas.setContentTransform(new Affine(0.25, 0, 0, 0, 0.25, 0));
+		assertTrue(canvas.isLevelOfDetailActive());
+		assertEquals(Arrays.asList(nearProxy, farProxy),
+				canvas.getLevelOfDetailGroup().getChildren());
+		assertTrue(content.getChildrenUnmodifiable().isEmpty());
+		assertTrue(near.isVisible());
+		assertTrue(far.isVisible());
+
+		// zoom in, so that only the children within the viewport are attached
+		canvas.setContentTransform(new Affine());
+		canvas.layout();
+		assertFalse(canvas.isLevelOfDetailActive());
+		assertTrue(canvas.getLevelOfDetailGroup().getChildren().isEmpty());
+		assertEquals(Arrays.asList(near), content.getChildrenUnmodifiable());
+		assertTrue(content.isDetached(far));
+		assertTrue(far.isVisible());
+	}
+
+	@Test
+	public void levelOfDetailProxyFollowsContent() {
+		InfiniteCanvas canvas = createCanvas();
+		Group content = canvas.getContentGroup();
+		Rectangle child = new Rectangle(0, 0, 20, 20);
+		content.getChildren().add(child);
+		Rectangle proxy = new Rectangle(0, 0, 20, 20);
+		canvas.setLevelOfDetailProxy(child, proxy);
+		assertSame(child, InfiniteCanvas.getLevelOfDetailContent(proxy));
+		canvas.setContentTransform(new Affine(0.25, 0, 0, 0, 0.25, 0));
+		assertNull(child.getParent());
+
+		// the proxy is transformed like the content (not only translated)
+		child.setRotate(90);
+		child.setTranslateX(50);
+		Point2D expected = child.getLocalToParentTransform().transform(10, 0);
+		Point2D actual = proxy.getLocalToParentTransform().transform(10, 0);
+		assertEquals(expected.getX(), actual.getX(), 1e-9);
+		assertEquals(expected.getY(), actual.getY(), 1e-9);
+
+		// removing the content removes its proxy
+		content.getChildren().remove(child);
+		assertTrue(canvas.getLevelOfDetailGroup().getChildren().isEmpty());
+
+		// adding the content shows its proxy again
+		content.getChildren().add(child);
+		assertEquals(Arrays.asList(proxy),
+				canvas.getLevelOfDetailGroup().getChildren());
+		assertNull(child.getParent());
+
+		// removing the proxy attaches the content again
+		canvas.removeLevelOfDetailProxy(child);
+		assertNull(InfiniteCanvas.getLevelOfDetailContent(proxy));
+		assertTrue(canvas.getLevelOfDetailGroup().getChildren().isEmpty());
+		assertSame(content, child.getParent());
+	}
+
+	@Test
+	public void modifyChildrenWhileCulled() {
+		InfiniteCanvas canvas = createCanvas();
+		Group content = canvas.getContentGroup();
+		Rectangle a = new Rectangle(10, 10, 20, 20);
+		Rectangle far = new Rectangle(1000, 1000, 20, 20);
+		Rectangle b = new Rectangle(30, 30, 20, 20);
+		content.getChildren().addAll(a, far, b);
+		canvas.setVirtualizeContent(true);
+		assertEquals(Arrays.asList(a, b), content.getChildrenUnmodifiable());
+
+		// insertion by (logical) index
+		Rectangle c = new Rectangle(50, 50, 20, 20);
+		content.getChildren().add(2, c);
+		assertEquals(Arrays.asList(a, far, c, b), content.getChildren());
+		assertEquals(Arrays.asList(a, c, b),
+				content.getChildrenUnmodifiable());
+
+		// removal of a culled child
+		content.getChildren().remove(far);
+		assertEquals(Arrays.asList(a, c, b), content.getChildren());
+		assertNull(far.getParent());
+
+		// a culled child that is added to a different parent is removed
+		content.getChildren().add(0, far);
+		canvas.layout();
+		assertNull(far.getParent());
+		Group other = new Group(far);
+		assertSame(other, far.getParent());
+		assertEquals(Arrays.asList(a, c, b), content.getChildren());
+	}
+
+}
@@ -12,14 +12,19 @@
 package org.eclipse.gef.fx.tests;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.eclipse.gef.fx.nodes.GeometryNode;
 import org.eclipse.gef.fx.utils.NodeUtils;
+import org.eclipse.gef.fx.utils.PickingIndex;
 import org.eclipse.gef.geometry.planar.IGeometry;
 import org.eclipse.gef.geometry.planar.Rectangle;
 import org.junit.Test;
 
+import javafx.collections.FXCollections;
+import javafx.geometry.Point2D;
+import javafx.scene.Group;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.StrokeType;
 
@@ -62,6 +67,57 @@ public class NodeUtilsTests {
 		assertEquals(new Rectangle(33, 43, 30, 40), NodeUtils.localToParent(geometryNode, geometricOutline).getBounds());
 	}
 
+	@Test
+	public void getNodesAtWithPickingIndex() {
+		// root
+		// +- 10x10 rectangles (overlapping)
+		// +- nested group with a rectangle
+		Group root = new Group();
+		for (int x = 0; x < 10; x++) {
+			for (int y = 0; y < 10; y++) {
+				root.getChildren().add(new javafx.scene.shape.Rectangle(x * 15, y * 15, 20, 20));
+			}
+		}
+		javafx.scene.shape.Rectangle nested = new javafx.scene.shape.Rectangle(0, 0, 50, 50);
+		Group group = new Group(nested);
+		group.setTranslateX(40);
+		group.setTranslateY(40);
+		root.getChildren().add(group);
+		root.setTranslateX(-7);
+		root.setScaleX(2);
+
+		PickingIndex index = new PickingIndex(root);
+		assertSame(root, index.getRoot());
+		for (int i = 0; i < 100; i++) {
+			double x = i * 2.7 - 20;
+			double y = i * 1.9 - 10;
+			assertEquals(NodeUtils.getNodesAt(root, x, y), NodeUtils.getNodesAt(index, x, y));
+		}
+		// the nested group is rendered on top
+		Point2D center = nested.localToScene(25, 25);
+		assertEquals(nested, NodeUtils.getNodesAt(index, center.getX(), center.getY()).get(0));
+
+		// index is updated upon bounds and children changes
+		group.setTranslateX(100);
+		root.getChildren().remove(0);
+		root.getChildren().add(0, new javafx.scene.shape.Rectangle(200, 200, 10, 10));
+		for (int i = 0; i < 100; i++) {
+			double x = i * 4.3 - 20;
+			double y = i * 2.3 - 10;
+			assertEquals(NodeUtils.getNodesAt(root, x, y), NodeUtils.getNodesAt(index, x, y));
+		}
+
+		// picked nodes are ordered according to a permutation of the children
+		FXCollections.reverse(root.getChildren());
+		root.getChildren().get(50).toFront();
+		for (int i = 0; i < 100; i++) {
+			double x = i * 4.3 - 20;
+			double y = i * 2.3 - 10;
+			assertEquals(NodeUtils.getNodesAt(root, x, y), NodeUtils.getNodesAt(index, x, y));
+		}
+		index.dispose();
+	}
+
 	@Test
 	public void getShapeOutline() {
 		// GeometryNode
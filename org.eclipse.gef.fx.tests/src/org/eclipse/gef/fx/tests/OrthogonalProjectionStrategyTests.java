@@ -13,12 +13,16 @@ package org.eclipse.gef.fx.tests;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.List;
+
 import org.eclipse.gef.fx.anchors.AnchorKey;
 import org.eclipse.gef.fx.anchors.DynamicAnchor;
 import org.eclipse.gef.fx.anchors.OrthogonalProjectionStrategy;
 import org.eclipse.gef.fx.anchors.DynamicAnchor.AnchorageReferenceGeometry;
 import org.eclipse.gef.fx.anchors.DynamicAnchor.AnchoredReferencePoint;
 import org.eclipse.gef.fx.anchors.DynamicAnchor.PreferredOrientation;
+import org.eclipse.gef.geometry.planar.ICurve;
+import org.eclipse.gef.geometry.planar.IGeometry;
 import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.geometry.planar.Polygon;
 import org.eclipse.gef.geometry.planar.Rectangle;
@@ -77,7 +81,130 @@ public class OrthogonalProjectionStrategyTests {
 		a.getComputationParameter(anchorKey, AnchoredReferencePoint.class).set(new Point(125, 12.5));
 		assertEquals(new Point(37.5, 12.5), a.getPosition(anchorKey));
 	}
-	
-	
 
+	@Test
+	public void projectionFollowsAnchorageTransform() {
+		javafx.scene.shape.Rectangle anchorage = new javafx.scene.shape.Rectangle(0, 0, 50, 50);
+		DynamicAnchor a = new DynamicAnchor(anchorage, new OrthogonalProjectionStrategy());
+		AnchorageReferenceGeometry computationParameter = a.getComputationParameter(AnchorageReferenceGeometry.class);
+		if(computationParameter.isBound()){
+			computationParameter.unbind();
+		}
+		computationParameter.set(new Rectangle(0, 0, 50, 50));
+
+		javafx.scene.shape.Rectangle anchored = new javafx.scene.shape.Rectangle(100, 0, 50, 50);
+		AnchorKey anchorKey = new AnchorKey(anchored, "role");
+		a.attach(anchorKey);
+
+		a.getComputationParameter(anchorKey, AnchoredReferencePoint.class).set(new Point(125, 25));
+		assertEquals(new Point(50, 25), a.getPosition(anchorKey));
+
+		// the cached anchorage outline has to be recomputed after the
+		// anchorage was moved
+		anchorage.setTranslateX(10);
+		a.getComputationParameter(anchorKey, AnchoredReferencePoint.class).set(new Point(125, 0));
+		assertEquals(new Point(60, 0), a.getPosition(anchorKey));
+	}
+
+	@Test
+	public void projectionFollowsChangedReferenceGeometry() {
+		javafx.scene.shape.Rectangle anchorage = new javafx.scene.shape.Rectangle(0, 0, 50, 50);
+		DynamicAnchor a = new DynamicAnchor(anchorage, new OrthogonalProjectionStrategy());
+		AnchorageReferenceGeometry computationParameter = a.getComputationParameter(AnchorageReferenceGeometry.class);
+		if(computationParameter.isBound()){
+			computationParameter.unbind();
+		}
+		Rectangle geometry = new Rectangle(0, 0, 50, 50);
+		computationParameter.set(geometry);
+
+		javafx.scene.shape.Rectangle anchored = new javafx.scene.shape.Rectangle(100, 0, 50, 50);
+		AnchorKey anchorKey = new AnchorKey(anchored, "role");
+		a.attach(anchorKey);
+
+		a.getComputationParameter(anchorKey, AnchoredReferencePoint.class).set(new Point(125, 25));
+		assertEquals(new Point(50, 25), a.getPosition(anchorKey));
+
+		// the cached anchorage outline has to be recomputed after the
+		// reference geometry was changed in place
+		geometry.setWidth(80);
+		a.getComputationParameter(anchorKey, AnchoredReferencePoint.class).set(new Point(125, 20));
+		assertEquals(new Point(80, 20), a.getPosition(anchorKey));
+	}
+
+	@Test
+	public void positionsOfMultipleAnchoredsAreUpdatedTogether() {
+		javafx.scene.shape.Rectangle anchorage = new javafx.scene.shape.Rectangle(0, 0, 50, 50);
+		DynamicAnchor a = new DynamicAnchor(anchorage, new OrthogonalProjectionStrategy());
+		AnchorageReferenceGeometry computationParameter = a.getComputationParameter(AnchorageReferenceGeometry.class);
+		if(computationParameter.isBound()){
+			computationParameter.unbind();
+		}
+		computationParameter.set(new Rectangle(0, 0, 50, 50));
+
+		Point[] referencePoints = new Point[] { new Point(125, 25),
+				new Point(25, -50), new Point(-30, 40), new Point(150, 75) };
+		AnchorKey[] anchorKeys = new AnchorKey[referencePoints.length];
+		for (int i = 0; i < referencePoints.length; i++) {
+			anchorKeys[i] = new AnchorKey(new javafx.scene.shape.Rectangle(), "role");
+			a.attach(anchorKeys[i]);
+			a.getComputationParameter(anchorKeys[i], AnchoredReferencePoint.class).set(referencePoints[i]);
+		}
+		assertEquals(new Point(50, 25), a.getPosition(anchorKeys[0]));
+		assertEquals(new Point(25, 0), a.getPosition(anchorKeys[1]));
+		assertEquals(new Point(0, 40), a.getPosition(anchorKeys[2]));
+		// no orthogonal projection, so the nearest projection is used
+		assertEquals(new Point(50, 50), a.getPosition(anchorKeys[3]));
+
+		// changing the anchorage reference geometry updates all positions
+		computationParameter.set(new Rectangle(0, 0, 100, 100));
+		assertEquals(new Point(100, 25), a.getPosition(anchorKeys[0]));
+		assertEquals(new Point(25, 0), a.getPosition(anchorKeys[1]));
+		assertEquals(new Point(0, 40), a.getPosition(anchorKeys[2]));
+		assertEquals(new Point(100, 75), a.getPosition(anchorKeys[3]));
+	}
+
+	@Test
+	public void outlinesOfDifferentReferenceGeometriesAreCachedPerAnchorage() {
+		final int[] outlineCount = new int[1];
+		OrthogonalProjectionStrategy strategy = new OrthogonalProjectionStrategy() {
+			@Override
+			protected List<ICurve> getOutlineSegments(IGeometry geometry) {
+				outlineCount[0]++;
+				return super.getOutlineSegments(geometry);
+			}
+		};
+		javafx.scene.shape.Rectangle anchorage = new javafx.scene.shape.Rectangle(0, 0, 50, 50);
+		DynamicAnchor small = new DynamicAnchor(anchorage, strategy);
+		DynamicAnchor large = new DynamicAnchor(anchorage, strategy);
+		for (DynamicAnchor a : new DynamicAnchor[] { small, large }) {
+			AnchorageReferenceGeometry computationParameter = a.getComputationParameter(AnchorageReferenceGeometry.class);
+			if (computationParameter.isBound()) {
+				computationParameter.unbind();
+			}
+		}
+		small.getComputationParameter(AnchorageReferenceGeometry.class).set(new Rectangle(0, 0, 50, 50));
+		large.getComputationParameter(AnchorageReferenceGeometry.class).set(new Rectangle(0, 0, 80, 80));
+		AnchorKey smallKey = new AnchorKey(new javafx.scene.shape.Rectangle(), "role");
+		AnchorKey largeKey = new AnchorKey(new javafx.scene.shape.Rectangle(), "role");
+		small.attach(smallKey);
+		large.attach(largeKey);
+
+		// the outlines of both reference geometries are computed only once,
+		// even though the computations for the anchors alternate
+		for (int y = 10; y < 50; y += 10) {
+			small.getComputationParameter(smallKey, AnchoredReferencePoint.class).set(new Point(125, y));
+			large.getComputationParameter(largeKey, AnchoredReferencePoint.class).set(new Point(125, y));
+			assertEquals(new Point(50, y), small.getPosition(smallKey));
+			assertEquals(new Point(80, y), large.getPosition(largeKey));
+		}
+		assertEquals(2, outlineCount[0]);
+
+		// the outlines are recomputed after the anchorage is transformed
+		anchorage.setTranslateX(10);
+		small.getComputationParameter(smallKey, AnchoredReferencePoint.class).set(new Point(125, 25));
+		large.getComputationParameter(largeKey, AnchoredReferencePoint.class).set(new Point(125, 25));
+		assertEquals(new Point(60, 25), small.getPosition(smallKey));
+		assertEquals(new Point(90, 25), large.getPosition(largeKey));
+		assertEquals(4, outlineCount[0]);
+	}
 }
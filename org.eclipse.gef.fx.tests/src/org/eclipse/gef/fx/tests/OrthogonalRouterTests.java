@@ -0,0 +1,226 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import org.eclipse.gef.fx.anchors.DynamicAnchor;
+import org.eclipse.gef.fx.anchors.IAnchor;
+import org.eclipse.gef.fx.nodes.Connection;
+import org.eclipse.gef.fx.nodes.OrthogonalRouter;
+import org.eclipse.gef.fx.nodes.PolylineInterpolator;
+import org.eclipse.gef.fx.nodes.RoutingObstacles;
+import org.eclipse.gef.fx.nodes.StraightRouter;
+import org.eclipse.gef.fx.tests.rules.FXApplicationThreadRule;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.junit.Rule;
+import org.junit.Test;
+
+import javafx.scene.Group;
+import javafx.scene.Scene;
+
+public class OrthogonalRouterTests {
+
+	/**
+	 * Ensure all tests are executed on the JavaFX application thread (and the
+	 * JavaFX toolkit is properly initialized).
+	 */
+	@Rule
+	public FXApplicationThreadRule fxApplicationThreadRule = new FXApplicationThreadRule();
+
+	private static class CountingRouter extends OrthogonalRouter {
+		int count = 0;
+
+		public CountingRouter(RoutingObstacles obstacles) {
+			super(obstacles);
+		}
+
+		@Override
+		public void route(Connection connection) {
+			count++;
+			super.route(connection);
+		}
+	}
+
+	private static boolean crosses(List<Point> points, Rectangle obstacle) {
+		for (int i = 0; i < points.size() - 1; i++) {
+			Point p = points.get(i);
+			Point q = points.get(i + 1);
+			for (int j = 0; j <= 10; j++) {
+				double x = p.x + (q.x - p.x) * j / 10;
+				double y = p.y + (q.y - p.y) * j / 10;
+				if (x > obstacle.getX() && y > obstacle.getY()
+						&& x < obstacle.getX() + obstacle.getWidth()
+						&& y < obstacle.getY() + obstacle.getHeight()) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	@Test
+	public void keepObstaclesRemovedFromScene() {
+		javafx.scene.shape.Rectangle obstacle = new javafx.scene.shape.Rectangle(80, 0, 40, 100);
+		javafx.scene.shape.Rectangle source = new javafx.scene.shape.Rectangle(0, 0, 20, 20);
+		javafx.scene.shape.Rectangle target = new javafx.scene.shape.Rectangle(200, 0, 20, 20);
+		Connection connection = new Connection();
+		Group root = new Group(obstacle, source, target, connection);
+		new Scene(root, 400, 400);
+		RoutingObstacles obstacles = new RoutingObstacles(root);
+		obstacles.addObstacle(obstacle);
+		connection.setRouter(new OrthogonalRouter(obstacles));
+		connection.setStartAnchor(new DynamicAnchor(source));
+		connection.setEndAnchor(new DynamicAnchor(target));
+		Rectangle area = new Rectangle(0, 0, 400, 400);
+		assertEquals(3, obstacles.getObstacleBounds(root, area, new HashSet<>()).size());
+
+		// obstacles that are removed from the scene are not considered, but
+		// remain registered
+		root.getChildren().removeAll(obstacle, source);
+		assertEquals(new HashSet<>(Arrays.asList(obstacle, source, target)),
+				obstacles.getObstacles());
+		assertEquals(Arrays.asList(new Rectangle(200, 0, 20, 20)),
+				obstacles.getObstacleBounds(root, area, new HashSet<>()));
+
+		// obstacles are considered again when they are added to the scene
+		obstacle.setX(60);
+		root.getChildren().addAll(obstacle, source);
+		assertEquals(Arrays.asList(new Rectangle(0, 0, 20, 20),
+				new Rectangle(60, 0, 40, 100), new Rectangle(200, 0, 20, 20)),
+				obstacles.getObstacleBounds(root, area, new HashSet<>()));
+	}
+
+	@Test
+	public void releaseSharedAnchorageObstacles() {
+		javafx.scene.shape.Rectangle source = new javafx.scene.shape.Rectangle(0, 0, 40, 40);
+		javafx.scene.shape.Rectangle target = new javafx.scene.shape.Rectangle(200, 0, 40, 40);
+		javafx.scene.shape.Rectangle otherTarget = new javafx.scene.shape.Rectangle(200, 200, 40, 40);
+		Connection connection = new Connection();
+		Connection otherConnection = new Connection();
+		Group root = new Group(source, target, otherTarget, connection,
+				otherConnection);
+		RoutingObstacles obstacles = new RoutingObstacles(root);
+		OrthogonalRouter router = new OrthogonalRouter(obstacles);
+		connection.setRouter(router);
+		connection.setStartAnchor(new DynamicAnchor(source));
+		connection.setEndAnchor(new DynamicAnchor(target));
+		otherConnection.setRouter(router);
+		otherConnection.setStartAnchor(new DynamicAnchor(source));
+		otherConnection.setEndAnchor(new DynamicAnchor(otherTarget));
+
+		// the shared anchorage is kept until it is released by both
+		connection.setStartPoint(new Point(0, 100));
+		assertEquals(new HashSet<>(Arrays.asList(source, target, otherTarget)),
+				obstacles.getObstacles());
+		otherConnection.setStartPoint(new Point(0, 100));
+		assertEquals(new HashSet<>(Arrays.asList(target, otherTarget)),
+				obstacles.getObstacles());
+	}
+
+	@Test
+	public void releaseAnchorageObstacles() {
+		javafx.scene.shape.Rectangle source = new javafx.scene.shape.Rectangle(0, 0, 40, 40);
+		javafx.scene.shape.Rectangle target = new javafx.scene.shape.Rectangle(200, 0, 40, 40);
+		javafx.scene.shape.Rectangle otherTarget = new javafx.scene.shape.Rectangle(200, 200, 40, 40);
+		javafx.scene.shape.Rectangle explicitTarget = new javafx.scene.shape.Rectangle(0, 200, 40, 40);
+		Connection connection = new Connection();
+		Group root = new Group(source, target, otherTarget, explicitTarget,
+				connection);
+		RoutingObstacles obstacles = new RoutingObstacles(root);
+		obstacles.addObstacle(explicitTarget);
+		connection.setRouter(new OrthogonalRouter(obstacles));
+		connection.setStartAnchor(new DynamicAnchor(source));
+		connection.setEndAnchor(new DynamicAnchor(target));
+		assertEquals(new HashSet<>(Arrays.asList(source, target, explicitTarget)),
+				obstacles.getObstacles());
+
+		// the anchorage of a replaced anchor is no longer an obstacle
+		connection.setEndAnchor(new DynamicAnchor(otherTarget));
+		assertEquals(new HashSet<>(Arrays.asList(source, otherTarget, explicitTarget)),
+				obstacles.getObstacles());
+
+		// explicitly added obstacles are kept
+		connection.setEndAnchor(new DynamicAnchor(explicitTarget));
+		connection.setEndPoint(new Point(300, 300));
+		assertEquals(new HashSet<>(Arrays.asList(source, explicitTarget)),
+				obstacles.getObstacles());
+	}
+
+	@Test
+	public void rerouteAfterRouterSwitch() {
+		Connection connection = new Connection();
+		OrthogonalRouter router = new OrthogonalRouter();
+		connection.setRouter(router);
+		connection.setStartPoint(new Point(0, 0));
+		connection.setEndPoint(new Point(100, 100));
+		List<Point> orthogonal = Arrays.asList(new Point(0, 0),
+				new Point(100, 0), new Point(100, 100));
+		assertEquals(orthogonal, connection.getPointsUnmodifiable());
+
+		// switching to another router and back routes the connection again
+		connection.setRouter(new StraightRouter());
+		assertEquals(Arrays.asList(new Point(0, 0), new Point(100, 100)),
+				connection.getPointsUnmodifiable());
+		connection.setRouter(router);
+		assertEquals(orthogonal, connection.getPointsUnmodifiable());
+	}
+
+	@Test
+	public void routeAroundObstacles() {
+		javafx.scene.shape.Rectangle obstacle = new javafx.scene.shape.Rectangle(80, 0, 40, 100);
+		javafx.scene.shape.Rectangle farObstacle = new javafx.scene.shape.Rectangle(1000, 1000, 40, 100);
+		Connection connection = new Connection();
+		Group root = new Group(obstacle, farObstacle, connection);
+		RoutingObstacles obstacles = new RoutingObstacles(root);
+		obstacles.addObstacle(obstacle);
+		obstacles.addObstacle(farObstacle);
+		CountingRouter router = new CountingRouter(obstacles);
+		connection.setRouter(router);
+		connection.setStartPoint(new Point(0, 50));
+		connection.setEndPoint(new Point(200, 50));
+
+		// the connection is routed around the obstacle
+		List<Point> points = connection.getPointsUnmodifiable();
+		assertTrue(points.size() > 2);
+		assertFalse(crosses(points, new Rectangle(80, 0, 40, 100)));
+		for (int i = 0; i < points.size() - 1; i++) {
+			assertTrue(points.get(i).x == points.get(i + 1).x
+					|| points.get(i).y == points.get(i + 1).y);
+		}
+
+		// refreshing without changes keeps the inserted anchors
+		List<IAnchor> anchors = new ArrayList<>(connection.getAnchorsUnmodifiable());
+		connection.setInterpolator(new PolylineInterpolator());
+		assertEquals(anchors, connection.getAnchorsUnmodifiable());
+
+		// moving an obstacle outside of the corridor does not refresh the
+		// connection
+		int count = router.count;
+		farObstacle.setTranslateX(100);
+		assertEquals(count, router.count);
+
+		// moving the obstacle out of the way re-routes the connection
+		obstacle.setTranslateY(200);
+		assertEquals(count + 1, router.count);
+		assertEquals(2, connection.getPointsUnmodifiable().size());
+	}
+
+}
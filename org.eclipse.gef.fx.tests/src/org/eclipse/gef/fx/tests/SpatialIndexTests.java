@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.eclipse.gef.fx.utils.SpatialIndex;
+import org.junit.Test;
+
+public class SpatialIndexTests {
+
+	@Test
+	public void putQueryRemove() {
+		SpatialIndex<String> index = new SpatialIndex<>(10);
+		index.put("a", 0, 0, 5, 5);
+		index.put("b", 20, 20, 25, 25);
+		// covers more cells than allowed per item
+		index.put("c", -1000, -1000, 1000, 1000);
+		assertEquals(3, index.size());
+		assertEquals(new HashSet<>(Arrays.asList("a", "c")),
+				index.query(1, 1));
+		assertEquals(new HashSet<>(Arrays.asList("a", "b", "c")),
+				index.query(5, 5, 20, 20));
+		assertArrayEquals(new double[] { -1000, -1000, 1000, 1000 },
+				index.getBounds(), 0);
+
+		// update bounds
+		index.put("a", 30, 30, 35, 35);
+		assertEquals(Collections.singleton("c"), index.query(1, 1));
+		assertEquals(new HashSet<>(Arrays.asList("a", "c")),
+				index.query(31, 31));
+
+		assertTrue(index.remove("c"));
+		assertFalse(index.remove("c"));
+		assertFalse(index.contains("c"));
+		assertArrayEquals(new double[] { 20, 20, 35, 35 }, index.getBounds(),
+				0);
+
+		index.clear();
+		assertEquals(0, index.size());
+		assertNull(index.getBounds());
+	}
+
+	@Test
+	public void queryMatchesBruteForce() {
+		Random random = new Random(1);
+		SpatialIndex<Integer> index = new SpatialIndex<>(50);
+		Map<Integer, double[]> reference = new HashMap<>();
+		for (int i = 0; i < 20000; i++) {
+			int op = random.nextInt(10);
+			Integer item = random.nextInt(200);
+			if (op < 5) {
+				double x = random.nextDouble() * 2000 - 1000;
+				double y = random.nextDouble() * 2000 - 1000;
+				double w = random.nextDouble()
+						* (random.nextInt(20) == 0 ? 3000 : 100);
+				double h = random.nextDouble() * 100;
+				index.put(item, x, y, x + w, y + h);
+				reference.put(item, new double[] { x, y, x + w, y + h });
+			} else if (op < 7) {
+				assertEquals(reference.remove(item) != null,
+						index.remove(item));
+			} else {
+				double x = random.nextDouble() * 2400 - 1200;
+				double y = random.nextDouble() * 2400 - 1200;
+				double w = random.nextDouble()
+						* (random.nextBoolean() ? 30 : 3000);
+				double h = random.nextDouble() * 300;
+				Set<Integer> expected = new HashSet<>();
+				for (Map.Entry<Integer, double[]> e : reference.entrySet()) {
+					double[] b = e.getValue();
+					if (b[0] <= x + w && b[2] >= x && b[1] <= y + h
+							&& b[3] >= y) {
+						expected.add(e.getKey());
+					}
+				}
+				assertEquals(expected, index.query(x, y, x + w, y + h));
+			}
+			assertEquals(reference.size(), index.size());
+		}
+	}
+
+}
@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.gef.fx.listeners.ITransformChangeHandler;
+import org.eclipse.gef.fx.listeners.TransformChangeDispatcher;
+import org.junit.Test;
+
+import javafx.scene.Group;
+
+public class TransformChangeDispatcherTests {
+
+	private static class CountingHandler implements ITransformChangeHandler {
+		int count = 0;
+
+		@Override
+		public void transformChanged() {
+			count++;
+		}
+	}
+
+	@Test
+	public void dispatcherPerSceneGraph() {
+		Group child = new Group();
+		Group container = new Group(child);
+		Group root = new Group(container);
+		Group other = new Group();
+
+		// the nodes of one scene graph share the same dispatcher
+		TransformChangeDispatcher dispatcher = TransformChangeDispatcher
+				.get(child);
+		assertSame(dispatcher, TransformChangeDispatcher.get(container));
+		assertSame(dispatcher, TransformChangeDispatcher.get(root));
+
+		// separate scene graphs use separate dispatchers
+		assertNotSame(dispatcher, TransformChangeDispatcher.get(other));
+	}
+
+	@Test
+	public void sharedListenersAndSingleNotification() {
+		// root
+		// +- container
+		// | +- observed
+		// +- observer
+		Group observed = new Group();
+		Group container = new Group(observed);
+		Group observer = new Group();
+		Group root = new Group(container, observer);
+
+		TransformChangeDispatcher dispatcher = new TransformChangeDispatcher();
+		CountingHandler h1 = new CountingHandler();
+		CountingHandler h2 = new CountingHandler();
+		dispatcher.register(observed, observer, h1);
+		dispatcher.register(observed, observer, h2);
+		assertTrue(dispatcher.isRegistered(h1));
+		assertTrue(dispatcher.isRegistered(h2));
+		// observed, container, and observer are observed once each
+		assertEquals(3, dispatcher.getObservedNodeCount());
+
+		// change within the observed hierarchy notifies both handlers once
+		container.setTranslateX(10);
+		assertEquals(1, h1.count);
+		assertEquals(1, h2.count);
+
+		// change of the common ancestor is not reported
+		root.setTranslateX(10);
+		assertEquals(1, h1.count);
+		assertEquals(1, h2.count);
+
+		// unregistered handlers are not notified
+		dispatcher.unregister(h1);
+		assertFalse(dispatcher.isRegistered(h1));
+		assertEquals(3, dispatcher.getObservedNodeCount());
+		observer.setTranslateY(5);
+		assertEquals(1, h1.count);
+		assertEquals(2, h2.count);
+
+		// listeners are removed when no handler is interested anymore
+		dispatcher.unregister(h2);
+		assertEquals(0, dispatcher.getObservedNodeCount());
+	}
+
+}
@@ -12,13 +12,18 @@
  *******************************************************************************/
 package org.eclipse.gef.fx.anchors;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.gef.common.adapt.IAdaptable;
 import org.eclipse.gef.common.beans.property.ReadOnlyMapWrapperEx;
+import org.eclipse.gef.fx.listeners.ITransformChangeHandler;
+import org.eclipse.gef.fx.listeners.TransformChangeDispatcher;
 import org.eclipse.gef.fx.listeners.VisualChangeListener;
 import org.eclipse.gef.fx.utils.NodeUtils;
 import org.eclipse.gef.geometry.planar.Point;
@@ -49,10 +54,18 @@ import javafx.scene.transform.Transform;
  * <p>
  * It also registers the necessary listeners at the anchorage {@link Node} and
  * the attached {@link Node}s as well as relevant ancestor {@link Node}s, to
- * trigger the (re-)computation of positions.
+ * trigger the (re-)computation of positions. Transformation changes of the
+ * ancestor {@link Node}s are observed via the {@link TransformChangeDispatcher}
+ * of the scene graph, so that the number of listeners registered at common
+ * container {@link Node}s does not grow with the number of anchored
+ * {@link Node}s.
  * <p>
  * The actual computation of positions for attached nodes is delegated to
- * {@link #computePosition(AnchorKey)}, thus left to subclasses. If a subclass
+ * {@link #computePosition(AnchorKey)}, thus left to subclasses. When the
+ * positions of multiple {@link AnchorKey}s are updated at once (e.g. when the
+ * anchorage changes), they are computed via
+ * {@link #computePositions(Collection)}, which subclasses may override to
+ * compute all positions in a single pass. If a subclass
  * needs additional information to compute positions for attached
  * {@link AnchorKey}s, it may request that an {@link IAdaptable} info gets
  * passed into {@link #attach(AnchorKey)} and {@link #detach(AnchorKey)}, and
@@ -73,7 +86,30 @@ public abstract class AbstractAnchor implements IAnchor {
 	private ReadOnlyMapWrapper<AnchorKey, Point> positionsUnmodifiableProperty;
 
 	// TODO: push this down to dynamic anchor (as its only needed there)
-	private Map<Node, VisualChangeListener> vcls = new HashMap<>();
+	private Map<Node, ITransformChangeHandler> transformChangeHandlers = new HashMap<>();
+	// the dispatchers at which the handlers of the anchoreds are registered
+	private Map<Node, TransformChangeDispatcher> transformChangeDispatchers = new HashMap<>();
+
+	// observes the bounds of the anchorage (only), while transform changes
+	// are observed per anchored via the transform change dispatcher
+	private VisualChangeListener anchorageBoundsListener = new VisualChangeListener() {
+		@Override
+		protected void boundsInLocalChanged(Bounds oldBounds,
+				Bounds newBounds) {
+			// update the positions of all anchoreds in a single batch
+			List<AnchorKey> keys = new ArrayList<>();
+			for (Node anchored : transformChangeDispatchers.keySet()) {
+				keys.addAll(keysByNode.get(anchored));
+			}
+			updatePositions(keys);
+		}
+
+		@Override
+		protected void localToParentTransformChanged(Node observed,
+				Transform oldTransform, Transform newTransform) {
+			// not called, as the anchorage is registered as its own observer
+		}
+	};
 
 	private ChangeListener<Scene> anchoredSceneChangeListener = new ChangeListener<Scene>() {
 		@Override
@@ -134,10 +170,13 @@ public abstract class AbstractAnchor implements IAnchor {
 				// .println("Try to unregister VCLS because old anchorage "
 				// + oldAnchorage + " was removed.");
 				unregisterVCLs();
+				anchorageBoundsListener.unregister();
 				oldAnchorage.sceneProperty()
 						.removeListener(anchorageSceneChangeListener);
 			}
 			if (newAnchorage != null) {
+				// observe bounds changes of the new anchorage
+				anchorageBoundsListener.register(newAnchorage, newAnchorage);
 				// register listener on scene property, so we can react to
 				// changes of the scene property of the anchorage node
 				newAnchorage.sceneProperty()
@@ -178,9 +217,9 @@ public abstract class AbstractAnchor implements IAnchor {
 		}
 		keysByNode.put(anchored, key);
 
-		if (!vcls.containsKey(anchored)) {
-			VisualChangeListener vcl = createVCL(anchored);
-			vcls.put(anchored, vcl);
+		if (!transformChangeHandlers.containsKey(anchored)) {
+			transformChangeHandlers.put(anchored,
+					createTransformChangeHandler(anchored));
 			// System.out.println(
 			// "Try to register VCL, because anchored " + key.getAnchored()
 			// + " was attached to anchorage " + getAnchorage());
@@ -210,30 +249,33 @@ public abstract class AbstractAnchor implements IAnchor {
 	 */
 	protected abstract Point computePosition(AnchorKey key);
 
-	private VisualChangeListener createVCL(final Node anchored) {
-		return new VisualChangeListener() {
-			@Override
-			protected void boundsInLocalChanged(Bounds oldBounds,
-					Bounds newBounds) {
-				updatePositions(anchored);
-			}
-
-			@Override
-			protected void localToParentTransformChanged(Node observed,
-					Transform oldTransform, Transform newTransform) {
-				updatePositions(anchored);
-			}
+	/**
+	 * Recomputes the positions for the given attached {@link AnchorKey}s. Per
+	 * default, {@link #computePosition(AnchorKey)} is called for each
+	 * {@link AnchorKey}. Subclasses may override this method to compute all
+	 * positions in a single pass.
+	 *
+	 * @param keys
+	 *            The {@link AnchorKey}s for which to compute anchor positions.
+	 * @return A {@link Map} that maps the given {@link AnchorKey}s to their
+	 *         positions in local coordinates of the respective anchored
+	 *         {@link Node}. {@link AnchorKey}s for which no position could be
+	 *         computed may be omitted.
+	 */
+	protected Map<AnchorKey, Point> computePositions(
+			Collection<AnchorKey> keys) {
+		Map<AnchorKey, Point> positions = new HashMap<>();
+		for (AnchorKey key : keys) {
+			positions.put(key, computePosition(key));
+		}
+		return positions;
+	}
 
+	private ITransformChangeHandler createTransformChangeHandler(
+			final Node anchored) {
+		return new ITransformChangeHandler() {
 			@Override
-			public void register(Node observed, Node observer) {
-				super.register(observed, observer);
-				/*
-				 * The visual change listener is registered when the anchorage
-				 * is attached to a scene. Therefore, the anchorages
-				 * bounds/transformation could have "changed" until
-				 * registration, so we have to recompute anchored's positions
-				 * now.
-				 */
+			public void transformChanged() {
 				updatePositions(anchored);
 			}
 		};
@@ -263,7 +305,7 @@ public abstract class AbstractAnchor implements IAnchor {
 			// + anchored + " has been detached from anchorage "
 			// + getAnchorage());
 			unregisterVCL(anchored);
-			vcls.remove(anchored);
+			transformChangeHandlers.remove(anchored);
 		}
 	}
 
@@ -330,20 +372,32 @@ public abstract class AbstractAnchor implements IAnchor {
 	}
 
 	/**
-	 * Registers a {@link VisualChangeListener} for the given anchored
-	 * {@link Node}.
+	 * Registers an {@link ITransformChangeHandler} for the given anchored
+	 * {@link Node} at the {@link TransformChangeDispatcher} of the anchorage's
+	 * scene graph (see {@link TransformChangeDispatcher#get(Node)}), so that
+	 * the positions of the anchored {@link Node} are recomputed upon relative
+	 * transformation changes between anchorage and anchored.
 	 *
 	 * @param anchored
-	 *            The anchored {@link Node} to register a
-	 *            {@link VisualChangeListener} at.
+	 *            The anchored {@link Node} to register an
+	 *            {@link ITransformChangeHandler} for.
 	 */
 	protected void registerVCL(Node anchored) {
 		if (canRegister(anchored)) {
 			// System.out.println("Register VCL between anchorage "
 			// + getAnchorage() + " and anchored " + anchored);
-			VisualChangeListener vcl = vcls.get(anchored);
-			if (!vcl.isRegistered()) {
-				vcl.register(getAnchorage(), anchored);
+			if (!transformChangeDispatchers.containsKey(anchored)) {
+				TransformChangeDispatcher dispatcher = TransformChangeDispatcher
+						.get(getAnchorage());
+				dispatcher.register(getAnchorage(), anchored,
+						transformChangeHandlers.get(anchored));
+				transformChangeDispatchers.put(anchored, dispatcher);
+				/*
+				 * The handler is registered when the anchorage is attached to
+				 * a scene. Therefore, the anchorages bounds/transformation
+				 * could have "changed" until registration, so we have to
+				 * recompute anchored's positions now.
+				 */
 				updatePositions(anchored);
 			}
 			// else {
@@ -353,11 +407,12 @@ public abstract class AbstractAnchor implements IAnchor {
 	}
 
 	/**
-	 * Registers {@link VisualChangeListener}s for all anchored {@link Node}s,
-	 * or schedules their registration if the VCL cannot be registered yet.
+	 * Registers {@link ITransformChangeHandler}s for all anchored
+	 * {@link Node}s (see {@link #registerVCL(Node)}).
 	 */
 	protected void registerVCLs() {
-		for (Node anchored : vcls.keySet().toArray(new Node[] {})) {
+		for (Node anchored : transformChangeHandlers.keySet()
+				.toArray(new Node[] {})) {
 			registerVCL(anchored);
 		}
 	}
@@ -373,32 +428,32 @@ public abstract class AbstractAnchor implements IAnchor {
 	}
 
 	/**
-	 * Unregisters the {@link VisualChangeListener}s for the given anchored
-	 * {@link Node}.
+	 * Unregisters the {@link ITransformChangeHandler} for the given anchored
+	 * {@link Node} from the {@link TransformChangeDispatcher} at which it was
+	 * registered.
 	 *
 	 * @param anchored
-	 *            The anchored Node to unregister a {@link VisualChangeListener}
-	 *            from.
+	 *            The anchored Node to unregister an
+	 *            {@link ITransformChangeHandler} for.
 	 */
 	protected void unregisterVCL(Node anchored) {
 		// System.out.println("Unregister VCL between anchorage " +
 		// getAnchorage()
 		// + " and anchored " + anchored);
-		VisualChangeListener vcl = vcls.get(anchored);
-		if (vcl.isRegistered()) {
-			vcl.unregister();
+		TransformChangeDispatcher dispatcher = transformChangeDispatchers
+				.remove(anchored);
+		if (dispatcher != null) {
+			dispatcher.unregister(transformChangeHandlers.get(anchored));
 		}
-		// else {
-		// System.out.println("VCL is not registered, thus skipping.");
-		// }
 	}
 
 	/**
-	 * Unregisters the {@link VisualChangeListener}s for all anchored
+	 * Unregisters the {@link ITransformChangeHandler}s for all anchored
 	 * {@link Node}s.
 	 */
 	protected void unregisterVCLs() {
-		for (Node anchored : vcls.keySet().toArray(new Node[] {})) {
+		for (Node anchored : transformChangeHandlers.keySet()
+				.toArray(new Node[] {})) {
 			unregisterVCL(anchored);
 		}
 	}
@@ -422,9 +477,22 @@ public abstract class AbstractAnchor implements IAnchor {
 			return;
 		}
 
-		// compute new position to see if it has changed
+		updatePosition(key, computePosition(key));
+	}
+
+	/**
+	 * Puts the given (newly computed) position for the given {@link AnchorKey}
+	 * into the {@link #positionsUnmodifiableProperty()} if it differs from the
+	 * current position and is valid.
+	 */
+	private void updatePosition(AnchorKey key, Point newPosition) {
+		// a listener could have detached the key in the meantime
+		if (!isAttached(key)) {
+			return;
+		}
+
+		// check if the position has changed
 		Point oldPosition = getPosition(key);
-		Point newPosition = computePosition(key);
 
 		// System.out.print("[" + key.getId() + "] old = " + oldPosition
 		// + ", new = " + newPosition);
@@ -448,18 +516,34 @@ public abstract class AbstractAnchor implements IAnchor {
 	 * Updates the positions for all attached {@link AnchorKey}s.
 	 */
 	protected void updatePositions() {
-		for (AnchorKey key : getKeys()) {
-			updatePosition(key);
+		updatePositions(getKeys());
+	}
+
+	/**
+	 * Computes the positions for all given (attached) {@link AnchorKey}s
+	 * before any position is updated, so that listeners are only notified
+	 * after the computation.
+	 */
+	private void updatePositions(Collection<AnchorKey> keys) {
+		List<AnchorKey> attachedKeys = new ArrayList<>();
+		for (AnchorKey key : keys) {
+			if (isAttached(key)) {
+				attachedKeys.add(key);
+			}
+		}
+		if (attachedKeys.isEmpty()) {
+			return;
+		}
+		Map<AnchorKey, Point> newPositions = computePositions(attachedKeys);
+		for (AnchorKey key : attachedKeys) {
+			updatePosition(key, newPositions.get(key));
 		}
 	}
 
 	private void updatePositions(Node anchored) {
 		SetMultimap<Node, AnchorKey> keys = getKeysByNode();
 		if (keys.containsKey(anchored)) {
-			Set<AnchorKey> keysCopy = new HashSet<>(keys.get(anchored));
-			for (AnchorKey key : keysCopy) {
-				updatePosition(key);
-			}
+			updatePositions(new HashSet<>(keys.get(anchored)));
 		}
 	}
 }
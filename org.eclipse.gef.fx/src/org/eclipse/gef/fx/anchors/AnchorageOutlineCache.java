@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.anchors;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.gef.fx.utils.NodeUtils;
+import org.eclipse.gef.geometry.planar.AffineTransform;
+import org.eclipse.gef.geometry.planar.ICurve;
+import org.eclipse.gef.geometry.planar.IGeometry;
+
+import javafx.scene.Node;
+
+/**
+ * Caches the outline segments (in scene coordinates) of the anchorage
+ * reference geometries per anchorage {@link Node}, so that the outline does
+ * not need to be transformed and recomputed for each anchored {@link Node}. A
+ * cache entry is valid as long as the local-to-scene-transform of the
+ * anchorage does not change. The entries are shared by all
+ * {@link ProjectionStrategy} instances that compute the outline segments in the
+ * same way, i.e. that do not override
+ * {@link ProjectionStrategy#getOutlineSegments(IGeometry)} differently.
+ * <p>
+ * The entries are stored within the properties of the anchorage, so that they
+ * are neither shared between scenes nor outlive the anchorage. For each
+ * anchorage, an entry is kept per combination of outline provider (see above)
+ * and anchorage reference geometry, up to {@link #MAX_ENTRIES_PER_ANCHORAGE},
+ * so that anchoreds using different reference geometries do not evict each
+ * other's entries. As the entries are not synchronized, the cache may only be
+ * accessed on the JavaFX application thread, like the anchorage itself.
+ *
+ * @author agent
+ *
+ */
+final class AnchorageOutlineCache {
+
+	private static final class Entry {
+		IGeometry geometryInLocal;
+		Class<?> outlineProvider;
+		List<ICurve> outlinesInScene;
+	}
+
+	private static final class Entries {
+		double[] localToSceneMatrix;
+		// most recently used entry first
+		List<Entry> entries = new ArrayList<>(MAX_ENTRIES_PER_ANCHORAGE);
+	}
+
+	/**
+	 * The maximum number of entries per anchorage. If exceeded, the least
+	 * recently used entry is evicted.
+	 */
+	static final int MAX_ENTRIES_PER_ANCHORAGE = 4;
+
+	// the entries are stored within the properties of the anchorage using this
+	// key
+	private static final String ENTRIES_PROPERTY = AnchorageOutlineCache.class
+			.getName() + ".entries";
+
+	/**
+	 * Maps a {@link ProjectionStrategy} type to the class that declares the
+	 * {@link ProjectionStrategy#getOutlineSegments(IGeometry)} implementation
+	 * that is used by that type. The values are attached to the strategy
+	 * types, so that they do not prevent the class loaders of client bundles
+	 * from being garbage collected.
+	 */
+	private static final ClassValue<Class<?>> OUTLINE_PROVIDERS = new ClassValue<Class<?>>() {
+		@Override
+		protected Class<?> computeValue(Class<?> strategyType) {
+			Class<?> outlineProvider = strategyType;
+			while (outlineProvider != ProjectionStrategy.class) {
+				try {
+					outlineProvider.getDeclaredMethod("getOutlineSegments",
+							IGeometry.class);
+					break;
+				} catch (NoSuchMethodException e) {
+					outlineProvider = outlineProvider.getSuperclass();
+				}
+			}
+			return outlineProvider;
+		}
+	};
+
+	/**
+	 * Returns the outline segments of the given anchorage reference geometry
+	 * in scene coordinates. The segments are computed by the given
+	 * {@link ProjectionStrategy} only if no valid cache entry exists for the
+	 * given anchorage and anchorage reference geometry.
+	 *
+	 * @param strategy
+	 *            The {@link ProjectionStrategy} that computes the outline
+	 *            segments.
+	 * @param anchorage
+	 *            The anchorage {@link Node}.
+	 * @param geometryInLocal
+	 *            The anchorage reference geometry within the local coordinate
+	 *            system of the anchorage.
+	 * @return An unmodifiable list containing the (shared) outline segments,
+	 *         which may not be changed.
+	 */
+	static List<ICurve> getOutlineSegmentsInScene(ProjectionStrategy strategy,
+			Node anchorage, IGeometry geometryInLocal) {
+		AffineTransform localToSceneTx = NodeUtils
+				.getLocalToSceneTx(anchorage);
+		double[] localToSceneMatrix = localToSceneTx.getMatrix();
+		Class<?> outlineProvider = OUTLINE_PROVIDERS.get(strategy.getClass());
+
+		Entries entries = (Entries) anchorage.getProperties()
+				.get(ENTRIES_PROPERTY);
+		if (entries == null) {
+			entries = new Entries();
+			anchorage.getProperties().put(ENTRIES_PROPERTY, entries);
+		}
+		if (!Arrays.equals(entries.localToSceneMatrix, localToSceneMatrix)) {
+			// all entries are invalid when the anchorage is transformed
+			entries.entries.clear();
+			entries.localToSceneMatrix = localToSceneMatrix;
+		}
+
+		for (int i = 0; i < entries.entries.size(); i++) {
+			Entry entry = entries.entries.get(i);
+			if (entry.outlineProvider == outlineProvider
+					&& entry.geometryInLocal.equals(geometryInLocal)) {
+				if (i > 0) {
+					entries.entries.remove(i);
+					entries.entries.add(0, entry);
+				}
+				return entry.outlinesInScene;
+			}
+		}
+
+		Entry entry = new Entry();
+		// store a copy, as the given geometry may be changed by the caller
+		entry.geometryInLocal = geometryInLocal.getCopy();
+		entry.outlineProvider = outlineProvider;
+		entry.outlinesInScene = Collections
+				.unmodifiableList(strategy.getOutlineSegments(
+						geometryInLocal.getTransformed(localToSceneTx)));
+		if (entries.entries.size() == MAX_ENTRIES_PER_ANCHORAGE) {
+			entries.entries.remove(MAX_ENTRIES_PER_ANCHORAGE - 1);
+		}
+		entries.entries.add(0, entry);
+		return entry.outlinesInScene;
+	}
+
+	private AnchorageOutlineCache() {
+		// not to be instantiated
+	}
+
+}
@@ -13,8 +13,10 @@
 package org.eclipse.gef.fx.anchors;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 
@@ -362,19 +364,9 @@ public class DynamicAnchor extends AbstractAnchor {
 	protected Point computePosition(AnchorKey key) {
 		// check for availability of (anchorage) parameters
 		Set<IComputationStrategy.Parameter<?>> parameters = getParameters(key);
-		for (Class<? extends Parameter<?>> parameterType : computationStrategy
-				.getRequiredParameters()) {
-			Parameter<?> p = Parameter.get(parameters, parameterType);
-			// check that parameter values are provided
-			if (p == null || (p.get() == null && !p.isOptional())) {
-				// as long as all required parameters are not provided, we
-				// cannot compute a position.
-				// System.out.println("Skipping computation of position for key
-				// "
-				// + key + " because mandatory parameter " + p
-				// + " has no value.");
-				return null;
-			}
+		if (!hasRequiredParameters(
+				computationStrategy.getRequiredParameters(), parameters)) {
+			return null;
 		}
 
 		// only invoke strategy if all required parameters are provided
@@ -385,6 +377,49 @@ public class DynamicAnchor extends AbstractAnchor {
 		return position;
 	}
 
+	/**
+	 * Recomputes the positions for the given attached {@link AnchorKey}s by
+	 * delegating to
+	 * {@link IComputationStrategy#computePositionsInScene(Node, Map)}, so that
+	 * the {@link IComputationStrategy} can compute all positions in a single
+	 * pass.
+	 *
+	 * @param keys
+	 *            The {@link AnchorKey}s for which to compute anchor positions.
+	 * @return A {@link Map} that maps the given {@link AnchorKey}s to their
+	 *         positions in local coordinates of the respective anchored
+	 *         {@link Node}.
+	 */
+	@Override
+	protected Map<AnchorKey, Point> computePositions(
+			Collection<AnchorKey> keys) {
+		Set<Class<? extends Parameter<?>>> requiredParameters = computationStrategy
+				.getRequiredParameters();
+		Map<AnchorKey, Set<Parameter<?>>> parameters = new LinkedHashMap<>();
+		for (AnchorKey key : keys) {
+			Set<Parameter<?>> keyParameters = getParameters(key);
+			if (hasRequiredParameters(requiredParameters, keyParameters)) {
+				parameters.put(key, keyParameters);
+			}
+		}
+		Map<AnchorKey, Point> positions = new HashMap<>();
+		if (parameters.isEmpty()) {
+			return positions;
+		}
+		Map<AnchorKey, Point> positionsInScene = computationStrategy
+				.computePositionsInScene(getAnchorage(), parameters);
+		for (Map.Entry<AnchorKey, Point> entry : positionsInScene
+				.entrySet()) {
+			if (entry.getValue() != null) {
+				positions.put(entry.getKey(),
+						FX2Geometry.toPoint(entry.getKey().getAnchored()
+								.sceneToLocal(Geometry2FX
+										.toFXPoint(entry.getValue()))));
+			}
+		}
+		return positions;
+	}
+
 	@Override
 	public void detach(AnchorKey key) {
 		super.detach(key);
@@ -498,6 +533,26 @@ public class DynamicAnchor extends AbstractAnchor {
 		return parameters;
 	}
 
+	/**
+	 * Returns <code>true</code> if the given parameters provide values for all
+	 * of the given required parameter types. Otherwise returns
+	 * <code>false</code>.
+	 */
+	private boolean hasRequiredParameters(
+			Set<Class<? extends Parameter<?>>> requiredParameters,
+			Set<Parameter<?>> parameters) {
+		for (Class<? extends Parameter<?>> parameterType : requiredParameters) {
+			Parameter<?> p = Parameter.get(parameters, parameterType);
+			// check that parameter values are provided
+			if (p == null || (p.get() == null && !p.isOptional())) {
+				// as long as all required parameters are not provided, we
+				// cannot compute a position.
+				return false;
+			}
+		}
+		return true;
+	}
+
 	private void initAnchorageParameters() {
 		for (Class<? extends Parameter<?>> paramType : computationStrategy
 				.getRequiredParameters()) {
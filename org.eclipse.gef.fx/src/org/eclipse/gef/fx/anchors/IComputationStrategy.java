@@ -13,7 +13,9 @@
 package org.eclipse.gef.fx.anchors;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.gef.geometry.planar.Point;
@@ -246,6 +248,34 @@ public interface IComputationStrategy {
 	public Point computePositionInScene(Node anchorage, Node anchored,
 			Set<Parameter<?>> parameters);
 
+	/**
+	 * Computes the anchor positions for several {@link AnchorKey}s that are
+	 * attached to the same anchorage visual. Per default,
+	 * {@link #computePositionInScene(Node, Node, Set)} is called for each
+	 * {@link AnchorKey}. Implementations may override this method to share
+	 * computations that only depend on the anchorage (e.g. the anchorage
+	 * outline in scene coordinates) between all {@link AnchorKey}s.
+	 *
+	 * @param anchorage
+	 *            The anchorage visual.
+	 * @param parameters
+	 *            A {@link Map} that provides the available computation
+	 *            parameters per {@link AnchorKey}. The anchorage parameters are
+	 *            expected to be the same for all {@link AnchorKey}s.
+	 * @return A {@link Map} that maps the given {@link AnchorKey}s to their
+	 *         anchor positions (in scene coordinates).
+	 */
+	public default Map<AnchorKey, Point> computePositionsInScene(
+			Node anchorage, Map<AnchorKey, Set<Parameter<?>>> parameters) {
+		Map<AnchorKey, Point> positions = new HashMap<>();
+		for (Map.Entry<AnchorKey, Set<Parameter<?>>> entry : parameters
+				.entrySet()) {
+			positions.put(entry.getKey(), computePositionInScene(anchorage,
+					entry.getKey().getAnchored(), entry.getValue()));
+		}
+		return positions;
+	}
+
 	/**
 	 * Returns the types of parameters required by this strategy.
 	 *
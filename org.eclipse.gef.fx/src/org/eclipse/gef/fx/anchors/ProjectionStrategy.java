@@ -12,9 +12,11 @@
  *******************************************************************************/
 package org.eclipse.gef.fx.anchors;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.gef.fx.anchors.DynamicAnchor.AnchorageReferenceGeometry;
@@ -25,6 +27,9 @@ import org.eclipse.gef.geometry.planar.IGeometry;
 import org.eclipse.gef.geometry.planar.IShape;
 import org.eclipse.gef.geometry.planar.Path;
 import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.PolyBezier;
+import org.eclipse.gef.geometry.planar.Polyline;
+import org.eclipse.gef.geometry.planar.Rectangle;
 
 import javafx.scene.Node;
 
@@ -37,18 +42,54 @@ import javafx.scene.Node;
  * In detail, the computation is done as follows:
  * <ol>
  * <li>Compute the anchorage outlines (in scene) based on the anchorage
- * reference geometry,using {@link #getOutlineSegments(IGeometry)}.</li>
+ * reference geometry,using {@link #getOutlineSegments(IGeometry)}. The
+ * outlines are cached per anchorage (see
+ * {@link #getOutlineSegmentsInScene(Node, IGeometry)}).</li>
  * <li>Transform the given anchored reference point to scene coordinates.</li>
  * <li>Project the anchored reference point (in scene) onto the anchorage
  * outlines.</li>
  * <li>Return the nearest projection to the anchored reference point.</li>
  * </ol>
+ * The outlines are split into their segments, and segments whose bounds are
+ * farther away from the anchored reference point than the nearest projection
+ * found so far are skipped. When computing the positions for several anchored
+ * {@link Node}s at once (see
+ * {@link #computePositionsInScene(Node, java.util.Map)}), the anchorage outline
+ * is determined only once.
  *
  * @author anyssen
  * @author mwienand
  */
 public class ProjectionStrategy implements IComputationStrategy {
 
+	// tolerance for skipping outline segments, so that numerical imprecision
+	// of the projection does not lead to different results
+	private static final double SEGMENT_DISTANCE_TOLERANCE = 1e-6;
+
+	// the anchorage outline that is shared by all anchored nodes during a
+	// batch computation
+	private Node batchAnchorage;
+	private IGeometry batchGeometryInLocal;
+	private List<ICurve> batchOutlinesInScene;
+
+	// the segments of the outlines that were projected onto last
+	private List<ICurve> segmentedOutlines;
+	private List<ICurve> outlineSegments = new ArrayList<>();
+	private List<Rectangle> outlineSegmentBounds = new ArrayList<>();
+
+	/**
+	 * Returns the distance of the given {@link Point} to the given
+	 * {@link Rectangle}, which is a lower bound for the distance of the point
+	 * to any geometry within the rectangle.
+	 */
+	private static double getDistance(Rectangle bounds, Point point) {
+		double dx = Math.max(0, Math.max(bounds.getX() - point.x,
+				point.x - (bounds.getX() + bounds.getWidth())));
+		double dy = Math.max(0, Math.max(bounds.getY() - point.y,
+				point.y - (bounds.getY() + bounds.getHeight())));
+		return Math.sqrt(dx * dx + dy * dy);
+	}
+
 	@Override
 	public Point computePositionInScene(Node anchorage, Node anchored,
 			Set<Parameter<?>> parameters) {
@@ -58,13 +99,9 @@ public class ProjectionStrategy implements IComputationStrategy {
 		Point anchoredReferencePointInLocal = Parameter
 				.get(parameters, AnchoredReferencePoint.class).get();
 
-		// determine anchorage geometry in scene
-		IGeometry anchorageGeometryInScene = NodeUtils.localToScene(anchorage,
-				anchorageReferenceGeometryInLocal);
-
 		// determine anchorage outlines in scene
-		List<ICurve> anchorageOutlinesInScene = getOutlineSegments(
-				anchorageGeometryInScene);
+		List<ICurve> anchorageOutlinesInScene = getOutlineSegmentsInScene(
+				anchorage, anchorageReferenceGeometryInLocal);
 
 		// transform anchored reference point to scene
 		Point anchoredReferencePointInScene = NodeUtils.localToScene(anchored,
@@ -76,6 +113,26 @@ public class ProjectionStrategy implements IComputationStrategy {
 				anchoredReferencePointInScene, parameters);
 	}
 
+	@Override
+	public Map<AnchorKey, Point> computePositionsInScene(Node anchorage,
+			Map<AnchorKey, Set<Parameter<?>>> parameters) {
+		// save the state of an enclosing batch computation
+		Node previousAnchorage = batchAnchorage;
+		IGeometry previousGeometryInLocal = batchGeometryInLocal;
+		List<ICurve> previousOutlinesInScene = batchOutlinesInScene;
+		batchAnchorage = anchorage;
+		batchGeometryInLocal = null;
+		batchOutlinesInScene = null;
+		try {
+			return IComputationStrategy.super.computePositionsInScene(
+					anchorage, parameters);
+		} finally {
+			batchAnchorage = previousAnchorage;
+			batchGeometryInLocal = previousGeometryInLocal;
+			batchOutlinesInScene = previousOutlinesInScene;
+		}
+	}
+
 	/**
 	 * Computes the anchorage reference position in scene coordinates, based on
 	 * the given anchorage outlines and the given anchored reference point.
@@ -93,12 +150,30 @@ public class ProjectionStrategy implements IComputationStrategy {
 	protected Point computeProjectionInScene(
 			List<ICurve> anchorageOutlinesInScene,
 			Point anchoredReferencePointInScene, Set<Parameter<?>> parameters) {
-		Point[] projections = new Point[anchorageOutlinesInScene.size()];
-		for (int i = 0; i < anchorageOutlinesInScene.size(); i++) {
-			ICurve c = anchorageOutlinesInScene.get(i);
-			projections[i] = c.getProjection(anchoredReferencePointInScene);
+		if (anchorageOutlinesInScene != segmentedOutlines) {
+			segmentOutlines(anchorageOutlinesInScene);
+		}
+		// determine the nearest projection onto the outline segments (the
+		// first one in case of equal distances)
+		Point nearestProjection = null;
+		double nearestDistance = 0;
+		for (int i = 0; i < outlineSegments.size(); i++) {
+			// skip segments that cannot provide a nearer projection
+			if (nearestProjection != null && getDistance(
+					outlineSegmentBounds.get(i), anchoredReferencePointInScene)
+					- nearestDistance > SEGMENT_DISTANCE_TOLERANCE) {
+				continue;
+			}
+			Point projection = outlineSegments.get(i)
+					.getProjection(anchoredReferencePointInScene);
+			double distance = anchoredReferencePointInScene
+					.getDistance(projection);
+			if (nearestProjection == null || distance < nearestDistance) {
+				nearestProjection = projection;
+				nearestDistance = distance;
+			}
 		}
-		return Point.nearest(anchoredReferencePointInScene, projections);
+		return nearestProjection;
 	}
 
 	/**
@@ -124,6 +199,39 @@ public class ProjectionStrategy implements IComputationStrategy {
 		}
 	}
 
+	/**
+	 * Determines the outline of the given anchorage reference geometry in
+	 * scene coordinates, represented as a list of {@link ICurve}s (see
+	 * {@link #getOutlineSegments(IGeometry)}). The outline is cached per
+	 * anchorage {@link Node} (and shared with other {@link ProjectionStrategy}
+	 * instances), so that it is only recomputed when the anchorage reference
+	 * geometry or the local-to-scene-transform of the anchorage changes.
+	 *
+	 * @param anchorage
+	 *            The anchorage visual.
+	 * @param geometryInLocal
+	 *            The anchorage reference geometry within the local coordinate
+	 *            system of the anchorage visual.
+	 * @return An unmodifiable list of {@link ICurve}s representing the outline
+	 *         of the given {@link IGeometry} in scene coordinates. The curves
+	 *         are shared and may not be changed.
+	 */
+	protected List<ICurve> getOutlineSegmentsInScene(Node anchorage,
+			IGeometry geometryInLocal) {
+		// the outline is determined only once per batch computation
+		if (anchorage == batchAnchorage && batchOutlinesInScene != null
+				&& geometryInLocal == batchGeometryInLocal) {
+			return batchOutlinesInScene;
+		}
+		List<ICurve> outlinesInScene = AnchorageOutlineCache
+				.getOutlineSegmentsInScene(this, anchorage, geometryInLocal);
+		if (anchorage == batchAnchorage) {
+			batchGeometryInLocal = geometryInLocal;
+			batchOutlinesInScene = outlinesInScene;
+		}
+		return outlinesInScene;
+	}
+
 	@Override
 	public Set<Class<? extends Parameter<?>>> getRequiredParameters() {
 		Set<Class<? extends Parameter<?>>> parameters = new HashSet<>();
@@ -131,4 +239,25 @@ public class ProjectionStrategy implements IComputationStrategy {
 		parameters.add(AnchoredReferencePoint.class);
 		return parameters;
 	}
+
+	/**
+	 * Splits the given outlines into their segments and determines the bounds
+	 * of the segments. Outlines that are neither a {@link Polyline} nor a
+	 * {@link PolyBezier} are used as a single segment.
+	 */
+	private void segmentOutlines(List<ICurve> outlines) {
+		outlineSegments.clear();
+		outlineSegmentBounds.clear();
+		for (ICurve outline : outlines) {
+			if (outline instanceof Polyline || outline instanceof PolyBezier) {
+				Collections.addAll(outlineSegments, outline.toBezier());
+			} else {
+				outlineSegments.add(outline);
+			}
+		}
+		for (ICurve segment : outlineSegments) {
+			outlineSegmentBounds.add(segment.getBounds());
+		}
+		segmentedOutlines = outlines;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.listeners;
+
+/**
+ * An {@link ITransformChangeHandler} can be registered at a
+ * {@link TransformChangeDispatcher} to get notified about transformation
+ * changes of an observed node relative to an observer node.
+ *
+ * @author agent
+ *
+ */
+public interface ITransformChangeHandler {
+
+	/**
+	 * Called by the {@link TransformChangeDispatcher} when the
+	 * local-to-parent-transform of any node in the observed hierarchy of this
+	 * {@link ITransformChangeHandler} changed. The handler is notified only
+	 * once, even if multiple nodes of its hierarchy changed in the course of
+	 * one notification.
+	 */
+	public void transformChanged();
+
+}
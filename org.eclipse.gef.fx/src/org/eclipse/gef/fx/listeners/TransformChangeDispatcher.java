@@ -0,0 +1,276 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.listeners;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.gef.fx.utils.NodeUtils;
+
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.scene.Node;
+import javafx.scene.transform.Transform;
+
+/**
+ * The {@link TransformChangeDispatcher} is a central hub for observing
+ * local-to-parent-transform changes within a scene graph. In contrast to a
+ * {@link VisualChangeListener}, which registers its own transform listeners at
+ * all nodes of the observed hierarchy, the {@link TransformChangeDispatcher}
+ * registers at most one listener per observed node, no matter how many
+ * {@link ITransformChangeHandler}s are interested in that node. Upon a change,
+ * all affected handlers are marked dirty and are notified once each, so that a
+ * cascade of transform changes (e.g. when a handler changes another transform)
+ * does not notify a handler multiple times.
+ * <p>
+ * A {@link TransformChangeDispatcher} is shared per scene graph (see
+ * {@link #get(Node)}) and is used by the anchors, so that thousands of
+ * anchored nodes within the same container do not lead to thousands of
+ * listeners at the same container nodes. All methods have to be called on the
+ * JavaFX application thread.
+ *
+ * @author agent
+ *
+ */
+public class TransformChangeDispatcher {
+
+	/**
+	 * Maintains the single transform listener that is registered at an
+	 * observed node, as well as the handlers that are interested in that node.
+	 */
+	private final class ObservedNode implements ChangeListener<Transform> {
+
+		private final Node node;
+		private final Set<ITransformChangeHandler> handlers = new LinkedHashSet<>();
+
+		ObservedNode(Node node) {
+			this.node = node;
+			node.localToParentTransformProperty().addListener(this);
+		}
+
+		@Override
+		public void changed(ObservableValue<? extends Transform> observable,
+				Transform oldValue, Transform newValue) {
+			// only dispatch the change if the new transform is valid
+			if (VisualChangeListener.isValidTransform(newValue)) {
+				dirty.addAll(handlers);
+				dispatch();
+			}
+		}
+
+		void dispose() {
+			node.localToParentTransformProperty().removeListener(this);
+		}
+	}
+
+	/**
+	 * The key that is used to store the shared
+	 * {@link TransformChangeDispatcher} within the properties of the root
+	 * {@link Node} of a scene graph.
+	 */
+	private static final String DISPATCHER_PROPERTY = TransformChangeDispatcher.class
+			.getName();
+
+	private Map<Node, ObservedNode> observedNodes = new HashMap<>();
+	private Map<ITransformChangeHandler, List<Node>> hierarchies = new IdentityHashMap<>();
+	private Set<ITransformChangeHandler> dirty = new LinkedHashSet<>();
+	private boolean dispatching = false;
+
+	/**
+	 * Returns the {@link TransformChangeDispatcher} that is shared by all
+	 * {@link Node}s of the scene graph of the given {@link Node}. The
+	 * {@link TransformChangeDispatcher} is created lazily and stored within the
+	 * properties of the root {@link Node} of the scene graph (i.e. the
+	 * {@link javafx.scene.Scene#getRoot() scene root} if the given {@link Node}
+	 * is contained in a scene), so that it can be garbage collected together
+	 * with the scene graph.
+	 * <p>
+	 * Clients have to unregister their handlers at the
+	 * {@link TransformChangeDispatcher} that was used for registration, as the
+	 * root of the scene graph may change in the meantime.
+	 *
+	 * @param node
+	 *            A {@link Node} of the scene graph for which to return the
+	 *            {@link TransformChangeDispatcher}.
+	 * @return The {@link TransformChangeDispatcher} of the scene graph of the
+	 *         given {@link Node}.
+	 */
+	public static TransformChangeDispatcher get(Node node) {
+		if (node == null) {
+			throw new IllegalArgumentException("node may not be null.");
+		}
+		Node root = node;
+		while (root.getParent() != null) {
+			root = root.getParent();
+		}
+		Object dispatcher = root.getProperties().get(DISPATCHER_PROPERTY);
+		if (!(dispatcher instanceof TransformChangeDispatcher)) {
+			dispatcher = new TransformChangeDispatcher();
+			root.getProperties().put(DISPATCHER_PROPERTY, dispatcher);
+		}
+		return (TransformChangeDispatcher) dispatcher;
+	}
+
+	/**
+	 * Notifies all dirty handlers. Handlers that get dirty during the
+	 * notification are notified within the same dispatch, but each handler is
+	 * notified only once per change.
+	 */
+	private void dispatch() {
+		if (dispatching) {
+			// the outer dispatch will process the newly dirty handlers
+			return;
+		}
+		dispatching = true;
+		try {
+			while (!dirty.isEmpty()) {
+				Iterator<ITransformChangeHandler> iterator = dirty.iterator();
+				ITransformChangeHandler handler = iterator.next();
+				iterator.remove();
+				// a previous handler could have unregistered this one
+				if (hierarchies.containsKey(handler)) {
+					handler.transformChanged();
+				}
+			}
+		} finally {
+			dispatching = false;
+		}
+	}
+
+	/**
+	 * Returns the number of nodes at which this
+	 * {@link TransformChangeDispatcher} currently registered a transform
+	 * listener.
+	 *
+	 * @return The number of observed nodes.
+	 */
+	public int getObservedNodeCount() {
+		return observedNodes.size();
+	}
+
+	/**
+	 * Returns <code>true</code> if the given {@link ITransformChangeHandler}
+	 * is currently registered, otherwise returns <code>false</code>.
+	 *
+	 * @param handler
+	 *            The {@link ITransformChangeHandler} to test.
+	 * @return <code>true</code> if the given {@link ITransformChangeHandler}
+	 *         is currently registered, otherwise <code>false</code>.
+	 */
+	public boolean isRegistered(ITransformChangeHandler handler) {
+		return hierarchies.containsKey(handler);
+	}
+
+	/**
+	 * Registers the given {@link ITransformChangeHandler}, so that it is
+	 * notified about local-to-parent-transform changes of any node in the
+	 * hierarchies of the observed and observer nodes up to (but excluding)
+	 * their nearest common ancestor. Consequently, transform changes that do
+	 * not change the relative position of both nodes (e.g. scrolling within
+	 * an {@link org.eclipse.gef.fx.nodes.InfiniteCanvas}) are not reported.
+	 * If the handler is already registered, its previous registration is
+	 * replaced.
+	 * <p>
+	 * Please note that the hierarchy of the observer is observed as well, i.e.
+	 * for an anchor, which registers the anchorage as the observed and the
+	 * anchored as the observer, a listener is registered at the anchored and
+	 * at each of its ancestors below the common ancestor. This is necessary,
+	 * because the anchor positions are provided within the local coordinate
+	 * system of the anchored, which changes relative to the anchorage when any
+	 * of these nodes is transformed. The listeners are shared by all handlers,
+	 * though, so that anchoreds within the same container only lead to one
+	 * listener at that container.
+	 *
+	 * @param observed
+	 *            The observed {@link Node}.
+	 * @param observer
+	 *            A {@link Node} in the same scene graph as the observed
+	 *            {@link Node}, relative to which transform changes are
+	 *            reported.
+	 * @param handler
+	 *            The {@link ITransformChangeHandler} to notify.
+	 */
+	public void register(Node observed, Node observer,
+			ITransformChangeHandler handler) {
+		if (observed == null) {
+			throw new IllegalArgumentException("observed may not be null.");
+		}
+		if (observer == null) {
+			throw new IllegalArgumentException("observer may not be null.");
+		}
+		if (handler == null) {
+			throw new IllegalArgumentException("handler may not be null.");
+		}
+		Node commonAncestor = NodeUtils.getNearestCommonAncestor(observed,
+				observer);
+		if (commonAncestor == null) {
+			throw new IllegalArgumentException(
+					"observed and observer do not share a common ancestor.");
+		}
+
+		// replace previous registration
+		unregister(handler);
+
+		// collect the nodes of both hierarchies
+		List<Node> hierarchy = new ArrayList<>();
+		for (Node n = observed; n != commonAncestor; n = n.getParent()) {
+			hierarchy.add(n);
+		}
+		for (Node n = observer; n != commonAncestor; n = n.getParent()) {
+			hierarchy.add(n);
+		}
+		hierarchies.put(handler, hierarchy);
+
+		// register the handler for each node, adding a transform listener
+		// only for nodes that are not observed yet
+		for (Node n : hierarchy) {
+			ObservedNode observedNode = observedNodes.get(n);
+			if (observedNode == null) {
+				observedNode = new ObservedNode(n);
+				observedNodes.put(n, observedNode);
+			}
+			observedNode.handlers.add(handler);
+		}
+	}
+
+	/**
+	 * Unregisters the given {@link ITransformChangeHandler}. The transform
+	 * listeners of nodes that are no longer of interest to any handler are
+	 * removed.
+	 *
+	 * @param handler
+	 *            The {@link ITransformChangeHandler} to unregister.
+	 */
+	public void unregister(ITransformChangeHandler handler) {
+		List<Node> hierarchy = hierarchies.remove(handler);
+		if (hierarchy == null) {
+			return;
+		}
+		dirty.remove(handler);
+		for (Node n : hierarchy) {
+			ObservedNode observedNode = observedNodes.get(n);
+			observedNode.handlers.remove(handler);
+			if (observedNode.handlers.isEmpty()) {
+				observedNode.dispose();
+				observedNodes.remove(n);
+			}
+		}
+	}
+
+}
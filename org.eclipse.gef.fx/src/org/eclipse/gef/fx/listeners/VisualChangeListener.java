@@ -178,7 +178,7 @@ public abstract class VisualChangeListener {
 	 * @param t
 	 * @return
 	 */
-	private boolean isValidTransform(Transform t) {
+	static boolean isValidTransform(Transform t) {
 		if (Double.isNaN(t.getMxx()) || Double.isInfinite(t.getMxx())) {
 			return false;
 		}
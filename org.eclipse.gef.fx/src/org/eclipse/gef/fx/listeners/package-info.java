@@ -13,6 +13,9 @@
  * This package provides a
  * {@link org.eclipse.gef.fx.listeners.VisualChangeListener}, which can be used
  * to recognize visual changes of one observed {@link javafx.scene.Node} visual
- * relative to an observer visual.
+ * relative to an observer visual, as well as a
+ * {@link org.eclipse.gef.fx.listeners.TransformChangeDispatcher}, which
+ * dispatches transformation changes to many interested handlers while
+ * registering at most one listener per observed node.
  */
 package org.eclipse.gef.fx.listeners;
\ No newline at end of file
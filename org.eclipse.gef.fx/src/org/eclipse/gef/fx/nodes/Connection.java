@@ -18,8 +18,10 @@ import java.util.Comparator;
 import java.util.ConcurrentModificationException;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 
 import org.eclipse.gef.common.beans.property.ReadOnlyListPropertyBaseEx;
@@ -39,6 +41,8 @@ import org.eclipse.gef.geometry.planar.PolyBezier;
 
 import com.google.common.collect.Iterators;
 
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.beans.property.ReadOnlyBooleanPropertyBase;
@@ -217,6 +221,56 @@ public class Connection extends Group {
 		}
 	}
 
+	/**
+	 * Collects the {@link Connection}s for which a refresh was scheduled (see
+	 * {@link Connection#scheduleRefresh()}) and refreshes them once per JavaFX
+	 * pulse, so that multiple refresh requests that are issued in between two
+	 * pulses result in a single routing and interpolation pass per
+	 * {@link Connection}.
+	 */
+	private static final class RefreshScheduler extends AnimationTimer {
+
+		private static RefreshScheduler instance;
+
+		private Set<Connection> scheduled = new LinkedHashSet<>();
+		private boolean running = false;
+
+		static RefreshScheduler getInstance() {
+			if (instance == null) {
+				instance = new RefreshScheduler();
+			}
+			return instance;
+		}
+
+		@Override
+		public void handle(long now) {
+			if (scheduled.isEmpty()) {
+				// no refresh was requested since the last pulse
+				stop();
+				running = false;
+				return;
+			}
+			// refreshing a connection can schedule refreshes for other
+			// connections (e.g. when connections are anchored at connections),
+			// which are processed within the next pulse
+			List<Connection> connections = new ArrayList<>(scheduled);
+			scheduled.clear();
+			for (Connection connection : connections) {
+				if (connection.refreshScheduled) {
+					connection.refresh();
+				}
+			}
+		}
+
+		void schedule(Connection connection) {
+			scheduled.add(connection);
+			if (!running) {
+				running = true;
+				start();
+			}
+		}
+	}
+
 	/**
 	 * The <i>id</i> used to identify the start point of this connection at the
 	 * start anchor.
@@ -290,7 +344,7 @@ public class Connection extends Group {
 				}
 				// refresh decoration clip in case the layout bounds of
 				// the decorations have changed
-				refresh();
+				scheduleRefresh();
 			}
 		};
 
@@ -308,10 +362,12 @@ public class Connection extends Group {
 				newValue.layoutBoundsProperty()
 						.addListener(decorationLayoutBoundsListener);
 			}
-			refresh();
+			scheduleRefresh();
 		}
 	};
 	private boolean inRefresh = false;
+	private boolean refreshScheduled = false;
+	private boolean refreshDeferred = false;
 
 	/**
 	 * Constructs a new {@link Connection} whose start and end point are set to
@@ -327,10 +383,12 @@ public class Connection extends Group {
 			public void changed(
 					ObservableValue<? extends IConnectionRouter> observable,
 					IConnectionRouter oldValue, IConnectionRouter newValue) {
+				// the input of a previous routing pass is no longer valid
+				OrthogonalRouter.invalidateRoutingInput(Connection.this);
 				if (inRefresh) {
 					return;
 				}
-				refresh();
+				scheduleRefresh();
 			}
 		});
 
@@ -341,7 +399,7 @@ public class Connection extends Group {
 							ObservableValue<? extends IConnectionInterpolator> observable,
 							IConnectionInterpolator oldValue,
 							IConnectionInterpolator newValue) {
-						refresh();
+						scheduleRefresh();
 					}
 				});
 
@@ -351,7 +409,7 @@ public class Connection extends Group {
 				public void changed(
 						ObservableValue<? extends Transform> observable,
 						Transform oldValue, Transform newValue) {
-					refresh();
+					scheduleRefresh();
 				}
 			};
 
@@ -360,7 +418,7 @@ public class Connection extends Group {
 				public void changed(
 						ObservableValue<? extends Bounds> observable,
 						Bounds oldValue, Bounds newValue) {
-					refresh();
+					scheduleRefresh();
 				}
 			};
 
@@ -554,13 +612,14 @@ public class Connection extends Group {
 	}
 
 	/**
-	 * Creates a position change listener (PCL) which {@link #refresh()
-	 * refreshes} this {@link Connection} upon anchor position changes
-	 * corresponding to the given {@link AnchorKey}.
+	 * Creates a position change listener (PCL) which
+	 * {@link #scheduleRefresh() schedules a refresh} of this {@link Connection}
+	 * upon anchor position changes corresponding to the given
+	 * {@link AnchorKey}.
 	 *
 	 * @param anchorKey
 	 *            The {@link AnchorKey} for which a position change will trigger
-	 *            a {@link #refresh()} with the returned PCL.
+	 *            a {@link #scheduleRefresh()} with the returned PCL.
 	 * @return A position change listener to {@link #refresh() refresh} this
 	 *         {@link Connection} when the position for the given
 	 *         {@link AnchorKey} changes.
@@ -582,7 +641,7 @@ public class Connection extends Group {
 						if (!points.get(getAnchorIndex(anchorKey))
 								.equals(newPoint)) {
 							points.set(getAnchorIndex(anchorKey), newPoint);
-							refresh();
+							scheduleRefresh();
 						}
 					}
 				}
@@ -623,6 +682,7 @@ public class Connection extends Group {
 	 * @return The anchor at the given index.
 	 */
 	public IAnchor getAnchor(int index) {
+		flushScheduledRefresh();
 		return anchorsByKeys.get(getAnchorKey(index));
 	}
 
@@ -668,6 +728,7 @@ public class Connection extends Group {
 	 *         to this {@link Connection}.
 	 */
 	public ObservableList<IAnchor> getAnchorsUnmodifiable() {
+		flushScheduledRefresh();
 		return FXCollections.unmodifiableObservableList(anchors);
 	}
 
@@ -711,6 +772,7 @@ public class Connection extends Group {
 	 *         <code>null</code>.
 	 */
 	public IAnchor getControlAnchor(int index) {
+		flushScheduledRefresh();
 		return anchorsByKeys.get(getControlAnchorKey(index));
 	}
 
@@ -757,6 +819,7 @@ public class Connection extends Group {
 	 *         anchorsByKeys} currently assigned to this {@link Connection}.
 	 */
 	public List<IAnchor> getControlAnchors() {
+		flushScheduledRefresh();
 		int controlAnchorsCount = anchorsByKeys.size();
 		if (anchorsByKeys.containsKey(getStartAnchorKey())) {
 			controlAnchorsCount--;
@@ -791,6 +854,7 @@ public class Connection extends Group {
 	 *         <code>null</code>.
 	 */
 	public Point getControlPoint(int index) {
+		flushScheduledRefresh();
 		int anchorIndex = getAnchorIndex(getControlAnchorKey(index));
 		return anchorIndex < 0 ? null : points.get(anchorIndex);
 	}
@@ -829,6 +893,7 @@ public class Connection extends Group {
 	 *         <code>null</code>.
 	 */
 	public IAnchor getEndAnchor() {
+		flushScheduledRefresh();
 		return anchorsByKeys.get(getEndAnchorKey());
 	}
 
@@ -868,6 +933,7 @@ public class Connection extends Group {
 	 *         <code>null</code>.
 	 */
 	public Point getEndPoint() {
+		flushScheduledRefresh();
 		int anchorIndex = getAnchorIndex(getEndAnchorKey());
 		return anchorIndex < 0 ? null : points.get(anchorIndex);
 	}
@@ -880,6 +946,7 @@ public class Connection extends Group {
 	 *         hint is present.
 	 */
 	public Point getEndPointHint() {
+		flushScheduledRefresh();
 		AnchorKey endAnchorKey = getEndAnchorKey();
 		if (hintsByKeys.containsKey(endAnchorKey)) {
 			return hintsByKeys.get(endAnchorKey);
@@ -908,6 +975,7 @@ public class Connection extends Group {
 	 * @see #getPointsUnmodifiable()
 	 */
 	public Point getPoint(int index) {
+		flushScheduledRefresh();
 		return points.get(index);
 	}
 
@@ -919,6 +987,7 @@ public class Connection extends Group {
 	 * @return The {@link Point}s constituting this {@link Connection}.
 	 */
 	public ObservableList<Point> getPointsUnmodifiable() {
+		flushScheduledRefresh();
 		return FXCollections.unmodifiableObservableList(points);
 	}
 
@@ -939,6 +1008,7 @@ public class Connection extends Group {
 	 *         <code>null</code>.
 	 */
 	public IAnchor getStartAnchor() {
+		flushScheduledRefresh();
 		return anchorsByKeys.get(getStartAnchorKey());
 	}
 
@@ -978,6 +1048,7 @@ public class Connection extends Group {
 	 *         <code>null</code>.
 	 */
 	public Point getStartPoint() {
+		flushScheduledRefresh();
 		int anchorIndex = getAnchorIndex(getStartAnchorKey());
 		return anchorIndex < 0 ? null : points.get(anchorIndex);
 	}
@@ -990,6 +1061,7 @@ public class Connection extends Group {
 	 *         hint is present.
 	 */
 	public Point getStartPointHint() {
+		flushScheduledRefresh();
 		AnchorKey startAnchorKey = getStartAnchorKey();
 		if (hintsByKeys.containsKey(startAnchorKey)) {
 			return hintsByKeys.get(startAnchorKey);
@@ -1066,6 +1138,20 @@ public class Connection extends Group {
 		return isConnected(getEndAnchor());
 	}
 
+	/**
+	 * Returns <code>true</code> if refreshes that are triggered by anchor
+	 * position, curve, decoration, router, or interpolator changes are
+	 * deferred to the next JavaFX pulse (see {@link #scheduleRefresh()}).
+	 * Otherwise returns <code>false</code>. Refreshes are not deferred by
+	 * default.
+	 *
+	 * @return <code>true</code> if refreshes are deferred, otherwise
+	 *         <code>false</code>.
+	 */
+	public boolean isRefreshDeferred() {
+		return refreshDeferred;
+	}
+
 	/**
 	 * Returns <code>true</code> if the currently assigned
 	 * {@link #getStartAnchor() start anchor} is bound to an anchorage.
@@ -1182,7 +1268,9 @@ public class Connection extends Group {
 	 * transformation, etc. changes. This method is safe against reentrance,
 	 * i.e. changes performed by {@link #refresh()} are allowed to lead to
 	 * another {@link #refresh()} call. However, when this method is called
-	 * reentrant, it returns immediately.
+	 * reentrant, it returns immediately. Refreshes that are triggered by
+	 * listeners are not performed directly, but are coalesced via
+	 * {@link #scheduleRefresh()}.
 	 * <p>
 	 * The process of refreshing a {@link Connection} is somewhat complicated as
 	 * it involves transforming points according to a transformation change,
@@ -1234,6 +1322,8 @@ public class Connection extends Group {
 			return;
 		}
 		inRefresh = true;
+		// a pending (deferred) refresh is covered by this refresh
+		refreshScheduled = false;
 		// System.out.println("+--- Refresh ---+");
 
 		// unregister PCLs
@@ -1527,6 +1617,40 @@ public class Connection extends Group {
 		return routerProperty;
 	}
 
+	/**
+	 * Schedules a {@link #refresh()} of this {@link Connection}. If refreshes
+	 * are {@link #isRefreshDeferred() deferred}, this {@link Connection} is
+	 * part of a {@link javafx.scene.Scene}, and this method is called on the
+	 * JavaFX application thread, the refresh is performed once within the next
+	 * JavaFX pulse, no matter how often this method is called until then.
+	 * Otherwise, {@link #refresh()} is called immediately.
+	 */
+	protected void scheduleRefresh() {
+		if (inRefresh) {
+			return;
+		}
+		if (!refreshDeferred || getScene() == null
+				|| !Platform.isFxApplicationThread()) {
+			refresh();
+			return;
+		}
+		if (!refreshScheduled) {
+			refreshScheduled = true;
+			RefreshScheduler.getInstance().schedule(this);
+		}
+	}
+
+	/**
+	 * Performs a refresh that was deferred by {@link #scheduleRefresh()}
+	 * immediately, so that the anchors, points, and hints that are queried
+	 * from this {@link Connection} are always up-to-date.
+	 */
+	private void flushScheduledRefresh() {
+		if (refreshScheduled && !inRefresh) {
+			refresh();
+		}
+	}
+
 	/**
 	 * Replaces the anchor currently registered for the given {@link AnchorKey}
 	 * with the given {@link IAnchor}.
@@ -1826,6 +1950,31 @@ public class Connection extends Group {
 		refresh();
 	}
 
+	/**
+	 * Specifies whether refreshes that are triggered by anchor position,
+	 * curve, decoration, router, or interpolator changes are deferred to the
+	 * next JavaFX pulse (see {@link #scheduleRefresh()}), or performed
+	 * synchronously (which is the default). If deferring is disabled while a
+	 * refresh is pending, the refresh is performed immediately.
+	 * <p>
+	 * A pending refresh is also performed immediately when the anchors, points,
+	 * or hints of this {@link Connection} are queried, so that clients always
+	 * work on up-to-date geometry. However, the geometry of the
+	 * {@link #getCurve() curve} and the decorations is only updated within the
+	 * next pulse.
+	 * </p>
+	 *
+	 * @param refreshDeferred
+	 *            <code>true</code> to coalesce refreshes per JavaFX pulse,
+	 *            <code>false</code> to refresh synchronously.
+	 */
+	public void setRefreshDeferred(boolean refreshDeferred) {
+		this.refreshDeferred = refreshDeferred;
+		if (!refreshDeferred && refreshScheduled) {
+			refresh();
+		}
+	}
+
 	/**
 	 * Sets the {@link IConnectionRouter} of this {@link Connection} to the
 	 * given value.
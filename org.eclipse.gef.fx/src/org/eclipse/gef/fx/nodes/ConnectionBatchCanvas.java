@@ -0,0 +1,719 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.nodes;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.gef.fx.utils.SpatialIndex;
+import org.eclipse.gef.geometry.planar.BezierCurve;
+import org.eclipse.gef.geometry.planar.ICurve;
+import org.eclipse.gef.geometry.planar.Path;
+import org.eclipse.gef.geometry.planar.Path.Segment;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Rectangle;
+
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.event.EventHandler;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.geometry.Point2D;
+import javafx.scene.Group;
+import javafx.scene.Scene;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import javafx.scene.transform.Affine;
+import javafx.scene.transform.NonInvertibleTransformException;
+import javafx.scene.transform.Transform;
+
+/**
+ * A {@link ConnectionBatchCanvas} renders the geometries of many
+ * non-interactive connections (called edges) into a single {@link Canvas},
+ * so that an edge does not require its own {@link Connection} and scene graph
+ * nodes. Changes to the edges only lead to a redraw of the affected regions of
+ * the {@link Canvas}, which is performed within the next layout pass.
+ * <p>
+ * An edge is promoted to a real {@link Connection} (see
+ * {@link #createConnection(Object, ICurve, Paint, double)}) when it is hovered
+ * (if {@link #hoverPromotionProperty() hover promotion} is enabled), or when
+ * it is {@link #promote(Object) promoted} explicitly, e.g. because it is
+ * selected. Promoted edges are not drawn onto the {@link Canvas}, but are
+ * represented by their {@link Connection} within a layer above the
+ * {@link Canvas} until they are {@link #demote(Object) demoted} again.
+ * <p>
+ * The geometries are specified within the local coordinate system of the
+ * {@link ConnectionBatchCanvas}. However, the {@link Canvas} only covers the
+ * part of the edges that is visible within the {@link Scene}, and it is drawn
+ * within the coordinate system of the {@link Scene}. Therefore, its size is
+ * limited by the size of the {@link Scene}, independent of the extent of the
+ * edges and of the zoom level. When the {@link ConnectionBatchCanvas} is
+ * scrolled or zoomed, the {@link Canvas} is relocated and redrawn within the
+ * next layout pass. The {@link Canvas} is mouse transparent, so that it does
+ * not hide the nodes behind it from mouse events.
+ *
+ * @author agent
+ *
+ */
+public class ConnectionBatchCanvas extends Group {
+
+	/**
+	 * The geometry and style of an edge.
+	 */
+	private static final class Edge {
+		final Object key;
+		final ICurve geometry;
+		final Path path;
+		final Paint stroke;
+		final double strokeWidth;
+		final long order;
+
+		Edge(Object key, ICurve geometry, Paint stroke, double strokeWidth,
+				long order) {
+			this.key = key;
+			this.geometry = geometry;
+			this.path = geometry.toPath();
+			this.stroke = stroke;
+			this.strokeWidth = strokeWidth;
+			this.order = order;
+		}
+
+		Rectangle getDirtyBounds() {
+			// include the stroke as well as anti-aliasing pixels
+			double margin = strokeWidth / 2 + 1;
+			return geometry.getBounds().expand(margin, margin);
+		}
+	}
+
+	/**
+	 * An {@link IConnectionInterpolator} that renders the exact geometry of an
+	 * edge.
+	 */
+	private static final class EdgeInterpolator extends AbstractInterpolator {
+		private final ICurve geometry;
+
+		EdgeInterpolator(ICurve geometry) {
+			this.geometry = geometry;
+		}
+
+		@Override
+		protected ICurve computeCurve(Connection connection) {
+			return geometry;
+		}
+	}
+
+	/**
+	 * The default stroke for edges.
+	 */
+	public static final Paint DEFAULT_STROKE = Color.BLACK;
+
+	/**
+	 * The default stroke width for edges.
+	 */
+	public static final double DEFAULT_STROKE_WIDTH = 1;
+
+	/**
+	 * The maximum distance between the mouse and the geometry of an edge at
+	 * which the edge is considered to be hovered.
+	 */
+	protected static final double HOVER_TOLERANCE = 3;
+
+	// if more regions are dirty, they are redrawn at once
+	private static final int MAX_DIRTY_REGIONS = 16;
+
+	private final Canvas canvas = new Canvas();
+	// transforms the canvas from scene coordinates into local coordinates
+	private final Affine canvasTransform = new Affine();
+	// the area that is covered by the canvas within scene coordinates
+	private Rectangle canvasBoundsInScene = new Rectangle();
+	private final Group promotedLayer = new Group();
+	private final Map<Object, Edge> edges = new HashMap<>();
+	private final SpatialIndex<Object> edgeIndex = new SpatialIndex<>();
+	private final Map<Object, Connection> connections = new LinkedHashMap<>();
+	private final Set<Object> explicitlyPromoted = new HashSet<>();
+	private final List<Rectangle> dirtyRegions = new ArrayList<>();
+	private boolean canvasBoundsDirty = false;
+	private long edgeCount = 0;
+	private Object hoveredEdge;
+
+	private final BooleanProperty hoverPromotionProperty = new SimpleBooleanProperty(
+			true);
+
+	// relocates the canvas when this node is scrolled or zoomed, or when the
+	// scene is resized
+	private ChangeListener<Object> viewportChangeListener = new ChangeListener<Object>() {
+		@Override
+		public void changed(ObservableValue<? extends Object> observable,
+				Object oldValue, Object newValue) {
+			canvasBoundsDirty = true;
+			requestLayout();
+		}
+	};
+
+	private EventHandler<MouseEvent> mouseMovedFilter = new EventHandler<MouseEvent>() {
+		@Override
+		public void handle(MouseEvent event) {
+			if (isHoverPromotion()) {
+				Point2D pLocal = sceneToLocal(event.getSceneX(),
+						event.getSceneY());
+				updateHoveredEdge(getEdgeAt(pLocal.getX(), pLocal.getY()));
+			}
+		}
+	};
+
+	/**
+	 * Constructs a new {@link ConnectionBatchCanvas}.
+	 */
+	public ConnectionBatchCanvas() {
+		setAutoSizeChildren(false);
+		canvas.setMouseTransparent(true);
+		canvas.setWidth(0);
+		canvas.setHeight(0);
+		canvas.getTransforms().add(canvasTransform);
+		getChildren().addAll(canvas, promotedLayer);
+		localToSceneTransformProperty().addListener(viewportChangeListener);
+
+		// detect hovered edges using a filter at the scene, so that events
+		// are not consumed and the canvas does not need to be pickable
+		sceneProperty().addListener(new ChangeListener<Scene>() {
+			@Override
+			public void changed(ObservableValue<? extends Scene> observable,
+					Scene oldValue, Scene newValue) {
+				if (oldValue != null) {
+					oldValue.removeEventFilter(MouseEvent.MOUSE_MOVED,
+							mouseMovedFilter);
+					oldValue.widthProperty()
+							.removeListener(viewportChangeListener);
+					oldValue.heightProperty()
+							.removeListener(viewportChangeListener);
+				}
+				if (newValue != null) {
+					newValue.addEventFilter(MouseEvent.MOUSE_MOVED,
+							mouseMovedFilter);
+					newValue.widthProperty().addListener(viewportChangeListener);
+					newValue.heightProperty()
+							.addListener(viewportChangeListener);
+				}
+				viewportChangeListener.changed(null, oldValue, newValue);
+			}
+		});
+		hoverPromotionProperty.addListener(new ChangeListener<Boolean>() {
+			@Override
+			public void changed(ObservableValue<? extends Boolean> observable,
+					Boolean oldValue, Boolean newValue) {
+				if (!newValue) {
+					updateHoveredEdge(null);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Computes the area that is covered by the {@link Canvas}, i.e. the
+	 * (pixel aligned) intersection of the bounds of all edges and the bounds
+	 * of the {@link Scene}, within the coordinate system of the
+	 * {@link Scene}. Returns <code>null</code> if the area is empty.
+	 */
+	private Rectangle computeCanvasBounds() {
+		double[] bounds = edgeIndex.getBounds();
+		Scene scene = getScene();
+		if (bounds == null || scene == null) {
+			return null;
+		}
+		Bounds boundsInScene = localToScene(new BoundingBox(bounds[0],
+				bounds[1], bounds[2] - bounds[0], bounds[3] - bounds[1]));
+		double minX = Math.floor(Math.max(0, boundsInScene.getMinX()));
+		double minY = Math.floor(Math.max(0, boundsInScene.getMinY()));
+		double maxX = Math.ceil(
+				Math.min(scene.getWidth(), boundsInScene.getMaxX()));
+		double maxY = Math.ceil(
+				Math.min(scene.getHeight(), boundsInScene.getMaxY()));
+		if (maxX <= minX || maxY <= minY) {
+			return null;
+		}
+		return new Rectangle(minX, minY, maxX - minX, maxY - minY);
+	}
+
+	/**
+	 * Creates the {@link Connection} that represents the given edge while it
+	 * is promoted. The default implementation creates a {@link Connection}
+	 * whose points are the end points of the segments of the given geometry,
+	 * and whose curve renders the given geometry exactly. The stroke is
+	 * transferred to its curve. Subclasses may override this method to create
+	 * connections that provide more interaction.
+	 *
+	 * @param edge
+	 *            The edge that is promoted.
+	 * @param geometry
+	 *            The geometry of the edge.
+	 * @param stroke
+	 *            The stroke of the edge.
+	 * @param strokeWidth
+	 *            The stroke width of the edge.
+	 * @return The {@link Connection} that represents the edge.
+	 */
+	protected Connection createConnection(Object edge, ICurve geometry,
+			Paint stroke, double strokeWidth) {
+		List<Point> points = new ArrayList<>();
+		BezierCurve[] segments = geometry.toBezier();
+		points.add(geometry.getP1());
+		for (BezierCurve segment : segments) {
+			points.add(segment.getP2());
+		}
+		Connection connection = new Connection();
+		connection.setInterpolator(new EdgeInterpolator(geometry));
+		connection.setPoints(points);
+		if (connection.getCurve() instanceof GeometryNode) {
+			GeometryNode<?> curve = (GeometryNode<?>) connection.getCurve();
+			curve.setStroke(stroke);
+			curve.setStrokeWidth(strokeWidth);
+		}
+		return connection;
+	}
+
+	/**
+	 * Demotes the given edge, i.e. removes its {@link Connection} and draws
+	 * the edge onto the {@link Canvas} again. Does nothing if the edge is not
+	 * promoted.
+	 *
+	 * @param edge
+	 *            The edge to demote.
+	 */
+	public void demote(Object edge) {
+		explicitlyPromoted.remove(edge);
+		if (edge != hoveredEdge) {
+			removeConnection(edge);
+		}
+	}
+
+	/**
+	 * Returns the {@link Connection} that represents the given edge while it
+	 * is promoted, or <code>null</code> if the edge is not promoted.
+	 *
+	 * @param edge
+	 *            The edge for which to return the {@link Connection}.
+	 * @return The {@link Connection} that represents the given edge, or
+	 *         <code>null</code>.
+	 */
+	public Connection getConnection(Object edge) {
+		return connections.get(edge);
+	}
+
+	/**
+	 * Returns the topmost edge whose geometry is within the
+	 * {@link #HOVER_TOLERANCE} of the given position, or <code>null</code> if
+	 * no such edge exists.
+	 *
+	 * @param x
+	 *            The x-coordinate of the position, interpreted in the local
+	 *            coordinate system of this {@link ConnectionBatchCanvas}.
+	 * @param y
+	 *            The y-coordinate of the position, interpreted in the local
+	 *            coordinate system of this {@link ConnectionBatchCanvas}.
+	 * @return The edge at the given position, or <code>null</code>.
+	 */
+	public Object getEdgeAt(double x, double y) {
+		Point p = new Point(x, y);
+		Edge topmost = null;
+		for (Object key : edgeIndex.query(x - HOVER_TOLERANCE,
+				y - HOVER_TOLERANCE, x + HOVER_TOLERANCE,
+				y + HOVER_TOLERANCE)) {
+			Edge edge = edges.get(key);
+			if (topmost != null && topmost.order > edge.order) {
+				continue;
+			}
+			Point projection = edge.geometry.getProjection(p);
+			if (p.getDistance(projection) <= edge.strokeWidth / 2
+					+ HOVER_TOLERANCE) {
+				topmost = edge;
+			}
+		}
+		return topmost == null ? null : topmost.key;
+	}
+
+	/**
+	 * Returns the geometry of the given edge, or <code>null</code> if the edge
+	 * is not contained.
+	 *
+	 * @param edge
+	 *            The edge for which to return the geometry.
+	 * @return The geometry of the given edge, or <code>null</code>.
+	 */
+	public ICurve getEdgeGeometry(Object edge) {
+		Edge e = edges.get(edge);
+		return e == null ? null : e.geometry;
+	}
+
+	/**
+	 * Returns all edges.
+	 *
+	 * @return A {@link Set} containing all edges.
+	 */
+	public Set<Object> getEdges() {
+		return new HashSet<>(edges.keySet());
+	}
+
+	/**
+	 * Returns the {@link Canvas} onto which the edges are drawn.
+	 *
+	 * @return The {@link Canvas} onto which the edges are drawn.
+	 */
+	public Canvas getCanvas() {
+		return canvas;
+	}
+
+	/**
+	 * Returns the {@link Group} that contains the {@link Connection}s of the
+	 * promoted edges.
+	 *
+	 * @return The {@link Group} that contains the {@link Connection}s of the
+	 *         promoted edges.
+	 */
+	public Group getPromotedLayer() {
+		return promotedLayer;
+	}
+
+	/**
+	 * Returns a {@link BooleanProperty} that determines if edges are promoted
+	 * while they are hovered by the mouse. Defaults to <code>true</code>.
+	 *
+	 * @return The {@link BooleanProperty} that determines if hovered edges
+	 *         are promoted.
+	 */
+	public BooleanProperty hoverPromotionProperty() {
+		return hoverPromotionProperty;
+	}
+
+	/**
+	 * Marks the given region as dirty, so that it is redrawn within the next
+	 * layout pass. As the bounds of the edges might have changed, the bounds
+	 * of the {@link Canvas} are validated within the next layout pass, too.
+	 */
+	private void invalidate(Rectangle region) {
+		dirtyRegions.add(region);
+		requestLayout();
+	}
+
+	/**
+	 * Returns the value of the {@link #hoverPromotionProperty()}.
+	 *
+	 * @return The value of the {@link #hoverPromotionProperty()}.
+	 */
+	public boolean isHoverPromotion() {
+		return hoverPromotionProperty.get();
+	}
+
+	/**
+	 * Returns <code>true</code> if the given edge is currently promoted, i.e.
+	 * represented by a {@link Connection}. Otherwise returns
+	 * <code>false</code>.
+	 *
+	 * @param edge
+	 *            The edge to test.
+	 * @return <code>true</code> if the given edge is promoted, otherwise
+	 *         <code>false</code>.
+	 */
+	public boolean isPromoted(Object edge) {
+		return connections.containsKey(edge);
+	}
+
+	@Override
+	protected void layoutChildren() {
+		super.layoutChildren();
+		redraw();
+	}
+
+	/**
+	 * Promotes the given edge, i.e. represents it by a {@link Connection}
+	 * instead of drawing it onto the {@link Canvas}, until it is
+	 * {@link #demote(Object) demoted}.
+	 *
+	 * @param edge
+	 *            The edge to promote.
+	 */
+	public void promote(Object edge) {
+		if (!edges.containsKey(edge)) {
+			throw new IllegalArgumentException(
+					"The given edge is not contained.");
+		}
+		explicitlyPromoted.add(edge);
+		addConnection(edge);
+	}
+
+	private void addConnection(Object edge) {
+		if (connections.containsKey(edge)) {
+			return;
+		}
+		Edge e = edges.get(edge);
+		Connection connection = createConnection(edge, e.geometry, e.stroke,
+				e.strokeWidth);
+		connections.put(edge, connection);
+		promotedLayer.getChildren().add(connection);
+		invalidate(e.getDirtyBounds());
+	}
+
+	/**
+	 * Adds the given edge, or updates its geometry if it is already contained.
+	 * The edge is drawn using the {@link #DEFAULT_STROKE} and
+	 * {@link #DEFAULT_STROKE_WIDTH}.
+	 *
+	 * @param edge
+	 *            The edge, which is used as a key for the geometry.
+	 * @param geometry
+	 *            The geometry of the edge within the local coordinate system
+	 *            of this {@link ConnectionBatchCanvas}.
+	 */
+	public void putEdge(Object edge, ICurve geometry) {
+		putEdge(edge, geometry, DEFAULT_STROKE, DEFAULT_STROKE_WIDTH);
+	}
+
+	/**
+	 * Adds the given edge, or updates its geometry and style if it is already
+	 * contained. If the edge is promoted, its {@link Connection} is replaced.
+	 *
+	 * @param edge
+	 *            The edge, which is used as a key for the geometry.
+	 * @param geometry
+	 *            The geometry of the edge within the local coordinate system
+	 *            of this {@link ConnectionBatchCanvas}.
+	 * @param stroke
+	 *            The {@link Paint} that is used to draw the edge.
+	 * @param strokeWidth
+	 *            The width that is used to draw the edge.
+	 */
+	public void putEdge(Object edge, ICurve geometry, Paint stroke,
+			double strokeWidth) {
+		if (edge == null) {
+			throw new IllegalArgumentException("edge may not be null.");
+		}
+		if (geometry == null) {
+			throw new IllegalArgumentException("geometry may not be null.");
+		}
+		Edge oldEdge = edges.get(edge);
+		Edge newEdge = new Edge(edge, geometry, stroke, strokeWidth,
+				oldEdge == null ? edgeCount++ : oldEdge.order);
+		edges.put(edge, newEdge);
+		Rectangle bounds = newEdge.getDirtyBounds();
+		edgeIndex.put(edge, bounds.getX(), bounds.getY(),
+				bounds.getX() + bounds.getWidth(),
+				bounds.getY() + bounds.getHeight());
+		if (oldEdge != null) {
+			invalidate(oldEdge.getDirtyBounds());
+		}
+		invalidate(bounds);
+		if (connections.containsKey(edge)) {
+			// replace the connection so that it reflects the new geometry
+			removeConnection(edge);
+			addConnection(edge);
+		}
+	}
+
+	/**
+	 * Redraws the dirty regions of the {@link Canvas}. If the {@link Canvas}
+	 * needs to be relocated or resized (which also shrinks it when edges are
+	 * removed), or if many regions are dirty, the complete {@link Canvas} is
+	 * redrawn.
+	 */
+	protected void redraw() {
+		if (dirtyRegions.isEmpty() && !canvasBoundsDirty) {
+			return;
+		}
+		Rectangle canvasBounds = computeCanvasBounds();
+		Transform sceneToLocal = null;
+		try {
+			sceneToLocal = getLocalToSceneTransform().createInverse();
+		} catch (NonInvertibleTransformException e) {
+			// the edges are not visible (e.g. scaled to zero)
+		}
+		if (canvasBounds == null || sceneToLocal == null) {
+			// nothing is visible, so release the texture
+			canvas.setWidth(0);
+			canvas.setHeight(0);
+			canvasBoundsInScene = new Rectangle();
+			canvasBoundsDirty = false;
+			dirtyRegions.clear();
+			return;
+		}
+		if (canvasBoundsDirty || !canvasBounds.equals(canvasBoundsInScene)) {
+			// cover the visible part of the edges
+			canvasBoundsInScene = canvasBounds;
+			canvas.setWidth(canvasBounds.getWidth());
+			canvas.setHeight(canvasBounds.getHeight());
+			canvasTransform.setToTransform(sceneToLocal);
+			canvasTransform.appendTranslation(canvasBounds.getX(),
+					canvasBounds.getY());
+			canvasBoundsDirty = false;
+			dirtyRegions.clear();
+			dirtyRegions.add(toLocal(canvasBounds));
+		} else if (dirtyRegions.size() > MAX_DIRTY_REGIONS) {
+			Rectangle union = dirtyRegions.get(0).getCopy();
+			for (Rectangle region : dirtyRegions) {
+				union.union(region);
+			}
+			dirtyRegions.clear();
+			dirtyRegions.add(union);
+		}
+
+		GraphicsContext gc = canvas.getGraphicsContext2D();
+		for (Rectangle region : dirtyRegions) {
+			// collect the edges within the region in drawing order
+			List<Edge> regionEdges = new ArrayList<>();
+			for (Object key : edgeIndex.query(region.getX(), region.getY(),
+					region.getX() + region.getWidth(),
+					region.getY() + region.getHeight())) {
+				if (!connections.containsKey(key)) {
+					regionEdges.add(edges.get(key));
+				}
+			}
+			Collections.sort(regionEdges, new Comparator<Edge>() {
+				@Override
+				public int compare(Edge e1, Edge e2) {
+					return Long.compare(e1.order, e2.order);
+				}
+			});
+
+			// draw within the coordinate system of the scene
+			gc.save();
+			gc.translate(-canvasBoundsInScene.getX(),
+					-canvasBoundsInScene.getY());
+			gc.transform(new Affine(getLocalToSceneTransform()));
+			gc.clearRect(region.getX(), region.getY(), region.getWidth(),
+					region.getHeight());
+			gc.beginPath();
+			gc.rect(region.getX(), region.getY(), region.getWidth(),
+					region.getHeight());
+			gc.clip();
+			for (Edge edge : regionEdges) {
+				strokeEdge(gc, edge);
+			}
+			gc.restore();
+		}
+		dirtyRegions.clear();
+	}
+
+	private void removeConnection(Object edge) {
+		Connection connection = connections.remove(edge);
+		if (connection != null) {
+			promotedLayer.getChildren().remove(connection);
+			Edge e = edges.get(edge);
+			if (e != null) {
+				invalidate(e.getDirtyBounds());
+			}
+		}
+	}
+
+	/**
+	 * Removes the given edge. If the edge is promoted, its {@link Connection}
+	 * is removed as well.
+	 *
+	 * @param edge
+	 *            The edge to remove.
+	 */
+	public void removeEdge(Object edge) {
+		explicitlyPromoted.remove(edge);
+		if (edge == hoveredEdge) {
+			hoveredEdge = null;
+		}
+		removeConnection(edge);
+		Edge e = edges.remove(edge);
+		if (e != null) {
+			edgeIndex.remove(edge);
+			invalidate(e.getDirtyBounds());
+		}
+	}
+
+	/**
+	 * Sets the value of the {@link #hoverPromotionProperty()} to the given
+	 * value.
+	 *
+	 * @param hoverPromotion
+	 *            The new value for the {@link #hoverPromotionProperty()}.
+	 */
+	public void setHoverPromotion(boolean hoverPromotion) {
+		hoverPromotionProperty.set(hoverPromotion);
+	}
+
+	private void strokeEdge(GraphicsContext gc, Edge edge) {
+		gc.setStroke(edge.stroke);
+		gc.setLineWidth(edge.strokeWidth);
+		gc.beginPath();
+		for (Segment segment : edge.path.getSegments()) {
+			Point[] p = segment.getPoints();
+			switch (segment.getType()) {
+			case Segment.MOVE_TO:
+				gc.moveTo(p[0].x, p[0].y);
+				break;
+			case Segment.LINE_TO:
+				gc.lineTo(p[0].x, p[0].y);
+				break;
+			case Segment.QUAD_TO:
+				gc.quadraticCurveTo(p[0].x, p[0].y, p[1].x, p[1].y);
+				break;
+			case Segment.CUBIC_TO:
+				gc.bezierCurveTo(p[0].x, p[0].y, p[1].x, p[1].y, p[2].x,
+						p[2].y);
+				break;
+			case Segment.CLOSE:
+				gc.closePath();
+				break;
+			default:
+				break;
+			}
+		}
+		gc.stroke();
+	}
+
+	/**
+	 * Converts the given {@link Rectangle} from the coordinate system of the
+	 * {@link Scene} into the local coordinate system.
+	 */
+	private Rectangle toLocal(Rectangle boundsInScene) {
+		Bounds boundsInLocal = sceneToLocal(new BoundingBox(
+				boundsInScene.getX(), boundsInScene.getY(),
+				boundsInScene.getWidth(), boundsInScene.getHeight()));
+		return new Rectangle(boundsInLocal.getMinX(), boundsInLocal.getMinY(),
+				boundsInLocal.getWidth(), boundsInLocal.getHeight());
+	}
+
+	/**
+	 * Promotes the given hovered edge (if it is not promoted yet) and demotes
+	 * the previously hovered edge (unless it was promoted explicitly).
+	 */
+	private void updateHoveredEdge(Object edge) {
+		if (edge == hoveredEdge) {
+			return;
+		}
+		Object oldHoveredEdge = hoveredEdge;
+		hoveredEdge = edge;
+		if (oldHoveredEdge != null
+				&& !explicitlyPromoted.contains(oldHoveredEdge)) {
+			removeConnection(oldHoveredEdge);
+		}
+		if (edge != null) {
+			addConnection(edge);
+		}
+	}
+
+}
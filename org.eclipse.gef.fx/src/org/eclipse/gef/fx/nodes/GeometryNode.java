@@ -82,6 +82,8 @@ public class GeometryNode<T extends IGeometry> extends Region {
 
 	private Path geometricShape = new Path();
 	private Path clickableAreaShape = null;
+	// the clickable area shape is updated within the next layout pass
+	private boolean clickableAreaDirty = false;
 	private DoubleProperty clickableAreaWidth = new SimpleDoubleProperty();
 	private ObjectProperty<T> geometryProperty = new SimpleObjectProperty<>();
 
@@ -429,11 +431,11 @@ public class GeometryNode<T extends IGeometry> extends Region {
 		return geometricShape;
 	}
 
-	private PathElement[] getPathElements() {
-		return Geometry2Shape.toPathElements(geometryProperty.get()
+	private org.eclipse.gef.geometry.planar.Path getPathInLocal() {
+		return geometryProperty.get()
 				.getTransformed(new AffineTransform()
 						.setToTranslation(-getLayoutX(), -getLayoutY()))
-				.toPath());
+				.toPath();
 	}
 
 	/**
@@ -550,6 +552,18 @@ public class GeometryNode<T extends IGeometry> extends Region {
 		return geometricShape.isSmooth();
 	}
 
+	@Override
+	protected void layoutChildren() {
+		super.layoutChildren();
+		if (clickableAreaDirty) {
+			clickableAreaDirty = false;
+			if (clickableAreaShape != null) {
+				clickableAreaShape.getElements()
+						.setAll(geometricShape.getElements());
+			}
+		}
+	}
+
 	@Override
 	public void relocate(double x, double y) {
 		// prevent unnecessary updates
@@ -834,7 +848,8 @@ public class GeometryNode<T extends IGeometry> extends Region {
 						&& clickableAreaShape == null
 						&& geometryProperty.getValue() != null) {
 					// create and configure clickable area shape
-					clickableAreaShape = new Path(getPathElements());
+					clickableAreaShape = new Path(geometricShape.getElements());
+					clickableAreaDirty = false;
 					clickableAreaShape
 							.setId("clickable area of GeometryNode " + this);
 					clickableAreaShape.setStroke(Color.TRANSPARENT);
@@ -1064,19 +1079,23 @@ public class GeometryNode<T extends IGeometry> extends Region {
 	 * done automatically when setting the geometry. But in case you change
 	 * properties of a geometry, you have to call this method in order to update
 	 * its visual counter part.
+	 * <p>
+	 * In case the element structure of the path is unchanged, the existing
+	 * {@link PathElement}s are updated in place. As the clickable area shares
+	 * the {@link PathElement}s of the geometric shape, it is updated
+	 * implicitly. Otherwise, new {@link PathElement}s are created for the
+	 * geometric shape, and the clickable area is updated within the next layout
+	 * pass, so that it is regenerated at most once per pulse.
 	 */
 	private void updateShapes() {
-		if (clickableAreaShape != null) {
-			updateShapes(geometricShape, clickableAreaShape);
-		} else {
-			updateShapes(geometricShape);
-		}
-	}
-
-	private void updateShapes(Path... paths) {
-		PathElement[] pathElements = getPathElements();
-		for (Path p : paths) {
-			p.getElements().setAll(pathElements);
+		org.eclipse.gef.geometry.planar.Path path = getPathInLocal();
+		ObservableList<PathElement> elements = geometricShape.getElements();
+		if (!Geometry2Shape.updatePathElements(path, elements)) {
+			elements.setAll(Geometry2Shape.toPathElements(path));
+			if (clickableAreaShape != null) {
+				clickableAreaDirty = true;
+				requestLayout();
+			}
 		}
 	}
 }
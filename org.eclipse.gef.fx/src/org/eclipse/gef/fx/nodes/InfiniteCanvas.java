@@ -13,9 +13,16 @@
  *******************************************************************************/
 package org.eclipse.gef.fx.nodes;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import org.eclipse.gef.fx.utils.SpatialIndex;
 import org.eclipse.gef.geometry.convert.fx.FX2Geometry;
 import org.eclipse.gef.geometry.convert.fx.Geometry2FX;
 import org.eclipse.gef.geometry.planar.AffineTransform;
@@ -27,13 +34,18 @@ import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.ReadOnlyProperty;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleDoubleProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
+import javafx.collections.ListChangeListener;
 import javafx.event.EventHandler;
 import javafx.geometry.BoundingBox;
 import javafx.geometry.Bounds;
@@ -57,6 +69,7 @@ import javafx.scene.layout.Region;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.transform.Affine;
+import javafx.scene.transform.Transform;
 import javafx.util.Duration;
 
 /**
@@ -111,6 +124,26 @@ import javafx.util.Duration;
  * <li>The {@link #gridCellHeightProperty()} determines the grid cell height.
  * </ul>
  * <p>
+ * For large contents, the children of the {@link #virtualizedParentProperty()
+ * virtualized parent} (which is the {@link #getContentGroup()} per default) can
+ * be virtualized (see {@link #virtualizeContentProperty()}). In this case,
+ * children that are outside of the visible area (extended by the
+ * {@link #virtualizationPaddingProperty()}) are detached from the scene graph
+ * (see {@link VirtualizedGroup}), so that they are neither styled, laid out,
+ * rendered, nor picked. The detached children are not removed from the
+ * {@link VirtualizedGroup#getChildren() children} of the virtualized parent,
+ * their properties (e.g. their visibility) are not changed, and they still
+ * contribute to the content area.
+ * <p>
+ * When zoomed out, a cheap proxy representation (e.g. a rectangle or an
+ * {@link javafx.scene.image.ImageView} displaying a snapshot) can be rendered
+ * instead of a detailed content node (see
+ * {@link #setLevelOfDetailProxy(Node, Node)}). The proxies are shown (and the
+ * corresponding children of the {@link #virtualizedParentProperty() virtualized
+ * parent} are detached from the scene graph) while the zoom factor of the
+ * {@link #contentTransformProperty()} is below the
+ * {@link #levelOfDetailThresholdProperty()}.
+ * <p>
  * Internally, an {@link InfiniteCanvas} consists of four layers:
  *
  * <pre>
@@ -188,6 +221,26 @@ public class InfiniteCanvas extends Region {
 	 */
 	public static final int DEFAULT_GRID_CELL_HEIGHT = 10;
 
+	/**
+	 * The default padding that extends the visible area when determining the
+	 * children that are detached while the content is virtualized.
+	 */
+	public static final double DEFAULT_VIRTUALIZATION_PADDING = 100;
+
+	/**
+	 * The default zoom factor below which level-of-detail proxies are shown
+	 * instead of the corresponding content nodes.
+	 */
+	public static final double DEFAULT_LEVEL_OF_DETAIL_THRESHOLD = 0.5;
+
+	/**
+	 * The key that is used to store the content {@link Node} within the
+	 * {@link Node#getProperties() properties} of its level-of-detail proxy, so
+	 * that events that target a proxy can be related to its content
+	 * {@link Node} (see {@link #getLevelOfDetailContent(Node)}).
+	 */
+	public static final String LEVEL_OF_DETAIL_CONTENT_PROPERTY = "levelOfDetailContent";
+
 	// background grid
 	private Region grid;
 	private Affine gridTransform = new Affine();
@@ -231,10 +284,124 @@ public class InfiniteCanvas extends Region {
 			ScrollBarPolicy.AS_NEEDED);
 
 	// contents
-	private Group contentGroup = new Group();
+	private VirtualizedGroup contentGroup = new VirtualizedGroup();
 	private ReadOnlyObjectWrapper<Affine> contentTransformProperty = new ReadOnlyObjectWrapper<>(
 			new Affine());
 
+	// virtualization
+	private final BooleanProperty virtualizeContentProperty = new SimpleBooleanProperty(
+			false);
+	private final DoubleProperty virtualizationPaddingProperty = new SimpleDoubleProperty(
+			DEFAULT_VIRTUALIZATION_PADDING);
+	private final ObjectProperty<VirtualizedGroup> virtualizedParentProperty = new SimpleObjectProperty<>(
+			contentGroup);
+	// the parent whose children are indexed while the content is virtualized
+	private VirtualizedGroup virtualizedParent;
+	private SpatialIndex<Node> virtualizationIndex;
+	// children that were detached by the virtualization
+	private Set<Node> culledChildren = new HashSet<>();
+	// children that were within the visible area during the last update (or
+	// that were not evaluated yet)
+	private Set<Node> viewportChildren = new HashSet<>();
+	private boolean virtualizationDirty = false;
+	private ListChangeListener<Node> virtualizedChildrenListener = new ListChangeListener<Node>() {
+		@Override
+		public void onChanged(
+				ListChangeListener.Change<? extends Node> change) {
+			while (change.next()) {
+				for (Node removed : change.getRemoved()) {
+					unindexChild(removed);
+				}
+				for (Node added : change.getAddedSubList()) {
+					indexChild(added);
+				}
+			}
+			invalidateVirtualization();
+		}
+	};
+	private ChangeListener<Bounds> virtualizedChildBoundsListener = new ChangeListener<Bounds>() {
+		@Override
+		public void changed(ObservableValue<? extends Bounds> observable,
+				Bounds oldValue, Bounds newValue) {
+			Node child = (Node) ((ReadOnlyProperty<?>) observable).getBean();
+			virtualizationIndex.put(child, newValue.getMinX(),
+					newValue.getMinY(), newValue.getMaxX(), newValue.getMaxY());
+			invalidateVirtualization();
+		}
+	};
+	private ChangeListener<Object> invalidateVirtualizationListener = new ChangeListener<Object>() {
+		@Override
+		public void changed(ObservableValue<? extends Object> observable,
+				Object oldValue, Object newValue) {
+			invalidateVirtualization();
+		}
+	};
+
+	// level of detail
+	private Group levelOfDetailGroup = new Group();
+	private final DoubleProperty levelOfDetailThresholdProperty = new SimpleDoubleProperty(
+			DEFAULT_LEVEL_OF_DETAIL_THRESHOLD);
+	private final ReadOnlyBooleanWrapper levelOfDetailActiveProperty = new ReadOnlyBooleanWrapper(
+			false);
+	// transforms the proxies from the coordinate system of the virtualized
+	// parent into the coordinate system of the content group
+	private Affine levelOfDetailParentTransform = new Affine();
+	// maps content nodes to their proxies
+	private Map<Node, Node> levelOfDetailProxies = new LinkedHashMap<>();
+	// the parent whose children are replaced by their proxies while the
+	// level-of-detail is active
+	private VirtualizedGroup levelOfDetailParent;
+	// content nodes that are detached because their proxies are shown
+	private Set<Node> levelOfDetailHiddenNodes = new HashSet<>();
+	private ChangeListener<Number> updateLevelOfDetailListener = new ChangeListener<Number>() {
+		@Override
+		public void changed(ObservableValue<? extends Number> observable,
+				Number oldValue, Number newValue) {
+			updateLevelOfDetail();
+		}
+	};
+	private ChangeListener<Transform> levelOfDetailContentTransformListener = new ChangeListener<Transform>() {
+		@Override
+		public void changed(ObservableValue<? extends Transform> observable,
+				Transform oldValue, Transform newValue) {
+			Node content = (Node) ((ReadOnlyProperty<?>) observable).getBean();
+			Node proxy = levelOfDetailProxies.get(content);
+			if (proxy != null) {
+				proxy.getTransforms().setAll(newValue);
+			}
+		}
+	};
+	private ChangeListener<Transform> levelOfDetailParentTransformListener = new ChangeListener<Transform>() {
+		@Override
+		public void changed(ObservableValue<? extends Transform> observable,
+				Transform oldValue, Transform newValue) {
+			updateLevelOfDetailParentTransform();
+		}
+	};
+	private ListChangeListener<Node> levelOfDetailChildrenListener = new ListChangeListener<Node>() {
+		@Override
+		public void onChanged(
+				ListChangeListener.Change<? extends Node> change) {
+			while (change.next()) {
+				for (Node removed : change.getRemoved()) {
+					Node proxy = levelOfDetailProxies.get(removed);
+					if (proxy != null) {
+						getLevelOfDetailGroup().getChildren().remove(proxy);
+						hideLevelOfDetailProxy(removed);
+					}
+				}
+				for (Node added : change.getAddedSubList()) {
+					Node proxy = levelOfDetailProxies.get(added);
+					if (proxy != null && showLevelOfDetailProxy(added, proxy)) {
+						getLevelOfDetailGroup().getChildren().add(proxy);
+						levelOfDetailParent.setDetached(
+								Collections.singleton(added), true);
+					}
+				}
+			}
+		}
+	};
+
 	// content and scrollable bounds
 	private double[] contentBounds = new double[] { 0d, 0d, 0d, 0d };
 	private double[] scrollableBounds = new double[] { 0d, 0d, 0d, 0d };
@@ -338,8 +505,20 @@ public class InfiniteCanvas extends Region {
 		getChildren().addAll(createLayers());
 		getScrolledPane().getChildren().addAll(createScrolledLayers());
 
-		// add content transformation to content group
+		// add content transformation to content group and level-of-detail
+		// group
 		getContentGroup().getTransforms().add(getContentTransform());
+		getLevelOfDetailGroup().getTransforms().addAll(getContentTransform(),
+				levelOfDetailParentTransform);
+
+		// show/hide the level-of-detail proxies when zooming
+		Affine contentTransform = getContentTransform();
+		contentTransform.mxxProperty().addListener(updateLevelOfDetailListener);
+		contentTransform.mxyProperty().addListener(updateLevelOfDetailListener);
+		contentTransform.myxProperty().addListener(updateLevelOfDetailListener);
+		contentTransform.myyProperty().addListener(updateLevelOfDetailListener);
+		levelOfDetailThresholdProperty
+				.addListener(updateLevelOfDetailListener);
 
 		// register listeners for updating the scrollbars
 		registerUpdateScrollBarsOnBoundsChanges();
@@ -396,6 +575,42 @@ public class InfiniteCanvas extends Region {
 				}
 			}
 		});
+
+		// register for "virtualizeContent" changes to enable/disable content
+		// virtualization
+		virtualizeContentProperty.addListener(new ChangeListener<Boolean>() {
+			@Override
+			public void changed(ObservableValue<? extends Boolean> observable,
+					Boolean oldValue, Boolean newValue) {
+				if (newValue.booleanValue()) {
+					virtualizeContent();
+				} else {
+					unvirtualizeContent();
+				}
+			}
+		});
+		// re-index the children when the virtualized parent changes
+		virtualizedParentProperty
+				.addListener(new ChangeListener<VirtualizedGroup>() {
+					@Override
+					public void changed(
+							ObservableValue<? extends VirtualizedGroup> observable,
+							VirtualizedGroup oldValue,
+							VirtualizedGroup newValue) {
+						if (isLevelOfDetailActive()) {
+							hideLevelOfDetailProxies();
+						}
+						if (isVirtualizeContent()) {
+							unvirtualizeContent();
+							virtualizeContent();
+						}
+						if (isLevelOfDetailActive()) {
+							showLevelOfDetailProxies();
+						}
+					}
+				});
+		virtualizationPaddingProperty
+				.addListener(invalidateVirtualizationListener);
 	}
 
 	/**
@@ -419,6 +634,28 @@ public class InfiniteCanvas extends Region {
 		return clipContentProperty;
 	}
 
+	/**
+	 * Computes the transformation from the local coordinate system of the
+	 * given {@link Node} to the coordinate system of the
+	 * {@link #getContentGroup()}, or returns <code>null</code> if the given
+	 * {@link Node} is not nested within the {@link #getContentGroup()} (or is
+	 * the {@link #getContentGroup()} itself).
+	 *
+	 * @param node
+	 *            The {@link Node} for which to compute the transformation.
+	 * @return The local-to-content-group transformation of the given
+	 *         {@link Node}, or <code>null</code>.
+	 */
+	private Affine computeLocalToContentGroupTransform(Node node) {
+		Affine tx = new Affine();
+		Node current = node;
+		while (current != null && current != getContentGroup()) {
+			tx.prepend(current.getLocalToParentTransform());
+			current = current.getParent();
+		}
+		return current == null ? null : tx;
+	}
+
 	/**
 	 * Computes the bounds <code>[min-x, min-y, max-x, max-y]</code> surrounding
 	 * the {@link #getContentGroup() content group} within the coordinate system
@@ -429,8 +666,7 @@ public class InfiniteCanvas extends Region {
 	 *         coordinate system of this {@link InfiniteCanvas}.
 	 */
 	protected double[] computeContentBoundsInLocal() {
-		Bounds contentBoundsInScrolledPane = getContentGroup()
-				.getBoundsInParent();
+		Bounds contentBoundsInScrolledPane = getContentGroupBoundsInParent();
 		double minX = contentBoundsInScrolledPane.getMinX();
 		double maxX = contentBoundsInScrolledPane.getMaxX();
 		double minY = contentBoundsInScrolledPane.getMinY();
@@ -469,7 +705,7 @@ public class InfiniteCanvas extends Region {
 	 */
 	protected double[] computeScrollableBoundsInLocal() {
 		double[] cb = Arrays.copyOf(contentBounds, contentBounds.length);
-		Bounds db = getContentGroup().getBoundsInParent();
+		Bounds db = getContentGroupBoundsInParent();
 
 		// factor in the viewport extending the content bounds
 		if (cb[0] < 0) {
@@ -679,15 +915,16 @@ public class InfiniteCanvas extends Region {
 	/**
 	 * Returns a list containing the scrolled layers in the visualization of
 	 * this {@link InfiniteCanvas}. Per default, the grid canvas, the scrolled
-	 * underlay group, the content group, and the scrolled overlay group are
-	 * returned in that order.
+	 * underlay group, the content group, the level-of-detail group, and the
+	 * scrolled overlay group are returned in that order.
 	 *
 	 * @return A list containing the top level layers in the visualization of
 	 *         this {@link InfiniteCanvas}.
 	 */
 	protected List<? extends Node> createScrolledLayers() {
 		return Arrays.asList(getGridCanvas(), getScrolledUnderlayGroup(),
-				getContentGroup(), getScrolledOverlayGroup());
+				getContentGroup(), getLevelOfDetailGroup(),
+				getScrolledOverlayGroup());
 	}
 
 	/**
@@ -809,6 +1046,37 @@ public class InfiniteCanvas extends Region {
 		return contentGroup;
 	}
 
+	/**
+	 * Returns the bounds of the {@link #getContentGroup()} within the
+	 * coordinate system of the {@link #getScrolledPane()}. In contrast to
+	 * {@link Node#getBoundsInParent()}, the bounds of children that are
+	 * detached by the virtualization are included.
+	 *
+	 * @return The bounds of the {@link #getContentGroup()} within the
+	 *         coordinate system of the {@link #getScrolledPane()}.
+	 */
+	private Bounds getContentGroupBoundsInParent() {
+		Bounds bounds = getContentGroup().getBoundsInParent();
+		if (culledChildren.isEmpty()) {
+			return bounds;
+		}
+		double[] ib = virtualizationIndex.getBounds();
+		if (ib == null) {
+			return bounds;
+		}
+		Bounds childrenBounds = getScrolledPane()
+				.sceneToLocal(virtualizedParent.localToScene(new BoundingBox(
+						ib[0], ib[1], ib[2] - ib[0], ib[3] - ib[1])));
+		if (bounds.isEmpty()) {
+			return childrenBounds;
+		}
+		double minX = Math.min(bounds.getMinX(), childrenBounds.getMinX());
+		double minY = Math.min(bounds.getMinY(), childrenBounds.getMinY());
+		double maxX = Math.max(bounds.getMaxX(), childrenBounds.getMaxX());
+		double maxY = Math.max(bounds.getMaxY(), childrenBounds.getMaxY());
+		return new BoundingBox(minX, minY, maxX - minX, maxY - minY);
+	}
+
 	/**
 	 * Returns the transformation that is applied to the
 	 * {@link #getContentGroup() content group}.
@@ -877,6 +1145,57 @@ public class InfiniteCanvas extends Region {
 		return getScrolledPane().getTranslateX();
 	}
 
+	/**
+	 * Returns the {@link Group} that holds the level-of-detail proxies while
+	 * they are shown. The {@link #getContentTransform() content transform} is
+	 * applied to this {@link Group}, too.
+	 *
+	 * @return The {@link Group} that holds the level-of-detail proxies.
+	 */
+	public Group getLevelOfDetailGroup() {
+		return levelOfDetailGroup;
+	}
+
+	/**
+	 * Returns the content {@link Node} for which the given {@link Node} is
+	 * registered as the level-of-detail proxy (see
+	 * {@link #setLevelOfDetailProxy(Node, Node)}), or <code>null</code> if the
+	 * given {@link Node} is not a level-of-detail proxy.
+	 *
+	 * @param proxy
+	 *            The {@link Node} for which to return the content
+	 *            {@link Node}.
+	 * @return The content {@link Node} of the given proxy, or
+	 *         <code>null</code>.
+	 */
+	public static Node getLevelOfDetailContent(Node proxy) {
+		Object content = proxy.getProperties()
+				.get(LEVEL_OF_DETAIL_CONTENT_PROPERTY);
+		return content instanceof Node ? (Node) content : null;
+	}
+
+	/**
+	 * Returns the level-of-detail proxy that is registered for the given
+	 * content {@link Node}, or <code>null</code> if no proxy is registered.
+	 *
+	 * @param content
+	 *            The content {@link Node}.
+	 * @return The proxy {@link Node} for the given content {@link Node}, or
+	 *         <code>null</code>.
+	 */
+	public Node getLevelOfDetailProxy(Node content) {
+		return levelOfDetailProxies.get(content);
+	}
+
+	/**
+	 * Returns the value of the {@link #levelOfDetailThresholdProperty()}.
+	 *
+	 * @return The value of the {@link #levelOfDetailThresholdProperty()}.
+	 */
+	public double getLevelOfDetailThreshold() {
+		return levelOfDetailThresholdProperty.get();
+	}
+
 	/**
 	 * Returns the overlay {@link Group} that is rendered above the contents but
 	 * below the scrollbars.
@@ -974,6 +1293,24 @@ public class InfiniteCanvas extends Region {
 		return getScrolledPane().getTranslateY();
 	}
 
+	/**
+	 * Returns the value of the {@link #virtualizationPaddingProperty()}.
+	 *
+	 * @return The value of the {@link #virtualizationPaddingProperty()}.
+	 */
+	public double getVirtualizationPadding() {
+		return virtualizationPaddingProperty.get();
+	}
+
+	/**
+	 * Returns the value of the {@link #virtualizedParentProperty()}.
+	 *
+	 * @return The value of the {@link #virtualizedParentProperty()}.
+	 */
+	public VirtualizedGroup getVirtualizedParent() {
+		return virtualizedParentProperty.get();
+	}
+
 	/**
 	 * Returns the grid cell height as a (writable) property.
 	 *
@@ -1003,6 +1340,55 @@ public class InfiniteCanvas extends Region {
 		grid.prefHeightProperty().unbind();
 	}
 
+	/**
+	 * Hides the level-of-detail proxies and attaches the corresponding content
+	 * nodes again (unless they are detached by the virtualization).
+	 *
+	 * @see #showLevelOfDetailProxies()
+	 */
+	protected void hideLevelOfDetailProxies() {
+		if (levelOfDetailParent == null) {
+			return;
+		}
+		levelOfDetailParent.getChildren()
+				.removeListener(levelOfDetailChildrenListener);
+		levelOfDetailParent.localToSceneTransformProperty()
+				.removeListener(levelOfDetailParentTransformListener);
+		getLevelOfDetailGroup().getChildren().clear();
+		List<Node> attached = new ArrayList<>();
+		for (Node content : levelOfDetailHiddenNodes) {
+			content.localToParentTransformProperty()
+					.removeListener(levelOfDetailContentTransformListener);
+			if (!culledChildren.contains(content)) {
+				attached.add(content);
+			}
+		}
+		levelOfDetailHiddenNodes.clear();
+		// attach all content nodes at once
+		levelOfDetailParent.setDetached(attached, false);
+		levelOfDetailParent = null;
+	}
+
+	/**
+	 * Stops replacing the given content {@link Node} by its proxy, and
+	 * attaches it again (unless it is detached by the virtualization). The
+	 * proxy has to be removed from the {@link #getLevelOfDetailGroup()} by the
+	 * caller.
+	 *
+	 * @param content
+	 *            The content {@link Node}.
+	 */
+	private void hideLevelOfDetailProxy(Node content) {
+		if (levelOfDetailHiddenNodes.remove(content)) {
+			content.localToParentTransformProperty()
+					.removeListener(levelOfDetailContentTransformListener);
+			if (!culledChildren.contains(content)) {
+				levelOfDetailParent
+						.setDetached(Collections.singleton(content), false);
+			}
+		}
+	}
+
 	/**
 	 * Returns the {@link ObjectProperty} that controls the
 	 * {@link ScrollBarPolicy} that decides when to show a horizontal scrollbar.
@@ -1025,6 +1411,35 @@ public class InfiniteCanvas extends Region {
 		return getScrolledPane().translateXProperty();
 	}
 
+	/**
+	 * Inserts the given child of the virtualized parent into the spatial
+	 * index, and registers a listener to keep its bounds up-to-date.
+	 *
+	 * @param child
+	 *            The child {@link Node} to index.
+	 */
+	private void indexChild(Node child) {
+		Bounds bounds = child.getBoundsInParent();
+		virtualizationIndex.put(child, bounds.getMinX(), bounds.getMinY(),
+				bounds.getMaxX(), bounds.getMaxY());
+		child.boundsInParentProperty()
+				.addListener(virtualizedChildBoundsListener);
+		// evaluate the child within the next update
+		viewportChildren.add(child);
+	}
+
+	/**
+	 * Marks the virtualization as dirty and requests a layout pass, so that
+	 * the children that are detached by the virtualization are updated (at most
+	 * once per pulse) within {@link #layoutChildren()}.
+	 */
+	private void invalidateVirtualization() {
+		if (virtualizationIndex != null && !virtualizationDirty) {
+			virtualizationDirty = true;
+			requestLayout();
+		}
+	}
+
 	/**
 	 * Returns the value of the {@link #clipContentProperty()}.
 	 *
@@ -1034,6 +1449,15 @@ public class InfiniteCanvas extends Region {
 		return clipContentProperty.get();
 	}
 
+	/**
+	 * Returns the value of the {@link #levelOfDetailActiveProperty()}.
+	 *
+	 * @return The value of the {@link #levelOfDetailActiveProperty()}.
+	 */
+	public boolean isLevelOfDetailActive() {
+		return levelOfDetailActiveProperty.get();
+	}
+
 	/**
 	 * Returns the value of the {@link #showGridProperty()}.
 	 *
@@ -1043,6 +1467,15 @@ public class InfiniteCanvas extends Region {
 		return showGridProperty.get();
 	}
 
+	/**
+	 * Returns the value of the {@link #virtualizeContentProperty()}.
+	 *
+	 * @return The value of the {@link #virtualizeContentProperty()}.
+	 */
+	public boolean isVirtualizeContent() {
+		return virtualizeContentProperty.get();
+	}
+
 	/**
 	 * Returns the value of the {@link #zoomGridProperty()}.
 	 *
@@ -1052,6 +1485,39 @@ public class InfiniteCanvas extends Region {
 		return zoomGridProperty.get();
 	}
 
+	@Override
+	protected void layoutChildren() {
+		super.layoutChildren();
+		if (virtualizationDirty) {
+			updateVirtualization();
+		}
+	}
+
+	/**
+	 * Returns a {@link ReadOnlyBooleanProperty} that indicates whether the
+	 * level-of-detail proxies are currently shown instead of the corresponding
+	 * content nodes.
+	 *
+	 * @return A {@link ReadOnlyBooleanProperty} that indicates whether the
+	 *         level-of-detail proxies are shown.
+	 */
+	public ReadOnlyBooleanProperty levelOfDetailActiveProperty() {
+		return levelOfDetailActiveProperty.getReadOnlyProperty();
+	}
+
+	/**
+	 * Returns the {@link DoubleProperty} that determines the zoom factor below
+	 * which the level-of-detail proxies are shown instead of the corresponding
+	 * content nodes. The zoom factor is derived from the
+	 * {@link #contentTransformProperty()}.
+	 *
+	 * @return The {@link DoubleProperty} that determines the level-of-detail
+	 *         threshold.
+	 */
+	public DoubleProperty levelOfDetailThresholdProperty() {
+		return levelOfDetailThresholdProperty;
+	}
+
 	/**
 	 * Linear interpolation between <i>min</i> and <i>max</i> at the given
 	 * <i>ratio</i>. Returns the interpolated value in the interval
@@ -1182,6 +1648,26 @@ public class InfiniteCanvas extends Region {
 		heightProperty().addListener(updateScrollBarsOnSizeChangeListener);
 	}
 
+	/**
+	 * Removes the level-of-detail proxy that is registered for the given
+	 * content {@link Node}. If the proxy is currently shown, the content
+	 * {@link Node} is attached again.
+	 *
+	 * @param content
+	 *            The content {@link Node} for which to remove the proxy.
+	 */
+	public void removeLevelOfDetailProxy(Node content) {
+		Node proxy = levelOfDetailProxies.remove(content);
+		if (proxy == null) {
+			return;
+		}
+		proxy.getProperties().remove(LEVEL_OF_DETAIL_CONTENT_PROPERTY);
+		if (levelOfDetailHiddenNodes.contains(content)) {
+			getLevelOfDetailGroup().getChildren().remove(proxy);
+			hideLevelOfDetailProxy(content);
+		}
+	}
+
 	/**
 	 * Repaints the tile image that depends on the grid cell size only. The tile
 	 * image is repeated when repainting the grid.
@@ -1360,6 +1846,59 @@ public class InfiniteCanvas extends Region {
 		getScrolledPane().setTranslateX(scrollOffsetX);
 	}
 
+	/**
+	 * Registers the given proxy {@link Node} as the level-of-detail
+	 * representation of the given content {@link Node}, replacing a
+	 * previously registered proxy. While the level-of-detail is
+	 * {@link #isLevelOfDetailActive() active}, the proxy is rendered instead
+	 * of the content {@link Node}, which is detached from the scene graph
+	 * meanwhile (without changing its visibility). The proxy has to be
+	 * specified within the local coordinate system of the content
+	 * {@link Node}, i.e. it is transformed to the position of the content
+	 * {@link Node}.
+	 * <p>
+	 * The proxy can be picked, and the content {@link Node} is stored within
+	 * its properties (see {@link #getLevelOfDetailContent(Node)}), so that
+	 * events that target the proxy can be related to the content
+	 * {@link Node}.
+	 *
+	 * @param content
+	 *            The content {@link Node}, which has to be a child of the
+	 *            {@link #getVirtualizedParent() virtualized parent}.
+	 * @param proxy
+	 *            The proxy {@link Node} to render instead of the content
+	 *            {@link Node}.
+	 */
+	public void setLevelOfDetailProxy(Node content, Node proxy) {
+		if (content == null) {
+			throw new IllegalArgumentException("content may not be null.");
+		}
+		if (proxy == null) {
+			throw new IllegalArgumentException("proxy may not be null.");
+		}
+		removeLevelOfDetailProxy(content);
+		levelOfDetailProxies.put(content, proxy);
+		proxy.getProperties().put(LEVEL_OF_DETAIL_CONTENT_PROPERTY, content);
+		if (levelOfDetailParent != null
+				&& showLevelOfDetailProxy(content, proxy)) {
+			getLevelOfDetailGroup().getChildren().add(proxy);
+			levelOfDetailParent.setDetached(Collections.singleton(content),
+					true);
+		}
+	}
+
+	/**
+	 * Sets the value of the {@link #levelOfDetailThresholdProperty()} to the
+	 * given value.
+	 *
+	 * @param levelOfDetailThreshold
+	 *            The new value for the
+	 *            {@link #levelOfDetailThresholdProperty()}.
+	 */
+	public void setLevelOfDetailThreshold(double levelOfDetailThreshold) {
+		levelOfDetailThresholdProperty.set(levelOfDetailThreshold);
+	}
+
 	/**
 	 * Assigns the given value to the {@link #showGridProperty()}.
 	 *
@@ -1393,6 +1932,40 @@ public class InfiniteCanvas extends Region {
 		getScrolledPane().setTranslateY(scrollOffsetY);
 	}
 
+	/**
+	 * Sets the value of the {@link #virtualizationPaddingProperty()} to the
+	 * given value.
+	 *
+	 * @param virtualizationPadding
+	 *            The new value for the
+	 *            {@link #virtualizationPaddingProperty()}.
+	 */
+	public void setVirtualizationPadding(double virtualizationPadding) {
+		virtualizationPaddingProperty.set(virtualizationPadding);
+	}
+
+	/**
+	 * Sets the value of the {@link #virtualizeContentProperty()} to the given
+	 * value.
+	 *
+	 * @param virtualizeContent
+	 *            The new value for the {@link #virtualizeContentProperty()}.
+	 */
+	public void setVirtualizeContent(boolean virtualizeContent) {
+		virtualizeContentProperty.set(virtualizeContent);
+	}
+
+	/**
+	 * Sets the value of the {@link #virtualizedParentProperty()} to the given
+	 * value.
+	 *
+	 * @param virtualizedParent
+	 *            The new value for the {@link #virtualizedParentProperty()}.
+	 */
+	public void setVirtualizedParent(VirtualizedGroup virtualizedParent) {
+		virtualizedParentProperty.set(virtualizedParent);
+	}
+
 	/**
 	 * Assigns the given value to the {@link #showGridProperty()}.
 	 *
@@ -1404,6 +1977,62 @@ public class InfiniteCanvas extends Region {
 		zoomGridProperty.set(zoomGrid);
 	}
 
+	/**
+	 * Shows the level-of-detail proxies instead of the corresponding content
+	 * nodes, which are detached from the scene graph. Proxies are only shown
+	 * for content nodes that are children of the
+	 * {@link #getVirtualizedParent() virtualized parent}, independent of
+	 * their visibility and of whether they are detached by the
+	 * virtualization.
+	 *
+	 * @see #hideLevelOfDetailProxies()
+	 */
+	protected void showLevelOfDetailProxies() {
+		levelOfDetailParent = getVirtualizedParent();
+		if (levelOfDetailParent == null) {
+			return;
+		}
+		levelOfDetailParent.getChildren()
+				.addListener(levelOfDetailChildrenListener);
+		levelOfDetailParent.localToSceneTransformProperty()
+				.addListener(levelOfDetailParentTransformListener);
+		updateLevelOfDetailParentTransform();
+		List<Node> shownProxies = new ArrayList<>();
+		for (Map.Entry<Node, Node> entry : levelOfDetailProxies.entrySet()) {
+			if (showLevelOfDetailProxy(entry.getKey(), entry.getValue())) {
+				shownProxies.add(entry.getValue());
+			}
+		}
+		// add all proxies and detach all content nodes at once
+		getLevelOfDetailGroup().getChildren().addAll(shownProxies);
+		levelOfDetailParent.setDetached(levelOfDetailHiddenNodes, true);
+	}
+
+	/**
+	 * Starts replacing the given content {@link Node} by the given proxy if
+	 * the content {@link Node} is a child of the level-of-detail parent. The
+	 * proxy has to be added to the {@link #getLevelOfDetailGroup()} and the
+	 * content {@link Node} has to be detached by the caller.
+	 *
+	 * @param content
+	 *            The content {@link Node}.
+	 * @param proxy
+	 *            The proxy {@link Node}.
+	 * @return <code>true</code> if the proxy is shown, otherwise
+	 *         <code>false</code>.
+	 */
+	private boolean showLevelOfDetailProxy(Node content, Node proxy) {
+		if (content.getParent() != levelOfDetailParent
+				&& !levelOfDetailParent.isDetached(content)) {
+			return false;
+		}
+		proxy.getTransforms().setAll(content.getLocalToParentTransform());
+		content.localToParentTransformProperty()
+				.addListener(levelOfDetailContentTransformListener);
+		levelOfDetailHiddenNodes.add(content);
+		return true;
+	}
+
 	/**
 	 * Enables the background grid.
 	 */
@@ -1516,6 +2145,21 @@ public class InfiniteCanvas extends Region {
 		setClip(null);
 	}
 
+	/**
+	 * Removes the given child of the virtualized parent from the spatial
+	 * index.
+	 *
+	 * @param child
+	 *            The child {@link Node} to remove from the index.
+	 */
+	private void unindexChild(Node child) {
+		child.boundsInParentProperty()
+				.removeListener(virtualizedChildBoundsListener);
+		virtualizationIndex.remove(child);
+		viewportChildren.remove(child);
+		culledChildren.remove(child);
+	}
+
 	/**
 	 * Unregisters the listeners that were previously registered within
 	 * {@link #registerUpdateScrollBarsOnBoundsChanges()}.
@@ -1527,6 +2171,40 @@ public class InfiniteCanvas extends Region {
 				.removeListener(updateScrollBarsOnBoundsChangeListener);
 	}
 
+	/**
+	 * Disables content virtualization for this {@link InfiniteCanvas}, i.e.
+	 * all children that were detached by the virtualization are attached
+	 * again.
+	 *
+	 * @see #virtualizeContent()
+	 * @see #virtualizeContentProperty()
+	 */
+	protected void unvirtualizeContent() {
+		if (virtualizationIndex == null) {
+			return;
+		}
+		virtualizedParent.getChildren()
+				.removeListener(virtualizedChildrenListener);
+		virtualizedParent.localToSceneTransformProperty()
+				.removeListener(invalidateVirtualizationListener);
+		localToSceneTransformProperty()
+				.removeListener(invalidateVirtualizationListener);
+		widthProperty().removeListener(invalidateVirtualizationListener);
+		heightProperty().removeListener(invalidateVirtualizationListener);
+		// children that are replaced by level-of-detail proxies stay detached
+		List<Node> unculled = new ArrayList<>(culledChildren);
+		unculled.removeAll(levelOfDetailHiddenNodes);
+		virtualizedParent.setDetached(unculled, false);
+		for (Node child : virtualizedParent.getChildren()) {
+			unindexChild(child);
+		}
+		viewportChildren.clear();
+		virtualizationIndex = null;
+		virtualizedParent = null;
+		virtualizationDirty = false;
+		updateScrollBars();
+	}
+
 	/**
 	 * Disables zooming of the background grid.
 	 *
@@ -1559,6 +2237,43 @@ public class InfiniteCanvas extends Region {
 		gridTransform.tyProperty().bind(transform.tyProperty());
 	}
 
+	/**
+	 * Shows or hides the level-of-detail proxies depending on whether the zoom
+	 * factor of the {@link #contentTransformProperty()} is below the
+	 * {@link #levelOfDetailThresholdProperty()}.
+	 */
+	protected void updateLevelOfDetail() {
+		Affine tx = getContentTransform();
+		double zoom = Math.sqrt(Math.abs(
+				tx.getMxx() * tx.getMyy() - tx.getMxy() * tx.getMyx()));
+		boolean active = zoom < getLevelOfDetailThreshold();
+		if (active == isLevelOfDetailActive()) {
+			return;
+		}
+		levelOfDetailActiveProperty.set(active);
+		if (active) {
+			showLevelOfDetailProxies();
+		} else {
+			hideLevelOfDetailProxies();
+		}
+	}
+
+	/**
+	 * Updates the transformation that is applied to the level-of-detail
+	 * proxies (in addition to the {@link #getContentTransform()}), so that the
+	 * proxies are transformed from the coordinate system of the virtualized
+	 * parent into the coordinate system of the {@link #getContentGroup()}.
+	 */
+	private void updateLevelOfDetailParentTransform() {
+		Affine tx = levelOfDetailParent == null ? null
+				: computeLocalToContentGroupTransform(levelOfDetailParent);
+		if (tx == null) {
+			levelOfDetailParentTransform.setToIdentity();
+		} else {
+			levelOfDetailParentTransform.setToTransform(tx);
+		}
+	}
+
 	/**
 	 * Updates the {@link ScrollBar}s' visibilities, value ranges and value
 	 * increments based on the {@link #computeContentBoundsInLocal() content
@@ -1645,6 +2360,46 @@ public class InfiniteCanvas extends Region {
 				.addListener(verticalScrollBarValueChangeListener);
 	}
 
+	/**
+	 * Detaches the children of the virtualized parent that are outside of the
+	 * visible area (extended by the {@link #virtualizationPaddingProperty()}),
+	 * and attaches the previously detached children that are within that
+	 * area. Only those children are updated that changed their state since
+	 * the last update.
+	 */
+	protected void updateVirtualization() {
+		virtualizationDirty = false;
+		if (virtualizationIndex == null) {
+			return;
+		}
+		double padding = getVirtualizationPadding();
+		Bounds viewportInParent = virtualizedParent
+				.sceneToLocal(localToScene(new BoundingBox(-padding, -padding,
+						getWidth() + 2 * padding, getHeight() + 2 * padding)));
+		Set<Node> inViewport = virtualizationIndex.query(
+				viewportInParent.getMinX(), viewportInParent.getMinY(),
+				viewportInParent.getMaxX(), viewportInParent.getMaxY());
+		// detach the children that left the visible area
+		List<Node> culled = new ArrayList<>();
+		for (Node child : viewportChildren) {
+			if (!inViewport.contains(child) && culledChildren.add(child)) {
+				culled.add(child);
+			}
+		}
+		virtualizedParent.setDetached(culled, true);
+		// attach the children that entered the visible area (unless they are
+		// replaced by level-of-detail proxies)
+		List<Node> unculled = new ArrayList<>();
+		for (Node child : inViewport) {
+			if (culledChildren.remove(child)
+					&& !levelOfDetailHiddenNodes.contains(child)) {
+				unculled.add(child);
+			}
+		}
+		virtualizedParent.setDetached(unculled, false);
+		viewportChildren = inViewport;
+	}
+
 	/**
 	 * Returns the {@link ObjectProperty} that controls the
 	 * {@link ScrollBarPolicy} that decides when to show a vertical scrollbar.
@@ -1666,6 +2421,78 @@ public class InfiniteCanvas extends Region {
 		return getScrolledPane().translateYProperty();
 	}
 
+	/**
+	 * Returns the {@link DoubleProperty} that determines the padding by which
+	 * the visible area is extended when determining the children that are
+	 * detached while the content is virtualized. A positive padding ensures
+	 * that children are already shown when they are scrolled into view.
+	 *
+	 * @return The {@link DoubleProperty} that determines the virtualization
+	 *         padding.
+	 */
+	public DoubleProperty virtualizationPaddingProperty() {
+		return virtualizationPaddingProperty;
+	}
+
+	/**
+	 * Enables content virtualization for this {@link InfiniteCanvas}, i.e.
+	 * the children of the {@link #getVirtualizedParent()} are indexed by their
+	 * bounds, and the children that are outside of the visible area are
+	 * detached from the scene graph.
+	 *
+	 * @see #unvirtualizeContent()
+	 * @see #virtualizeContentProperty()
+	 */
+	protected void virtualizeContent() {
+		virtualizedParent = getVirtualizedParent();
+		if (virtualizedParent == null) {
+			return;
+		}
+		virtualizationIndex = new SpatialIndex<>();
+		for (Node child : virtualizedParent.getChildren()) {
+			indexChild(child);
+		}
+		virtualizedParent.getChildren()
+				.addListener(virtualizedChildrenListener);
+		// the visible area changes when scrolling/zooming or resizing
+		virtualizedParent.localToSceneTransformProperty()
+				.addListener(invalidateVirtualizationListener);
+		localToSceneTransformProperty()
+				.addListener(invalidateVirtualizationListener);
+		widthProperty().addListener(invalidateVirtualizationListener);
+		heightProperty().addListener(invalidateVirtualizationListener);
+		updateVirtualization();
+	}
+
+	/**
+	 * Returns the {@link BooleanProperty} that determines if this
+	 * {@link InfiniteCanvas} virtualizes its content, i.e. detaches the
+	 * children of the {@link #virtualizedParentProperty()} that are outside of
+	 * the visible area (extended by the
+	 * {@link #virtualizationPaddingProperty()}).
+	 *
+	 * @return The {@link BooleanProperty} that determines if this
+	 *         {@link InfiniteCanvas} virtualizes its content.
+	 */
+	public BooleanProperty virtualizeContentProperty() {
+		return virtualizeContentProperty;
+	}
+
+	/**
+	 * Returns the {@link ObjectProperty} that determines the
+	 * {@link VirtualizedGroup} whose children are virtualized. Per default,
+	 * the children of the {@link #getContentGroup()} are virtualized. In case
+	 * the content is organized in layers, a {@link VirtualizedGroup} that is
+	 * used as the layer that contains the content elements can be used
+	 * instead.
+	 *
+	 * @return The {@link ObjectProperty} that determines the virtualized
+	 *         {@link VirtualizedGroup}.
+	 */
+	public ObjectProperty<VirtualizedGroup> virtualizedParentProperty() {
+		return virtualizedParentProperty;
+	}
+
 	/**
 	 * Enables zooming of the background grid when the contents are zoomed.
 	 */
@@ -12,14 +12,21 @@
  *******************************************************************************/
 package org.eclipse.gef.fx.nodes;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.gef.fx.anchors.AnchorKey;
 import org.eclipse.gef.fx.anchors.DynamicAnchor;
+import org.eclipse.gef.fx.anchors.DynamicAnchor.AnchorageReferenceGeometry;
 import org.eclipse.gef.fx.anchors.DynamicAnchor.AnchoredReferencePoint;
 import org.eclipse.gef.fx.anchors.DynamicAnchor.PreferredOrientation;
+import org.eclipse.gef.fx.anchors.IAnchor;
 import org.eclipse.gef.fx.utils.NodeUtils;
 import org.eclipse.gef.geometry.convert.fx.FX2Geometry;
+import org.eclipse.gef.geometry.convert.fx.Geometry2FX;
 import org.eclipse.gef.geometry.euclidean.Vector;
 import org.eclipse.gef.geometry.planar.IGeometry;
 import org.eclipse.gef.geometry.planar.Line;
@@ -36,6 +43,19 @@ import javafx.scene.Node;
  * An {@link IConnectionRouter} that interprets the {@link Connection} control
  * points as way points and adjusts the way points (if necessary) so that the
  * {@link Connection} is routed orthogonally.
+ * <p>
+ * The input of a routing pass (i.e. the anchors that were not inserted by the
+ * router, the positions of the anchors that do not depend on the routing, the
+ * anchorage geometries and transformations, and the position hints) is
+ * recorded per {@link Connection}, so that routing is skipped if the input did
+ * not change since the last routing pass. Changes of the relevant obstacles
+ * invalidate the recorded input (see {@link RoutingObstacles}).
+ * <p>
+ * If {@link RoutingObstacles} are provided, the way points are connected by
+ * shortest orthogonal paths (with a penalty for each bend) that avoid the
+ * obstacles. The paths are determined using A* search within a sparse
+ * orthogonal visibility graph, which is formed by the lines through the way
+ * points and along the sides of the obstacles near the {@link Connection}.
  *
  * @author anyssen
  * @author mwienand
@@ -45,6 +65,123 @@ public class OrthogonalRouter extends AbstractRouter {
 
 	private static final double OFFSET = 15;
 
+	// additional path cost for each bend when routing around obstacles
+	private static final double BEND_PENALTY = 2 * OFFSET;
+
+	// maximum number of extensions of a corridor by intersecting obstacles
+	private static final int MAX_CORRIDOR_EXTENSIONS = 8;
+
+	// the input of the last routing pass is stored within the properties of
+	// the connection using this key
+	private static final String ROUTING_INPUT_PROPERTY = OrthogonalRouter.class
+			.getName() + ".routingInput";
+
+	// the anchors that were inserted by the last routing pass are stored
+	// within the properties of the connection using this key
+	private static final String ROUTER_ANCHORS_PROPERTY = OrthogonalRouter.class
+			.getName() + ".routerAnchors";
+
+	private final RoutingObstacles obstacles;
+
+	/**
+	 * Constructs a new {@link OrthogonalRouter} that does not route around
+	 * obstacles.
+	 */
+	public OrthogonalRouter() {
+		this(null);
+	}
+
+	/**
+	 * Constructs a new {@link OrthogonalRouter} that routes around the given
+	 * {@link RoutingObstacles}. The anchorages of the routed connections are
+	 * registered as obstacles.
+	 *
+	 * @param obstacles
+	 *            The {@link RoutingObstacles} to route around, or
+	 *            <code>null</code> if obstacles should not be considered.
+	 */
+	public OrthogonalRouter(RoutingObstacles obstacles) {
+		this.obstacles = obstacles;
+	}
+
+	/**
+	 * Returns a copy of the given {@link Rectangle} whose side that is nearest
+	 * to the given {@link Point} is moved onto the {@link Point}, in case the
+	 * {@link Point} is contained within the {@link Rectangle}. Used for points
+	 * that are (approximately) located on the outline of the
+	 * {@link Rectangle}, so that they are not enclosed by it.
+	 */
+	private static Rectangle getExcluding(Rectangle r, Point p) {
+		double left = p.x - r.getX();
+		double right = r.getX() + r.getWidth() - p.x;
+		double top = p.y - r.getY();
+		double bottom = r.getY() + r.getHeight() - p.y;
+		if (left <= 0 || right <= 0 || top <= 0 || bottom <= 0) {
+			return r;
+		}
+		double min = Math.min(Math.min(left, right), Math.min(top, bottom));
+		if (min == left) {
+			return r.getExpanded(-left, 0, 0, 0);
+		} else if (min == right) {
+			return r.getExpanded(0, 0, -right, 0);
+		} else if (min == top) {
+			return r.getExpanded(0, -top, 0, 0);
+		}
+		return r.getExpanded(0, 0, 0, -bottom);
+	}
+
+	/**
+	 * Returns <code>true</code> if the given {@link Point} is contained within
+	 * the interior of the given {@link Rectangle}, i.e. not (approximately) on
+	 * its outline.
+	 */
+	private static boolean isInterior(Rectangle r, Point p) {
+		return p.x > r.getX() + 0.5 && p.x < r.getX() + r.getWidth() - 0.5
+				&& p.y > r.getY() + 0.5 && p.y < r.getY() + r.getHeight() - 0.5;
+	}
+
+	/**
+	 * Returns the shortest orthogonal path between the points at the given
+	 * and the next index, which avoids the given obstacles. Obstacles are
+	 * expanded by a margin, unless the expanded obstacle would contain one of
+	 * the points (e.g. the anchorage of a connected anchor). Obstacles that
+	 * contain one of the points within their interior are ignored.
+	 */
+	private List<Point> findPath(Connection connection, List<Point> points,
+			int index, List<Rectangle> obstacleBounds) {
+		Point start = points.get(index);
+		Point end = points.get(index + 1);
+		List<Rectangle> legObstacles = new ArrayList<>();
+		for (Rectangle r : obstacleBounds) {
+			if (isInterior(r, start) || isInterior(r, end)) {
+				continue;
+			}
+			Rectangle expanded = r.getExpanded(OFFSET, OFFSET);
+			if (expanded.contains(start) || expanded.contains(end)) {
+				legObstacles.add(getExcluding(getExcluding(r, start), end));
+			} else {
+				legObstacles.add(expanded);
+			}
+		}
+
+		// leave and enter connected anchorages perpendicular to their outline
+		Orientation startOrientation = null;
+		if (index == 0 && connection.isStartConnected()) {
+			startOrientation = isTopOrBottom(connection, index, start)
+					? Orientation.VERTICAL : Orientation.HORIZONTAL;
+		}
+		Orientation endOrientation = null;
+		if (index + 1 == points.size() - 1 && connection.isEndConnected()) {
+			endOrientation = isTopOrBottom(connection, index + 1, end)
+					? Orientation.VERTICAL : Orientation.HORIZONTAL;
+		}
+		// the center between both points allows for a centered middle segment
+		Point center = new Point((start.x + end.x) / 2, (start.y + end.y) / 2);
+		return new OrthogonalVisibilityGraph(legObstacles, start, end, center)
+				.findPath(start, end, startOrientation, endOrientation,
+						BEND_PENALTY);
+	}
+
 	/**
 	 * Iterates the connection's points starting at the first candidate index (
 	 * <i>anchorIndex</i> + <i>step</i>) and stepping by the given step. Returns
@@ -77,6 +214,54 @@ public class OrthogonalRouter extends AbstractRouter {
 		return startIndex;
 	}
 
+	/**
+	 * Determines the area that is considered when routing through the given
+	 * points, and collects the bounds of the obstacles within that area. The
+	 * area is extended by the (expanded) obstacles it intersects, so that
+	 * routing around these obstacles does not lead through obstacles outside
+	 * of the area.
+	 */
+	private Rectangle getCorridor(Connection connection, List<Point> points,
+			List<Rectangle> obstacleBounds) {
+		Rectangle corridor = new Rectangle(points.get(0), points.get(0));
+		for (Point p : points) {
+			corridor.union(p);
+		}
+		corridor.expand(OFFSET, OFFSET);
+		for (int i = 0; i < MAX_CORRIDOR_EXTENSIONS; i++) {
+			obstacleBounds.clear();
+			obstacleBounds.addAll(obstacles.getObstacleBounds(connection,
+					corridor, Collections.<Node> singleton(connection)));
+			Rectangle extended = corridor.getCopy();
+			for (Rectangle r : obstacleBounds) {
+				extended.union(r.getExpanded(OFFSET, OFFSET));
+			}
+			if (extended.equals(corridor)) {
+				break;
+			}
+			corridor = extended;
+		}
+		return corridor;
+	}
+
+	/**
+	 * Returns the positions of the anchors of the given {@link Connection}
+	 * within the local coordinate system of the {@link Connection}. A
+	 * position is <code>null</code> if the respective anchor did not provide
+	 * a position.
+	 */
+	private List<Point> getPositions(Connection connection) {
+		List<Point> positions = new ArrayList<>();
+		for (int i = 0; i < connection.getAnchorsUnmodifiable().size(); i++) {
+			Point position = connection.getAnchor(i)
+					.getPosition(connection.getAnchorKey(i));
+			positions.add(position == null ? null
+					: FX2Geometry.toPoint(connection.getCurve()
+							.localToParent(Geometry2FX.toFXPoint(position))));
+		}
+		return positions;
+	}
+
 	/**
 	 * Returns the reference point for the anchor at the given index.
 	 *
@@ -178,6 +363,84 @@ public class OrthogonalRouter extends AbstractRouter {
 		return nearestProjection;
 	}
 
+	/**
+	 * Returns the anchors of the given {@link Connection} that were inserted
+	 * by a router.
+	 */
+	private List<IAnchor> getRouterAnchors(Connection connection) {
+		List<IAnchor> routerAnchors = new ArrayList<>();
+		for (IAnchor anchor : connection.getAnchorsUnmodifiable()) {
+			if (wasInserted(anchor)) {
+				routerAnchors.add(anchor);
+			}
+		}
+		return routerAnchors;
+	}
+
+	/**
+	 * Returns a {@link List} that captures everything the routing of the given
+	 * {@link Connection} depends on, except for the obstacles. Only the state
+	 * that is not changed by the routing itself is captured, so that the input
+	 * that is computed before a routing pass can be compared to the input of
+	 * the next pass. Therefore, the anchors that were inserted by the router
+	 * are ignored, and the positions of connected {@link DynamicAnchor}s are
+	 * represented by their computation parameters.
+	 */
+	private List<Object> getRoutingInput(Connection connection) {
+		List<Object> input = new ArrayList<>();
+		input.add(this);
+		input.add(connection.getStartPointHint());
+		input.add(connection.getEndPointHint());
+		for (int i = 0; i < connection.getAnchorsUnmodifiable().size(); i++) {
+			IAnchor anchor = connection.getAnchor(i);
+			if (wasInserted(anchor)) {
+				continue;
+			}
+			AnchorKey key = connection.getAnchorKey(i);
+			input.add(anchor);
+			if (connection.isConnected(anchor)) {
+				Node anchorage = anchor.getAnchorage();
+				input.add(NodeUtils.getSceneToLocalTx(connection)
+						.concatenate(NodeUtils.getLocalToSceneTx(anchorage)));
+				if (anchor instanceof DynamicAnchor) {
+					// the position depends on the routing, but is determined
+					// by the (copied) reference geometry
+					IGeometry geometry = ((DynamicAnchor) anchor)
+							.getComputationParameter(key,
+									AnchorageReferenceGeometry.class)
+							.get();
+					input.add(geometry == null ? null : geometry.getCopy());
+					continue;
+				}
+				input.add(anchorage.getLayoutBounds());
+			}
+			// the position within the local coordinate system of the
+			// connection is not affected by the interpolation of the curve
+			Point position = anchor.getPosition(key);
+			input.add(position == null ? null
+					: FX2Geometry.toPoint(connection.getCurve()
+							.localToParent(Geometry2FX.toFXPoint(position))));
+		}
+		if (obstacles != null) {
+			// the obstacles are indexed relative to the root
+			input.add(NodeUtils.getSceneToLocalTx(obstacles.getRoot())
+					.concatenate(NodeUtils.getLocalToSceneTx(connection)));
+		}
+		return input;
+	}
+
+	/**
+	 * Returns the {@link RoutingObstacles} that are avoided by this
+	 * {@link OrthogonalRouter}, or <code>null</code> if obstacles are not
+	 * considered.
+	 *
+	 * @return The {@link RoutingObstacles} of this {@link OrthogonalRouter},
+	 *         or <code>null</code>.
+	 */
+	public RoutingObstacles getObstacles() {
+		return obstacles;
+	}
+
 	private Polygon[] getTriangles(Connection connection, int i) {
 		Node anchorage = connection.getAnchor(i).getAnchorage();
 		Bounds boundsInScene = anchorage
@@ -194,6 +457,69 @@ public class OrthogonalRouter extends AbstractRouter {
 		return new Polygon[] { top, right, bottom, left };
 	}
 
+	/**
+	 * Discards the input of the last routing pass of the given
+	 * {@link Connection}, so that it is routed again upon the next refresh.
+	 *
+	 * @param connection
+	 *            The {@link Connection} for which to discard the routing
+	 *            input.
+	 */
+	static void invalidateRoutingInput(Connection connection) {
+		connection.getProperties().remove(ROUTING_INPUT_PROPERTY);
+		connection.getProperties().remove(ROUTER_ANCHORS_PROPERTY);
+	}
+
+	/**
+	 * Inserts router anchors into the given {@link Connection}. If
+	 * {@link #getObstacles() obstacles} are considered, the router anchors are
+	 * determined by routing around the obstacles. Falls back to the default
+	 * strategy if no obstacle-free path can be found.
+	 */
+	@Override
+	protected void insertRouterAnchors(Connection connection) {
+		List<Point> points = getPositions(connection);
+		if (obstacles == null || points.contains(null)) {
+			super.insertRouterAnchors(connection);
+			return;
+		}
+
+		// register anchorages as obstacles (replacing the anchorages of
+		// previous routing passes)
+		Set<Node> anchorages = new HashSet<>();
+		for (IAnchor anchor : connection.getAnchorsUnmodifiable()) {
+			if (connection.isConnected(anchor)
+					&& !(anchor.getAnchorage() instanceof Connection)) {
+				anchorages.add(anchor.getAnchorage());
+			}
+		}
+		obstacles.setAnchorages(connection, anchorages);
+
+		List<Rectangle> obstacleBounds = new ArrayList<>();
+		obstacles.setCorridor(connection,
+				getCorridor(connection, points, obstacleBounds));
+
+		ControlPointManipulator cpm = createControlPointManipulator(connection);
+		for (int i = 0; i < points.size() - 1; i++) {
+			List<Point> bendPoints = findPath(connection, points, i,
+					obstacleBounds);
+			if (bendPoints == null) {
+				super.insertRouterAnchors(connection);
+				return;
+			}
+			if (!bendPoints.isEmpty()) {
+				Point start = points.get(i);
+				double[] deltas = new double[bendPoints.size() * 2];
+				for (int j = 0; j < bendPoints.size(); j++) {
+					deltas[2 * j] = bendPoints.get(j).x - start.x;
+					deltas[2 * j + 1] = bendPoints.get(j).y - start.y;
+				}
+				cpm.addRoutingPoints(i + 1, start, deltas);
+			}
+		}
+		cpm.applyChanges();
+	}
+
 	private boolean isBottom(Connection connection, int i, Point currentPoint) {
 		Point2D pointInScene = connection.localToScene(currentPoint.x,
 				currentPoint.y);
@@ -245,6 +571,29 @@ public class OrthogonalRouter extends AbstractRouter {
 		return triangles[0].contains(point) || triangles[2].contains(point);
 	}
 
+	/**
+	 * Routes the given {@link Connection}, unless the input of the routing
+	 * (see {@link OrthogonalRouter class documentation}) did not change since
+	 * the last routing pass and the anchors that were inserted by that pass
+	 * are still contained in the connection, in which case they are still
+	 * valid.
+	 */
+	@Override
+	public void route(Connection connection) {
+		// the input is not changed by the routing
+		List<Object> input = getRoutingInput(connection);
+		if (input.equals(
+				connection.getProperties().get(ROUTING_INPUT_PROPERTY))
+				&& getRouterAnchors(connection).equals(connection
+						.getProperties().get(ROUTER_ANCHORS_PROPERTY))) {
+			return;
+		}
+		super.route(connection);
+		connection.getProperties().put(ROUTING_INPUT_PROPERTY, input);
+		connection.getProperties().put(ROUTER_ANCHORS_PROPERTY,
+				getRouterAnchors(connection));
+	}
+
 	@Override
 	protected Vector route(ControlPointManipulator cpm, Vector inDirection,
 			Vector outDirection) {
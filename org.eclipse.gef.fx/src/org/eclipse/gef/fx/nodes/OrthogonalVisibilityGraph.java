@@ -0,0 +1,308 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.nodes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Rectangle;
+
+import javafx.geometry.Orientation;
+
+/**
+ * A sparse orthogonal visibility graph that is used by the
+ * {@link OrthogonalRouter} to route around obstacles. The vertices of the
+ * graph are the intersections of the horizontal and vertical lines through the
+ * given points and along the sides of the given obstacles. Vertices within an
+ * obstacle, as well as edges that cross an obstacle, are blocked. The shortest
+ * path (with a penalty for each bend) between two points is determined using
+ * A* search.
+ *
+ * @author agent
+ *
+ */
+final class OrthogonalVisibilityGraph {
+
+	/**
+	 * A search state, i.e. a vertex that was reached moving in a specific
+	 * direction, together with its estimated total path cost.
+	 */
+	private static final class SearchNode implements Comparable<SearchNode> {
+		final int state;
+		final double estimate;
+		final long sequence;
+
+		SearchNode(int state, double estimate, long sequence) {
+			this.state = state;
+			this.estimate = estimate;
+			this.sequence = sequence;
+		}
+
+		@Override
+		public int compareTo(SearchNode other) {
+			int result = Double.compare(estimate, other.estimate);
+			return result != 0 ? result
+					: Long.compare(sequence, other.sequence);
+		}
+	}
+
+	// directions: +x, -x, +y, -y
+	private static final int[] DX = { 1, -1, 0, 0 };
+	private static final int[] DY = { 0, 0, 1, -1 };
+
+	// coordinates that differ by less than this tolerance are merged
+	private static final double COORDINATE_TOLERANCE = 1e-6;
+
+	private static double[] getCoordinates(List<Double> values) {
+		Collections.sort(values);
+		double[] coordinates = new double[values.size()];
+		int count = 0;
+		for (double v : values) {
+			if (count == 0
+					|| v - coordinates[count - 1] > COORDINATE_TOLERANCE) {
+				coordinates[count++] = v;
+			}
+		}
+		return Arrays.copyOf(coordinates, count);
+	}
+
+	/**
+	 * Returns the index of the given value within the given (sorted)
+	 * coordinates, allowing for the {@link #COORDINATE_TOLERANCE}.
+	 */
+	private static int getIndex(double[] coordinates, double value) {
+		int index = Arrays.binarySearch(coordinates, value);
+		if (index >= 0) {
+			return index;
+		}
+		// determine the nearest coordinate
+		int next = -index - 1;
+		if (next == coordinates.length || next > 0
+				&& value - coordinates[next - 1] < coordinates[next] - value) {
+			return next - 1;
+		}
+		return next;
+	}
+
+	private static boolean isHorizontal(int direction) {
+		return direction < 2;
+	}
+
+	private static int opposite(int direction) {
+		return direction ^ 1;
+	}
+
+	private final double[] xs;
+	private final double[] ys;
+	private final boolean[] blockedVertices;
+	private final boolean[] blockedHorizontalEdges;
+	private final boolean[] blockedVerticalEdges;
+
+	/**
+	 * Constructs a new {@link OrthogonalVisibilityGraph} for the given
+	 * obstacles and points.
+	 *
+	 * @param obstacles
+	 *            The bounds of the obstacles.
+	 * @param points
+	 *            The {@link Point}s that need to be vertices of the graph.
+	 */
+	OrthogonalVisibilityGraph(List<Rectangle> obstacles, Point... points) {
+		List<Double> xValues = new ArrayList<>();
+		List<Double> yValues = new ArrayList<>();
+		for (Point p : points) {
+			xValues.add(p.x);
+			yValues.add(p.y);
+		}
+		for (Rectangle r : obstacles) {
+			xValues.add(r.getX());
+			xValues.add(r.getX() + r.getWidth());
+			yValues.add(r.getY());
+			yValues.add(r.getY() + r.getHeight());
+		}
+		xs = getCoordinates(xValues);
+		ys = getCoordinates(yValues);
+		blockedVertices = new boolean[xs.length * ys.length];
+		blockedHorizontalEdges = new boolean[xs.length * ys.length];
+		blockedVerticalEdges = new boolean[xs.length * ys.length];
+
+		// block everything within the interior of the obstacles; as the sides
+		// of the obstacles are lines of the graph, an edge either crosses an
+		// obstacle completely or not at all
+		for (Rectangle r : obstacles) {
+			int minI = getIndex(xs, r.getX());
+			int maxI = getIndex(xs, r.getX() + r.getWidth());
+			int minJ = getIndex(ys, r.getY());
+			int maxJ = getIndex(ys, r.getY() + r.getHeight());
+			for (int i = minI; i <= maxI; i++) {
+				for (int j = minJ; j <= maxJ; j++) {
+					boolean innerX = i > minI && i < maxI;
+					boolean innerY = j > minJ && j < maxJ;
+					if (innerX && innerY) {
+						blockedVertices[getVertex(i, j)] = true;
+					}
+					if (i < maxI && innerY) {
+						blockedHorizontalEdges[getVertex(i, j)] = true;
+					}
+					if (j < maxJ && innerX) {
+						blockedVerticalEdges[getVertex(i, j)] = true;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Determines the shortest orthogonal path from the given start point to
+	 * the given end point, both of which have to be vertices of this graph.
+	 * Each bend of the path is penalized with the given bend penalty, and
+	 * leaving the start point or entering the end point against the given
+	 * preferred orientation is penalized with twice the bend penalty.
+	 *
+	 * @param start
+	 *            The start {@link Point}.
+	 * @param end
+	 *            The end {@link Point}.
+	 * @param startOrientation
+	 *            The preferred {@link Orientation} at the start point, or
+	 *            <code>null</code>.
+	 * @param endOrientation
+	 *            The preferred {@link Orientation} at the end point, or
+	 *            <code>null</code>.
+	 * @param bendPenalty
+	 *            The additional cost for each bend.
+	 * @return The bend points of the path (excluding start and end point), or
+	 *         <code>null</code> if the end point cannot be reached.
+	 */
+	List<Point> findPath(Point start, Point end, Orientation startOrientation,
+			Orientation endOrientation, double bendPenalty) {
+		int startVertex = getVertex(getIndex(xs, start.x),
+				getIndex(ys, start.y));
+		int endVertex = getVertex(getIndex(xs, end.x),
+				getIndex(ys, end.y));
+		if (startVertex == endVertex) {
+			return new ArrayList<>();
+		}
+
+		// states are vertex * 4 + direction of arrival
+		double[] costs = new double[blockedVertices.length * 4];
+		int[] predecessors = new int[costs.length];
+		Arrays.fill(costs, Double.POSITIVE_INFINITY);
+		Arrays.fill(predecessors, -1);
+		PriorityQueue<SearchNode> queue = new PriorityQueue<>();
+		long sequence = 0;
+		double orientationPenalty = 2 * bendPenalty;
+
+		// seed the start vertex with all directions, penalizing the
+		// directions that do not correspond to the preferred orientation
+		for (int d = 0; d < 4; d++) {
+			int state = startVertex * 4 + d;
+			costs[state] = isPreferred(d, startOrientation) ? 0
+					: orientationPenalty;
+			queue.add(new SearchNode(state,
+					costs[state] + getHeuristic(startVertex, endVertex),
+					sequence++));
+		}
+
+		while (!queue.isEmpty()) {
+			SearchNode node = queue.poll();
+			int vertex = node.state / 4;
+			int direction = node.state % 4;
+			double cost = costs[node.state];
+			if (node.estimate > cost + getHeuristic(vertex, endVertex)) {
+				// outdated queue entry
+				continue;
+			}
+			if (vertex == endVertex) {
+				return getBendPoints(node.state, predecessors);
+			}
+			int i = vertex / ys.length;
+			int j = vertex % ys.length;
+			for (int d = 0; d < 4; d++) {
+				if (d == opposite(direction)) {
+					continue;
+				}
+				int ni = i + DX[d];
+				int nj = j + DY[d];
+				if (ni < 0 || ni >= xs.length || nj < 0 || nj >= ys.length) {
+					continue;
+				}
+				int neighbor = getVertex(ni, nj);
+				if (isHorizontal(d)
+						? blockedHorizontalEdges[getVertex(Math.min(i, ni), j)]
+						: blockedVerticalEdges[getVertex(i, Math.min(j, nj))]) {
+					continue;
+				}
+				if (blockedVertices[neighbor] && neighbor != endVertex) {
+					continue;
+				}
+				double neighborCost = cost + Math.abs(xs[ni] - xs[i])
+						+ Math.abs(ys[nj] - ys[j]);
+				if (d != direction) {
+					neighborCost += bendPenalty;
+				}
+				if (neighbor == endVertex && !isPreferred(d, endOrientation)) {
+					neighborCost += orientationPenalty;
+				}
+				int neighborState = neighbor * 4 + d;
+				if (neighborCost < costs[neighborState]) {
+					costs[neighborState] = neighborCost;
+					predecessors[neighborState] = node.state;
+					queue.add(new SearchNode(neighborState,
+							neighborCost + getHeuristic(neighbor, endVertex),
+							sequence++));
+				}
+			}
+		}
+		return null;
+	}
+
+	private List<Point> getBendPoints(int endState, int[] predecessors) {
+		List<Point> bendPoints = new ArrayList<>();
+		int state = endState;
+		int predecessor = predecessors[state];
+		while (predecessor != -1) {
+			// a vertex is a bend point if it is entered and left in different
+			// directions
+			if (predecessors[predecessor] != -1
+					&& predecessor % 4 != state % 4) {
+				int vertex = predecessor / 4;
+				bendPoints.add(new Point(xs[vertex / ys.length],
+						ys[vertex % ys.length]));
+			}
+			state = predecessor;
+			predecessor = predecessors[state];
+		}
+		Collections.reverse(bendPoints);
+		return bendPoints;
+	}
+
+	private double getHeuristic(int vertex, int endVertex) {
+		return Math.abs(xs[vertex / ys.length] - xs[endVertex / ys.length])
+				+ Math.abs(ys[vertex % ys.length] - ys[endVertex % ys.length]);
+	}
+
+	private int getVertex(int i, int j) {
+		return i * ys.length + j;
+	}
+
+	private boolean isPreferred(int direction, Orientation orientation) {
+		return orientation == null || isHorizontal(direction) == (orientation
+				== Orientation.HORIZONTAL);
+	}
+
+}
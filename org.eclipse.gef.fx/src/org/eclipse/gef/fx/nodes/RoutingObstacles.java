@@ -0,0 +1,452 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.nodes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.gef.fx.listeners.ITransformChangeHandler;
+import org.eclipse.gef.fx.listeners.TransformChangeDispatcher;
+import org.eclipse.gef.fx.utils.NodeUtils;
+import org.eclipse.gef.fx.utils.SpatialIndex;
+import org.eclipse.gef.geometry.convert.fx.FX2Geometry;
+import org.eclipse.gef.geometry.planar.Rectangle;
+
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+
+/**
+ * The {@link RoutingObstacles} maintain a {@link SpatialIndex} of obstacle
+ * {@link Node}s that is shared by all {@link OrthogonalRouter}s that route
+ * around obstacles (see
+ * {@link OrthogonalRouter#OrthogonalRouter(RoutingObstacles)}). The anchorages
+ * of the connections that are routed by such a router are registered as
+ * obstacles automatically, and further obstacles can be
+ * {@link #addObstacle(Node) added} explicitly. Automatically registered
+ * anchorages are removed when they are no longer connected to any routed
+ * connection (e.g. because an anchor changed, or because the connection was
+ * removed from the scene). Obstacles that are removed from the scene (e.g.
+ * because they are culled by a {@link VirtualizedGroup}) remain registered,
+ * but are not considered until they are added to the scene again.
+ * <p>
+ * The obstacles are indexed by their bounds within the local coordinate system
+ * of a root {@link Node}, which has to be a common ancestor of all obstacles
+ * and connections. Therefore, scrolling and zooming do not require any
+ * updates. In addition to the obstacles, the corridors of the routed
+ * connections, i.e. the areas that were considered during routing, are
+ * indexed, so that only the connections whose corridor intersects a moved
+ * obstacle are refreshed. All methods have to be called on the JavaFX
+ * application thread.
+ *
+ * @author agent
+ *
+ */
+public class RoutingObstacles {
+
+	/**
+	 * Observes the bounds, transformation, and scene of an obstacle.
+	 */
+	private final class ObstacleObserver
+			implements ITransformChangeHandler, ChangeListener<Object> {
+
+		private final Node obstacle;
+		private final TransformChangeDispatcher dispatcher;
+
+		ObstacleObserver(Node obstacle) {
+			this.obstacle = obstacle;
+			obstacle.boundsInLocalProperty().addListener(this);
+			obstacle.sceneProperty().addListener(this);
+			dispatcher = TransformChangeDispatcher.get(root);
+			dispatcher.register(obstacle, root, this);
+		}
+
+		@Override
+		public void changed(ObservableValue<? extends Object> observable,
+				Object oldValue, Object newValue) {
+			if (newValue instanceof Bounds) {
+				updateObstacle(obstacle);
+			} else if (observable == obstacle.sceneProperty()) {
+				if (newValue == null) {
+					detachObstacle(obstacle);
+				} else if (detachedObstacles.contains(obstacle)
+						&& isDescendant(obstacle)) {
+					detachedObstacles.remove(obstacle);
+					updateObstacle(obstacle);
+				}
+			}
+		}
+
+		void dispose() {
+			obstacle.boundsInLocalProperty().removeListener(this);
+			obstacle.sceneProperty().removeListener(this);
+			dispatcher.unregister(this);
+		}
+
+		@Override
+		public void transformChanged() {
+			updateObstacle(obstacle);
+		}
+	}
+
+	private final Node root;
+	private final SpatialIndex<Node> obstacles = new SpatialIndex<>();
+	private final SpatialIndex<Connection> corridors = new SpatialIndex<>();
+	private final Map<Node, ObstacleObserver> observers = new HashMap<>();
+	// obstacles that were added explicitly via addObstacle(Node)
+	private final Set<Node> addedObstacles = new HashSet<>();
+	// registered obstacles that are not indexed while they are removed from
+	// the scene
+	private final Set<Node> detachedObstacles = new HashSet<>();
+	// the anchorages that are registered as obstacles per connection, and the
+	// number of connections per anchorage
+	private final Map<Connection, Set<Node>> anchorages = new HashMap<>();
+	private final Map<Node, Integer> anchorageCounts = new HashMap<>();
+
+	// releases the anchorages of connections that are removed from the scene
+	private final ChangeListener<Scene> connectionSceneListener = new ChangeListener<Scene>() {
+		@Override
+		public void changed(ObservableValue<? extends Scene> observable,
+				Scene oldValue, Scene newValue) {
+			if (newValue == null) {
+				Connection connection = (Connection) ((ReadOnlyProperty<?>) observable)
+						.getBean();
+				corridors.remove(connection);
+				setAnchorages(connection, Collections.<Node> emptySet());
+			}
+		}
+	};
+
+	/**
+	 * Constructs new {@link RoutingObstacles} that index the obstacles within
+	 * the local coordinate system of the given root {@link Node}.
+	 *
+	 * @param root
+	 *            A common ancestor of all obstacles and connections, within
+	 *            whose local coordinate system the obstacles are indexed.
+	 */
+	public RoutingObstacles(Node root) {
+		if (root == null) {
+			throw new IllegalArgumentException("root may not be null.");
+		}
+		this.root = root;
+	}
+
+	/**
+	 * Adds the given {@link Node} as an obstacle. Does nothing if the
+	 * {@link Node} is already registered, or if it is not a descendant of the
+	 * {@link #getRoot() root}.
+	 *
+	 * @param obstacle
+	 *            The {@link Node} to add as an obstacle.
+	 */
+	public void addObstacle(Node obstacle) {
+		if (obstacle == null) {
+			throw new IllegalArgumentException("obstacle may not be null.");
+		}
+		if (register(obstacle)) {
+			addedObstacles.add(obstacle);
+		}
+	}
+
+	/**
+	 * Removes the given obstacle from the index while it is removed from the
+	 * scene, without unregistering it. The {@link Connection}s whose corridor
+	 * intersects the obstacle are refreshed.
+	 */
+	private void detachObstacle(Node obstacle) {
+		detachedObstacles.add(obstacle);
+		unindexObstacle(obstacle);
+	}
+
+	/**
+	 * Removes all obstacles and corridors.
+	 */
+	public void dispose() {
+		for (ObstacleObserver observer : observers.values()) {
+			observer.dispose();
+		}
+		observers.clear();
+		addedObstacles.clear();
+		detachedObstacles.clear();
+		for (Connection connection : anchorages.keySet()) {
+			connection.sceneProperty().removeListener(connectionSceneListener);
+		}
+		anchorages.clear();
+		anchorageCounts.clear();
+		obstacles.clear();
+		corridors.clear();
+	}
+
+	/**
+	 * Returns the bounds of all obstacles that intersect the given
+	 * {@link Rectangle}, both within the local coordinate system of the given
+	 * {@link Node}. The bounds are sorted by their coordinates, so that the
+	 * result does not depend on the order in which obstacles were added.
+	 *
+	 * @param coordinateSystem
+	 *            The {@link Node} within whose local coordinate system the
+	 *            bounds are specified.
+	 * @param area
+	 *            The {@link Rectangle} for which to return intersecting
+	 *            obstacles.
+	 * @param excluded
+	 *            {@link Node}s that are not returned as obstacles.
+	 * @return The bounds of the obstacles that intersect the given area.
+	 */
+	public List<Rectangle> getObstacleBounds(Node coordinateSystem,
+			Rectangle area, Set<Node> excluded) {
+		Rectangle areaInRoot = NodeUtils.sceneToLocal(root,
+				NodeUtils.localToScene(coordinateSystem, area)).getBounds();
+		List<Rectangle> bounds = new ArrayList<>();
+		for (Node obstacle : obstacles.query(areaInRoot.getX(),
+				areaInRoot.getY(),
+				areaInRoot.getX() + areaInRoot.getWidth(),
+				areaInRoot.getY() + areaInRoot.getHeight())) {
+			if (excluded.contains(obstacle)) {
+				continue;
+			}
+			double[] b = obstacles.getBounds(obstacle);
+			Rectangle obstacleBounds = NodeUtils.sceneToLocal(coordinateSystem,
+					NodeUtils.localToScene(root,
+							new Rectangle(b[0], b[1], b[2] - b[0],
+									b[3] - b[1])))
+					.getBounds();
+			if (obstacleBounds.touches(area)) {
+				bounds.add(obstacleBounds);
+			}
+		}
+		Collections.sort(bounds, new Comparator<Rectangle>() {
+			@Override
+			public int compare(Rectangle r1, Rectangle r2) {
+				int result = Double.compare(r1.getX(), r2.getX());
+				if (result == 0) {
+					result = Double.compare(r1.getY(), r2.getY());
+				}
+				if (result == 0) {
+					result = Double.compare(r1.getWidth(), r2.getWidth());
+				}
+				if (result == 0) {
+					result = Double.compare(r1.getHeight(), r2.getHeight());
+				}
+				return result;
+			}
+		});
+		return bounds;
+	}
+
+	/**
+	 * Returns all obstacles, including the ones that are currently removed
+	 * from the scene.
+	 *
+	 * @return A {@link Set} containing all obstacles.
+	 */
+	public Set<Node> getObstacles() {
+		return new LinkedHashSet<>(observers.keySet());
+	}
+
+	/**
+	 * Returns the {@link Node} within whose local coordinate system the
+	 * obstacles are indexed.
+	 *
+	 * @return The root {@link Node}.
+	 */
+	public Node getRoot() {
+		return root;
+	}
+
+	/**
+	 * Returns <code>true</code> if the given {@link Node} is the
+	 * {@link #getRoot() root} or a descendant of it.
+	 */
+	private boolean isDescendant(Node node) {
+		for (Node n = node; n != null; n = n.getParent()) {
+			if (n == root) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Refreshes the {@link Connection}s whose corridor intersects the given
+	 * bounds. Connections that are no longer routed using these
+	 * {@link RoutingObstacles} are removed from the corridor index, and their
+	 * anchorages are released.
+	 */
+	private void refreshCorridors(double[] bounds) {
+		for (Connection connection : corridors.query(bounds[0], bounds[1],
+				bounds[2], bounds[3])) {
+			IConnectionRouter router = connection.getRouter();
+			if (!isDescendant(connection)
+					|| !(router instanceof OrthogonalRouter)
+					|| ((OrthogonalRouter) router).getObstacles() != this) {
+				corridors.remove(connection);
+				setAnchorages(connection, Collections.<Node> emptySet());
+			} else {
+				// the recorded routing input does not cover the obstacles
+				OrthogonalRouter.invalidateRoutingInput(connection);
+				connection.scheduleRefresh();
+			}
+		}
+	}
+
+	/**
+	 * Registers the given {@link Node} as an obstacle. Returns
+	 * <code>false</code> if the {@link Node} cannot be registered because it
+	 * is not a descendant of the {@link #getRoot() root}.
+	 */
+	private boolean register(Node obstacle) {
+		if (observers.containsKey(obstacle)) {
+			return true;
+		}
+		if (!isDescendant(obstacle)) {
+			return false;
+		}
+		observers.put(obstacle, new ObstacleObserver(obstacle));
+		updateObstacle(obstacle);
+		return true;
+	}
+
+	/**
+	 * Removes the given obstacle. The {@link Connection}s whose corridor
+	 * intersects the obstacle are refreshed.
+	 *
+	 * @param obstacle
+	 *            The {@link Node} to remove.
+	 */
+	public void removeObstacle(Node obstacle) {
+		addedObstacles.remove(obstacle);
+		ObstacleObserver observer = observers.remove(obstacle);
+		if (observer == null) {
+			return;
+		}
+		observer.dispose();
+		detachedObstacles.remove(obstacle);
+		unindexObstacle(obstacle);
+	}
+
+	/**
+	 * Registers the given anchorages of the given {@link Connection} as
+	 * obstacles. The anchorages that were previously registered for the
+	 * {@link Connection} but are not contained in the given {@link Set} are
+	 * removed, unless they are anchorages of other connections or were
+	 * {@link #addObstacle(Node) added} explicitly.
+	 *
+	 * @param connection
+	 *            The {@link Connection} whose anchorages are registered.
+	 * @param connectionAnchorages
+	 *            The current anchorages of the {@link Connection}.
+	 */
+	void setAnchorages(Connection connection,
+			Set<Node> connectionAnchorages) {
+		Set<Node> newAnchorages = new HashSet<>(connectionAnchorages);
+		Set<Node> oldAnchorages = newAnchorages.isEmpty()
+				? anchorages.remove(connection)
+				: anchorages.put(connection, newAnchorages);
+		if (oldAnchorages == null && !newAnchorages.isEmpty()) {
+			connection.sceneProperty().addListener(connectionSceneListener);
+		} else if (oldAnchorages != null && newAnchorages.isEmpty()) {
+			connection.sceneProperty()
+					.removeListener(connectionSceneListener);
+		}
+		for (Node anchorage : newAnchorages) {
+			if (oldAnchorages == null || !oldAnchorages.contains(anchorage)) {
+				Integer count = anchorageCounts.get(anchorage);
+				anchorageCounts.put(anchorage, count == null ? 1 : count + 1);
+			}
+			register(anchorage);
+		}
+		if (oldAnchorages == null) {
+			return;
+		}
+		for (Node anchorage : oldAnchorages) {
+			if (newAnchorages.contains(anchorage)) {
+				continue;
+			}
+			int count = anchorageCounts.get(anchorage) - 1;
+			if (count > 0) {
+				anchorageCounts.put(anchorage, count);
+			} else {
+				anchorageCounts.remove(anchorage);
+				if (!addedObstacles.contains(anchorage)) {
+					removeObstacle(anchorage);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Records the area that was considered when routing the given
+	 * {@link Connection}, so that it is refreshed when an obstacle within that
+	 * area changes.
+	 *
+	 * @param connection
+	 *            The {@link Connection} that was routed.
+	 * @param corridor
+	 *            The area that was considered during routing, within the
+	 *            local coordinate system of the {@link Connection}.
+	 */
+	void setCorridor(Connection connection, Rectangle corridor) {
+		Rectangle corridorInRoot = NodeUtils.sceneToLocal(root,
+				NodeUtils.localToScene(connection, corridor)).getBounds();
+		corridors.put(connection, corridorInRoot.getX(), corridorInRoot.getY(),
+				corridorInRoot.getX() + corridorInRoot.getWidth(),
+				corridorInRoot.getY() + corridorInRoot.getHeight());
+	}
+
+	/**
+	 * Removes the given obstacle from the index and refreshes the
+	 * {@link Connection}s whose corridor intersects it.
+	 */
+	private void unindexObstacle(Node obstacle) {
+		double[] oldBounds = obstacles.getBounds(obstacle);
+		obstacles.remove(obstacle);
+		if (oldBounds != null) {
+			refreshCorridors(oldBounds);
+		}
+	}
+
+	private void updateObstacle(Node obstacle) {
+		if (detachedObstacles.contains(obstacle)) {
+			return;
+		}
+		Rectangle boundsInRoot = NodeUtils.sceneToLocal(root,
+				NodeUtils.localToScene(obstacle,
+						FX2Geometry.toRectangle(obstacle.getBoundsInLocal())))
+				.getBounds();
+		double[] oldBounds = obstacles.getBounds(obstacle);
+		obstacles.put(obstacle, boundsInRoot.getX(), boundsInRoot.getY(),
+				boundsInRoot.getX() + boundsInRoot.getWidth(),
+				boundsInRoot.getY() + boundsInRoot.getHeight());
+		double[] newBounds = obstacles.getBounds(obstacle);
+		if (oldBounds == null) {
+			refreshCorridors(newBounds);
+		} else if (!Arrays.equals(oldBounds, newBounds)) {
+			refreshCorridors(oldBounds);
+			refreshCorridors(newBounds);
+		}
+	}
+
+}
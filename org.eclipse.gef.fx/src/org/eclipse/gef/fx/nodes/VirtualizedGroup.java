@@ -0,0 +1,239 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.nodes;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ModifiableObservableListBase;
+import javafx.collections.ObservableList;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+
+/**
+ * A {@link Group} whose children can be detached from the scene graph by an
+ * {@link InfiniteCanvas} (see {@link InfiniteCanvas#virtualizeContentProperty()}
+ * and {@link InfiniteCanvas#setLevelOfDetailProxy(Node, Node)}) without being
+ * removed from {@link #getChildren()}.
+ * <p>
+ * The list that is returned by {@link #getChildren()} always contains all
+ * children in their logical order, so that clients can add, remove, and
+ * reorder children (also by index) independent of which children are
+ * currently detached. In contrast, {@link #getChildrenUnmodifiable()} only
+ * contains the children that are currently attached, i.e. rendered. A detached
+ * child is not contained in the scene graph, i.e. its
+ * {@link Node#getParent() parent} and {@link Node#getScene() scene} are
+ * <code>null</code>, so that it does not take part in CSS processing, layout,
+ * rendering, and picking. Its properties (including its visibility) are not
+ * changed by the detachment.
+ *
+ * @author agent
+ *
+ */
+public class VirtualizedGroup extends Group {
+
+	/**
+	 * The logical children of this {@link VirtualizedGroup}. The attached
+	 * children are synchronized with the actual children of the {@link Group}
+	 * upon each modification.
+	 */
+	private final class Children extends ModifiableObservableListBase<Node> {
+
+		private final List<Node> nodes = new ArrayList<>();
+		private final Set<Node> members = new HashSet<>();
+
+		@Override
+		protected void doAdd(int index, Node element) {
+			if (element == null) {
+				throw new NullPointerException(
+						"Children of a VirtualizedGroup may not be null.");
+			}
+			if (members.contains(element)) {
+				throw new IllegalArgumentException(
+						"Children of a VirtualizedGroup may not contain duplicates: "
+								+ element);
+			}
+			attaching = true;
+			try {
+				VirtualizedGroup.super.getChildren()
+						.add(getAttachedIndex(index), element);
+			} finally {
+				attaching = false;
+			}
+			nodes.add(index, element);
+			members.add(element);
+			element.parentProperty().addListener(parentListener);
+		}
+
+		@Override
+		protected Node doRemove(int index) {
+			Node removed = nodes.remove(index);
+			members.remove(removed);
+			removed.parentProperty().removeListener(parentListener);
+			if (!detached.remove(removed)) {
+				VirtualizedGroup.super.getChildren().remove(removed);
+			}
+			return removed;
+		}
+
+		@Override
+		protected Node doSet(int index, Node element) {
+			Node removed = doRemove(index);
+			doAdd(index, element);
+			return removed;
+		}
+
+		@Override
+		public Node get(int index) {
+			return nodes.get(index);
+		}
+
+		@Override
+		public int size() {
+			return nodes.size();
+		}
+	}
+
+	private final Children children = new Children();
+	private final Set<Node> detached = new HashSet<>();
+	private boolean attaching = false;
+
+	// removes children that are added to a different parent by the
+	// application (which removes them from the actual children)
+	private final ChangeListener<Parent> parentListener = new ChangeListener<Parent>() {
+		@Override
+		public void changed(ObservableValue<? extends Parent> observable,
+				Parent oldValue, Parent newValue) {
+			if (!attaching && newValue != null
+					&& newValue != VirtualizedGroup.this) {
+				children.remove(((ReadOnlyProperty<?>) observable).getBean());
+			}
+		}
+	};
+
+	/**
+	 * Constructs a new {@link VirtualizedGroup}.
+	 */
+	public VirtualizedGroup() {
+		super();
+	}
+
+	/**
+	 * Returns the index within the actual children of the {@link Group} that
+	 * corresponds to the given index within the logical children.
+	 *
+	 * @param index
+	 *            The index within the logical children.
+	 * @return The corresponding index within the actual children.
+	 */
+	private int getAttachedIndex(int index) {
+		if (detached.isEmpty()) {
+			return index;
+		}
+		int attachedIndex = 0;
+		for (int i = 0; i < index; i++) {
+			if (!detached.contains(children.nodes.get(i))) {
+				attachedIndex++;
+			}
+		}
+		return attachedIndex;
+	}
+
+	/**
+	 * Returns all (logical) children of this {@link VirtualizedGroup},
+	 * including the detached children.
+	 *
+	 * @return All children of this {@link VirtualizedGroup}.
+	 */
+	@Override
+	public ObservableList<Node> getChildren() {
+		return children;
+	}
+
+	/**
+	 * Returns <code>true</code> if the given child is currently detached from
+	 * the scene graph. Otherwise returns <code>false</code>.
+	 *
+	 * @param child
+	 *            The child {@link Node} to test.
+	 * @return <code>true</code> if the given child is detached, otherwise
+	 *         <code>false</code>.
+	 */
+	public boolean isDetached(Node child) {
+		return detached.contains(child);
+	}
+
+	/**
+	 * Detaches the given children from the scene graph, or re-attaches them at
+	 * their logical positions. Nodes that are not children of this
+	 * {@link VirtualizedGroup} are ignored.
+	 *
+	 * @param nodes
+	 *            The children to detach or to attach.
+	 * @param detach
+	 *            <code>true</code> to detach the given children,
+	 *            <code>false</code> to attach them.
+	 */
+	void setDetached(Collection<? extends Node> nodes, boolean detach) {
+		if (detach) {
+			Set<Node> toDetach = new HashSet<>();
+			for (Node node : nodes) {
+				if (children.members.contains(node)
+						&& !detached.contains(node)) {
+					toDetach.add(node);
+				}
+			}
+			if (toDetach.isEmpty()) {
+				return;
+			}
+			detached.addAll(toDetach);
+			// remove all at once
+			super.getChildren().removeAll(toDetach);
+		} else {
+			Set<Node> toAttach = new HashSet<>();
+			for (Node node : nodes) {
+				if (detached.contains(node)) {
+					toAttach.add(node);
+				}
+			}
+			if (toAttach.isEmpty()) {
+				return;
+			}
+			detached.removeAll(toAttach);
+			// insert the nodes at their logical positions in a single pass
+			List<Node> attached = super.getChildren();
+			int attachedIndex = 0;
+			attaching = true;
+			try {
+				for (Node node : children.nodes) {
+					if (toAttach.contains(node)) {
+						attached.add(attachedIndex, node);
+					}
+					if (!detached.contains(node)) {
+						attachedIndex++;
+					}
+				}
+			} finally {
+				attaching = false;
+			}
+		}
+	}
+
+}
@@ -13,13 +13,14 @@
  *******************************************************************************/
 package org.eclipse.gef.fx.utils;
 
+import java.util.List;
+
 import org.eclipse.gef.geometry.planar.Arc;
 import org.eclipse.gef.geometry.planar.CubicCurve;
 import org.eclipse.gef.geometry.planar.Ellipse;
 import org.eclipse.gef.geometry.planar.IGeometry;
 import org.eclipse.gef.geometry.planar.Line;
 import org.eclipse.gef.geometry.planar.Path;
-import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.geometry.planar.Polygon;
 import org.eclipse.gef.geometry.planar.Polyline;
 import org.eclipse.gef.geometry.planar.QuadraticCurve;
@@ -136,34 +137,31 @@ public class Geometry2Shape {
 	 * @return The new array of {@link PathElement}s.
 	 */
 	public static PathElement[] toPathElements(Path path) {
-		Segment[] segments = path.getSegments();
-		PathElement[] elements = new PathElement[segments.length];
-		for (int i = 0; i < segments.length; i++) {
-			Point[] points = segments[i].getPoints();
-			// if (points.length > 0) {
-			// System.out.println(i + ": " + points[points.length - 1]);
-			// }
-			switch (segments[i].getType()) {
+		List<Segment> segments = path.getSegmentsUnmodifiable();
+		PathElement[] elements = new PathElement[segments.size()];
+		for (int i = 0; i < elements.length; i++) {
+			Segment s = segments.get(i);
+			switch (s.getType()) {
 			case Segment.MOVE_TO:
-				elements[i] = new MoveTo(points[0].x, points[0].y);
+				elements[i] = new MoveTo(s.getX(0), s.getY(0));
 				break;
 			case Segment.LINE_TO:
-				elements[i] = new LineTo(points[0].x, points[0].y);
+				elements[i] = new LineTo(s.getX(0), s.getY(0));
 				break;
 			case Segment.QUAD_TO:
-				elements[i] = new QuadCurveTo(points[0].x, points[0].y,
-						points[1].x, points[1].y);
+				elements[i] = new QuadCurveTo(s.getX(0), s.getY(0), s.getX(1),
+						s.getY(1));
 				break;
 			case Segment.CUBIC_TO:
-				elements[i] = new CubicCurveTo(points[0].x, points[0].y,
-						points[1].x, points[1].y, points[2].x, points[2].y);
+				elements[i] = new CubicCurveTo(s.getX(0), s.getY(0), s.getX(1),
+						s.getY(1), s.getX(2), s.getY(2));
 				break;
 			case Segment.CLOSE:
 				elements[i] = new ClosePath();
 				break;
 			default:
 				throw new IllegalStateException(
-						"Unknown Path.Segment: <" + segments[i] + ">");
+						"Unknown Path.Segment: <" + s + ">");
 			}
 		}
 		return elements;
@@ -284,4 +282,91 @@ public class Geometry2Shape {
 		}
 	}
 
+	/**
+	 * Updates the given JavaFX {@link PathElement}s in place, so that they
+	 * reflect the given {@link Path}, provided that the element structure is
+	 * unchanged, i.e. the number of elements and the element types correspond
+	 * to the segments of the given {@link Path}. Otherwise, the given
+	 * {@link PathElement}s are not changed and <code>false</code> is returned.
+	 * In contrast to {@link #toPathElements(Path)}, no {@link PathElement}s
+	 * are created.
+	 *
+	 * @param path
+	 *            The {@link Path} that is reflected by the updated
+	 *            {@link PathElement}s.
+	 * @param elements
+	 *            The {@link PathElement}s to update.
+	 * @return <code>true</code> if the {@link PathElement}s were updated,
+	 *         <code>false</code> if the element structure does not match.
+	 */
+	public static boolean updatePathElements(Path path,
+			List<PathElement> elements) {
+		List<Segment> segments = path.getSegmentsUnmodifiable();
+		if (segments.size() != elements.size()) {
+			return false;
+		}
+		// check the structure before changing any element
+		for (int i = 0; i < elements.size(); i++) {
+			PathElement e = elements.get(i);
+			boolean matches;
+			switch (segments.get(i).getType()) {
+			case Segment.MOVE_TO:
+				matches = e instanceof MoveTo;
+				break;
+			case Segment.LINE_TO:
+				matches = e instanceof LineTo;
+				break;
+			case Segment.QUAD_TO:
+				matches = e instanceof QuadCurveTo;
+				break;
+			case Segment.CUBIC_TO:
+				matches = e instanceof CubicCurveTo;
+				break;
+			case Segment.CLOSE:
+				matches = e instanceof ClosePath;
+				break;
+			default:
+				matches = false;
+			}
+			if (!matches || !e.isAbsolute()) {
+				return false;
+			}
+		}
+		for (int i = 0; i < elements.size(); i++) {
+			Segment s = segments.get(i);
+			PathElement e = elements.get(i);
+			switch (s.getType()) {
+			case Segment.MOVE_TO:
+				MoveTo moveTo = (MoveTo) e;
+				moveTo.setX(s.getX(0));
+				moveTo.setY(s.getY(0));
+				break;
+			case Segment.LINE_TO:
+				LineTo lineTo = (LineTo) e;
+				lineTo.setX(s.getX(0));
+				lineTo.setY(s.getY(0));
+				break;
+			case Segment.QUAD_TO:
+				QuadCurveTo quadTo = (QuadCurveTo) e;
+				quadTo.setControlX(s.getX(0));
+				quadTo.setControlY(s.getY(0));
+				quadTo.setX(s.getX(1));
+				quadTo.setY(s.getY(1));
+				break;
+			case Segment.CUBIC_TO:
+				CubicCurveTo cubicTo = (CubicCurveTo) e;
+				cubicTo.setControlX1(s.getX(0));
+				cubicTo.setControlY1(s.getY(0));
+				cubicTo.setControlX2(s.getX(1));
+				cubicTo.setControlY2(s.getY(1));
+				cubicTo.setX(s.getX(2));
+				cubicTo.setY(s.getY(2));
+				break;
+			default:
+				// ClosePath does not have any coordinates
+			}
+		}
+		return true;
+	}
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2016 itemis AG and others.
+ * Copyright (c) 2014, 2017 itemis AG and others.
  *
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
@@ -14,7 +14,10 @@
 package org.eclipse.gef.fx.utils;
 
 import java.awt.geom.NoninvertibleTransformException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -61,7 +64,8 @@ import javafx.scene.transform.Affine;
  * JavaFX {@link Node} ({@link #getLocalToSceneTx(Node)},
  * {@link #getSceneToLocalTx(Node)})</li>
  * <li>perform picking of {@link Node}s at a specific position within the JavaFX
- * scene graph ({@link #getNodesAt(Node, double, double)})</li>
+ * scene graph ({@link #getNodesAt(Node, double, double)},
+ * {@link #getNodesAt(PickingIndex, double, double)})</li>
  * </ul>
  *
  * @author anyssen
@@ -256,30 +260,46 @@ public class NodeUtils {
 	public static List<Node> getNodesAt(Node root, double sceneX,
 			double sceneY) {
 		List<Node> picked = new ArrayList<>();
+		pick(root, sceneX, sceneY, picked);
+		// the last visited node is rendered on top
+		Collections.reverse(picked);
+		return picked;
+	}
 
-		// start with given root node
-		List<Node> nodes = new ArrayList<>();
-		nodes.add(root);
-
-		while (!nodes.isEmpty()) {
-			Node current = nodes.remove(0);
-			// transform to local coordinates
-			Point2D pLocal = current.sceneToLocal(sceneX, sceneY);
-			// check if bounds contains (necessary to find children in mouse
-			// transparent regions)
-			if (!current.isMouseTransparent()
-					&& current.getBoundsInLocal().contains(pLocal)) {
-				// check precisely
-				if (current.contains(pLocal)) {
-					picked.add(0, current);
-				}
-				// test all children, too
-				if (current instanceof Parent) {
-					nodes.addAll(0,
-							((Parent) current).getChildrenUnmodifiable());
-				}
+	/**
+	 * Performs picking on the scene graph beginning at the root node of the
+	 * given {@link PickingIndex} and processing its transitive children.
+	 * Only those children of the root are processed whose indexed bounds
+	 * contain the given position. The result is the same as for
+	 * {@link #getNodesAt(Node, double, double)}.
+	 *
+	 * @param index
+	 *            The {@link PickingIndex} that provides the root node and the
+	 *            candidate children.
+	 * @param sceneX
+	 *            The x-coordinate of the position to pick nodes at, interpreted
+	 *            in scene coordinate space.
+	 * @param sceneY
+	 *            The y-coordinate of the position to pick nodes at, interpreted
+	 *            in scene coordinate space.
+	 * @return A list of {@link Node}s which contain the the given coordinate.
+	 */
+	public static List<Node> getNodesAt(PickingIndex index, double sceneX,
+			double sceneY) {
+		List<Node> picked = new ArrayList<>();
+		Parent root = index.getRoot();
+		Point2D pLocal = root.sceneToLocal(sceneX, sceneY);
+		if (!root.isMouseTransparent()
+				&& root.getBoundsInLocal().contains(pLocal)) {
+			if (root.contains(pLocal)) {
+				picked.add(root);
+			}
+			for (Node child : index.getChildrenAt(sceneX, sceneY)) {
+				pick(child, sceneX, sceneY, picked);
 			}
 		}
+		// the last visited node is rendered on top
+		Collections.reverse(picked);
 		return picked;
 	}
 
@@ -525,6 +545,39 @@ public class NodeUtils {
 		return parentToLocalTx.getTransformed(p);
 	}
 
+	/**
+	 * Visits the given root node and its transitive children in rendering
+	 * order, and adds the nodes that contain the given scene position to the
+	 * given list.
+	 */
+	private static void pick(Node root, double sceneX, double sceneY,
+			List<Node> picked) {
+		Deque<Node> nodes = new ArrayDeque<>();
+		nodes.push(root);
+		while (!nodes.isEmpty()) {
+			Node current = nodes.pop();
+			// transform to local coordinates
+			Point2D pLocal = current.sceneToLocal(sceneX, sceneY);
+			// check if bounds contains (necessary to find children in mouse
+			// transparent regions)
+			if (!current.isMouseTransparent()
+					&& current.getBoundsInLocal().contains(pLocal)) {
+				// check precisely
+				if (current.contains(pLocal)) {
+					picked.add(current);
+				}
+				// test all children, too (the first child is visited first)
+				if (current instanceof Parent) {
+					List<Node> children = ((Parent) current)
+							.getChildrenUnmodifiable();
+					for (int i = children.size() - 1; i >= 0; i--) {
+						nodes.push(children.get(i));
+					}
+				}
+			}
+		}
+	}
+
 	/**
 	 * Transforms the given {@link IGeometry} from scene coordinates to the
 	 * local coordinate system of the given {@link Node}.
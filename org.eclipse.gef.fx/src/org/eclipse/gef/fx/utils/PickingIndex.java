@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ListChangeListener;
+import javafx.geometry.Bounds;
+import javafx.geometry.Point2D;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+
+/**
+ * A {@link PickingIndex} maintains a {@link SpatialIndex} of the children of a
+ * root {@link Parent}, so that the children that are candidates for picking at
+ * a given scene position can be determined without testing all children (see
+ * {@link NodeUtils#getNodesAt(PickingIndex, double, double)}).
+ * <p>
+ * The children are indexed by their bounds-in-parent, i.e. within the local
+ * coordinate system of the root. Therefore, the index is kept up-to-date by
+ * observing the children list of the root and the bounds of the children,
+ * while transformation changes of the root or its ancestors (e.g. scrolling or
+ * zooming) do not require any updates. The {@link PickingIndex} has to be
+ * {@link #dispose() disposed} when it is no longer used.
+ *
+ * @author agent
+ *
+ */
+public class PickingIndex {
+
+	private final Parent root;
+	private final SpatialIndex<Node> index = new SpatialIndex<>();
+
+	// the indices of the children within the children list of the root, which
+	// are used to sort the picked children (null if they need to be
+	// re-computed, e.g. after children were added, removed, or permuted)
+	private Map<Node, Integer> childIndices = null;
+
+	private ListChangeListener<Node> childrenListener = new ListChangeListener<Node>() {
+		@Override
+		public void onChanged(
+				ListChangeListener.Change<? extends Node> change) {
+			childIndices = null;
+			while (change.next()) {
+				for (Node removed : change.getRemoved()) {
+					unindexChild(removed);
+				}
+				for (Node added : change.getAddedSubList()) {
+					indexChild(added);
+				}
+			}
+		}
+	};
+
+	private ChangeListener<Bounds> childBoundsListener = new ChangeListener<Bounds>() {
+		@Override
+		public void changed(ObservableValue<? extends Bounds> observable,
+				Bounds oldValue, Bounds newValue) {
+			Node child = (Node) ((ReadOnlyProperty<?>) observable).getBean();
+			index.put(child, newValue.getMinX(), newValue.getMinY(),
+					newValue.getMaxX(), newValue.getMaxY());
+		}
+	};
+
+	/**
+	 * Constructs a new {@link PickingIndex} for the children of the given
+	 * {@link Parent}.
+	 *
+	 * @param root
+	 *            The {@link Parent} whose children are indexed.
+	 */
+	public PickingIndex(Parent root) {
+		if (root == null) {
+			throw new IllegalArgumentException("root may not be null.");
+		}
+		this.root = root;
+		for (Node child : root.getChildrenUnmodifiable()) {
+			indexChild(child);
+		}
+		root.getChildrenUnmodifiable().addListener(childrenListener);
+	}
+
+	/**
+	 * Removes all listeners that were registered by this {@link PickingIndex}
+	 * and clears the index.
+	 */
+	public void dispose() {
+		root.getChildrenUnmodifiable().removeListener(childrenListener);
+		for (Node child : root.getChildrenUnmodifiable()) {
+			child.boundsInParentProperty().removeListener(childBoundsListener);
+		}
+		index.clear();
+		childIndices = null;
+	}
+
+	private Map<Node, Integer> getChildIndices() {
+		if (childIndices == null) {
+			List<Node> children = root.getChildrenUnmodifiable();
+			childIndices = new IdentityHashMap<>(children.size());
+			for (int i = 0; i < children.size(); i++) {
+				childIndices.put(children.get(i), i);
+			}
+		}
+		return childIndices;
+	}
+
+	/**
+	 * Returns the children of the {@link #getRoot() root} whose
+	 * bounds-in-parent contain the given scene position. The children are
+	 * returned in the order in which they are contained in the children list of
+	 * the root, i.e. in rendering order.
+	 *
+	 * @param sceneX
+	 *            The x-coordinate of the position, interpreted in scene
+	 *            coordinate space.
+	 * @param sceneY
+	 *            The y-coordinate of the position, interpreted in scene
+	 *            coordinate space.
+	 * @return A list containing the children of the root whose bounds contain
+	 *         the given position.
+	 */
+	public List<Node> getChildrenAt(double sceneX, double sceneY) {
+		Point2D pLocal = root.sceneToLocal(sceneX, sceneY);
+		Set<Node> candidates = index.query(pLocal.getX(), pLocal.getY());
+		List<Node> children = new ArrayList<>(candidates);
+		if (children.size() > 1) {
+			final Map<Node, Integer> indices = getChildIndices();
+			Collections.sort(children, new Comparator<Node>() {
+				@Override
+				public int compare(Node n1, Node n2) {
+					return Integer.compare(indices.get(n1), indices.get(n2));
+				}
+			});
+		}
+		return children;
+	}
+
+	/**
+	 * Returns the {@link Parent} whose children are indexed.
+	 *
+	 * @return The {@link Parent} whose children are indexed.
+	 */
+	public Parent getRoot() {
+		return root;
+	}
+
+	private void indexChild(Node child) {
+		Bounds bounds = child.getBoundsInParent();
+		index.put(child, bounds.getMinX(), bounds.getMinY(), bounds.getMaxX(),
+				bounds.getMaxY());
+		child.boundsInParentProperty().addListener(childBoundsListener);
+	}
+
+	private void unindexChild(Node child) {
+		child.boundsInParentProperty().removeListener(childBoundsListener);
+		index.remove(child);
+	}
+
+}
@@ -0,0 +1,354 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link SpatialIndex} maintains axis-aligned bounds for a set of items
+ * within a uniform grid, so that the items whose bounds intersect a given
+ * rectangle (or contain a given point) can be determined without testing all
+ * items. Items that cover a large number of grid cells, as well as items with
+ * invalid bounds, are kept in a separate list that is tested on every query.
+ * <p>
+ * The bounds are specified as <code>minX, minY, maxX, maxY</code> and are
+ * interpreted as closed intervals. The {@link SpatialIndex} is not
+ * synchronized.
+ *
+ * @author agent
+ *
+ * @param <T>
+ *            The type of the indexed items.
+ */
+public class SpatialIndex<T> {
+
+	/**
+	 * The default width and height of the grid cells.
+	 */
+	public static final double DEFAULT_CELL_SIZE = 256;
+
+	/**
+	 * Items that would be registered at more grid cells are kept in the list
+	 * of oversized items instead.
+	 */
+	private static final int MAX_CELLS_PER_ITEM = 64;
+
+	private final double cellSize;
+	private final Map<T, double[]> boundsByItem = new HashMap<>();
+	private final Map<Long, List<T>> itemsByCell = new HashMap<>();
+	private final Set<T> oversizedItems = new LinkedHashSet<>();
+	private double[] totalBounds = null;
+
+	/**
+	 * Constructs a new {@link SpatialIndex} that uses grid cells of the
+	 * {@link #DEFAULT_CELL_SIZE default size}.
+	 */
+	public SpatialIndex() {
+		this(DEFAULT_CELL_SIZE);
+	}
+
+	/**
+	 * Constructs a new {@link SpatialIndex} that uses grid cells of the given
+	 * size. The cell size should roughly correspond to the size of the indexed
+	 * items.
+	 *
+	 * @param cellSize
+	 *            The width and height of the grid cells.
+	 */
+	public SpatialIndex(double cellSize) {
+		if (!(cellSize > 0) || Double.isInfinite(cellSize)) {
+			throw new IllegalArgumentException(
+					"cellSize has to be positive and finite: " + cellSize);
+		}
+		this.cellSize = cellSize;
+	}
+
+	private static boolean intersects(double[] b, double minX, double minY,
+			double maxX, double maxY) {
+		return b[0] <= maxX && b[2] >= minX && b[1] <= maxY && b[3] >= minY;
+	}
+
+	private static boolean isValid(double[] b) {
+		for (double v : b) {
+			if (Double.isNaN(v) || Double.isInfinite(v)) {
+				return false;
+			}
+		}
+		return b[0] <= b[2] && b[1] <= b[3];
+	}
+
+	private static long key(int cx, int cy) {
+		return ((long) cx << 32) | (cy & 0xffffffffL);
+	}
+
+	private int cell(double v) {
+		double c = Math.floor(v / cellSize);
+		if (c < Integer.MIN_VALUE) {
+			return Integer.MIN_VALUE;
+		} else if (c > Integer.MAX_VALUE) {
+			return Integer.MAX_VALUE;
+		}
+		return (int) c;
+	}
+
+	/**
+	 * Removes all items from this {@link SpatialIndex}.
+	 */
+	public void clear() {
+		boundsByItem.clear();
+		itemsByCell.clear();
+		oversizedItems.clear();
+		totalBounds = null;
+	}
+
+	/**
+	 * Returns <code>true</code> if the given item is contained in this
+	 * {@link SpatialIndex}, otherwise returns <code>false</code>.
+	 *
+	 * @param item
+	 *            The item to test.
+	 * @return <code>true</code> if the given item is contained in this
+	 *         {@link SpatialIndex}, otherwise <code>false</code>.
+	 */
+	public boolean contains(T item) {
+		return boundsByItem.containsKey(item);
+	}
+
+	/**
+	 * Returns the union of the (valid) bounds of all items as
+	 * <code>[minX, minY, maxX, maxY]</code>, or <code>null</code> if this
+	 * {@link SpatialIndex} does not contain any item with valid bounds.
+	 *
+	 * @return The union of the bounds of all items, or <code>null</code>.
+	 */
+	public double[] getBounds() {
+		if (totalBounds == null) {
+			for (double[] b : boundsByItem.values()) {
+				if (!isValid(b)) {
+					continue;
+				}
+				if (totalBounds == null) {
+					totalBounds = Arrays.copyOf(b, 4);
+				} else {
+					totalBounds[0] = Math.min(totalBounds[0], b[0]);
+					totalBounds[1] = Math.min(totalBounds[1], b[1]);
+					totalBounds[2] = Math.max(totalBounds[2], b[2]);
+					totalBounds[3] = Math.max(totalBounds[3], b[3]);
+				}
+			}
+			if (totalBounds == null) {
+				return null;
+			}
+		}
+		return Arrays.copyOf(totalBounds, 4);
+	}
+
+	/**
+	 * Returns the bounds of the given item as
+	 * <code>[minX, minY, maxX, maxY]</code>, or <code>null</code> if the item
+	 * is not contained in this {@link SpatialIndex}.
+	 *
+	 * @param item
+	 *            The item for which to return the bounds.
+	 * @return The bounds of the given item, or <code>null</code>.
+	 */
+	public double[] getBounds(T item) {
+		double[] b = boundsByItem.get(item);
+		return b == null ? null : Arrays.copyOf(b, 4);
+	}
+
+	/**
+	 * Inserts the given item into this {@link SpatialIndex}, or updates its
+	 * bounds if it is already contained.
+	 *
+	 * @param item
+	 *            The item to insert or update.
+	 * @param minX
+	 *            The minimum x coordinate of the item's bounds.
+	 * @param minY
+	 *            The minimum y coordinate of the item's bounds.
+	 * @param maxX
+	 *            The maximum x coordinate of the item's bounds.
+	 * @param maxY
+	 *            The maximum y coordinate of the item's bounds.
+	 */
+	public void put(T item, double minX, double minY, double maxX,
+			double maxY) {
+		if (item == null) {
+			throw new IllegalArgumentException("item may not be null.");
+		}
+		double[] b = new double[] { minX, minY, maxX, maxY };
+		double[] old = boundsByItem.get(item);
+		if (old != null) {
+			if (Arrays.equals(old, b)) {
+				return;
+			}
+			unregister(item, old);
+		}
+		boundsByItem.put(item, b);
+		register(item, b);
+		totalBounds = null;
+	}
+
+	/**
+	 * Returns all items whose bounds contain the given point.
+	 *
+	 * @param x
+	 *            The x coordinate of the point.
+	 * @param y
+	 *            The y coordinate of the point.
+	 * @return A {@link Set} containing the items whose bounds contain the
+	 *         given point.
+	 */
+	public Set<T> query(double x, double y) {
+		return query(x, y, x, y);
+	}
+
+	/**
+	 * Returns all items whose bounds intersect the given rectangle.
+	 *
+	 * @param minX
+	 *            The minimum x coordinate of the rectangle.
+	 * @param minY
+	 *            The minimum y coordinate of the rectangle.
+	 * @param maxX
+	 *            The maximum x coordinate of the rectangle.
+	 * @param maxY
+	 *            The maximum y coordinate of the rectangle.
+	 * @return A {@link Set} containing the items whose bounds intersect the
+	 *         given rectangle.
+	 */
+	public Set<T> query(double minX, double minY, double maxX, double maxY) {
+		Set<T> result = new LinkedHashSet<>();
+		if (!isValid(new double[] { minX, minY, maxX, maxY })) {
+			return result;
+		}
+		int minCx = cell(minX);
+		int minCy = cell(minY);
+		int maxCx = cell(maxX);
+		int maxCy = cell(maxY);
+		long cellCount = ((long) maxCx - minCx + 1)
+				* ((long) maxCy - minCy + 1);
+		if (cellCount > itemsByCell.size()) {
+			// visiting all occupied cells is cheaper than visiting all cells
+			// that are covered by the rectangle
+			for (List<T> items : itemsByCell.values()) {
+				collect(items, minX, minY, maxX, maxY, result);
+			}
+		} else {
+			for (int cx = minCx; cx <= maxCx; cx++) {
+				for (int cy = minCy; cy <= maxCy; cy++) {
+					List<T> items = itemsByCell.get(key(cx, cy));
+					if (items != null) {
+						collect(items, minX, minY, maxX, maxY, result);
+					}
+				}
+			}
+		}
+		collect(oversizedItems, minX, minY, maxX, maxY, result);
+		return result;
+	}
+
+	private void collect(Iterable<T> items, double minX, double minY,
+			double maxX, double maxY, Set<T> result) {
+		for (T item : items) {
+			if (intersects(boundsByItem.get(item), minX, minY, maxX, maxY)) {
+				result.add(item);
+			}
+		}
+	}
+
+	private void register(T item, double[] b) {
+		if (!isValid(b)) {
+			oversizedItems.add(item);
+			return;
+		}
+		int minCx = cell(b[0]);
+		int minCy = cell(b[1]);
+		int maxCx = cell(b[2]);
+		int maxCy = cell(b[3]);
+		if (((long) maxCx - minCx + 1)
+				* ((long) maxCy - minCy + 1) > MAX_CELLS_PER_ITEM) {
+			oversizedItems.add(item);
+			return;
+		}
+		for (int cx = minCx; cx <= maxCx; cx++) {
+			for (int cy = minCy; cy <= maxCy; cy++) {
+				Long key = key(cx, cy);
+				List<T> items = itemsByCell.get(key);
+				if (items == null) {
+					items = new ArrayList<>(4);
+					itemsByCell.put(key, items);
+				}
+				items.add(item);
+			}
+		}
+	}
+
+	/**
+	 * Removes the given item from this {@link SpatialIndex}.
+	 *
+	 * @param item
+	 *            The item to remove.
+	 * @return <code>true</code> if the item was contained in this
+	 *         {@link SpatialIndex}, otherwise <code>false</code>.
+	 */
+	public boolean remove(T item) {
+		double[] b = boundsByItem.remove(item);
+		if (b == null) {
+			return false;
+		}
+		unregister(item, b);
+		totalBounds = null;
+		return true;
+	}
+
+	/**
+	 * Returns the number of items that are contained in this
+	 * {@link SpatialIndex}.
+	 *
+	 * @return The number of items.
+	 */
+	public int size() {
+		return boundsByItem.size();
+	}
+
+	private void unregister(T item, double[] b) {
+		if (oversizedItems.remove(item)) {
+			return;
+		}
+		int minCx = cell(b[0]);
+		int minCy = cell(b[1]);
+		int maxCx = cell(b[2]);
+		int maxCy = cell(b[3]);
+		for (int cx = minCx; cx <= maxCx; cx++) {
+			for (int cy = minCy; cy <= maxCy; cy++) {
+				Long key = key(cx, cy);
+				List<T> items = itemsByCell.get(key);
+				if (items != null) {
+					items.remove(item);
+					if (items.isEmpty()) {
+						itemsByCell.remove(key);
+					}
+				}
+			}
+		}
+	}
+
+}
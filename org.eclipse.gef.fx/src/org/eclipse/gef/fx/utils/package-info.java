@@ -11,7 +11,8 @@
  *******************************************************************************/
 /**
  * This package provides utilities for picking nodes, querying the pointer
- * location, and for applying transformations.
+ * location, applying transformations, and for indexing objects by their
+ * bounds.
  *
  * @author anyssen
  *
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.geometry.planar.AffineTransform;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Polygon;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for applying and combining {@link AffineTransform}s.
+ *
+ * @author agent
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AffineTransformBenchmarks {
+
+	/**
+	 * The number of points that are transformed at once.
+	 */
+	@Param({ "4", "64", "1024" })
+	public int pointCount;
+
+	private AffineTransform transform;
+	private AffineTransform other;
+	private Point[] points;
+	private Polygon polygon;
+
+	/**
+	 * Benchmarks {@link AffineTransform#concatenate(AffineTransform)}.
+	 *
+	 * @return The concatenated transformation.
+	 */
+	@Benchmark
+	public AffineTransform concatenate() {
+		return transform.getCopy().concatenate(other);
+	}
+
+	/**
+	 * Benchmarks {@link AffineTransform#getInverse()}.
+	 *
+	 * @return The inverse transformation.
+	 */
+	@Benchmark
+	public AffineTransform getInverse() {
+		return transform.getInverse();
+	}
+
+	/**
+	 * Benchmarks {@link AffineTransform#getTransformed(Point[])}.
+	 *
+	 * @return The transformed points.
+	 */
+	@Benchmark
+	public Point[] getTransformedPoints() {
+		return transform.getTransformed(points);
+	}
+
+	/**
+	 * Benchmarks {@link Polygon#getTransformed(AffineTransform)}.
+	 *
+	 * @return The transformed polygon.
+	 */
+	@Benchmark
+	public Polygon getTransformedPolygon() {
+		return polygon.getTransformed(transform);
+	}
+
+	/**
+	 * Creates the transformations and the points to transform.
+	 */
+	@Setup
+	public void setup() {
+		transform = new AffineTransform().translate(10, 20).rotate(0.3)
+				.scale(1.5, 0.75);
+		other = new AffineTransform().shear(0.1, 0.2).translate(-5, 5);
+		Random random = new Random(Workloads.SEED);
+		polygon = Workloads.randomStarPolygon(random, pointCount, 200, 200,
+				200);
+		points = polygon.getPoints();
+	}
+
+}
@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmark jar. It accepts the regular JMH command line
+ * options (e.g. a regular expression to select benchmarks, or
+ * <code>-p vertexCount=64</code> to restrict a parameter), and always adds
+ * the {@link GCProfiler}, so that the allocated bytes per operation
+ * (<code>gc.alloc.rate.norm</code>) are reported next to the throughput.
+ *
+ * @author agent
+ *
+ */
+public class BenchmarkMain {
+
+	/**
+	 * Runs the selected benchmarks.
+	 *
+	 * @param args
+	 *            The JMH command line options.
+	 * @throws Exception
+	 *             if the command line cannot be parsed or a benchmark fails
+	 */
+	public static void main(String[] args) throws Exception {
+		Options options = new OptionsBuilder()
+				.parent(new CommandLineOptions(args))
+				.addProfiler(GCProfiler.class).build();
+		new Runner(options).run();
+	}
+
+}
@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.geometry.planar.BezierCurve;
+import org.eclipse.gef.geometry.planar.CubicCurve;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.PolyBezier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the intersection and offset computations of
+ * {@link BezierCurve}.
+ *
+ * @author agent
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BezierCurveBenchmarks {
+
+	/*
+	 * The pool is larger than the offset cache of BezierCurve, so that
+	 * cycling through it does not produce cache hits.
+	 */
+	private static final int POOL_SIZE = 1024;
+	private static final double SIZE = 400;
+	private static final double OFFSET_DISTANCE = 10;
+
+	/**
+	 * The kind of curve pairs: random control points, arches that touch
+	 * tangentially, or arches that are separated by a tiny gap.
+	 */
+	@Param({ "random", "tangent", "nearTangent" })
+	public String workload;
+
+	private CubicCurve[] curves;
+	private CubicCurve[] others;
+	private int index;
+
+	/**
+	 * Benchmarks {@link BezierCurve#getIntersections(BezierCurve)}.
+	 *
+	 * @return The points of intersection.
+	 */
+	@Benchmark
+	public Point[] getIntersections() {
+		int i = next();
+		return curves[i].getIntersections(others[i]);
+	}
+
+	/**
+	 * Benchmarks {@link BezierCurve#getOffset(double)} without any cache
+	 * hits, by offsetting a fresh copy of a curve of the pool.
+	 *
+	 * @return The offset curve.
+	 */
+	@Benchmark
+	public PolyBezier getOffset() {
+		return curves[next()].getCopy().getOffset(OFFSET_DISTANCE);
+	}
+
+	/**
+	 * Benchmarks {@link BezierCurve#getOffset(double)} for a small set of
+	 * curves that are offset repeatedly, i.e. the cached case.
+	 *
+	 * @return The offset curve.
+	 */
+	@Benchmark
+	public PolyBezier getOffsetRepeated() {
+		return curves[next() & 15].getOffset(OFFSET_DISTANCE);
+	}
+
+	private int next() {
+		index = (index + 1) & (POOL_SIZE - 1);
+		return index;
+	}
+
+	/**
+	 * Creates the curve pairs for the selected {@link #workload}.
+	 */
+	@Setup
+	public void setup() {
+		Random random = new Random(Workloads.SEED);
+		curves = new CubicCurve[POOL_SIZE];
+		others = new CubicCurve[POOL_SIZE];
+		for (int i = 0; i < POOL_SIZE; i++) {
+			if ("random".equals(workload)) {
+				curves[i] = Workloads.randomCubic(random, SIZE);
+				others[i] = Workloads.randomCubic(random, SIZE);
+			} else {
+				curves[i] = Workloads.randomArch(random, SIZE);
+				others[i] = Workloads.mirrorAboveTop(curves[i],
+						"tangent".equals(workload) ? 0 : 1e-7);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.geometry.planar.Ellipse;
+import org.eclipse.gef.geometry.planar.Path;
+import org.eclipse.gef.geometry.planar.RoundedRectangle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the boolean operations on {@link Path}s.
+ *
+ * @author agent
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathBenchmarks {
+
+	/**
+	 * The kind of operands: curved outlines (an {@link Ellipse} and a
+	 * {@link RoundedRectangle}), or two large star-shaped polygons.
+	 */
+	@Param({ "curved", "polygon" })
+	public String workload;
+
+	private Path a;
+	private Path b;
+
+	/**
+	 * Benchmarks {@link Path#add(Path, Path)}.
+	 *
+	 * @return The union.
+	 */
+	@Benchmark
+	public Path add() {
+		return Path.add(a, b);
+	}
+
+	/**
+	 * Benchmarks {@link Path#exclusiveOr(Path, Path)}.
+	 *
+	 * @return The symmetric difference.
+	 */
+	@Benchmark
+	public Path exclusiveOr() {
+		return Path.exclusiveOr(a, b);
+	}
+
+	/**
+	 * Benchmarks {@link Path#intersect(Path, Path)}.
+	 *
+	 * @return The intersection.
+	 */
+	@Benchmark
+	public Path intersect() {
+		return Path.intersect(a, b);
+	}
+
+	/**
+	 * Creates the operands.
+	 */
+	@Setup
+	public void setup() {
+		if ("curved".equals(workload)) {
+			a = new Ellipse(0, 0, 300, 200).toPath();
+			b = new RoundedRectangle(100, 50, 300, 200, 40, 40).toPath();
+		} else {
+			Random random = new Random(Workloads.SEED);
+			a = Workloads.randomStarPolygon(random, 256, 200, 200, 200)
+					.toPath();
+			b = Workloads.randomStarPolygon(random, 256, 300, 250, 200)
+					.toPath();
+		}
+	}
+
+	/**
+	 * Benchmarks {@link Path#subtract(Path, Path)}.
+	 *
+	 * @return The difference.
+	 */
+	@Benchmark
+	public Path subtract() {
+		return Path.subtract(a, b);
+	}
+
+}
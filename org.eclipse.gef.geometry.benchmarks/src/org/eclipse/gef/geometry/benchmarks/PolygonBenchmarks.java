@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Polygon;
+import org.eclipse.gef.geometry.planar.PreparedShape;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the triangulation of and the point containment tests for
+ * large {@link Polygon}s.
+ *
+ * @author agent
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PolygonBenchmarks {
+
+	private static final int POOL_SIZE = 64;
+
+	/**
+	 * The number of vertices of the polygons.
+	 */
+	@Param({ "16", "64", "256" })
+	public int vertexCount;
+
+	private Polygon[] polygons;
+	private PreparedShape[] preparedShapes;
+	private Point[] points;
+	private int index;
+
+	/**
+	 * Benchmarks {@link Polygon#contains(Point)}.
+	 *
+	 * @return The result of the containment test.
+	 */
+	@Benchmark
+	public boolean contains() {
+		int i = next();
+		return polygons[i & (POOL_SIZE - 1)].contains(points[i]);
+	}
+
+	/**
+	 * Benchmarks {@link PreparedShape#contains(Point)}, i.e. the point
+	 * containment test for a prepared {@link Polygon}.
+	 *
+	 * @return The result of the containment test.
+	 */
+	@Benchmark
+	public boolean containsPrepared() {
+		int i = next();
+		return preparedShapes[i & (POOL_SIZE - 1)].contains(points[i]);
+	}
+
+	/**
+	 * Benchmarks {@link Polygon#getTriangulation()}.
+	 *
+	 * @return The triangles.
+	 */
+	@Benchmark
+	public Polygon[] getTriangulation() {
+		return polygons[next() & (POOL_SIZE - 1)].getTriangulation();
+	}
+
+	/**
+	 * Benchmarks the construction of a {@link PreparedShape}.
+	 *
+	 * @return The prepared shape.
+	 */
+	@Benchmark
+	public PreparedShape prepare() {
+		return new PreparedShape(polygons[next() & (POOL_SIZE - 1)]);
+	}
+
+	private int next() {
+		index = (index + 1) % points.length;
+		return index;
+	}
+
+	/**
+	 * Creates the polygons and the points to test for containment.
+	 */
+	@Setup
+	public void setup() {
+		Random random = new Random(Workloads.SEED);
+		polygons = new Polygon[POOL_SIZE];
+		preparedShapes = new PreparedShape[POOL_SIZE];
+		for (int i = 0; i < POOL_SIZE; i++) {
+			polygons[i] = Workloads.randomStarPolygon(random, vertexCount,
+					200, 200, 200);
+			preparedShapes[i] = new PreparedShape(polygons[i]);
+		}
+		points = Workloads.randomPoints(random, 16 * POOL_SIZE,
+				polygons[0].getBounds());
+	}
+
+}
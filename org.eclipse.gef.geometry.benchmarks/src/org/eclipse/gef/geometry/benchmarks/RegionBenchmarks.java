@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.eclipse.gef.geometry.planar.Region;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for building {@link Region}s from many overlapping
+ * {@link Rectangle}s.
+ *
+ * @author agent
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegionBenchmarks {
+
+	private static final int POOL_SIZE = 16;
+
+	/**
+	 * The number of rectangles that are added to a region.
+	 */
+	@Param({ "10", "50", "250" })
+	public int rectangleCount;
+
+	private Rectangle[][] rectangles;
+	private int index;
+
+	/**
+	 * Benchmarks {@link Region#add(Rectangle)}, by adding all rectangles of a
+	 * workload to a new {@link Region}.
+	 *
+	 * @return The region.
+	 */
+	@Benchmark
+	public Region add() {
+		index = (index + 1) & (POOL_SIZE - 1);
+		Region region = new Region();
+		for (Rectangle r : rectangles[index]) {
+			region.add(r);
+		}
+		return region;
+	}
+
+	/**
+	 * Creates the rectangles.
+	 */
+	@Setup
+	public void setup() {
+		Random random = new Random(Workloads.SEED);
+		rectangles = new Rectangle[POOL_SIZE][];
+		for (int i = 0; i < POOL_SIZE; i++) {
+			rectangles[i] = Workloads.randomRectangles(random, rectangleCount,
+					1000);
+		}
+	}
+
+}
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.benchmarks;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.eclipse.gef.geometry.planar.CubicCurve;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Polygon;
+import org.eclipse.gef.geometry.planar.Rectangle;
+
+/**
+ * Generators for the (seeded, and therefore reproducible) benchmark
+ * workloads.
+ *
+ * @author agent
+ *
+ */
+final class Workloads {
+
+	/**
+	 * The seed that is used by all benchmarks.
+	 */
+	static final long SEED = 4711;
+
+	/**
+	 * Returns a {@link CubicCurve} whose control points are randomly
+	 * distributed within a square of the given size.
+	 */
+	static CubicCurve randomCubic(Random random, double size) {
+		double[] coordinates = new double[8];
+		for (int i = 0; i < coordinates.length; i++) {
+			coordinates[i] = random.nextDouble() * size;
+		}
+		return new CubicCurve(coordinates);
+	}
+
+	/**
+	 * Returns a random arch-shaped {@link CubicCurve}, i.e. one with an
+	 * extreme point with a horizontal tangent.
+	 */
+	static CubicCurve randomArch(Random random, double size) {
+		double x = random.nextDouble() * size / 4;
+		double y = size / 2 + random.nextDouble() * size / 4;
+		double width = size / 2 + random.nextDouble() * size / 4;
+		double height = size / 4 + random.nextDouble() * size / 4;
+		return new CubicCurve(x, y, x + width / 4, y - height,
+				x + 3 * width / 4, y - height, x + width, y);
+	}
+
+	/**
+	 * Returns the given {@link CubicCurve} mirrored at the horizontal line
+	 * that is the given gap above the top of its bounds. For a gap of zero,
+	 * both curves touch tangentially at the top of the arch.
+	 */
+	static CubicCurve mirrorAboveTop(CubicCurve curve, double gap) {
+		double axis = curve.getBounds().getY() - gap;
+		Point[] points = curve.getPoints();
+		for (Point p : points) {
+			p.y = 2 * axis - p.y;
+		}
+		return new CubicCurve(points);
+	}
+
+	/**
+	 * Returns a simple, star-shaped {@link Polygon} with the given number of
+	 * vertices, which are placed at random angles and random distances around
+	 * the given center.
+	 */
+	static Polygon randomStarPolygon(Random random, int vertexCount,
+			double cx, double cy, double radius) {
+		double[] angles = new double[vertexCount];
+		for (int i = 0; i < vertexCount; i++) {
+			angles[i] = random.nextDouble() * 2 * Math.PI;
+		}
+		Arrays.sort(angles);
+		double[] coordinates = new double[2 * vertexCount];
+		for (int i = 0; i < vertexCount; i++) {
+			double r = radius * (0.2 + 0.8 * random.nextDouble());
+			coordinates[2 * i] = cx + r * Math.cos(angles[i]);
+			coordinates[2 * i + 1] = cy + r * Math.sin(angles[i]);
+		}
+		return new Polygon(coordinates);
+	}
+
+	/**
+	 * Returns the given number of random {@link Rectangle}s, which are
+	 * located within a square of the given size, so that many of them
+	 * overlap.
+	 */
+	static Rectangle[] randomRectangles(Random random, int count,
+			double size) {
+		Rectangle[] rectangles = new Rectangle[count];
+		for (int i = 0; i < count; i++) {
+			double width = size / 20 + random.nextDouble() * size / 5;
+			double height = size / 20 + random.nextDouble() * size / 5;
+			rectangles[i] = new Rectangle(
+					random.nextDouble() * (size - width),
+					random.nextDouble() * (size - height), width, height);
+		}
+		return rectangles;
+	}
+
+	/**
+	 * Returns the given number of random {@link Point}s within the given
+	 * {@link Rectangle}.
+	 */
+	static Point[] randomPoints(Random random, int count, Rectangle bounds) {
+		Point[] points = new Point[count];
+		for (int i = 0; i < count; i++) {
+			points[i] = new Point(
+					bounds.getX() + random.nextDouble() * bounds.getWidth(),
+					bounds.getY() + random.nextDouble() * bounds.getHeight());
+		}
+		return points;
+	}
+
+	private Workloads() {
+		// this class should not be instantiated
+	}
+
+}
@@ -27,12 +27,14 @@ import org.eclipse.gef.geometry.convert.awt.Geometry2AWT;
 import org.eclipse.gef.geometry.euclidean.Vector;
 import org.eclipse.gef.geometry.internal.utils.PrecisionUtils;
 import org.eclipse.gef.geometry.planar.BezierCurve;
+import org.eclipse.gef.geometry.planar.CoordinateBuffer;
 import org.eclipse.gef.geometry.planar.CubicCurve;
 import org.eclipse.gef.geometry.planar.Ellipse;
 import org.eclipse.gef.geometry.planar.ICurve;
 import org.eclipse.gef.geometry.planar.Line;
 import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.geometry.planar.PolyBezier;
+import org.eclipse.gef.geometry.planar.Polyline;
 import org.eclipse.gef.geometry.planar.QuadraticCurve;
 import org.eclipse.gef.geometry.planar.Rectangle;
 import org.junit.Test;
@@ -177,6 +179,59 @@ public class BezierCurveTests {
 		assertEquals(1, intersections.length);
 	}
 
+	@Test
+	public void test_flatten() {
+		CubicCurve c = new CubicCurve(0, 0, 100, 200, 200, -100, 300, 100);
+		double tolerance = 0.1;
+		CoordinateBuffer sink = new CoordinateBuffer();
+		c.flatten(tolerance, sink);
+
+		int n = sink.getPointCount();
+		assertTrue(n > 2);
+		assertEquals(c.getP1(), new Point(sink.getX(0), sink.getY(0)));
+		assertEquals(c.getP2(),
+				new Point(sink.getX(n - 1), sink.getY(n - 1)));
+
+		// every point on the curve is within the tolerance of the polyline
+		Polyline polyline = new Polyline(sink.toCoordinatesArray());
+		for (int i = 0; i <= 1000; i++) {
+			Point p = c.get(i / 1000d);
+			assertTrue(PrecisionUtils.smallerEqual(
+					p.getDistance(polyline.getProjection(p)), tolerance));
+		}
+
+		// a smaller tolerance results in more points
+		CoordinateBuffer finer = new CoordinateBuffer();
+		c.flatten(tolerance / 10, finer);
+		assertTrue(finer.getPointCount() > n);
+
+		// flattening again appends the same points
+		c.flatten(tolerance, sink);
+		assertEquals(2 * n, sink.getPointCount());
+		for (int i = 0; i < n; i++) {
+			assertEquals(sink.getX(i), sink.getX(n + i), 0);
+			assertEquals(sink.getY(i), sink.getY(n + i), 0);
+		}
+
+		// modifications are respected
+		c.setP2(new Point(300, 200));
+		sink.clear();
+		c.flatten(tolerance, sink);
+		assertEquals(new Point(300, 200), new Point(
+				sink.getX(sink.getPointCount() - 1),
+				sink.getY(sink.getPointCount() - 1)));
+
+		// lines are not subdivided
+		sink.clear();
+		new Line(0, 0, 10, 10).flatten(tolerance, sink);
+		assertEquals(2, sink.getPointCount());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void test_flatten_invalid_tolerance() {
+		new Line(0, 0, 10, 10).flatten(0, new CoordinateBuffer());
+	}
+
 	@Test
 	public void test_get() {
 		BezierCurve c0 = new BezierCurve(1, 1, 1, 10, 10, 1, 10, 10);
@@ -275,6 +330,30 @@ public class BezierCurveTests {
 		assertEquals(4, inters.length);
 	}
 
+	@Test
+	public void test_getOffset_cached() {
+		CubicCurve c = new CubicCurve(100, 100, 200, 50, 300, 150, 400, 100);
+		BezierCurve[] offset = c.getOffset(10).toBezier();
+		assertTrue(Arrays.equals(offset, c.getOffset(10).toBezier()));
+		// equal curves share the result
+		assertTrue(
+				Arrays.equals(offset, c.getCopy().getOffset(10).toBezier()));
+
+		// returned offsets are independent copies
+		assertNotSame(c.getOffset(10), c.getOffset(10));
+		c.getOffset(10).translate(10, 10);
+		assertTrue(Arrays.equals(offset, c.getOffset(10).toBezier()));
+
+		// different distances and modified curves are respected
+		assertFalse(Arrays.equals(offset, c.getOffset(20).toBezier()));
+		c.setP2(new Point(400, 200));
+		BezierCurve[] modified = c.getOffset(10).toBezier();
+		assertFalse(Arrays.equals(offset, modified));
+		assertTrue(Arrays.equals(modified,
+				new CubicCurve(100, 100, 200, 50, 300, 150, 400, 200)
+						.getOffset(10).toBezier()));
+	}
+
 	@Test
 	public void test_getOffsetRaw_cubic() {
 		BezierCurve c = new BezierCurve(10, 10, 10, 50, 100, 50, 100, 10);
@@ -0,0 +1,266 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.eclipse.gef.geometry.planar.BezierCurve;
+import org.eclipse.gef.geometry.planar.Point;
+import org.junit.Test;
+
+public class BezierKernelTests {
+
+	private static final String KERNEL = "org.eclipse.gef.geometry.planar.BezierKernel";
+
+	private static final double[] CUBIC = new double[] { 0, 0, 100, 200, 200,
+			-100, 300, 100 };
+
+	private static final double[] QUAD = new double[] { 0, 0, 50, 100, 100,
+			0 };
+
+	private static double bernstein(double[] c, int n, double t, int dim) {
+		double v = 0;
+		for (int i = 0; i < n; i++) {
+			v += binomial(n - 1, i) * Math.pow(t, i)
+					* Math.pow(1 - t, n - 1 - i) * c[2 * i + dim];
+		}
+		return v;
+	}
+
+	private static double binomial(int n, int k) {
+		double b = 1;
+		for (int i = 1; i <= k; i++) {
+			b = b * (n - k + i) / i;
+		}
+		return b;
+	}
+
+	private static Object invoke(Object target, String methodName,
+			Object... args) {
+		try {
+			Class<?> kernel = Class.forName(KERNEL);
+			for (Method m : (target == null ? kernel : target.getClass())
+					.getDeclaredMethods()) {
+				if (m.getName().equals(methodName)
+						&& m.getParameterTypes().length == args.length) {
+					m.setAccessible(true);
+					return m.invoke(target, args);
+				}
+			}
+			throw new IllegalArgumentException(
+					"No such method: " + methodName);
+		} catch (InvocationTargetException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new RuntimeException(e.getCause());
+		} catch (Exception e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private static int fatLineSize() {
+		try {
+			java.lang.reflect.Field f = Class.forName(KERNEL)
+					.getDeclaredField("FAT_LINE_SIZE");
+			f.setAccessible(true);
+			return f.getInt(null);
+		} catch (Exception e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	@Test
+	public void test_clip() {
+		// clipping to the full range yields the curve itself
+		double[] dst = new double[CUBIC.length];
+		assertEquals(4, invoke(null, "clip", CUBIC, 4, 0d, 1d, dst));
+		assertArrayEquals(CUBIC, dst, 0);
+
+		// clipping at the end yields the end point
+		assertEquals(1, invoke(null, "clip", CUBIC, 4, 1d, 1d, dst));
+		assertEquals(300, dst[0], 0);
+		assertEquals(100, dst[1], 0);
+
+		// clipping is computed exactly like two consecutive splits
+		BezierCurve c = new BezierCurve(CUBIC);
+		double[][] ranges = new double[][] { { 0, 0.5 }, { 0.25, 0.75 },
+				{ 0.1, 0.3 }, { 0.6, 1 }, { 0.3333, 0.3334 } };
+		for (double[] r : ranges) {
+			invoke(null, "clip", CUBIC, 4, r[0], r[1], dst);
+			Point[] expected = c.split(r[0])[1]
+					.split((r[1] - r[0]) / (1 - r[0]))[0].getPoints();
+			for (int i = 0; i < expected.length; i++) {
+				assertEquals(expected[i].x, dst[2 * i], 0);
+				assertEquals(expected[i].y, dst[2 * i + 1], 0);
+			}
+		}
+
+		// only the first n control points are regarded
+		double[] src = new double[] { 0, 0, 50, 100, 100, 0, 999, 999 };
+		assertEquals(3, invoke(null, "clip", src, 3, 0d, 1d, dst));
+		for (int i = 0; i < 6; i++) {
+			assertEquals(QUAD[i], dst[i], 0);
+		}
+	}
+
+	@Test
+	public void test_clipTo() {
+		// fat line of the x-axis from 0 to 100
+		double[] fatLine = new double[fatLineSize()];
+		assertTrue((Boolean) invoke(null, "fatLine",
+				new double[] { 0, 0, 100, 0 }, 2, false, fatLine));
+
+		// a vertical line crossing the x-axis is clipped to the crossing
+		double[] interval = new double[2];
+		invoke(null, "clipTo", new double[] { 50, -50, 50, 50 }, 2, fatLine,
+				interval);
+		assertEquals(0.5, interval[0], 0);
+		assertEquals(0.5, interval[1], 0);
+
+		// a line that is above the fat line is clipped completely
+		invoke(null, "clipTo", new double[] { 0, 10, 100, 20 }, 2, fatLine,
+				interval);
+		assertTrue(interval[0] > interval[1]);
+
+		// a curve that is contained by the fat line is not clipped
+		assertTrue((Boolean) invoke(null, "fatLine", QUAD, 3, false,
+				fatLine));
+		invoke(null, "clipTo", QUAD, 3, fatLine, interval);
+		assertEquals(0, interval[0], 0);
+		assertEquals(1, interval[1], 0);
+	}
+
+	@Test
+	public void test_containmentParameter() {
+		BezierCurve c = new BezierCurve(CUBIC);
+		double[] ts = new double[] { 0, 0.2, 0.5, 0.77, 1 };
+		for (double t : ts) {
+			Point p = c.get(t);
+			double[] interval = new double[] { 0, 1 };
+			assertTrue((Boolean) invoke(null, "containmentParameter", CUBIC, 4,
+					interval, p.x, p.y));
+			assertEquals(t, interval[0], 1e-6);
+			assertEquals(t, interval[1], 1e-6);
+		}
+
+		// a point next to the curve is not contained
+		assertFalse((Boolean) invoke(null, "containmentParameter", CUBIC, 4,
+				new double[] { 0, 1 }, 150d, 150d));
+
+		// the search is restricted to the given interval
+		Point p = c.get(0.2);
+		assertFalse((Boolean) invoke(null, "containmentParameter", CUBIC, 4,
+				new double[] { 0.5, 1 }, p.x, p.y));
+	}
+
+	@Test
+	public void test_controlBounds() {
+		assertTrue((Boolean) invoke(null, "controlBoundsContain", QUAD, 3, 50d,
+				100d));
+		assertTrue((Boolean) invoke(null, "controlBoundsContain", QUAD, 3, 0d,
+				0d));
+		assertFalse((Boolean) invoke(null, "controlBoundsContain", QUAD, 3,
+				50d, 101d));
+
+		assertTrue((Boolean) invoke(null, "controlBoundsTouch", QUAD, 3,
+				new double[] { 100, 100, 200, 200 }, 2));
+		assertFalse((Boolean) invoke(null, "controlBoundsTouch", QUAD, 3,
+				new double[] { 101, 0, 200, 200 }, 2));
+	}
+
+	@Test
+	public void test_distanceToBaseLine() {
+		assertEquals(100d,
+				(Double) invoke(null, "distanceToBaseLine", QUAD, 3), 0);
+		assertEquals(0d, (Double) invoke(null, "distanceToBaseLine",
+				new double[] { 0, 0, 50, 0, 100, 0 }, 3), 0);
+		// undefined base line
+		assertEquals(0d, (Double) invoke(null, "distanceToBaseLine",
+				new double[] { 0, 0, 50, 50, 0, 0 }, 3), 0);
+	}
+
+	@Test
+	public void test_evaluate() {
+		for (int i = 0; i <= 20; i++) {
+			double t = i / 20d;
+			assertEquals(bernstein(CUBIC, 4, t, 0),
+					(Double) invoke(null, "evaluate", CUBIC, 4, t, 0), 1e-9);
+			assertEquals(bernstein(CUBIC, 4, t, 1),
+					(Double) invoke(null, "evaluate", CUBIC, 4, t, 1), 1e-9);
+		}
+		// end points are reproduced exactly
+		assertEquals(0d, (Double) invoke(null, "evaluate", CUBIC, 4, 0d, 0),
+				0);
+		assertEquals(100d, (Double) invoke(null, "evaluate", CUBIC, 4, 1d, 1),
+				0);
+
+		assertTrue((Boolean) invoke(null, "equalPoints", CUBIC, 4, 0.5d, 0.5d,
+				0));
+		assertFalse((Boolean) invoke(null, "equalPoints", CUBIC, 4, 0.25d,
+				0.5d, 0));
+	}
+
+	@Test
+	public void test_fatLine() {
+		double[] fatLine = new double[fatLineSize()];
+		assertTrue((Boolean) invoke(null, "fatLine", QUAD, 3, false,
+				fatLine));
+		// the x-axis (oriented from left to right)
+		assertEquals(0, fatLine[0], 0);
+		assertEquals(100, fatLine[1], 0);
+		assertEquals(0, fatLine[2], 0);
+		assertEquals(100, fatLine[3], 0);
+		assertEquals(0, fatLine[4], 0);
+		assertEquals(100, fatLine[5], 0);
+
+		// the orthogonal fat line spans the curve horizontally
+		assertTrue(
+				(Boolean) invoke(null, "fatLine", QUAD, 3, true, fatLine));
+		assertEquals(100, fatLine[5] - fatLine[4], 0);
+
+		// degenerated curves do not have a fat line
+		assertFalse((Boolean) invoke(null, "fatLine",
+				new double[] { 10, 10, 50, 50, 10, 10 }, 3, false, fatLine));
+	}
+
+	@Test
+	public void test_scratchPool() {
+		Object pool = invoke(null, "getScratchPool");
+		assertSame(pool, invoke(null, "getScratchPool"));
+
+		int mark = (Integer) invoke(pool, "mark");
+		double[] a = (double[]) invoke(pool, "acquire", 8);
+		double[] b = (double[]) invoke(pool, "acquire", 100);
+		assertTrue(a.length >= 8);
+		assertTrue(b.length >= 100);
+		assertNotSame(a, b);
+		assertEquals(mark + 2, invoke(pool, "mark"));
+
+		// released buffers are reused
+		invoke(pool, "release", mark);
+		assertEquals(mark, invoke(pool, "mark"));
+		assertSame(a, invoke(pool, "acquire", 8));
+		assertSame(b, invoke(pool, "acquire", 100));
+		invoke(pool, "release", mark);
+	}
+
+}
@@ -15,9 +15,11 @@ package org.eclipse.gef.geometry.tests;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.util.List;
 
+import org.eclipse.gef.geometry.planar.CoordinateBuffer;
 import org.eclipse.gef.geometry.planar.ICurve;
 import org.eclipse.gef.geometry.planar.Path;
 import org.eclipse.gef.geometry.planar.Point;
@@ -69,6 +71,31 @@ public class PathTests {
 		assertFalse(differencePath.contains(new Point(125, 125)));
 	}
 
+	@Test
+	public void test_flatten() {
+		Path p = new Path().moveTo(0, 0).lineTo(10, 0).quadTo(20, 0, 20, 10)
+				.close().moveTo(50, 50).lineTo(60, 60);
+		CoordinateBuffer sink = new CoordinateBuffer();
+		p.flatten(0.5, sink);
+
+		assertEquals(2, sink.getSubpathCount());
+		assertEquals(0, sink.getSubpathStart(0));
+		int second = sink.getSubpathStart(1);
+		assertEquals(second + 2, sink.getPointCount());
+
+		// first sub-path is closed
+		assertEquals(0, sink.getX(second - 1), 0);
+		assertEquals(0, sink.getY(second - 1), 0);
+		assertEquals(10, sink.getX(1), 0);
+		assertEquals(0, sink.getY(1), 0);
+
+		// quadratic segment is subdivided
+		assertTrue(second > 4);
+
+		assertEquals(50, sink.getX(second), 0);
+		assertEquals(60, sink.getY(second + 1), 0);
+	}
+
 	@Test
 	public void test_getBounds_cubic() {
 		// create path using all segment types
@@ -160,4 +187,31 @@ public class PathTests {
 		assertEquals(outlineBounds, bounds);
 	}
 
+	@Test
+	public void test_getSegmentsUnmodifiable() {
+		Path path = new Path().moveTo(10, 20).cubicTo(30, 40, 50, 60, 70, 80)
+				.close();
+		List<Path.Segment> segments = path.getSegmentsUnmodifiable();
+		assertEquals(3, segments.size());
+
+		// coordinates are accessible without copying the points
+		Path.Segment cubic = segments.get(1);
+		assertEquals(3, cubic.getPointCount());
+		assertEquals(30, cubic.getX(0), 0);
+		assertEquals(40, cubic.getY(0), 0);
+		assertEquals(70, cubic.getX(2), 0);
+		assertEquals(80, cubic.getY(2), 0);
+		assertEquals(0, segments.get(2).getPointCount());
+
+		// the list reflects later additions, but cannot be modified
+		path.lineTo(0, 0);
+		assertEquals(4, segments.size());
+		try {
+			segments.clear();
+			fail("Expected an UnsupportedOperationException.");
+		} catch (UnsupportedOperationException e) {
+		}
+		assertEquals(path.getSegments().length, segments.size());
+	}
+
 }
@@ -544,6 +544,37 @@ public class PolygonTests {
 		assertTrue(true);
 	}
 
+	@Test
+	public void test_getTriangulation_degenerated() {
+		// collinear vertices
+		Polygon p = new Polygon(0, 0, 1, 0, 2, 0, 3, 0, 3, 3, 0, 3);
+		assertTriangulation(p);
+
+		// duplicate vertices
+		p = new Polygon(0, 0, 3, 0, 3, 3, 3, 3, 0, 3, 0, 0);
+		assertTriangulation(p);
+
+		// nearly collinear vertices
+		p = new Polygon(0.5, 0.5, 12, 12, 24, Math.nextUp(24.0), 24, 30, 0,
+				30);
+		assertTriangulation(p);
+
+		// non-convex outline with a reflex vertex close to the diagonal
+		p = new Polygon(0, 0, 10, 0, 10, 10, 5, 1e-9, 0, 10);
+		assertTriangulation(p);
+	}
+
+	private void assertTriangulation(Polygon p) {
+		Polygon[] triangles = p.getTriangulation();
+		assertEquals(p.getPointCount() - 2, triangles.length);
+		double area = 0;
+		for (Polygon t : triangles) {
+			assertEquals(3, t.getPointCount());
+			area += t.getArea();
+		}
+		assertEquals(p.getArea(), area, PRECISION_FRACTION);
+	}
+
 	@Test
 	public void test_intersects_Ellipse() {
 		assertTrue(RHOMB.touches(new Ellipse(0, 0, 4, 4)));
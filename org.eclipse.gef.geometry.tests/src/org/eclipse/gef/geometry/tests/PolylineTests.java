@@ -55,6 +55,18 @@ public class PolylineTests {
 		assertEquals(POLYLINE, new Polyline(points.toArray(new Point[] {})));
 	}
 
+	@Test
+	public void test_getPointCount_getX_getY() {
+		Polyline polyline = new Polyline(1, 2, 3, 4, 5, 6);
+		assertEquals(3, polyline.getPointCount());
+		for (int i = 0; i < polyline.getPointCount(); i++) {
+			assertEquals(2 * i + 1, polyline.getX(i), 0);
+			assertEquals(2 * i + 2, polyline.getY(i), 0);
+		}
+		assertEquals(polyline.getX1(), polyline.getX(0), 0);
+		assertEquals(polyline.getY2(), polyline.getY(2), 0);
+	}
+
 	@Test
 	public void test_toBezier() {
 		Line[] beziers = new Polyline(new double[] {}).toBezier();
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.gef.geometry.tests;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -101,6 +102,47 @@ public class PrecisionUtilsTests {
 				PrecisionUtils.greaterEqual(-PRECISION_FRACTION - unrec, 0));
 	}
 
+	@Test
+	public void test_orientation() {
+		assertEquals(1, PrecisionUtils.orientation(0, 0, 1, 0, 0, 1));
+		assertEquals(-1, PrecisionUtils.orientation(0, 0, 0, 1, 1, 0));
+		assertEquals(0, PrecisionUtils.orientation(0, 0, 1, 1, 2, 2));
+
+		// nearly collinear points, for which the naive evaluation of the
+		// determinant is dominated by rounding errors
+		assertEquals(0, PrecisionUtils.orientation(0.5, 0.5, 12, 12, 24, 24));
+		assertEquals(1, PrecisionUtils.orientation(0.5, 0.5, 12, 12, 24,
+				Math.nextUp(24.0)));
+		assertEquals(-1, PrecisionUtils.orientation(0.5, 0.5, 12, 12, 24,
+				Math.nextDown(24.0)));
+		assertEquals(1, PrecisionUtils.orientation(1e15, 1e15, 1e15 + 1,
+				1e15 + 1, 1e15 + 2, 1e15 + 2.125));
+		assertEquals(0, PrecisionUtils.orientation(0.1, 0.1, 0.3, 0.3, 0.7,
+				0.7));
+
+		// the orientation does not depend on the precision shift
+		assertEquals(1, PrecisionUtils.orientation(0, 0, 1, 0, 0.5,
+				UNRECOGNIZABLE_FRACTION));
+	}
+
+	@Test
+	public void test_segmentsIntersect() {
+		// crossing
+		assertTrue(PrecisionUtils.segmentsIntersect(0, 0, 2, 2, 0, 2, 2, 0));
+		// touching at an end point
+		assertTrue(PrecisionUtils.segmentsIntersect(0, 0, 2, 2, 1, 1, 3, 0));
+		assertTrue(PrecisionUtils.segmentsIntersect(0, 0, 2, 2, 2, 2, 3, 0));
+		// collinear and overlapping
+		assertTrue(PrecisionUtils.segmentsIntersect(0, 0, 2, 2, 1, 1, 3, 3));
+		// collinear and disjoint
+		assertFalse(PrecisionUtils.segmentsIntersect(0, 0, 1, 1, 2, 2, 3, 3));
+		// parallel
+		assertFalse(PrecisionUtils.segmentsIntersect(0, 0, 2, 0, 0, 1, 2, 1));
+		// disjoint, but within the precision shift
+		assertFalse(PrecisionUtils.segmentsIntersect(0, 0, 2, 0, 1,
+				UNRECOGNIZABLE_FRACTION, 1, 1));
+	}
+
 	@Test
 	public void test_smaller() {
 		double unrec = UNRECOGNIZABLE_FRACTION;
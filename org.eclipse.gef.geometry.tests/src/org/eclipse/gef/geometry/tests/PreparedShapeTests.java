@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.gef.geometry.planar.CubicCurve;
+import org.eclipse.gef.geometry.planar.CurvedPolygon;
+import org.eclipse.gef.geometry.planar.Line;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Polygon;
+import org.eclipse.gef.geometry.planar.PreparedShape;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.eclipse.gef.geometry.planar.Ring;
+import org.junit.Test;
+
+public class PreparedShapeTests {
+
+	private static void assertSameContainment(Polygon polygon) {
+		PreparedShape prepared = new PreparedShape(polygon);
+		Rectangle bounds = polygon.getBounds().expand(1, 1);
+		Point bottomRight = bounds.getBottomRight();
+		for (double x = bounds.getX(); x <= bottomRight.x; x += 0.5) {
+			for (double y = bounds.getY(); y <= bottomRight.y; y += 0.5) {
+				assertEquals("(" + x + ", " + y + ")",
+						polygon.contains(new Point(x, y)),
+						prepared.contains(x, y));
+			}
+		}
+	}
+
+	@Test
+	public void test_contains_concave() {
+		assertSameContainment(new Polygon(0, 0, 10, 0, 10, 10, 5, 3, 0, 10));
+		assertSameContainment(
+				new Polygon(0, 0, 4, 0, 4, 4, 3, 4, 3, 1, 1, 1, 1, 4, 0, 4));
+	}
+
+	@Test
+	public void test_contains_degenerated() {
+		PreparedShape empty = new PreparedShape(new Polygon(new Point[] {}));
+		assertFalse(empty.contains(0, 0));
+		assertEquals(new Rectangle(), empty.getBounds());
+
+		PreparedShape point = new PreparedShape(new Polygon(new Point(1, 1)));
+		assertTrue(point.contains(1, 1));
+		assertFalse(point.contains(1, 2));
+
+		PreparedShape line = new PreparedShape(new Polygon(0, 0, 4, 4));
+		assertTrue(line.contains(2, 2));
+		assertFalse(line.contains(2, 3));
+	}
+
+	@Test
+	public void test_contains_rectangle() {
+		PreparedShape prepared = new PreparedShape(
+				new Rectangle(0, 0, 10, 5).toPolygon());
+		assertEquals(new Rectangle(0, 0, 10, 5), prepared.getBounds());
+		assertTrue(prepared.contains(5, 2));
+		// outline is contained
+		assertTrue(prepared.contains(0, 0));
+		assertTrue(prepared.contains(10, 5));
+		assertTrue(prepared.contains(5, 0));
+		assertTrue(prepared.contains(10, 2));
+		assertFalse(prepared.contains(11, 2));
+		assertFalse(prepared.contains(5, -1));
+	}
+
+	@Test
+	public void test_contains_self_intersecting() {
+		// bow tie
+		assertSameContainment(new Polygon(0, 0, 10, 10, 10, 0, 0, 10));
+		// pentagram (even-odd leaves the center empty)
+		Polygon star = new Polygon(5, 0, 8, 10, 0, 4, 10, 4, 2, 10);
+		assertSameContainment(star);
+		assertFalse(new PreparedShape(star).contains(5, 5));
+	}
+
+	@Test
+	public void test_contains_CurvedPolygon() {
+		CurvedPolygon curvedPolygon = new CurvedPolygon(
+				new CubicCurve(0, 0, 50, -30, 100, 30, 100, 100),
+				new Line(100, 100, 0, 100), new Line(0, 100, 0, 0));
+		PreparedShape prepared = new PreparedShape(curvedPolygon, 0.01);
+		for (double x = -7.5; x <= 110; x += 5) {
+			for (double y = -17.5; y <= 110; y += 5) {
+				assertEquals(curvedPolygon.contains(new Point(x, y)),
+						prepared.contains(x, y));
+			}
+		}
+		// outline is contained
+		assertTrue(prepared.contains(0, 50));
+		assertTrue(prepared.contains(50, 100));
+		assertTrue(prepared.contains(100, 100));
+		assertFalse(prepared.contains(-5, 100));
+	}
+
+	@Test
+	public void test_contains_Ring() {
+		Ring ring = new Ring(new Polygon(0, 0, 4, 0, 4, 4, 0, 4),
+				new Polygon(10, 0, 6, 0, 6, 4, 10, 4));
+		PreparedShape prepared = new PreparedShape(ring);
+		for (double x = -1; x <= 11; x += 0.5) {
+			for (double y = -1; y <= 5; y += 0.5) {
+				assertEquals(ring.contains(new Point(x, y)),
+						prepared.contains(x, y));
+			}
+		}
+	}
+
+}
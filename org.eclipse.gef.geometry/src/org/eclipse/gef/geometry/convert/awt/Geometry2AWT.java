@@ -79,21 +79,20 @@ public class Geometry2AWT {
 		Path2D.Double path = new Path2D.Double(
 				p.getWindingRule() == Path.WIND_EVEN_ODD ? Path2D.WIND_EVEN_ODD
 						: Path2D.WIND_NON_ZERO);
-		for (Segment s : p.getSegments()) {
-			Point[] points = s.getPoints();
+		for (Segment s : p.getSegmentsUnmodifiable()) {
 			switch (s.getType()) {
 			case Segment.MOVE_TO:
-				path.moveTo(points[0].x, points[0].y);
+				path.moveTo(s.getX(0), s.getY(0));
 				break;
 			case Segment.LINE_TO:
-				path.lineTo(points[0].x, points[0].y);
+				path.lineTo(s.getX(0), s.getY(0));
 				break;
 			case Segment.QUAD_TO:
-				path.quadTo(points[0].x, points[0].y, points[1].x, points[1].y);
+				path.quadTo(s.getX(0), s.getY(0), s.getX(1), s.getY(1));
 				break;
 			case Segment.CUBIC_TO:
-				path.curveTo(points[0].x, points[0].y, points[1].x, points[1].y,
-						points[2].x, points[2].y);
+				path.curveTo(s.getX(0), s.getY(0), s.getX(1), s.getY(1),
+						s.getX(2), s.getY(2));
 				break;
 			case Segment.CLOSE:
 				path.closePath();
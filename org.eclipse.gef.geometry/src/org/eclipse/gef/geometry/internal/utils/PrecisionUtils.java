@@ -31,6 +31,16 @@ public class PrecisionUtils {
 	 */
 	private static final int DEFAULT_SCALE = 6;
 
+	/*
+	 * Half of the machine epsilon, i.e. the largest relative rounding error
+	 * of a double operation, and the constants derived from it, which are
+	 * used by the exact orientation test.
+	 */
+	private static final double EPSILON = Math.ulp(1.0) / 2;
+	private static final double SPLITTER = (1 << 27) + 1.0;
+	private static final double ORIENTATION_ERROR_BOUND = (3.0
+			+ 16.0 * EPSILON) * EPSILON;
+
 	/**
 	 * Computes the smallest double that is yet recognizable (by comparison)
 	 * when shifting the default scale up by the given amount.
@@ -155,6 +165,187 @@ public class PrecisionUtils {
 		return d1 + calculateFraction(shift) >= d2;
 	}
 
+	/**
+	 * Determines the orientation of the point c relative to the directed line
+	 * through the points a and b, i.e. the sign of the cross product
+	 * <code>(b - a) x (c - a)</code>. In contrast to the other methods of this
+	 * class, the result is exact, i.e. it does not depend on a precision
+	 * shift.
+	 * <p>
+	 * The determinant is first evaluated in double precision, which is
+	 * sufficient unless its magnitude is below the rounding error bound (see
+	 * J. R. Shewchuk, "Adaptive Precision Floating-Point Arithmetic and Fast
+	 * Robust Geometric Predicates"). Only in this (rare) case it is
+	 * re-evaluated using exact floating-point expansions.
+	 *
+	 * @param ax
+	 *            the x coordinate of a
+	 * @param ay
+	 *            the y coordinate of a
+	 * @param bx
+	 *            the x coordinate of b
+	 * @param by
+	 *            the y coordinate of b
+	 * @param cx
+	 *            the x coordinate of c
+	 * @param cy
+	 *            the y coordinate of c
+	 * @return <code>1</code> if the cross product is positive,
+	 *         <code>-1</code> if it is negative, or <code>0</code> if the three
+	 *         points are collinear
+	 */
+	public static final int orientation(double ax, double ay, double bx,
+			double by, double cx, double cy) {
+		double detLeft = (ax - cx) * (by - cy);
+		double detRight = (ay - cy) * (bx - cx);
+		double det = detLeft - detRight;
+
+		double detSum;
+		if (detLeft > 0) {
+			if (detRight <= 0) {
+				return det > 0 ? 1 : det < 0 ? -1 : 0;
+			}
+			detSum = detLeft + detRight;
+		} else if (detLeft < 0) {
+			if (detRight >= 0) {
+				return det > 0 ? 1 : det < 0 ? -1 : 0;
+			}
+			detSum = -detLeft - detRight;
+		} else {
+			return det > 0 ? 1 : det < 0 ? -1 : 0;
+		}
+
+		double errorBound = ORIENTATION_ERROR_BOUND * detSum;
+		if (det >= errorBound) {
+			return 1;
+		} else if (-det >= errorBound) {
+			return -1;
+		}
+		return orientationExact(ax, ay, bx, by, cx, cy);
+	}
+
+	/**
+	 * Evaluates the orientation determinant exactly, by summing up the six
+	 * coordinate products as a non-overlapping floating-point expansion. The
+	 * sign of such an expansion is the sign of its largest component.
+	 */
+	private static int orientationExact(double ax, double ay, double bx,
+			double by, double cx, double cy) {
+		double[] expansion = new double[12];
+		int length = 0;
+		length = growExpansionByProduct(expansion, length, ax, by);
+		length = growExpansionByProduct(expansion, length, -ax, cy);
+		length = growExpansionByProduct(expansion, length, -cx, by);
+		length = growExpansionByProduct(expansion, length, -ay, bx);
+		length = growExpansionByProduct(expansion, length, ay, cx);
+		length = growExpansionByProduct(expansion, length, cy, bx);
+		if (length == 0) {
+			return 0;
+		}
+		return expansion[length - 1] > 0 ? 1 : -1;
+	}
+
+	/**
+	 * Adds the given value to the non-overlapping expansion that is stored in
+	 * the first <i>length</i> elements of the given array (ordered by
+	 * increasing magnitude). Zero components are eliminated.
+	 */
+	private static int growExpansion(double[] expansion, int length,
+			double value) {
+		double q = value;
+		int newLength = 0;
+		for (int i = 0; i < length; i++) {
+			// two-sum: q + expansion[i] == sum + tail (exactly)
+			double e = expansion[i];
+			double sum = q + e;
+			double eVirtual = sum - q;
+			double qVirtual = sum - eVirtual;
+			double tail = (q - qVirtual) + (e - eVirtual);
+			q = sum;
+			if (tail != 0) {
+				expansion[newLength++] = tail;
+			}
+		}
+		if (q != 0) {
+			expansion[newLength++] = q;
+		}
+		return newLength;
+	}
+
+	/**
+	 * Adds the exact product of the given values to the given expansion (see
+	 * {@link #growExpansion(double[], int, double)}).
+	 */
+	private static int growExpansionByProduct(double[] expansion, int length,
+			double a, double b) {
+		// two-product: a * b == product + tail (exactly)
+		double product = a * b;
+		double c = SPLITTER * a;
+		double aHi = c - (c - a);
+		double aLo = a - aHi;
+		c = SPLITTER * b;
+		double bHi = c - (c - b);
+		double bLo = b - bHi;
+		double error = ((product - aHi * bHi) - aLo * bHi) - aHi * bLo;
+		double tail = aLo * bLo - error;
+		return growExpansion(expansion,
+				growExpansion(expansion, length, tail), product);
+	}
+
+	/**
+	 * Tests whether the two closed line segments a-b and c-d intersect, i.e.
+	 * whether they have at least one point in common. The test is based on
+	 * {@link #orientation(double, double, double, double, double, double)},
+	 * and is therefore exact.
+	 *
+	 * @param ax
+	 *            the x coordinate of a
+	 * @param ay
+	 *            the y coordinate of a
+	 * @param bx
+	 *            the x coordinate of b
+	 * @param by
+	 *            the y coordinate of b
+	 * @param cx
+	 *            the x coordinate of c
+	 * @param cy
+	 *            the y coordinate of c
+	 * @param dx
+	 *            the x coordinate of d
+	 * @param dy
+	 *            the y coordinate of d
+	 * @return <code>true</code> if the segments intersect (or touch),
+	 *         otherwise <code>false</code>
+	 */
+	public static final boolean segmentsIntersect(double ax, double ay,
+			double bx, double by, double cx, double cy, double dx,
+			double dy) {
+		int abc = orientation(ax, ay, bx, by, cx, cy);
+		int abd = orientation(ax, ay, bx, by, dx, dy);
+		int cda = orientation(cx, cy, dx, dy, ax, ay);
+		int cdb = orientation(cx, cy, dx, dy, bx, by);
+		if (abc * abd < 0 && cda * cdb < 0) {
+			// proper crossing
+			return true;
+		}
+		// touching, i.e. an end point lies on the other segment
+		return abc == 0 && withinBounds(ax, ay, bx, by, cx, cy)
+				|| abd == 0 && withinBounds(ax, ay, bx, by, dx, dy)
+				|| cda == 0 && withinBounds(cx, cy, dx, dy, ax, ay)
+				|| cdb == 0 && withinBounds(cx, cy, dx, dy, bx, by);
+	}
+
+	/**
+	 * Tests whether the point p lies within the bounds of the segment a-b.
+	 * For a point that is collinear with a and b, this is equivalent to
+	 * lying on the segment.
+	 */
+	private static boolean withinBounds(double ax, double ay, double bx,
+			double by, double px, double py) {
+		return Math.min(ax, bx) <= px && px <= Math.max(ax, bx)
+				&& Math.min(ay, by) <= py && py <= Math.max(ay, by);
+	}
+
 	/**
 	 * @see PrecisionUtils#smaller(double, double, int)
 	 * @param d1
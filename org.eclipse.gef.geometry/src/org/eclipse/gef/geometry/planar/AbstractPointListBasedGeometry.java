@@ -105,6 +105,18 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 		return PointListUtils.toCoordinatesArray(points);
 	}
 
+	/**
+	 * Returns the number of {@link Point}s that make up this
+	 * {@link AbstractPointListBasedGeometry}. In contrast to
+	 * <code>getPoints().length</code>, no {@link Point}s are copied.
+	 *
+	 * @return the number of {@link Point}s of this
+	 *         {@link AbstractPointListBasedGeometry}
+	 */
+	public final int getPointCount() {
+		return points.length;
+	}
+
 	/**
 	 * Returns a copy of the {@link Point}s that make up this
 	 * {@link AbstractPointListBasedGeometry}.
@@ -194,6 +206,32 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 		return (T) ((T) getCopy()).translate(pt);
 	}
 
+	/**
+	 * Returns the x coordinate of the {@link Point} with the given index,
+	 * without copying any {@link Point}s (as {@link #getPoints()} would do).
+	 *
+	 * @param index
+	 *            the index of the {@link Point}, in the range
+	 *            <code>[0, getPointCount())</code>
+	 * @return the x coordinate of the {@link Point} with the given index
+	 */
+	public final double getX(int index) {
+		return points[index].x;
+	}
+
+	/**
+	 * Returns the y coordinate of the {@link Point} with the given index,
+	 * without copying any {@link Point}s (as {@link #getPoints()} would do).
+	 *
+	 * @param index
+	 *            the index of the {@link Point}, in the range
+	 *            <code>[0, getPointCount())</code>
+	 * @return the y coordinate of the {@link Point} with the given index
+	 */
+	public final double getY(int index) {
+		return points[index].y;
+	}
+
 	/**
 	 * Rotates this {@link AbstractPointListBasedGeometry} counter-clockwise
 	 * (CCW) by the given {@link Angle} around its centroid (see
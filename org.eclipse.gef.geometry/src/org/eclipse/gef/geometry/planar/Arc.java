@@ -110,6 +110,15 @@ public final class Arc extends AbstractArcBasedGeometry<Arc, PolyBezier>
 				&& startAngle.equals(o.startAngle);
 	}
 
+	@Override
+	public void flatten(double tolerance, CoordinateBuffer sink) {
+		CubicCurve[] segments = computeBezierApproximation();
+		segments[0].flatten(tolerance, sink);
+		for (int i = 1; i < segments.length; i++) {
+			segments[i].flattenTail(tolerance, sink);
+		}
+	}
+
 	@Override
 	public Rectangle getBounds() {
 		return new PolyBezier(toBezier()).getBounds();
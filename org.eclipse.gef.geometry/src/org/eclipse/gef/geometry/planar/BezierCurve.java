@@ -20,6 +20,7 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -31,8 +32,6 @@ import org.eclipse.gef.geometry.euclidean.Straight;
 import org.eclipse.gef.geometry.euclidean.Vector;
 import org.eclipse.gef.geometry.internal.utils.PointListUtils;
 import org.eclipse.gef.geometry.internal.utils.PrecisionUtils;
-import org.eclipse.gef.geometry.projective.Straight3D;
-import org.eclipse.gef.geometry.projective.Vector3D;
 
 /**
  * <p>
@@ -654,60 +653,6 @@ public class BezierCurve extends AbstractGeometry
 		}
 	}
 
-	/**
-	 * <p>
-	 * A {@link FatLine} combines a {@link Straight3D} with a positive and
-	 * negative distance called dmax and dmin, respectively.
-	 * </p>
-	 * <p>
-	 * It is used to apply a geometric clipping algorithm for finding
-	 * {@link Point}s of intersection on two {@link BezierCurve}s. One of the
-	 * {@link BezierCurve}s is bounded by a {@link FatLine} so that the other
-	 * {@link BezierCurve} can be clipped against that {@link FatLine}.
-	 * </p>
-	 */
-	private static class FatLine {
-
-		public static FatLine from(BezierCurve c, boolean ortho) {
-			FatLine L = new FatLine();
-			L.dmin = L.dmax = 0;
-
-			L.line = Straight3D.through(c.points[0],
-					c.points[c.points.length - 1]);
-			if (L.line == null) {
-				return null;
-			}
-
-			if (ortho) {
-				L.line = L.line.getOrtho();
-			}
-			if (L.line == null) {
-				return null;
-			}
-
-			for (int i = 0; i < c.points.length; i++) {
-				double d = L.line.getSignedDistanceCW(c.points[i]);
-				if (d < L.dmin) {
-					L.dmin = d;
-				} else if (d > L.dmax) {
-					L.dmax = d;
-				}
-			}
-
-			return L;
-		}
-
-		public Straight3D line;
-
-		public double dmin, dmax;
-
-		private FatLine() {
-			line = null;
-			dmin = dmax = 0;
-		}
-
-	}
-
 	/**
 	 * An {@link Interval} records a lower and an upper limit that define the
 	 * mathematical interval [a;b] (inclusively). It is used to represent
@@ -875,8 +820,24 @@ public class BezierCurve extends AbstractGeometry
 		 *         its old parameter range
 		 */
 		public double scaleTo(Interval interval) {
-			double na = a + interval.a * (b - a);
-			double nb = a + interval.b * (b - a);
+			return scaleTo(interval.a, interval.b);
+		}
+
+		/**
+		 * Scales this {@link Interval} to the interval <code>[ia;ib]</code>,
+		 * which specifies the new upper and lower bounds of this
+		 * {@link Interval} in percent (see {@link #scaleTo(Interval)}).
+		 *
+		 * @param ia
+		 *            the new lower bound in percent
+		 * @param ib
+		 *            the new upper bound in percent
+		 * @return the ratio of this {@link Interval}'s new parameter range to
+		 *         its old parameter range
+		 */
+		public double scaleTo(double ia, double ib) {
+			double na = a + ia * (b - a);
+			double nb = a + ib * (b - a);
 			double ratio = (nb - na) / (b - a);
 			a = na;
 			b = nb;
@@ -927,14 +888,6 @@ public class BezierCurve extends AbstractGeometry
 			dst.qi = src.qi;
 		}
 
-		private static boolean equals(Vector3D v1, Vector3D v2,
-				int precisionShift) {
-			return PrecisionUtils.equal(v1.x / v1.z, v2.x / v2.z,
-					precisionShift)
-					&& PrecisionUtils.equal(v1.y / v1.z, v2.y / v2.z,
-							precisionShift);
-		}
-
 		/**
 		 * The first {@link BezierCurve}.
 		 */
@@ -1002,9 +955,9 @@ public class BezierCurve extends AbstractGeometry
 		 */
 		public boolean converges(int shift) {
 			return (pi.converges(shift)
-					|| equals(p.getHC(pi.a), p.getHC(pi.b), shift))
+					|| p.equalPoints(pi.a, pi.b, shift))
 					&& (qi.converges(shift)
-							|| equals(q.getHC(qi.a), q.getHC(qi.b), shift));
+							|| q.equalPoints(qi.a, qi.b, shift));
 		}
 
 		/**
@@ -1015,7 +968,7 @@ public class BezierCurve extends AbstractGeometry
 		 *         point, otherwise <code>false</code>.
 		 */
 		public boolean convergesP() {
-			return equals(p.getHC(pi.a), p.getHC(pi.b), 0);
+			return p.equalPoints(pi.a, pi.b, 0);
 		}
 
 		/**
@@ -1026,7 +979,7 @@ public class BezierCurve extends AbstractGeometry
 		 *         single point, otherwise <code>false</code>.
 		 */
 		public boolean convergesQ() {
-			return equals(q.getHC(qi.a), q.getHC(qi.b), 0);
+			return q.equalPoints(qi.a, qi.b, 0);
 		}
 
 		/**
@@ -1047,6 +1000,34 @@ public class BezierCurve extends AbstractGeometry
 			}
 		}
 
+		/**
+		 * Writes the control points of the first sub-curve of this
+		 * {@link IntervalPair} (see {@link #getPClipped()}) to the given
+		 * array.
+		 *
+		 * @param dst
+		 *            the array to store the control point coordinates in
+		 * @return the number of control points of the first sub-curve
+		 */
+		public int clipP(double[] dst) {
+			return BezierKernel.clip(p.coords, p.getPointCount(),
+					Math.max(pi.a, 0), Math.min(pi.b, 1), dst);
+		}
+
+		/**
+		 * Writes the control points of the second sub-curve of this
+		 * {@link IntervalPair} (see {@link #getQClipped()}) to the given
+		 * array.
+		 *
+		 * @param dst
+		 *            the array to store the control point coordinates in
+		 * @return the number of control points of the second sub-curve
+		 */
+		public int clipQ(double[] dst) {
+			return BezierKernel.clip(q.coords, q.getPointCount(),
+					Math.max(qi.a, 0), Math.min(qi.b, 1), dst);
+		}
+
 		/**
 		 * Returns a copy of this {@link IntervalPair}. The underlying
 		 * {@link BezierCurve}s are only shallow copied. The corresponding
@@ -1144,6 +1125,19 @@ public class BezierCurve extends AbstractGeometry
 		public boolean isPLonger() {
 			return (pi.b - pi.a) > (qi.b - qi.a);
 		}
+
+		/**
+		 * Swaps the {@link BezierCurve}s and their parameter {@link Interval}s
+		 * of this {@link IntervalPair} in-place (see {@link #getSwapped()}).
+		 */
+		public void swap() {
+			BezierCurve c = p;
+			p = q;
+			q = c;
+			Interval i = pi;
+			pi = qi;
+			qi = i;
+		}
 	}
 
 	private static class LocalIntersectionOffsetRefiner {
@@ -1391,47 +1385,90 @@ public class BezierCurve extends AbstractGeometry
 			this.containmentEpsilon = containmentEpsilon;
 		}
 
+		/**
+		 * Determines the pairs of offset segments that may intersect, i.e. the
+		 * pairs of segments with touching control bounds. Instead of testing
+		 * all pairs, the control bounds are sorted by their minimum x
+		 * coordinate, so that only segments that overlap in x direction need
+		 * to be compared (sweep). The pairs are encoded as
+		 * <code>(i &lt;&lt; 32) | j</code> with <code>i &lt; j</code>, and
+		 * are returned in ascending order, i.e. in the order in which they
+		 * would be processed when iterating over all pairs.
+		 */
+		private static long[] findCandidatePairs(List<BezierCurve> curves) {
+			int n = curves.size();
+			Rectangle[] bounds = new Rectangle[n];
+			Integer[] order = new Integer[n];
+			for (int i = 0; i < n; i++) {
+				bounds[i] = curves.get(i).getControlBounds();
+				order[i] = i;
+			}
+			Arrays.sort(order, (p, q) -> Double.compare(bounds[p].getX(),
+					bounds[q].getX()));
+
+			long[] pairs = new long[Math.max(16, n)];
+			int count = 0;
+			for (int a = 0; a < n; a++) {
+				Rectangle ra = bounds[order[a]];
+				double maxX = ra.getX() + ra.getWidth();
+				for (int b = a + 1; b < n && PrecisionUtils
+						.smallerEqual(bounds[order[b]].getX(), maxX); b++) {
+					int i = Math.min(order[a], order[b]);
+					int j = Math.max(order[a], order[b]);
+					if (bounds[i].touches(bounds[j])) {
+						if (count == pairs.length) {
+							pairs = Arrays.copyOf(pairs, 2 * count);
+						}
+						pairs[count++] = (long) i << 32 | j;
+					}
+				}
+			}
+			pairs = Arrays.copyOf(pairs, count);
+			Arrays.sort(pairs);
+			return pairs;
+		}
+
 		public PolyBezier refine(OffsetApproximation oa) {
 			// record intersections in the offset that need to be removed
 			List<BezierCurve> approxOffset = oa.getApproximatedOffsetCurve();
 			List<Intersection> offsetIntersections = new ArrayList<>();
-			for (int i = 0; i < approxOffset.size() - 1; i++) {
+			for (long pair : findCandidatePairs(approxOffset)) {
+				int i = (int) (pair >>> 32);
+				int j = (int) pair;
 				BezierCurve a = approxOffset.get(i);
-				for (int j = i + 1; j < approxOffset.size(); j++) {
-					BezierCurve b = approxOffset.get(j);
-					Point[] intersections = curveIntersector
-							.getIntersections(a, b).toArray(new Point[0]);
-					if (intersections.length > 0) {
-						// compute intersection clip parameters
-						double minA = 1, maxB = 0;
-						for (int k = 0; k < intersections.length; k++) {
-							double ta = a.getParameterAt(
-									a.getProjection(intersections[k]));
-							double tb = b.getParameterAt(
-									b.getProjection(intersections[k]));
-							if (ta < minA) {
-								minA = ta;
-							}
-							if (tb > maxB) {
-								maxB = tb;
-							}
-						}
-
-						// disregard start/end intersections
-						if (j == i + 1 && intersections.length == 1
-								&& minA > (1 - endParamPercentage)
-								&& maxB < endParamPercentage) {
-							continue;
+				BezierCurve b = approxOffset.get(j);
+				Point[] intersections = curveIntersector
+						.getIntersections(a, b).toArray(new Point[0]);
+				if (intersections.length > 0) {
+					// compute intersection clip parameters
+					double minA = 1, maxB = 0;
+					for (int k = 0; k < intersections.length; k++) {
+						double ta = a.getParameterAt(
+								a.getProjection(intersections[k]));
+						double tb = b.getParameterAt(
+								b.getProjection(intersections[k]));
+						if (ta < minA) {
+							minA = ta;
 						}
-						// disregard global intersections
-						if (globalIntersectionDetector.isGlobalIntersection(oa,
-								i, j)) {
-							continue;
+						if (tb > maxB) {
+							maxB = tb;
 						}
+					}
 
-						offsetIntersections
-								.add(new Intersection(i, minA, j, maxB));
+					// disregard start/end intersections
+					if (j == i + 1 && intersections.length == 1
+							&& minA > (1 - endParamPercentage)
+							&& maxB < endParamPercentage) {
+						continue;
+					}
+					// disregard global intersections
+					if (globalIntersectionDetector.isGlobalIntersection(oa,
+							i, j)) {
+						continue;
 					}
+
+					offsetIntersections
+							.add(new Intersection(i, minA, j, maxB));
 				}
 			}
 
@@ -1607,10 +1644,88 @@ public class BezierCurve extends AbstractGeometry
 		}
 	}
 
+	/**
+	 * A bounded cache for the results of {@link BezierCurve#getOffset(double)}
+	 * that is keyed by the control point coordinates and the offset distance,
+	 * so that the offset of equal curves is only computed once. If the
+	 * capacity is exceeded, the least recently used entry is evicted.
+	 */
+	private static class OffsetCache {
+
+		private static class Key {
+			private final double[] coords;
+			private final double distance;
+			private final int hashCode;
+
+			public Key(double[] coords, double distance) {
+				this.coords = coords;
+				this.distance = distance;
+				hashCode = 31 * Arrays.hashCode(coords)
+						+ Double.hashCode(distance);
+			}
+
+			@Override
+			public boolean equals(Object obj) {
+				if (!(obj instanceof Key)) {
+					return false;
+				}
+				Key o = (Key) obj;
+				return Double.compare(distance, o.distance) == 0
+						&& Arrays.equals(coords, o.coords);
+			}
+
+			@Override
+			public int hashCode() {
+				return hashCode;
+			}
+		}
+
+		private static final int DEFAULT_CAPACITY = 128;
+
+		private final Map<Key, PolyBezier> entries;
+
+		public OffsetCache() {
+			this(DEFAULT_CAPACITY);
+		}
+
+		public OffsetCache(final int capacity) {
+			entries = new LinkedHashMap<Key, PolyBezier>(16, 0.75f, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(
+						Map.Entry<Key, PolyBezier> eldest) {
+					return size() > capacity;
+				}
+			};
+		}
+
+		/**
+		 * Returns the cached offset for the given control point coordinates
+		 * and offset distance, or <code>null</code> if no offset is cached.
+		 * The returned {@link PolyBezier} is shared and may not be modified.
+		 */
+		public synchronized PolyBezier get(double[] coords, double distance) {
+			return entries.get(new Key(coords, distance));
+		}
+
+		/**
+		 * Caches the given offset for the given control point coordinates and
+		 * offset distance. The coordinates array and the offset may not be
+		 * modified afterwards.
+		 */
+		public synchronized void put(double[] coords, double distance,
+				PolyBezier offset) {
+			entries.put(new Key(coords, distance), offset);
+		}
+	}
+
 	private static final long serialVersionUID = 1L;
 
 	private static final int CHUNK_SHIFT = -3;
 
+	private static final OffsetCache OFFSET_CACHE = new OffsetCache();
+
 	private static final boolean ORTHOGONAL = true;
 
 	private static final boolean PARALLEL = false;
@@ -1666,6 +1781,38 @@ public class BezierCurve extends AbstractGeometry
 		return PrecisionUtils.greaterEqual(p.y, q.y);
 	};
 
+	/**
+	 * Clips the curve represented by the given control points to both given
+	 * fat lines (see
+	 * {@link BezierKernel#clipTo(double[], int, double[], double[])}) and
+	 * stores the smaller of the resulting parameter intervals in the first two
+	 * entries of the given array.
+	 *
+	 * @param c
+	 *            the control point coordinates of the curve to clip
+	 * @param n
+	 *            the number of control points
+	 * @param l1
+	 *            the "parallel" fat line
+	 * @param l2
+	 *            the "orthogonal" fat line
+	 * @param intervals
+	 *            an array of (at least) two values to store the resulting
+	 *            interval in
+	 */
+	private static void clipToFatLines(double[] c, int n, double[] l1,
+			double[] l2, double[] intervals) {
+		BezierKernel.clipTo(c, n, l1, intervals);
+		double a = intervals[0];
+		double b = intervals[1];
+		BezierKernel.clipTo(c, n, l2, intervals);
+		// pick smaller interval range (see Interval#min(Interval, Interval))
+		if (!((b - a) > (intervals[1] - intervals[0]))) {
+			intervals[0] = a;
+			intervals[1] = b;
+		}
+	}
+
 	/**
 	 * <p>
 	 * Clusters consecutive {@link IntervalPair}s into a new array of
@@ -1757,36 +1904,8 @@ public class BezierCurve extends AbstractGeometry
 	 */
 	private static boolean containmentParameter(BezierCurve c,
 			double[] interval, Point p) {
-		Stack<Interval> parts = new Stack<>();
-		parts.push(new Interval(interval));
-		while (!parts.empty()) {
-			Interval i = parts.pop();
-
-			if (i.converges(1)) {
-				interval[0] = i.a;
-				interval[1] = i.b;
-				break;
-			}
-
-			double iMid = i.getMid();
-			Interval left = new Interval(i.a, iMid);
-			Interval right = new Interval(iMid, i.b);
-
-			BezierCurve clipped = c.getClipped(left.a, left.b);
-			Rectangle bounds = clipped.getControlBounds();
-
-			if (bounds.contains(p)) {
-				parts.push(left);
-			}
-
-			clipped = c.getClipped(right.a, right.b);
-			bounds = clipped.getControlBounds();
-
-			if (bounds.contains(p)) {
-				parts.push(right);
-			}
-		}
-		return PrecisionUtils.equal(interval[0], interval[1], 1);
+		return BezierKernel.containmentParameter(c.coords, c.getPointCount(),
+				interval, p.x, p.y);
 	}
 
 	/**
@@ -1807,20 +1926,7 @@ public class BezierCurve extends AbstractGeometry
 	 *         {@link Line}
 	 */
 	private static double distanceToBaseLine(BezierCurve c) {
-		Straight3D baseLine = Straight3D.through(c.points[0],
-				c.points[c.points.length - 1]);
-
-		if (baseLine == null) {
-			return 0d;
-		}
-
-		double maxDistance = 0d;
-		for (int i = 1; i < c.points.length - 1; i++) {
-			maxDistance = Math.max(maxDistance,
-					Math.abs(baseLine.getSignedDistanceCW(c.points[i])));
-		}
-
-		return maxDistance;
+		return BezierKernel.distanceToBaseLine(c.coords, c.getPointCount());
 	}
 
 	/**
@@ -1915,7 +2021,7 @@ public class BezierCurve extends AbstractGeometry
 		final double CHUNK_SHIFT_EPSILON = PrecisionUtils
 				.calculateFraction(CHUNK_SHIFT);
 
-		Point poi = ip.p.points[0].toPoint();
+		Point poi = ip.p.getP1();
 		double[] interval = new double[] { 0, 1 };
 		if (containmentParameter(ip.q, interval, poi)) {
 			ip.pi.a = CHUNK_SHIFT_EPSILON;
@@ -1927,7 +2033,7 @@ public class BezierCurve extends AbstractGeometry
 			intersections.add(poi);
 		}
 
-		poi = ip.p.points[ip.p.points.length - 1].toPoint();
+		poi = ip.p.getP2();
 		interval[0] = 0;
 		interval[1] = 1;
 		if (containmentParameter(ip.q, interval, poi)) {
@@ -1940,7 +2046,7 @@ public class BezierCurve extends AbstractGeometry
 			intersections.add(poi);
 		}
 
-		poi = ip.q.points[0].toPoint();
+		poi = ip.q.getP1();
 		interval[0] = 0;
 		interval[1] = 1;
 		if (containmentParameter(ip.p, interval, poi)) {
@@ -1953,7 +2059,7 @@ public class BezierCurve extends AbstractGeometry
 			intersections.add(poi);
 		}
 
-		poi = ip.q.points[ip.q.points.length - 1].toPoint();
+		poi = ip.q.getP2();
 		interval[0] = 0;
 		interval[1] = 1;
 		if (containmentParameter(ip.p, interval, poi)) {
@@ -1990,63 +2096,74 @@ public class BezierCurve extends AbstractGeometry
 	 */
 	private static void findIntersectionChunks(IntervalPair ip,
 			Set<IntervalPair> intervalPairs, Set<Point> intersections) {
-		if (ip.converges(CHUNK_SHIFT)) {
-			intervalPairs.add(ip.getCopy());
-			return;
-		}
-
-		BezierCurve pClipped = ip.getPClipped();
-		BezierCurve qClipped = ip.getQClipped();
-
-		// construct "parallel" and "orthogonal" fat lines
-		FatLine L1 = FatLine.from(qClipped, PARALLEL);
-		FatLine L2 = FatLine.from(qClipped, ORTHOGONAL);
-
-		// curve implosion check
-		if (L1 == null || L2 == null) {
-			// q is degenerated
-			Point poi = ip.q.getHC(ip.qi.getMid()).toPoint();
-			double[] interval = new double[] { 0, 1 };
-			if (poi != null && containmentParameter(ip.p, interval, poi)) {
-				intersections.add(poi);
-			}
-			return;
-		}
-
-		// clip to the fat lines
-		Interval interval = new Interval(pClipped.clipTo(L1));
-		Interval intervalOrtho = new Interval(pClipped.clipTo(L2));
-
-		// pick smaller interval range
-		interval = Interval.min(interval, intervalOrtho);
+		BezierKernel.ScratchPool pool = BezierKernel.getScratchPool();
+		int mark = pool.mark();
+		try {
+			// the curves are swapped in-place, so that the buffers have to
+			// be large enough for both of them
+			int size = 2 * Math.max(ip.p.getPointCount(),
+					ip.q.getPointCount());
+			double[] pClipped = pool.acquire(size);
+			double[] qClipped = pool.acquire(size);
+			double[] l1 = pool.acquire(BezierKernel.FAT_LINE_SIZE);
+			double[] l2 = pool.acquire(BezierKernel.FAT_LINE_SIZE);
+			double[] intervals = pool.acquire(2);
+
+			while (true) {
+				if (ip.converges(CHUNK_SHIFT)) {
+					intervalPairs.add(ip.getCopy());
+					return;
+				}
 
-		// re-calculate s and e from the clipped interval
-		double ratio = ip.pi.scaleTo(interval);
+				int np = ip.clipP(pClipped);
+				int nq = ip.clipQ(qClipped);
+
+				// construct "parallel" and "orthogonal" fat lines
+				// and check for curve implosion
+				if (!BezierKernel.fatLine(qClipped, nq, PARALLEL, l1)
+						|| !BezierKernel.fatLine(qClipped, nq, ORTHOGONAL,
+								l2)) {
+					// q is degenerated
+					Point poi = ip.q.get(ip.qi.getMid());
+					double[] interval = new double[] { 0, 1 };
+					if (poi != null
+							&& containmentParameter(ip.p, interval, poi)) {
+						intersections.add(poi);
+					}
+					return;
+				}
 
-		if (ratio < 0) {
-			// no more intersections
-			return;
-		} else if (ratio > 0.8) {
-			/*
-			 * Split longer curve and find intersections for both halves. Add an
-			 * unrecognizable fraction to the beginning of the second parameter
-			 * interval, so that only one of the getIntersection() calls can
-			 * converge in the middle.
-			 */
-			if (ip.isPLonger()) {
-				IntervalPair[] nip = ip.getPSplit();
-				findIntersectionChunks(nip[0], intervalPairs, intersections);
-				findIntersectionChunks(nip[1], intervalPairs, intersections);
-			} else {
-				IntervalPair[] nip = ip.getQSplit();
-				findIntersectionChunks(nip[0], intervalPairs, intersections);
-				findIntersectionChunks(nip[1], intervalPairs, intersections);
+				// clip to the fat lines
+				clipToFatLines(pClipped, np, l1, l2, intervals);
+
+				// re-calculate s and e from the clipped interval
+				double ratio = ip.pi.scaleTo(intervals[0], intervals[1]);
+
+				if (ratio < 0) {
+					// no more intersections
+					return;
+				} else if (ratio > 0.8) {
+					/*
+					 * Split longer curve and find intersections for both
+					 * halves. Add an unrecognizable fraction to the beginning
+					 * of the second parameter interval, so that only one of
+					 * the getIntersection() calls can converge in the middle.
+					 */
+					IntervalPair[] nip = ip.isPLonger() ? ip.getPSplit()
+							: ip.getQSplit();
+					findIntersectionChunks(nip[0], intervalPairs,
+							intersections);
+					findIntersectionChunks(nip[1], intervalPairs,
+							intersections);
+					return;
+				} else {
+					// continue with swapped curves (the passed-in
+					// IntervalPair is not used by the caller anymore)
+					ip.swap();
+				}
 			}
-
-			return;
-		} else {
-			findIntersectionChunks(ip.getSwapped(), intervalPairs,
-					intersections);
+		} finally {
+			pool.release(mark);
 		}
 	}
 
@@ -2059,6 +2176,46 @@ public class BezierCurve extends AbstractGeometry
 	 *            of intersection on two {@link BezierCurve}s
 	 */
 	private static Point findSinglePreciseIntersection(IntervalPair ipIO) {
+		BezierKernel.ScratchPool pool = BezierKernel.getScratchPool();
+		int mark = pool.mark();
+		try {
+			int size = 2 * Math.max(ipIO.p.getPointCount(),
+					ipIO.q.getPointCount());
+			return findSinglePreciseIntersection(ipIO, pool.acquire(size),
+					pool.acquire(size),
+					pool.acquire(BezierKernel.FAT_LINE_SIZE),
+					pool.acquire(BezierKernel.FAT_LINE_SIZE),
+					pool.acquire(2));
+		} finally {
+			pool.release(mark);
+		}
+	}
+
+	/**
+	 * Searches for a single {@link Point} of intersection within the given
+	 * {@link IntervalPair} (see
+	 * {@link #findSinglePreciseIntersection(IntervalPair)}), using the given
+	 * scratch buffers.
+	 *
+	 * @param ipIO
+	 *            the {@link IntervalPair} that specifies a single {@link Point}
+	 *            of intersection on two {@link BezierCurve}s
+	 * @param pClipped
+	 *            buffer for the control points of the first sub-curve
+	 * @param qClipped
+	 *            buffer for the control points of the second sub-curve
+	 * @param l1
+	 *            buffer for the "parallel" fat line
+	 * @param l2
+	 *            buffer for the "orthogonal" fat line
+	 * @param interval
+	 *            buffer for the clipped parameter interval
+	 * @return the {@link Point} of intersection or <code>null</code> if none
+	 *         could be found
+	 */
+	private static Point findSinglePreciseIntersection(IntervalPair ipIO,
+			double[] pClipped, double[] qClipped, double[] l1, double[] l2,
+			double[] interval) {
 		Stack<IntervalPair> partStack = new Stack<>();
 		partStack.push(ipIO);
 
@@ -2066,22 +2223,22 @@ public class BezierCurve extends AbstractGeometry
 			IntervalPair ip = partStack.pop();
 
 			// quick check if intersections can be found
-			BezierCurve pClipped = ip.getPClipped();
-			BezierCurve qClipped = ip.getQClipped();
-			if (!pClipped.getControlBounds()
-					.touches(qClipped.getControlBounds())) {
+			int np = ip.clipP(pClipped);
+			int nq = ip.clipQ(qClipped);
+			if (!BezierKernel.controlBoundsTouch(pClipped, np, qClipped,
+					nq)) {
 				continue;
 			}
 
 			if (ip.convergesP()) {
-				Point p = ip.p.getHC(ip.pi.a).toPoint();
+				Point p = ip.p.get(ip.pi.a);
 				if (ip.q.contains(p)) {
 					return p;
 				}
 			}
 
 			if (ip.convergesQ()) {
-				Point q = ip.q.getHC(ip.qi.a).toPoint();
+				Point q = ip.q.get(ip.qi.a);
 				if (ip.p.contains(q)) {
 					return q;
 				}
@@ -2090,8 +2247,9 @@ public class BezierCurve extends AbstractGeometry
 			if (ip.converges()) {
 				// TODO: do another clipping algorithm here. the one that
 				// uses control bounds.
+				Point[] qPoints = ip.q.toPoints(ip.qi);
 				for (Point pp : ip.p.toPoints(ip.pi)) {
-					for (Point qp : ip.q.toPoints(ip.qi)) {
+					for (Point qp : qPoints) {
 						if (pp.equals(qp)) {
 							IntervalPair.copy(ipIO, ip);
 							return pp;
@@ -2101,14 +2259,12 @@ public class BezierCurve extends AbstractGeometry
 				continue;
 			}
 
-			// construct "parallel" and "orthogonal" fat lines
-			FatLine L1 = FatLine.from(qClipped, PARALLEL);
-			FatLine L2 = FatLine.from(qClipped, ORTHOGONAL);
-
-			// curve implosion check
-			if (L1 == null || L2 == null) {
+			// construct "parallel" and "orthogonal" fat lines and check for
+			// curve implosion
+			if (!BezierKernel.fatLine(qClipped, nq, PARALLEL, l1)
+					|| !BezierKernel.fatLine(qClipped, nq, ORTHOGONAL, l2)) {
 				// q is degenerated
-				Point poi = ip.q.getHC(ip.qi.getMid()).toPoint();
+				Point poi = ip.q.get(ip.qi.getMid());
 				if (ip.p.contains(poi)) {
 					IntervalPair.copy(ipIO, ip);
 					return poi;
@@ -2117,14 +2273,10 @@ public class BezierCurve extends AbstractGeometry
 			}
 
 			// clip to the fat lines
-			Interval interval = new Interval(pClipped.clipTo(L1));
-			Interval intervalOrtho = new Interval(pClipped.clipTo(L2));
-
-			// pick smaller interval range
-			interval = Interval.min(interval, intervalOrtho);
+			clipToFatLines(pClipped, np, l1, l2, interval);
 
 			// re-calculate s and e from the clipped interval
-			double ratio = ip.pi.scaleTo(interval);
+			double ratio = ip.pi.scaleTo(interval[0], interval[1]);
 
 			if (ratio < 0) {
 				// no more intersections
@@ -2349,15 +2501,13 @@ public class BezierCurve extends AbstractGeometry
 			BezierCurve q) {
 		Interval i = new Interval(Math.max(mid, 0), Math.min(b, 1));
 		double prevLo;
-		Point pLo;
 		int c = 0;
 
 		while (c++ < 30 && !i.converges()) {
 			prevLo = i.a;
 			i.a = i.getMid();
-			pLo = p.get(i.a);
 
-			if (!q.contains(pLo)) {
+			if (!q.containsPointAt(p, i.a)) {
 				i.b = i.a;
 				i.a = prevLo;
 			}
@@ -2386,15 +2536,13 @@ public class BezierCurve extends AbstractGeometry
 			BezierCurve q) {
 		Interval i = new Interval(Math.max(a, 0), Math.min(mid, 1));
 		double prevHi;
-		Point pHi;
 		int c = 0;
 
 		while (c++ < 30 && !i.converges()) {
 			prevHi = i.b;
 			i.b = i.getMid();
-			pHi = p.get(i.b);
 
-			if (!q.contains(pHi)) {
+			if (!q.containsPointAt(p, i.b)) {
 				i.a = i.b;
 				i.b = prevHi;
 			}
@@ -2404,10 +2552,39 @@ public class BezierCurve extends AbstractGeometry
 	}
 
 	/**
-	 * An array of {@link Vector3D}s which represent the control points of this
-	 * {@link BezierCurve} in homogenous coordinates.
+	 * The coordinates of the control points of this {@link BezierCurve} in x,
+	 * y order, i.e. x1, y1, x2, y2, x3, y3, ...
+	 */
+	private final double[] coords;
+
+	/**
+	 * The points (excluding the start point) of the last flattening of this
+	 * {@link BezierCurve} (see {@link #flatten(double, CoordinateBuffer)}), or
+	 * <code>null</code> if no valid flattening is cached.
+	 */
+	private transient double[] flattening;
+
+	/**
+	 * The number of points that are stored in the {@link #flattening} cache.
+	 */
+	private transient int flatteningPointCount;
+
+	/**
+	 * The tolerance that was used to compute the cached {@link #flattening}.
+	 */
+	private transient double flatteningTolerance;
+
+	/**
+	 * The last result of {@link #getOffset(double)}, or <code>null</code> if
+	 * no valid offset is cached. The cached {@link PolyBezier} is shared with
+	 * the global offset cache and is therefore never handed out directly.
 	 */
-	private final Vector3D[] points;
+	private transient PolyBezier offset;
+
+	/**
+	 * The distance that was used to compute the cached {@link #offset}.
+	 */
+	private transient double offsetDistance;
 
 	/**
 	 * Constructs a new {@link BezierCurve} from the given {@link CubicCurve}.
@@ -2430,7 +2607,26 @@ public class BezierCurve extends AbstractGeometry
 	 *            {@link BezierCurve} in x, y order
 	 */
 	public BezierCurve(double... controlPoints) {
-		this(PointListUtils.toPointsArray(controlPoints));
+		if (controlPoints.length % 2 != 0) {
+			throw new IllegalArgumentException(
+					"The coordinates array may not have an odd number of items.");
+		}
+		coords = Arrays.copyOf(controlPoints, controlPoints.length);
+	}
+
+	/**
+	 * Constructs a new {@link BezierCurve} from the first <i>n</i> control
+	 * points of the given control point coordinates, which are expected to be
+	 * in x, y order.
+	 *
+	 * @param controlPoints
+	 *            the control {@link Point} coordinates of the new
+	 *            {@link BezierCurve} in x, y order
+	 * @param n
+	 *            the number of control points to use
+	 */
+	private BezierCurve(double[] controlPoints, int n) {
+		coords = Arrays.copyOf(controlPoints, 2 * n);
 	}
 
 	/**
@@ -2441,10 +2637,7 @@ public class BezierCurve extends AbstractGeometry
 	 *            the control {@link Point}s of the new {@link BezierCurve}
 	 */
 	public BezierCurve(Point... controlPoints) {
-		points = new Vector3D[controlPoints.length];
-		for (int i = 0; i < points.length; i++) {
-			points[i] = new Vector3D(controlPoints[i].x, controlPoints[i].y, 1);
-		}
+		coords = PointListUtils.toCoordinatesArray(controlPoints);
 	}
 
 	/**
@@ -2460,112 +2653,18 @@ public class BezierCurve extends AbstractGeometry
 	}
 
 	/**
-	 * <p>
-	 * Constructs a new {@link BezierCurve} object from the control points
-	 * represented by the given {@link Vector3D}s.
-	 * </p>
-	 * <p>
-	 * Note that a Point(x, y) is represented by a Vector3D(x, y, 1).
-	 * </p>
-	 *
-	 * @param controlPoints
-	 *            the {@link Vector3D}s representing the control points of the
-	 *            new {@link BezierCurve}
-	 */
-	private BezierCurve(Vector3D... controlPoints) {
-		points = new Vector3D[controlPoints.length];
-		for (int i = 0; i < points.length; i++) {
-			points[i] = controlPoints[i].getCopy();
-		}
-	}
-
-	/**
-	 * <p>
-	 * Firstly, the difference of this {@link BezierCurve} to the given
-	 * {@link FatLine} is computed. This is another {@link BezierCurve} of which
-	 * the control {@link Point}s are further examined.
-	 * </p>
-	 * <p>
-	 * Every difference control {@link Point} is checked if it is inside the
-	 * given {@link FatLine}. Difference control {@link Point}s within the
-	 * {@link FatLine} represent portions of this {@link BezierCurve} which
-	 * cannot be clipped. Therefore, the {@link Interval} recording the
-	 * parameter range of this {@link BezierCurve} is appropriately modified for
-	 * these difference control {@link Point}s.
-	 * </p>
-	 * <p>
-	 * Subsequently, the {@link Line}s connecting the start/end {@link Point} of
-	 * the difference {@link BezierCurve} and the other control {@link Point}s
-	 * of the difference {@link BezierCurve} are intersected with the
-	 * {@link FatLine}'s border {@link Line}s. The outermost intersections
-	 * identify parameter ranges that can be clipped away from this
-	 * {@link BezierCurve}. Therefore, the {@link Interval} recording the
-	 * parameter range of this {@link BezierCurve} is appropriately modified for
-	 * these intersections.
-	 * </p>
-	 * <p>
-	 * The starting {@link Interval} is chosen to be invalid. The individual
-	 * checks move the lower and upper limits past to one another. If everything
-	 * can be clipped, the resulting {@link Interval} remains invalid. If the
-	 * resulting {@link Interval} <code>I = [a;b]</code> is valid (
-	 * <code>a <= b</code>), then the portions <code>[0;a]</code> and
-	 * <code>[b;1]</code> of this {@link BezierCurve} can be clipped away.
-	 * </p>
+	 * Ensures that the given parameter value lies in the parameter
+	 * {@link Interval} <code>[0;1]</code>.
 	 *
-	 * @param L
-	 *            the {@link FatLine} to clip this {@link BezierCurve} to
-	 * @return the new parameter {@link Interval} for this {@link BezierCurve}
+	 * @param t
+	 *            the parameter value to check
+	 * @throws IllegalArgumentException
+	 *             if the given parameter value is out of range
 	 */
-	// TODO: return Interval
-	private double[] clipTo(FatLine L) {
-		double[] interval = new double[] { 1, 0 };
-
-		Vector3D[] differenceVectors = genDifferencePoints(L.line);
-
-		Point[] differencePoints = new Point[differenceVectors.length];
-		for (int i = 0; i < differenceVectors.length; i++) {
-			differencePoints[i] = differenceVectors[i].toPoint();
-		}
-
-		// inside fat line check
-		for (Point p : differencePoints) {
-			if (Double.isNaN(p.y) || L.dmin <= p.y && p.y <= L.dmax) {
-				moveInterval(interval, p.x);
-			}
-		}
-
-		// intersections from start
-		for (int i = 1; i < differencePoints.length; i++) {
-			Line seg = new Line(differencePoints[0], differencePoints[i]);
-			if (seg.getP1().y < L.dmin != seg.getP2().y < L.dmin) {
-				double x = intersectXAxisParallel(seg.getP1(), seg.getP2(),
-						L.dmin);
-				moveInterval(interval, x);
-			}
-			if (seg.getP1().y < L.dmax != seg.getP2().y < L.dmax) {
-				double x = intersectXAxisParallel(seg.getP1(), seg.getP2(),
-						L.dmax);
-				moveInterval(interval, x);
-			}
-		}
-
-		// intersections from end
-		for (int i = 0; i < differencePoints.length - 1; i++) {
-			Line seg = new Line(differencePoints[i],
-					differencePoints[differencePoints.length - 1]);
-			if (seg.getP1().y < L.dmin != seg.getP2().y < L.dmin) {
-				double x = intersectXAxisParallel(seg.getP1(), seg.getP2(),
-						L.dmin);
-				moveInterval(interval, x);
-			}
-			if (seg.getP1().y < L.dmax != seg.getP2().y < L.dmax) {
-				double x = intersectXAxisParallel(seg.getP1(), seg.getP2(),
-						L.dmax);
-				moveInterval(interval, x);
-			}
+	private void checkParameter(double t) {
+		if (t < 0 || t > 1) {
+			throw new IllegalArgumentException("t out of range: " + t);
 		}
-
-		return interval;
 	}
 
 	/**
@@ -2600,6 +2699,26 @@ public class BezierCurve extends AbstractGeometry
 		return containmentParameter(this, new double[] { 0, 1 }, p);
 	}
 
+	/**
+	 * Tests if the {@link Point} of the given {@link BezierCurve} at the given
+	 * parameter value lies on this {@link BezierCurve}.
+	 *
+	 * @param c
+	 *            the {@link BezierCurve} to evaluate
+	 * @param t
+	 *            the parameter value at which the given {@link BezierCurve} is
+	 *            evaluated
+	 * @return <code>true</code> if the {@link Point} lies on this
+	 *         {@link BezierCurve}, otherwise <code>false</code>
+	 */
+	private boolean containsPointAt(BezierCurve c, double t) {
+		checkParameter(t);
+		int n = c.getPointCount();
+		return BezierKernel.containmentParameter(coords, getPointCount(),
+				new double[] { 0, 1 }, BezierKernel.evaluate(c.coords, n, t, 0),
+				BezierKernel.evaluate(c.coords, n, t, 1));
+	}
+
 	@Override
 	public boolean equals(Object other) {
 		if (this == other) {
@@ -2610,10 +2729,10 @@ public class BezierCurve extends AbstractGeometry
 		}
 		BezierCurve o = (BezierCurve) other;
 		BezierCurve t = this;
-		while (o.points.length < t.points.length) {
+		while (o.getPointCount() < t.getPointCount()) {
 			o = o.getElevated();
 		}
-		while (t.points.length < o.points.length) {
+		while (t.getPointCount() < o.getPointCount()) {
 			t = t.getElevated();
 		}
 		Point[] oPoints = o.getPoints();
@@ -2622,6 +2741,25 @@ public class BezierCurve extends AbstractGeometry
 				|| Arrays.equals(oPoints, Point.getReverseCopy(tPoints));
 	}
 
+	/**
+	 * Checks if the points of this {@link BezierCurve} at the given parameter
+	 * values are equal with respect to the given precision shift.
+	 *
+	 * @param a
+	 *            the first parameter value
+	 * @param b
+	 *            the second parameter value
+	 * @param shift
+	 *            the precision shift
+	 * @return <code>true</code> if the points at the given parameter values are
+	 *         equal, otherwise <code>false</code>
+	 */
+	private boolean equalPoints(double a, double b, int shift) {
+		checkParameter(a);
+		checkParameter(b);
+		return BezierKernel.equalPoints(coords, getPointCount(), a, b, shift);
+	}
+
 	/**
 	 * Searches for the specified extreme on this {@link BezierCurve}.
 	 *
@@ -2654,20 +2792,20 @@ public class BezierCurve extends AbstractGeometry
 		Stack<Interval> parts = new Stack<>();
 		parts.push(iStart);
 
-		Point xtreme = getHC(iStart.a).toPoint();
+		Point xtreme = get(iStart.a);
 
 		while (!parts.isEmpty()) {
 			Interval i = parts.pop();
 			BezierCurve clipped = getClipped(i.a, i.b);
 
-			Point sp = clipped.points[0].toPoint();
+			Point sp = clipped.getP1();
 			xtreme = criteria.apply(sp, xtreme) ? sp : xtreme;
-			Point ep = clipped.points[clipped.points.length - 1].toPoint();
+			Point ep = clipped.getP2();
 			xtreme = criteria.apply(ep, xtreme) ? ep : xtreme;
 
 			boolean everythingWorse = true;
-			for (int j = 1; j < clipped.points.length - 1; j++) {
-				if (!criteria.apply(xtreme, clipped.points[j].toPoint())) {
+			for (int j = 1; j < clipped.getPointCount() - 1; j++) {
+				if (!criteria.apply(xtreme, clipped.getPoint(j))) {
 					everythingWorse = false;
 					break;
 				}
@@ -2689,30 +2827,48 @@ public class BezierCurve extends AbstractGeometry
 	}
 
 	/**
+	 * {@inheritDoc}
 	 * <p>
-	 * Generates the difference control {@link Point}s of this
-	 * {@link BezierCurve} to the given {@link Straight3D}.
-	 * </p>
-	 * <p>
-	 * The difference control {@link Point}s are the control {@link Point}s of a
-	 * {@link BezierCurve} that yields the signed distance of each {@link Point}
-	 * on this {@link BezierCurve} to the given {@link Straight3D}.
+	 * The {@link BezierCurve} is recursively subdivided until the control
+	 * {@link Point}s of each part lie within the given tolerance of the chord
+	 * of that part. The last flattening is cached, so that flattening an
+	 * unchanged {@link BezierCurve} with the same tolerance again does only
+	 * copy the cached coordinates into the given {@link CoordinateBuffer}.
 	 * </p>
+	 */
+	@Override
+	public void flatten(double tolerance, CoordinateBuffer sink) {
+		sink.add(coords[0], coords[1]);
+		flattenTail(tolerance, sink);
+	}
+
+	/**
+	 * Appends the flattening of this {@link BezierCurve} (see
+	 * {@link #flatten(double, CoordinateBuffer)}) to the given
+	 * {@link CoordinateBuffer}, omitting the start {@link Point}. This allows
+	 * to flatten consecutive curves into the same {@link CoordinateBuffer}.
 	 *
-	 * @param line
-	 *            the {@link Straight3D} to which the difference
-	 *            {@link BezierCurve}'s control {@link Point}s are to be
-	 *            computed
-	 * @return the difference {@link BezierCurve}'s control {@link Point}s
+	 * @param tolerance
+	 *            The maximum distance between this {@link BezierCurve} and the
+	 *            approximating polyline.
+	 * @param sink
+	 *            The {@link CoordinateBuffer} to append the points to.
 	 */
-	private Vector3D[] genDifferencePoints(Straight3D line) {
-		Vector3D[] D = new Vector3D[points.length];
-		for (int i = 0; i < points.length; i++) {
-			double y = line.getSignedDistanceCW(points[i]);
-			D[i] = new Vector3D((double) (i) / (double) (points.length - 1), y,
-					1);
+	void flattenTail(double tolerance, CoordinateBuffer sink) {
+		if (flattening != null && flatteningTolerance == tolerance) {
+			sink.addAll(flattening, 0, flatteningPointCount);
+			return;
 		}
-		return D;
+		int start = sink.getPointCount();
+		BezierKernel.flatten(coords, getPointCount(), tolerance, sink);
+		int count = sink.getPointCount() - start;
+		if (flattening == null || flattening.length < 2 * count) {
+			flattening = new double[2 * count];
+		}
+		System.arraycopy(sink.getCoordinates(), 2 * start, flattening, 0,
+				2 * count);
+		flatteningPointCount = count;
+		flatteningTolerance = tolerance;
 	}
 
 	/**
@@ -2727,7 +2883,10 @@ public class BezierCurve extends AbstractGeometry
 	 *         parameter value
 	 */
 	public Point get(double t) {
-		return getHC(t).toPoint();
+		checkParameter(t);
+		int n = getPointCount();
+		return new Point(BezierKernel.evaluate(coords, n, t, 0),
+				BezierKernel.evaluate(coords, n, t, 1));
 	}
 
 	@Override
@@ -2754,12 +2913,9 @@ public class BezierCurve extends AbstractGeometry
 	 *         on the {@link Interval} <code>[s;e]</code>
 	 */
 	public BezierCurve getClipped(double s, double e) {
-		if (s == 1) {
-			return new BezierCurve(points[points.length - 1]);
-		}
-		BezierCurve right = split(s)[1];
-		double rightT2 = (e - s) / (1 - s);
-		return right.split(rightT2)[0];
+		double[] clipped = new double[coords.length];
+		int n = BezierKernel.clip(coords, getPointCount(), s, e, clipped);
+		return new BezierCurve(clipped, n);
 	}
 
 	/**
@@ -2770,22 +2926,20 @@ public class BezierCurve extends AbstractGeometry
 	 *         {@link Polygon} of this {@link BezierCurve}
 	 */
 	public Rectangle getControlBounds() {
-		Point[] realPoints = getPoints();
+		double xmin = coords[0], xmax = coords[0], ymin = coords[1],
+				ymax = coords[1];
 
-		double xmin = realPoints[0].x, xmax = realPoints[0].x,
-				ymin = realPoints[0].y, ymax = realPoints[0].y;
-
-		for (int i = 1; i < realPoints.length; i++) {
-			if (realPoints[i].x < xmin) {
-				xmin = realPoints[i].x;
-			} else if (realPoints[i].x > xmax) {
-				xmax = realPoints[i].x;
+		for (int i = 2; i < coords.length; i += 2) {
+			if (coords[i] < xmin) {
+				xmin = coords[i];
+			} else if (coords[i] > xmax) {
+				xmax = coords[i];
 			}
 
-			if (realPoints[i].y < ymin) {
-				ymin = realPoints[i].y;
-			} else if (realPoints[i].y > ymax) {
-				ymax = realPoints[i].y;
+			if (coords[i + 1] < ymin) {
+				ymin = coords[i + 1];
+			} else if (coords[i + 1] > ymax) {
+				ymax = coords[i + 1];
 			}
 		}
 
@@ -2794,7 +2948,7 @@ public class BezierCurve extends AbstractGeometry
 
 	@Override
 	public BezierCurve getCopy() {
-		return new BezierCurve(points);
+		return new BezierCurve(coords, getPointCount());
 	}
 
 	/**
@@ -2804,16 +2958,35 @@ public class BezierCurve extends AbstractGeometry
 	 * @return the hodograph of this {@link BezierCurve}
 	 */
 	public BezierCurve getDerivative() {
-		Vector3D[] controlPoints = new Vector3D[points.length - 1];
+		int n = getPointCount();
+		double[] controlPoints = new double[2 * (n - 1)];
 
 		for (int i = 0; i < controlPoints.length; i++) {
-			controlPoints[i] = points[i + 1].getSubtracted(points[i])
-					.getScaled(points.length - 1);
-			// ignore z coordinate:
-			controlPoints[i].z = 1;
+			controlPoints[i] = (coords[i + 2] - coords[i]) * (n - 1);
 		}
 
-		return new BezierCurve(controlPoints);
+		return new BezierCurve(controlPoints, n - 1);
+	}
+
+	/**
+	 * Computes the distance between the {@link Point}s specified by the given
+	 * coordinates (analogous to {@link Point#getDistance(Point)}).
+	 *
+	 * @param px
+	 *            the x coordinate of the first {@link Point}
+	 * @param py
+	 *            the y coordinate of the first {@link Point}
+	 * @param qx
+	 *            the x coordinate of the second {@link Point}
+	 * @param qy
+	 *            the y coordinate of the second {@link Point}
+	 * @return the distance between the two {@link Point}s
+	 */
+	private static double getDistance(double px, double py, double qx,
+			double qy) {
+		double i = qx - px;
+		double j = qy - py;
+		return Math.sqrt(i * i + j * j);
 	}
 
 	/**
@@ -2835,38 +3008,6 @@ public class BezierCurve extends AbstractGeometry
 		return new BezierCurve(q);
 	}
 
-	/**
-	 * Returns a {@link Vector3D} representing the {@link Point} at the given
-	 * parameter value.
-	 *
-	 * @param t
-	 *            the parameter value for which this {@link BezierCurve} is
-	 *            evaluated
-	 * @return The point at the given parameter value, represented in
-	 *         homogeneous coordinates as a {@link Vector3D}.
-	 */
-	private Vector3D getHC(double t) {
-		if (t < 0 || t > 1) {
-			throw new IllegalArgumentException("t out of range: " + t);
-		}
-
-		// using horner's scheme:
-		int n = points.length;
-		if (n < 1) {
-			return null;
-		}
-
-		double bn = 1, tn = 1, d = 1d - t;
-		Vector3D pn = points[0].getScaled(bn * tn);
-		for (int i = 1; i < n; i++) {
-			bn = bn * (n - i) / i;
-			tn = tn * t;
-			pn = pn.getScaled(d).getAdded(points[i].getScaled(bn * tn));
-		}
-
-		return pn;
-	}
-
 	/**
 	 * <p>
 	 * Computes {@link IntervalPair}s which do reflect {@link Point}s of
@@ -2991,6 +3132,12 @@ public class BezierCurve extends AbstractGeometry
 	 * self-intersections in the offset are removed while global
 	 * self-intersections and other singularities in the offset remain
 	 * unprocessed.
+	 * <p>
+	 * The offset computation is expensive, therefore, its results are cached
+	 * (in a bounded cache), so that repeatedly querying the offset of equal
+	 * curves for the same distance does only return a copy of the cached
+	 * result.
+	 * </p>
 	 *
 	 * @param distance
 	 *            The signed distance for which to compute a refined offset
@@ -2999,9 +3146,21 @@ public class BezierCurve extends AbstractGeometry
 	 *         {@link BezierCurve} for the given distance.
 	 */
 	public PolyBezier getOffset(double distance) {
-		return new LocalIntersectionOffsetRefiner()
-				.refine(new CuspAwareOffsetApproximator()
-						.approximateOffset(this, distance));
+		// the last offset is cached per instance (identity), and all offsets
+		// are cached by control points and distance (content)
+		if (offset == null || Double.compare(offsetDistance, distance) != 0) {
+			PolyBezier cached = OFFSET_CACHE.get(coords, distance);
+			if (cached == null) {
+				cached = new LocalIntersectionOffsetRefiner()
+						.refine(new CuspAwareOffsetApproximator()
+								.approximateOffset(this, distance));
+				OFFSET_CACHE.put(Arrays.copyOf(coords, coords.length),
+						distance, cached);
+			}
+			offset = cached;
+			offsetDistance = distance;
+		}
+		return offset.getCopy();
 	}
 
 	/**
@@ -3068,12 +3227,12 @@ public class BezierCurve extends AbstractGeometry
 
 	@Override
 	public Point getP1() {
-		return points[0].toPoint();
+		return new Point(coords[0], coords[1]);
 	}
 
 	@Override
 	public Point getP2() {
-		return points[points.length - 1].toPoint();
+		return new Point(coords[coords.length - 2], coords[coords.length - 1]);
 	}
 
 	/**
@@ -3115,99 +3274,103 @@ public class BezierCurve extends AbstractGeometry
 	 * @return the <i>i</i>th control {@link Point} of this {@link BezierCurve}
 	 */
 	public Point getPoint(int i) {
-		if (i < 0 || i >= points.length) {
+		if (i < 0 || i >= getPointCount()) {
 			throw new IllegalArgumentException(
 					"You can only index this BezierCurve's points from 0 to "
-							+ (points.length - 1) + ": getPoint(" + i
+							+ (getPointCount() - 1) + ": getPoint(" + i
 							+ "), this = " + this);
 		}
-		return points[i].toPoint();
+		return new Point(coords[2 * i], coords[2 * i + 1]);
 	}
 
 	/**
-	 * Returns the control {@link Point}s of this {@link BezierCurve}.
+	 * Returns the number of control {@link Point}s of this {@link BezierCurve}.
 	 *
-	 * @return the control {@link Point}s of this {@link BezierCurve}
+	 * In contrast to <code>getPoints().length</code>, no {@link Point}s are
+	 * copied.
+	 *
+	 * @return the number of control {@link Point}s of this {@link BezierCurve}
 	 */
-	public Point[] getPoints() {
-		Point[] realPoints = new Point[points.length];
-		for (int i = 0; i < points.length; i++) {
-			realPoints[i] = points[i].toPoint();
-		}
-		return realPoints;
+	public int getPointCount() {
+		return coords.length / 2;
 	}
 
 	/**
-	 * Returns a copy of the {@link Vector3D} representations of the control
-	 * points of this {@link BezierCurve}.
+	 * Returns the control {@link Point}s of this {@link BezierCurve}.
 	 *
-	 * @return a copy of the {@link Vector3D} representations of the control
-	 *         points of this {@link BezierCurve}
+	 * @return the control {@link Point}s of this {@link BezierCurve}
 	 */
-	private Vector3D[] getPointsCopy() {
-		Vector3D[] copy = new Vector3D[points.length];
-		for (int i = 0; i < points.length; i++) {
-			copy[i] = points[i].getCopy();
-		}
-		return copy;
+	public Point[] getPoints() {
+		return PointListUtils.toPointsArray(coords);
 	}
 
 	@Override
 	public Point getProjection(final Point reference) {
+		int n = getPointCount();
+		double rx = reference.x;
+		double ry = reference.y;
+
 		// find nearest to reference within 100 samples
 		int numSamples = 100;
 
 		double nearestParam = 0;
-		Point nearest = get(nearestParam);
-		double distance = reference.getDistance(nearest);
+		double nearestX = BezierKernel.evaluate(coords, n, nearestParam, 0);
+		double nearestY = BezierKernel.evaluate(coords, n, nearestParam, 1);
+		double distance = getDistance(rx, ry, nearestX, nearestY);
 		for (int i = 1; i < numSamples; i++) {
 			double t = i / (numSamples - 1.0);
-			Point candidate = get(t);
-			double d = reference.getDistance(candidate);
+			double cx = BezierKernel.evaluate(coords, n, t, 0);
+			double cy = BezierKernel.evaluate(coords, n, t, 1);
+			double d = getDistance(rx, ry, cx, cy);
 			if (d < distance) {
 				nearestParam = t;
-				nearest = candidate;
+				nearestX = cx;
+				nearestY = cy;
 				distance = d;
 			}
 		}
 
 		// compute interval
-		Interval interval = new Interval(
-				nearestParam / (numSamples - 1) - 1 / (double) (numSamples - 1),
-				nearestParam / (numSamples - 1)
-						+ 1 / (double) (numSamples - 1));
+		double a = nearestParam / (numSamples - 1)
+				- 1 / (double) (numSamples - 1);
+		double b = nearestParam / (numSamples - 1)
+				+ 1 / (double) (numSamples - 1);
 		// ensure interval is valid
-		interval.a = Math.min(1, Math.max(0, interval.a));
-		interval.b = Math.min(1, Math.max(0, interval.b));
+		a = Math.min(1, Math.max(0, a));
+		b = Math.min(1, Math.max(0, b));
 
 		// refine interval
-		while (!interval.converges()) {
+		while (!PrecisionUtils.equal(a, b)) {
 			// compute start point and end point for the current interval
-			Point sp = get(interval.a);
-			Point ep = get(interval.b);
+			double sx = BezierKernel.evaluate(coords, n, a, 0);
+			double sy = BezierKernel.evaluate(coords, n, a, 1);
+			double ex = BezierKernel.evaluate(coords, n, b, 0);
+			double ey = BezierKernel.evaluate(coords, n, b, 1);
 
 			// compute distance to reference point
-			double sDist = reference.getDistance(sp);
-			double eDist = reference.getDistance(ep);
+			double sDist = getDistance(rx, ry, sx, sy);
+			double eDist = getDistance(rx, ry, ex, ey);
 
 			if (sDist >= distance && eDist >= distance) {
 				// start point and end point have greater distance
 				// => reduce interval on both sides
-				double range = interval.b - interval.a;
-				interval.b = interval.a + 0.75 * range;
-				interval.a = interval.a + 0.25 * range;
+				double range = b - a;
+				b = a + 0.75 * range;
+				a = a + 0.25 * range;
 			} else if (sDist < distance && sDist < eDist) {
 				// start has smaller distance
 				distance = sDist;
-				nearest = sp;
+				nearestX = sx;
+				nearestY = sy;
 				// reduce interval to its left side
-				interval.b = (interval.a + interval.b) / 2;
+				b = (a + b) / 2;
 			} else if (eDist < distance) {
 				// end has smaller distance
 				distance = eDist;
-				nearest = ep;
+				nearestX = ex;
+				nearestY = ey;
 				// reduce interval to its right side
-				interval.a = (interval.a + interval.b) / 2;
+				a = (a + b) / 2;
 			} else {
 				// impossible
 				throw new IllegalStateException(
@@ -3215,7 +3378,7 @@ public class BezierCurve extends AbstractGeometry
 			}
 		}
 
-		return nearest;
+		return new Point(nearestX, nearestY);
 	}
 
 	@Override
@@ -3298,22 +3461,22 @@ public class BezierCurve extends AbstractGeometry
 
 	@Override
 	public double getX1() {
-		return getP1().x;
+		return coords[0];
 	}
 
 	@Override
 	public double getX2() {
-		return getP2().x;
+		return coords[coords.length - 2];
 	}
 
 	@Override
 	public double getY1() {
-		return getP1().y;
+		return coords[1];
 	}
 
 	@Override
 	public double getY2() {
-		return getP2().y;
+		return coords[coords.length - 1];
 	}
 
 	@Override
@@ -3395,9 +3558,9 @@ public class BezierCurve extends AbstractGeometry
 	 * @return <code>this</code> for convenience
 	 */
 	public BezierCurve rotateCCW(Angle angle, Point center) {
-		for (int i = 0; i < points.length; i++) {
-			points[i] = new Vector3D(new Vector(
-					points[i].toPoint().getTranslated(center.getNegated()))
+		for (int i = 0; i < getPointCount(); i++) {
+			setPoint(i,
+					new Vector(getPoint(i).getTranslated(center.getNegated()))
 							.getRotatedCCW(angle).toPoint()
 							.getTranslated(center));
 		}
@@ -3514,7 +3677,7 @@ public class BezierCurve extends AbstractGeometry
 	 * @return <code>this</code> for convenience
 	 */
 	public BezierCurve setP2(Point p2) {
-		setPoint(points.length - 1, p2);
+		setPoint(getPointCount() - 1, p2);
 		return this;
 	}
 
@@ -3531,12 +3694,16 @@ public class BezierCurve extends AbstractGeometry
 	 * @return <code>this</code> for convenience
 	 */
 	public BezierCurve setPoint(int i, Point p) {
-		if (i < 0 || i >= points.length) {
+		if (i < 0 || i >= getPointCount()) {
 			throw new IllegalArgumentException("setPoint(" + i + ", " + p
 					+ "): You can only index this BezierCurve's points from 0 to "
-					+ (points.length - 1) + ".");
+					+ (getPointCount() - 1) + ".");
 		}
-		points[i] = new Vector3D(p);
+		coords[2 * i] = p.x;
+		coords[2 * i + 1] = p.y;
+		// invalidate the cached flattening and offset
+		flattening = null;
+		offset = null;
 		return this;
 	}
 
@@ -3554,23 +3721,27 @@ public class BezierCurve extends AbstractGeometry
 	 *         <code>[0;t]</code>) and the right (<code>[t;1]</code>)
 	 */
 	public BezierCurve[] split(double t) {
-		Vector3D[] leftPoints = new Vector3D[points.length];
-		Vector3D[] rightPoints = new Vector3D[points.length];
+		int n = getPointCount();
+		double[] leftPoints = new double[coords.length];
+		double[] rightPoints = new double[coords.length];
 
-		Vector3D[] ratioPoints = getPointsCopy();
+		double[] ratioPoints = Arrays.copyOf(coords, coords.length);
 
-		for (int i = 0; i < points.length; i++) {
-			leftPoints[i] = ratioPoints[0];
-			rightPoints[points.length - 1 - i] = ratioPoints[points.length - 1
-					- i];
+		for (int i = 0; i < n; i++) {
+			leftPoints[2 * i] = ratioPoints[0];
+			leftPoints[2 * i + 1] = ratioPoints[1];
+			rightPoints[2 * (n - 1 - i)] = ratioPoints[2 * (n - 1 - i)];
+			rightPoints[2 * (n - 1 - i) + 1] = ratioPoints[2 * (n - 1 - i)
+					+ 1];
 
-			for (int j = 0; j < points.length - i - 1; j++) {
-				ratioPoints[j] = ratioPoints[j].getRatio(ratioPoints[j + 1], t);
+			for (int j = 0; j < 2 * (n - i - 1); j++) {
+				ratioPoints[j] = ratioPoints[j]
+						+ (ratioPoints[j + 2] - ratioPoints[j]) * t;
 			}
 		}
 
-		return new BezierCurve[] { new BezierCurve(leftPoints),
-				new BezierCurve(rightPoints) };
+		return new BezierCurve[] { new BezierCurve(leftPoints, n),
+				new BezierCurve(rightPoints, n) };
 	}
 
 	@Override
@@ -3594,9 +3765,8 @@ public class BezierCurve extends AbstractGeometry
 	 *         {@link Point}s
 	 */
 	public CubicCurve toCubic() {
-		if (points.length > 3) {
-			return new CubicCurve(points[0].toPoint(), points[1].toPoint(),
-					points[2].toPoint(), points[points.length - 1].toPoint());
+		if (getPointCount() > 3) {
+			return new CubicCurve(getP1(), getPoint(1), getPoint(2), getP2());
 		}
 		return null;
 	}
@@ -3611,9 +3781,8 @@ public class BezierCurve extends AbstractGeometry
 	 *         this {@link BezierCurve} does only have one control {@link Point}
 	 */
 	public Line toLine() {
-		if (points.length > 1) {
-			return new Line(points[0].toPoint(),
-					points[points.length - 1].toPoint());
+		if (getPointCount() > 1) {
+			return new Line(getP1(), getP2());
 		}
 		return null;
 	}
@@ -3660,7 +3829,7 @@ public class BezierCurve extends AbstractGeometry
 	public Line[] toLineStrip(double lineSimilarity, Interval startInterval) {
 		ArrayList<Line> lines = new ArrayList<>();
 
-		Point startPoint = getHC(startInterval.a).toPoint();
+		Point startPoint = get(startInterval.a);
 
 		Stack<Interval> parts = new Stack<>();
 		parts.push(startInterval);
@@ -3670,7 +3839,7 @@ public class BezierCurve extends AbstractGeometry
 			BezierCurve part = getClipped(i.a, i.b);
 
 			if (distanceToBaseLine(part) < lineSimilarity) {
-				Point endPoint = getHC(i.b).toPoint();
+				Point endPoint = get(i.b);
 				lines.add(new Line(startPoint, endPoint));
 				startPoint = endPoint;
 			} else {
@@ -3694,7 +3863,7 @@ public class BezierCurve extends AbstractGeometry
 	public Path toPath() {
 		Path path = new Path();
 
-		Point startPoint = points[0].toPoint();
+		Point startPoint = getP1();
 		path.moveTo(startPoint.x, startPoint.y);
 
 		for (Line seg : toLineStrip(0.25d)) {
@@ -3718,32 +3887,40 @@ public class BezierCurve extends AbstractGeometry
 	 */
 	public Point[] toPoints(Interval startInterval) {
 		ArrayList<Point> points = new ArrayList<>();
-		points.add(getHC(startInterval.a).toPoint());
+		points.add(get(startInterval.a));
 
 		Stack<Interval> parts = new Stack<>();
 		parts.push(startInterval);
 
-		while (!parts.isEmpty()) {
-			Interval i = parts.pop();
-			BezierCurve part = getClipped(i.a, i.b);
-
-			Point[] partPoints = part.getPoints();
-
-			boolean allTogether = true;
-			for (int j = 1; j < partPoints.length; j++) {
-				if (!partPoints[0].equals(partPoints[j])) {
-					allTogether = false;
-					break;
+		BezierKernel.ScratchPool pool = BezierKernel.getScratchPool();
+		int mark = pool.mark();
+		double[] part = pool.acquire(coords.length);
+		try {
+			while (!parts.isEmpty()) {
+				Interval i = parts.pop();
+				int n = BezierKernel.clip(coords, getPointCount(), i.a, i.b,
+						part);
+
+				boolean allTogether = true;
+				for (int j = 1; j < n; j++) {
+					if (!PrecisionUtils.equal(part[0], part[2 * j])
+							|| !PrecisionUtils.equal(part[1],
+									part[2 * j + 1])) {
+						allTogether = false;
+						break;
+					}
 				}
-			}
 
-			if (allTogether) {
-				points.add(partPoints[partPoints.length - 1]);
-			} else {
-				double im = i.getMid();
-				parts.push(new Interval(im, i.b));
-				parts.push(new Interval(i.a, im));
+				if (allTogether) {
+					points.add(new Point(part[2 * n - 2], part[2 * n - 1]));
+				} else {
+					double im = i.getMid();
+					parts.push(new Interval(im, i.b));
+					parts.push(new Interval(i.a, im));
+				}
 			}
+		} finally {
+			pool.release(mark);
 		}
 
 		return points.toArray(new Point[] {});
@@ -3765,9 +3942,8 @@ public class BezierCurve extends AbstractGeometry
 	 *         {@link Point}s
 	 */
 	public QuadraticCurve toQuadratic() {
-		if (points.length > 2) {
-			return new QuadraticCurve(points[0].toPoint(), points[1].toPoint(),
-					points[points.length - 1].toPoint());
+		if (getPointCount() > 2) {
+			return new QuadraticCurve(getP1(), getPoint(1), getP2());
 		}
 		return null;
 	}
@@ -3776,10 +3952,11 @@ public class BezierCurve extends AbstractGeometry
 	public String toString() {
 		StringBuffer str = new StringBuffer();
 		str.append("BezierCurve(");
-		for (int i = 0; i < points.length; i++) {
-			Vector3D v = points[i];
-			str.append(v);
-			if (i < points.length - 1) {
+		for (int i = 0; i < getPointCount(); i++) {
+			// control points are printed in homogeneous coordinates
+			str.append("Vector3D(" + coords[2 * i] + ", " + coords[2 * i + 1]
+					+ ", " + 1d + ")");
+			if (i < getPointCount() - 1) {
 				str.append(", ");
 			}
 		}
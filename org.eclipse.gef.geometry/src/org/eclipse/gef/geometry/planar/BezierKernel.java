@@ -0,0 +1,729 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.planar;
+
+import java.util.Arrays;
+
+import org.eclipse.gef.geometry.internal.utils.PrecisionUtils;
+
+/**
+ * <p>
+ * The {@link BezierKernel} provides the primitive operations that are needed
+ * by the {@link BezierCurve} intersection, overlap, and projection algorithms.
+ * All operations work on flat coordinate arrays, i.e. the control points of a
+ * curve are stored as <code>x0, y0, x1, y1, ...</code>, where only the first
+ * <i>n</i> control points of an array are regarded. This allows to reuse
+ * scratch buffers (see {@link #getScratchPool()}) so that the operations do
+ * not need to allocate any memory.
+ * </p>
+ * <p>
+ * The operations perform the same floating point operations in the same order
+ * as their former object-based counterparts in {@link BezierCurve}, so that
+ * they yield bit-identical results. Note that the results of
+ * {@link BezierCurve#getIntersections(BezierCurve)} and
+ * {@link BezierCurve#getOverlap(BezierCurve)} may nevertheless vary slightly
+ * (within the chunk convergence precision, i.e. in the order of
+ * <code>1e-6</code>) from one invocation to another, because the
+ * intersection chunks are collected in hash sets that are ordered by identity
+ * hash codes, and the chunk that represents a cluster of chunks depends on
+ * that order.
+ * </p>
+ *
+ * @author agent
+ *
+ */
+class BezierKernel {
+
+	/**
+	 * A {@link ScratchPool} manages a stack of reusable <code>double[]</code>
+	 * buffers. Buffers are acquired via {@link #acquire(int)} and released in
+	 * reverse order by resetting the pool to a previously obtained
+	 * {@link #mark()}.
+	 */
+	static final class ScratchPool {
+
+		private double[][] buffers = new double[16][];
+		private int top = 0;
+
+		/**
+		 * Returns a buffer that can hold at least the given number of values.
+		 * The contents of the returned buffer are undefined.
+		 *
+		 * @param length
+		 *            The minimum length of the buffer.
+		 * @return A buffer of at least the given length.
+		 */
+		public double[] acquire(int length) {
+			if (top == buffers.length) {
+				buffers = Arrays.copyOf(buffers, buffers.length * 2);
+			}
+			double[] buffer = buffers[top];
+			if (buffer == null || buffer.length < length) {
+				// allocate some additional space so that the buffer can be
+				// reused for slightly larger requests
+				buffer = new double[Math.max(length, 16) * 2];
+				buffers[top] = buffer;
+			}
+			top++;
+			return buffer;
+		}
+
+		/**
+		 * Returns a mark that can be passed to {@link #release(int)} in order
+		 * to release all buffers that are acquired after this call.
+		 *
+		 * @return The current mark.
+		 */
+		public int mark() {
+			return top;
+		}
+
+		/**
+		 * Releases all buffers that were acquired after the given mark was
+		 * obtained.
+		 *
+		 * @param mark
+		 *            A mark as returned by {@link #mark()}.
+		 */
+		public void release(int mark) {
+			top = mark;
+		}
+	}
+
+	/**
+	 * The initial capacity (in intervals) of the interval stack that is used
+	 * by {@link #containmentParameter(double[], int, double[], double, double)}
+	 * .
+	 */
+	private static final int INITIAL_INTERVAL_STACK_CAPACITY = 64;
+
+	/**
+	 * The maximum subdivision depth that is used by
+	 * {@link #flatten(double[], int, double, CoordinateBuffer)}, so that the
+	 * flattening terminates even for very small tolerances.
+	 */
+	static final int MAX_FLATTENING_DEPTH = 24;
+
+	/**
+	 * The index of the x coordinate of the line vector within a fat line
+	 * array.
+	 */
+	static final int FAT_LINE_X = 0;
+
+	/**
+	 * The index of the y coordinate of the line vector within a fat line
+	 * array.
+	 */
+	static final int FAT_LINE_Y = 1;
+
+	/**
+	 * The index of the homogeneous coordinate of the line vector within a fat
+	 * line array.
+	 */
+	static final int FAT_LINE_Z = 2;
+
+	/**
+	 * The index of the length of the (x, y) line vector within a fat line
+	 * array.
+	 */
+	static final int FAT_LINE_F = 3;
+
+	/**
+	 * The index of the minimum signed distance within a fat line array.
+	 */
+	static final int FAT_LINE_DMIN = 4;
+
+	/**
+	 * The index of the maximum signed distance within a fat line array.
+	 */
+	static final int FAT_LINE_DMAX = 5;
+
+	/**
+	 * The number of values that represent a fat line.
+	 */
+	static final int FAT_LINE_SIZE = 6;
+
+	private static final ThreadLocal<ScratchPool> SCRATCH_POOL = ThreadLocal
+			.withInitial(ScratchPool::new);
+
+	/**
+	 * <p>
+	 * Computes the parameter range of the curve represented by the given
+	 * control points, where the curve is not clipped away by the given fat
+	 * line. The resulting range is written to the given interval array. If
+	 * everything can be clipped, the resulting interval remains invalid, i.e.
+	 * <code>interval[0] &gt; interval[1]</code>.
+	 * </p>
+	 * <p>
+	 * The clipping is based on the difference curve, i.e. the curve that
+	 * yields the signed distance of each point on the curve to the fat line.
+	 * </p>
+	 *
+	 * @param c
+	 *            The control point coordinates of the curve.
+	 * @param n
+	 *            The number of control points.
+	 * @param fatLine
+	 *            The fat line (see
+	 *            {@link #fatLine(double[], int, boolean, double[])}).
+	 * @param interval
+	 *            The array to store the resulting parameter interval in.
+	 */
+	static void clipTo(double[] c, int n, double[] fatLine,
+			double[] interval) {
+		interval[0] = 1;
+		interval[1] = 0;
+
+		double dmin = fatLine[FAT_LINE_DMIN];
+		double dmax = fatLine[FAT_LINE_DMAX];
+
+		// inside fat line check
+		for (int i = 0; i < n; i++) {
+			double y = signedDistance(fatLine, c[2 * i], c[2 * i + 1]);
+			if (Double.isNaN(y) || dmin <= y && y <= dmax) {
+				moveInterval(interval, differenceX(i, n));
+			}
+		}
+
+		// intersections from start
+		double x0 = differenceX(0, n);
+		double y0 = signedDistance(fatLine, c[0], c[1]);
+		for (int i = 1; i < n; i++) {
+			double xi = differenceX(i, n);
+			double yi = signedDistance(fatLine, c[2 * i], c[2 * i + 1]);
+			clipSegment(x0, y0, xi, yi, dmin, dmax, interval);
+		}
+
+		// intersections from end
+		double xn = differenceX(n - 1, n);
+		double yn = signedDistance(fatLine, c[2 * n - 2], c[2 * n - 1]);
+		for (int i = 0; i < n - 1; i++) {
+			double xi = differenceX(i, n);
+			double yi = signedDistance(fatLine, c[2 * i], c[2 * i + 1]);
+			clipSegment(xi, yi, xn, yn, dmin, dmax, interval);
+		}
+	}
+
+	private static void clipSegment(double px, double py, double qx,
+			double qy, double dmin, double dmax, double[] interval) {
+		if (py < dmin != qy < dmin) {
+			moveInterval(interval, intersectXAxisParallel(px, py, qx, qy,
+					dmin));
+		}
+		if (py < dmax != qy < dmax) {
+			moveInterval(interval, intersectXAxisParallel(px, py, qx, qy,
+					dmax));
+		}
+	}
+
+	/**
+	 * Clips the curve represented by the given source control points to the
+	 * parameter interval <code>[s;e]</code>, writing the control points of the
+	 * resulting curve to the given destination array. The source and
+	 * destination arrays may not be identical.
+	 *
+	 * @param src
+	 *            The control point coordinates of the curve to clip.
+	 * @param n
+	 *            The number of control points.
+	 * @param s
+	 *            The start parameter value.
+	 * @param e
+	 *            The end parameter value.
+	 * @param dst
+	 *            The array to store the control points of the clipped curve.
+	 * @return The number of control points of the clipped curve.
+	 */
+	static int clip(double[] src, int n, double s, double e, double[] dst) {
+		if (s == 1) {
+			dst[0] = src[2 * n - 2];
+			dst[1] = src[2 * n - 1];
+			return 1;
+		}
+		System.arraycopy(src, 0, dst, 0, 2 * n);
+		// right part of a split at s
+		for (int i = 0; i < n; i++) {
+			for (int j = 0; j < n - i - 1; j++) {
+				dst[2 * j] = ratio(dst[2 * j], dst[2 * j + 2], s);
+				dst[2 * j + 1] = ratio(dst[2 * j + 1], dst[2 * j + 3], s);
+			}
+		}
+		// left part of a split at the corresponding parameter value
+		double t = (e - s) / (1 - s);
+		for (int k = 1; k < n; k++) {
+			for (int j = n - 1; j >= k; j--) {
+				dst[2 * j] = ratio(dst[2 * j - 2], dst[2 * j], t);
+				dst[2 * j + 1] = ratio(dst[2 * j - 1], dst[2 * j + 1], t);
+			}
+		}
+		return n;
+	}
+
+	/**
+	 * Determines if the given point lies on the curve represented by the
+	 * given control points, within the given parameter interval. In that case,
+	 * the interval is narrowed to a converging parameter range that contains
+	 * the point.
+	 *
+	 * @param c
+	 *            The control point coordinates of the curve.
+	 * @param n
+	 *            The number of control points.
+	 * @param interval
+	 *            The parameter interval to search, which is also used to
+	 *            store the result.
+	 * @param px
+	 *            The x coordinate of the point to find.
+	 * @param py
+	 *            The y coordinate of the point to find.
+	 * @return <code>true</code> if a converging parameter interval that
+	 *         contains the point can be identified, otherwise
+	 *         <code>false</code>.
+	 */
+	static boolean containmentParameter(double[] c, int n, double[] interval,
+			double px, double py) {
+		ScratchPool pool = getScratchPool();
+		int mark = pool.mark();
+		try {
+			double[] clipped = pool.acquire(2 * n);
+			double[] parts = pool.acquire(2 * INITIAL_INTERVAL_STACK_CAPACITY);
+			int size = 0;
+			parts[size++] = interval[0];
+			parts[size++] = interval[1];
+			while (size > 0) {
+				double b = parts[--size];
+				double a = parts[--size];
+
+				if (PrecisionUtils.equal(a, b, 1)) {
+					interval[0] = a;
+					interval[1] = b;
+					break;
+				}
+
+				double mid = (a + b) / 2;
+				if (size + 4 > parts.length) {
+					// will only happen for pathological curves
+					parts = Arrays.copyOf(parts, parts.length * 2);
+				}
+
+				int m = clip(c, n, a, mid, clipped);
+				if (controlBoundsContain(clipped, m, px, py)) {
+					parts[size++] = a;
+					parts[size++] = mid;
+				}
+
+				m = clip(c, n, mid, b, clipped);
+				if (controlBoundsContain(clipped, m, px, py)) {
+					parts[size++] = mid;
+					parts[size++] = b;
+				}
+			}
+			return PrecisionUtils.equal(interval[0], interval[1], 1);
+		} finally {
+			pool.release(mark);
+		}
+	}
+
+	/**
+	 * Tests if the control bounds of the curve represented by the given
+	 * control points contain the given point (within the default
+	 * imprecision).
+	 *
+	 * @param c
+	 *            The control point coordinates of the curve.
+	 * @param n
+	 *            The number of control points.
+	 * @param px
+	 *            The x coordinate of the point to test.
+	 * @param py
+	 *            The y coordinate of the point to test.
+	 * @return <code>true</code> if the point is contained by the control
+	 *         bounds, otherwise <code>false</code>.
+	 */
+	static boolean controlBoundsContain(double[] c, int n, double px,
+			double py) {
+		double xmin = c[0], xmax = c[0], ymin = c[1], ymax = c[1];
+		for (int i = 1; i < n; i++) {
+			double x = c[2 * i], y = c[2 * i + 1];
+			if (x < xmin) {
+				xmin = x;
+			} else if (x > xmax) {
+				xmax = x;
+			}
+			if (y < ymin) {
+				ymin = y;
+			} else if (y > ymax) {
+				ymax = y;
+			}
+		}
+		return PrecisionUtils.greaterEqual(py, ymin)
+				&& PrecisionUtils.smallerEqual(py, ymin + (ymax - ymin))
+				&& PrecisionUtils.greaterEqual(px, xmin)
+				&& PrecisionUtils.smallerEqual(px, xmin + (xmax - xmin));
+	}
+
+	/**
+	 * Tests if the control bounds of the two curves represented by the given
+	 * control points touch each other (within the default imprecision).
+	 *
+	 * @param p
+	 *            The control point coordinates of the first curve.
+	 * @param np
+	 *            The number of control points of the first curve.
+	 * @param q
+	 *            The control point coordinates of the second curve.
+	 * @param nq
+	 *            The number of control points of the second curve.
+	 * @return <code>true</code> if the control bounds touch, otherwise
+	 *         <code>false</code>.
+	 */
+	static boolean controlBoundsTouch(double[] p, int np, double[] q,
+			int nq) {
+		double pxmin = min(p, np, 0), pxmax = max(p, np, 0);
+		double pymin = min(p, np, 1), pymax = max(p, np, 1);
+		double qxmin = min(q, nq, 0), qxmax = max(q, nq, 0);
+		double qymin = min(q, nq, 1), qymax = max(q, nq, 1);
+		return PrecisionUtils.smallerEqual(qxmin, pxmin + (pxmax - pxmin))
+				&& PrecisionUtils.smallerEqual(qymin, pymin + (pymax - pymin))
+				&& PrecisionUtils.greaterEqual(qxmin + (qxmax - qxmin), pxmin)
+				&& PrecisionUtils.greaterEqual(qymin + (qymax - qymin), pymin);
+	}
+
+	private static double differenceX(int i, int n) {
+		return (double) (i) / (double) (n - 1);
+	}
+
+	/**
+	 * Returns the maximum distance of the inner control points of the curve
+	 * represented by the given control points to the base line through its
+	 * start and end point.
+	 *
+	 * @param c
+	 *            The control point coordinates of the curve.
+	 * @param n
+	 *            The number of control points.
+	 * @return The maximum distance of the control points to the base line, or
+	 *         <code>0</code> if the base line is undefined.
+	 */
+	static double distanceToBaseLine(double[] c, int n) {
+		double lx = c[1] - c[2 * n - 1];
+		double ly = c[2 * n - 2] - c[0];
+		double lz = c[0] * c[2 * n - 1] - c[1] * c[2 * n - 2];
+		double f = Math.sqrt(lx * lx + ly * ly);
+		if (f == 0d) {
+			return 0d;
+		}
+		double maxDistance = 0d;
+		for (int i = 1; i < n - 1; i++) {
+			maxDistance = Math.max(maxDistance, Math
+					.abs((lx * c[2 * i] + ly * c[2 * i + 1] + lz) / f));
+		}
+		return maxDistance;
+	}
+
+	/**
+	 * Tests if the points of the curve represented by the given control
+	 * points at the parameter values <i>a</i> and <i>b</i> are equal with
+	 * respect to the given precision shift.
+	 *
+	 * @param c
+	 *            The control point coordinates of the curve.
+	 * @param n
+	 *            The number of control points.
+	 * @param a
+	 *            The first parameter value.
+	 * @param b
+	 *            The second parameter value.
+	 * @param shift
+	 *            The precision shift.
+	 * @return <code>true</code> if the points are equal, otherwise
+	 *         <code>false</code>.
+	 */
+	static boolean equalPoints(double[] c, int n, double a, double b,
+			int shift) {
+		return PrecisionUtils.equal(evaluate(c, n, a, 0),
+				evaluate(c, n, b, 0), shift)
+				&& PrecisionUtils.equal(evaluate(c, n, a, 1),
+						evaluate(c, n, b, 1), shift);
+	}
+
+	/**
+	 * Evaluates one coordinate of the curve represented by the given control
+	 * points at the given parameter value using Horner's scheme.
+	 *
+	 * @param c
+	 *            The control point coordinates of the curve.
+	 * @param n
+	 *            The number of control points.
+	 * @param t
+	 *            The parameter value.
+	 * @param dim
+	 *            <code>0</code> to evaluate the x coordinate, <code>1</code>
+	 *            to evaluate the y coordinate.
+	 * @return The x or y coordinate of the point at the given parameter value.
+	 */
+	static double evaluate(double[] c, int n, double t, int dim) {
+		// homogeneous evaluation, analogous to BezierCurve#getHC(double)
+		double bn = 1, tn = 1, d = 1d - t;
+		double v = c[dim] * (bn * tn);
+		double w = bn * tn;
+		for (int i = 1; i < n; i++) {
+			bn = bn * (n - i) / i;
+			tn = tn * t;
+			v = v * d + c[2 * i + dim] * (bn * tn);
+			w = w * d + bn * tn;
+		}
+		return v / w;
+	}
+
+	/**
+	 * Computes the fat line of the curve represented by the given control
+	 * points, i.e. the line through its start and end point (or the line
+	 * orthogonal to it) together with the minimum and maximum signed distances
+	 * of the control points to it. The result is stored in the given array
+	 * (see {@link #FAT_LINE_SIZE}).
+	 *
+	 * @param c
+	 *            The control point coordinates of the curve.
+	 * @param n
+	 *            The number of control points.
+	 * @param ortho
+	 *            <code>true</code> to compute the orthogonal fat line,
+	 *            otherwise <code>false</code>.
+	 * @param fatLine
+	 *            The array to store the fat line in.
+	 * @return <code>true</code> if the fat line could be computed,
+	 *         <code>false</code> if the curve is degenerated.
+	 */
+	static boolean fatLine(double[] c, int n, boolean ortho,
+			double[] fatLine) {
+		double x0 = c[0], y0 = c[1];
+		double lx = y0 - c[2 * n - 1];
+		double ly = c[2 * n - 2] - x0;
+		double lz = x0 * c[2 * n - 1] - y0 * c[2 * n - 2];
+		double f = Math.sqrt(lx * lx + ly * ly);
+		if (f == 0d) {
+			return false;
+		}
+
+		if (ortho) {
+			double ex = x0 + lx, ey = y0 + ly;
+			lx = y0 - ey;
+			ly = ex - x0;
+			lz = x0 * ey - y0 * ex;
+			f = Math.sqrt(lx * lx + ly * ly);
+			if (f == 0d) {
+				return false;
+			}
+		}
+
+		fatLine[FAT_LINE_X] = lx;
+		fatLine[FAT_LINE_Y] = ly;
+		fatLine[FAT_LINE_Z] = lz;
+		fatLine[FAT_LINE_F] = f;
+
+		double dmin = 0, dmax = 0;
+		for (int i = 0; i < n; i++) {
+			double d = signedDistance(fatLine, c[2 * i], c[2 * i + 1]);
+			if (d < dmin) {
+				dmin = d;
+			} else if (d > dmax) {
+				dmax = d;
+			}
+		}
+		fatLine[FAT_LINE_DMIN] = dmin;
+		fatLine[FAT_LINE_DMAX] = dmax;
+		return true;
+	}
+
+	/**
+	 * Appends a polygonal approximation of the curve represented by the given
+	 * control points to the given {@link CoordinateBuffer}. The start point of
+	 * the curve is not appended, so that consecutive curves can be flattened
+	 * into the same buffer.
+	 * <p>
+	 * The curve is recursively subdivided until the control points of each
+	 * part are within the given tolerance of the chord of that part. Due to
+	 * the convex hull property, every point of the curve is then within the
+	 * given tolerance of the resulting polyline. The subdivision depth is
+	 * limited by {@link #MAX_FLATTENING_DEPTH}.
+	 * </p>
+	 *
+	 * @param c
+	 *            The control point coordinates of the curve.
+	 * @param n
+	 *            The number of control points.
+	 * @param tolerance
+	 *            The maximum distance between the curve and the approximating
+	 *            polyline.
+	 * @param sink
+	 *            The {@link CoordinateBuffer} to append the points to.
+	 */
+	static void flatten(double[] c, int n, double tolerance,
+			CoordinateBuffer sink) {
+		if (!(tolerance > 0)) {
+			throw new IllegalArgumentException(
+					"tolerance has to be positive: " + tolerance);
+		}
+		if (n < 2) {
+			return;
+		}
+
+		double toleranceSquared = tolerance * tolerance;
+		ScratchPool pool = getScratchPool();
+		int mark = pool.mark();
+		try {
+			double[] part = pool.acquire(2 * n);
+			// every entry consists of start parameter, end parameter, and depth
+			double[] stack = pool.acquire(3 * (MAX_FLATTENING_DEPTH + 2));
+			int top = 0;
+			stack[top++] = 0;
+			stack[top++] = 1;
+			stack[top++] = 0;
+
+			while (top > 0) {
+				double depth = stack[--top];
+				double e = stack[--top];
+				double s = stack[--top];
+				int m = clip(c, n, s, e, part);
+				if (depth >= MAX_FLATTENING_DEPTH
+						|| isFlat(part, m, toleranceSquared)) {
+					if (e == 1) {
+						sink.add(c[2 * n - 2], c[2 * n - 1]);
+					} else {
+						sink.add(part[2 * m - 2], part[2 * m - 1]);
+					}
+				} else {
+					double mid = (s + e) / 2;
+					stack[top++] = mid;
+					stack[top++] = e;
+					stack[top++] = depth + 1;
+					stack[top++] = s;
+					stack[top++] = mid;
+					stack[top++] = depth + 1;
+				}
+			}
+		} finally {
+			pool.release(mark);
+		}
+	}
+
+	/**
+	 * Returns the {@link ScratchPool} of the current thread.
+	 *
+	 * @return The {@link ScratchPool} of the current thread.
+	 */
+	static ScratchPool getScratchPool() {
+		return SCRATCH_POOL.get();
+	}
+
+	/**
+	 * Computes the x coordinate of the intersection of the line from (px, py)
+	 * to (qx, qy) with the x-axis-parallel line f(x) = y.
+	 */
+	private static double intersectXAxisParallel(double px, double py,
+			double qx, double qy, double y) {
+		double m = (qy - py) / (qx - px);
+		return (y - py + m * px) / m;
+	}
+
+	/**
+	 * Tests if all control points of the curve represented by the given
+	 * control points have a squared distance of at most the given value to
+	 * the chord of the curve, i.e. the line segment from its start point to
+	 * its end point.
+	 */
+	private static boolean isFlat(double[] c, int n, double toleranceSquared) {
+		double x0 = c[0], y0 = c[1];
+		double dx = c[2 * n - 2] - x0, dy = c[2 * n - 1] - y0;
+		double lengthSquared = dx * dx + dy * dy;
+		for (int i = 1; i < n - 1; i++) {
+			double px = c[2 * i] - x0, py = c[2 * i + 1] - y0;
+			double t = lengthSquared == 0 ? 0
+					: (px * dx + py * dy) / lengthSquared;
+			if (t < 0) {
+				t = 0;
+			} else if (t > 1) {
+				t = 1;
+			}
+			double ex = px - t * dx, ey = py - t * dy;
+			if (ex * ex + ey * ey > toleranceSquared) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static double max(double[] c, int n, int dim) {
+		double max = c[dim];
+		for (int i = 1; i < n; i++) {
+			if (c[2 * i + dim] > max) {
+				max = c[2 * i + dim];
+			}
+		}
+		return max;
+	}
+
+	private static double min(double[] c, int n, int dim) {
+		double min = c[dim];
+		for (int i = 1; i < n; i++) {
+			if (c[2 * i + dim] < min) {
+				min = c[2 * i + dim];
+			}
+		}
+		return min;
+	}
+
+	/**
+	 * Moves the interval's start and end values, so that the given value
+	 * (clamped to <code>[0;1]</code>) is included.
+	 */
+	private static void moveInterval(double[] interval, double x) {
+		// assure that 0 <= x <= 1 to prevent invalid parameter values
+		if (x < 0) {
+			x = 0;
+		} else if (x > 1) {
+			x = 1;
+		}
+
+		if (interval[0] > x) {
+			interval[0] = x;
+		}
+		if (interval[1] < x) {
+			interval[1] = x;
+		}
+	}
+
+	/**
+	 * Computes the value at the given ratio between the two given values
+	 * (analogous to Vector3D#getRatio(Vector3D, double)).
+	 */
+	private static double ratio(double a, double b, double t) {
+		return a + (b - a) * t;
+	}
+
+	/**
+	 * Computes the clock-wise signed distance of the given point to the line
+	 * of the given fat line.
+	 */
+	private static double signedDistance(double[] fatLine, double x,
+			double y) {
+		return (fatLine[FAT_LINE_X] * x + fatLine[FAT_LINE_Y] * y
+				+ fatLine[FAT_LINE_Z]) / fatLine[FAT_LINE_F];
+	}
+
+	private BezierKernel() {
+		// this class should not be instantiated by clients
+	}
+
+}
@@ -0,0 +1,265 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.planar;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * A {@link CoordinateBuffer} is a growable sequence of point coordinates,
+ * stored in x, y order within a single <code>double[]</code>. It is used as
+ * the target of the flattening operations (see
+ * {@link ICurve#flatten(double, CoordinateBuffer)} and
+ * {@link Path#flatten(double, CoordinateBuffer)}), so that a caller can reuse
+ * one buffer for repeated flattenings instead of allocating new {@link Line}
+ * or {@link Point} arrays each time.
+ * </p>
+ * <p>
+ * The points can be grouped into sub-paths (see {@link #startSubpath()}).
+ * Unless a sub-path is explicitly started, all points belong to one implicit
+ * sub-path.
+ * </p>
+ *
+ * @author agent
+ *
+ */
+public class CoordinateBuffer {
+
+	private static final int DEFAULT_CAPACITY = 32;
+
+	private double[] coordinates;
+	private int pointCount = 0;
+	private int[] subpathStarts = new int[4];
+	private int subpathCount = 0;
+
+	/**
+	 * Constructs a new, empty {@link CoordinateBuffer} with a default initial
+	 * capacity.
+	 */
+	public CoordinateBuffer() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructs a new, empty {@link CoordinateBuffer} that can hold the given
+	 * number of points before it needs to grow.
+	 *
+	 * @param initialCapacity
+	 *            The number of points that can be stored without growing.
+	 */
+	public CoordinateBuffer(int initialCapacity) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException(
+					"initialCapacity may not be negative: " + initialCapacity);
+		}
+		coordinates = new double[2 * initialCapacity];
+	}
+
+	/**
+	 * Appends the point specified by the given coordinates to this
+	 * {@link CoordinateBuffer}.
+	 *
+	 * @param x
+	 *            The x coordinate of the point to append.
+	 * @param y
+	 *            The y coordinate of the point to append.
+	 * @return <code>this</code> for convenience.
+	 */
+	public CoordinateBuffer add(double x, double y) {
+		ensureCapacity(pointCount + 1);
+		coordinates[2 * pointCount] = x;
+		coordinates[2 * pointCount + 1] = y;
+		pointCount++;
+		return this;
+	}
+
+	/**
+	 * Appends <i>n</i> points to this {@link CoordinateBuffer}, which are read
+	 * from the given coordinates array (in x, y order), beginning at the point
+	 * with the given index.
+	 *
+	 * @param coordinates
+	 *            The coordinates array to read the points from.
+	 * @param index
+	 *            The index of the first point to append.
+	 * @param n
+	 *            The number of points to append.
+	 * @return <code>this</code> for convenience.
+	 */
+	public CoordinateBuffer addAll(double[] coordinates, int index, int n) {
+		ensureCapacity(pointCount + n);
+		System.arraycopy(coordinates, 2 * index, this.coordinates,
+				2 * pointCount, 2 * n);
+		pointCount += n;
+		return this;
+	}
+
+	/**
+	 * Removes all points and sub-paths from this {@link CoordinateBuffer}. The
+	 * capacity is retained, so that the buffer can be reused without
+	 * allocating new memory.
+	 *
+	 * @return <code>this</code> for convenience.
+	 */
+	public CoordinateBuffer clear() {
+		pointCount = 0;
+		subpathCount = 0;
+		return this;
+	}
+
+	/**
+	 * Ensures that this {@link CoordinateBuffer} can hold at least the given
+	 * number of points without growing.
+	 *
+	 * @param capacity
+	 *            The number of points that need to fit into this buffer.
+	 */
+	public void ensureCapacity(int capacity) {
+		if (2 * capacity > coordinates.length) {
+			coordinates = Arrays.copyOf(coordinates,
+					Math.max(2 * capacity, 2 * coordinates.length));
+		}
+	}
+
+	/**
+	 * Returns the backing coordinates array of this {@link CoordinateBuffer}
+	 * (in x, y order). Only the first <code>2 * getPointCount()</code> values
+	 * are valid. The array is not copied, therefore, it may not be modified,
+	 * and it is only valid until the next modification of this buffer.
+	 *
+	 * @return The backing coordinates array.
+	 */
+	public double[] getCoordinates() {
+		return coordinates;
+	}
+
+	/**
+	 * Returns the number of points that are stored in this
+	 * {@link CoordinateBuffer}.
+	 *
+	 * @return The number of points.
+	 */
+	public int getPointCount() {
+		return pointCount;
+	}
+
+	/**
+	 * Returns the number of sub-paths that were started via
+	 * {@link #startSubpath()}.
+	 *
+	 * @return The number of sub-paths.
+	 */
+	public int getSubpathCount() {
+		return subpathCount;
+	}
+
+	/**
+	 * Returns the index of the first point of the sub-path with the given
+	 * index.
+	 *
+	 * @param i
+	 *            The index of the sub-path.
+	 * @return The index of the first point of the specified sub-path.
+	 */
+	public int getSubpathStart(int i) {
+		if (i < 0 || i >= subpathCount) {
+			throw new IndexOutOfBoundsException(
+					"Sub-path index out of range: " + i);
+		}
+		return subpathStarts[i];
+	}
+
+	/**
+	 * Returns the x coordinate of the point with the given index.
+	 *
+	 * @param i
+	 *            The index of the point.
+	 * @return The x coordinate of the specified point.
+	 */
+	public double getX(int i) {
+		checkIndex(i);
+		return coordinates[2 * i];
+	}
+
+	/**
+	 * Returns the y coordinate of the point with the given index.
+	 *
+	 * @param i
+	 *            The index of the point.
+	 * @return The y coordinate of the specified point.
+	 */
+	public double getY(int i) {
+		checkIndex(i);
+		return coordinates[2 * i + 1];
+	}
+
+	private void checkIndex(int i) {
+		if (i < 0 || i >= pointCount) {
+			throw new IndexOutOfBoundsException(
+					"Point index out of range: " + i);
+		}
+	}
+
+	/**
+	 * Starts a new sub-path, i.e. the next point that is added to this
+	 * {@link CoordinateBuffer} will be the first point of the new sub-path.
+	 *
+	 * @return <code>this</code> for convenience.
+	 */
+	public CoordinateBuffer startSubpath() {
+		if (subpathCount == subpathStarts.length) {
+			subpathStarts = Arrays.copyOf(subpathStarts,
+					2 * subpathStarts.length);
+		}
+		subpathStarts[subpathCount++] = pointCount;
+		return this;
+	}
+
+	/**
+	 * Returns a copy of the coordinates that are stored in this
+	 * {@link CoordinateBuffer} (in x, y order).
+	 *
+	 * @return A new array containing the coordinates of all points.
+	 */
+	public double[] toCoordinatesArray() {
+		return Arrays.copyOf(coordinates, 2 * pointCount);
+	}
+
+	/**
+	 * Returns the points that are stored in this {@link CoordinateBuffer}.
+	 *
+	 * @return A new array containing all points.
+	 */
+	public Point[] toPoints() {
+		Point[] points = new Point[pointCount];
+		for (int i = 0; i < pointCount; i++) {
+			points[i] = new Point(coordinates[2 * i], coordinates[2 * i + 1]);
+		}
+		return points;
+	}
+
+	@Override
+	public String toString() {
+		StringBuffer str = new StringBuffer("CoordinateBuffer(");
+		for (int i = 0; i < pointCount; i++) {
+			str.append("(" + coordinates[2 * i] + ", " + coordinates[2 * i + 1]
+					+ ")");
+			if (i < pointCount - 1) {
+				str.append(", ");
+			}
+		}
+		str.append(")");
+		return str.toString();
+	}
+
+}
@@ -33,6 +33,33 @@ package org.eclipse.gef.geometry.planar;
  */
 public interface ICurve extends IGeometry {
 
+	/**
+	 * Appends a polygonal approximation of this {@link ICurve} to the given
+	 * {@link CoordinateBuffer}. The first appended point is the start
+	 * {@link Point} of this {@link ICurve} ({@link #getP1()}) and the last
+	 * appended point is its end {@link Point} ({@link #getP2()}). Every point
+	 * of this {@link ICurve} has a distance of at most the given tolerance to
+	 * the resulting polyline.
+	 * <p>
+	 * The default implementation flattens the {@link BezierCurve}s returned by
+	 * {@link #toBezier()} one after the other. Implementations should override
+	 * this method if they can compute their flattening more efficiently.
+	 * </p>
+	 *
+	 * @param tolerance
+	 *            The maximum distance between this {@link ICurve} and the
+	 *            approximating polyline. Has to be positive.
+	 * @param sink
+	 *            The {@link CoordinateBuffer} to append the points to.
+	 */
+	public default void flatten(double tolerance, CoordinateBuffer sink) {
+		BezierCurve[] segments = toBezier();
+		segments[0].flatten(tolerance, sink);
+		for (int i = 1; i < segments.length; i++) {
+			segments[i].flattenTail(tolerance, sink);
+		}
+	}
+
 	/**
 	 * Returns the points of intersection between this {@link ICurve} and the
 	 * given {@link ICurve}.
@@ -16,6 +16,7 @@ import java.awt.geom.Area;
 import java.awt.geom.Path2D;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import org.eclipse.gef.geometry.convert.awt.AWT2Geometry;
@@ -194,6 +195,18 @@ public class Path extends AbstractGeometry implements IGeometry {
 			return new Segment(type, getPoints());
 		}
 
+		/**
+		 * Returns the number of {@link Point}s associated with this
+		 * {@link Segment}, without copying them (as {@link #getPoints()}
+		 * would do).
+		 *
+		 * @return the number of {@link Point}s associated with this
+		 *         {@link Segment}
+		 */
+		public int getPointCount() {
+			return points.length;
+		}
+
 		/**
 		 * Returns a copy of the {@link Point}s associated with this
 		 * {@link Segment}.
@@ -218,6 +231,34 @@ public class Path extends AbstractGeometry implements IGeometry {
 			return type;
 		}
 
+		/**
+		 * Returns the x coordinate of the {@link Point} with the given index,
+		 * without copying any {@link Point}s (as {@link #getPoints()} would
+		 * do).
+		 *
+		 * @param index
+		 *            the index of the {@link Point}, in the range
+		 *            <code>[0, getPointCount())</code>
+		 * @return the x coordinate of the {@link Point} with the given index
+		 */
+		public double getX(int index) {
+			return points[index].x;
+		}
+
+		/**
+		 * Returns the y coordinate of the {@link Point} with the given index,
+		 * without copying any {@link Point}s (as {@link #getPoints()} would
+		 * do).
+		 *
+		 * @param index
+		 *            the index of the {@link Point}, in the range
+		 *            <code>[0, getPointCount())</code>
+		 * @return the y coordinate of the {@link Point} with the given index
+		 */
+		public double getY(int index) {
+			return points[index].y;
+		}
+
 		@Override
 		public int hashCode() {
 			return type;
@@ -449,13 +490,74 @@ public class Path extends AbstractGeometry implements IGeometry {
 			// test if they are composed by the same segments
 			// TODO: Even if the segments are not identical, the two Path
 			// objects can be equal to each other.
-			Segment[] thisSegments = getSegments();
-			Segment[] objSegments = ((Path) obj).getSegments();
-			return Arrays.equals(thisSegments, objSegments);
+			return segments.equals(((Path) obj).segments);
 		}
 		return false;
 	}
 
+	/**
+	 * Appends a polygonal approximation of the outline of this {@link Path}
+	 * to the given {@link CoordinateBuffer}. Every {@link Segment#MOVE_TO}
+	 * starts a new sub-path within the {@link CoordinateBuffer} (see
+	 * {@link CoordinateBuffer#startSubpath()}), and every
+	 * {@link Segment#CLOSE} appends the position of the last move to. The
+	 * {@link Segment#QUAD_TO} and {@link Segment#CUBIC_TO} segments are
+	 * flattened so that every point of such a segment has a distance of at
+	 * most the given tolerance to the resulting polyline.
+	 *
+	 * @param tolerance
+	 *            The maximum distance between the outline of this
+	 *            {@link Path} and the approximating polylines. Has to be
+	 *            positive.
+	 * @param sink
+	 *            The {@link CoordinateBuffer} to append the points to.
+	 */
+	public void flatten(double tolerance, CoordinateBuffer sink) {
+		if (!(tolerance > 0)) {
+			throw new IllegalArgumentException(
+					"tolerance has to be positive: " + tolerance);
+		}
+		BezierKernel.ScratchPool pool = BezierKernel.getScratchPool();
+		int mark = pool.mark();
+		try {
+			// control points of the current quadratic or cubic segment
+			double[] c = pool.acquire(8);
+			boolean hasMoveTo = false;
+			double moveToX = 0, moveToY = 0, x = 0, y = 0;
+			for (Segment s : segments) {
+				int type = s.getType();
+				if (type == Segment.MOVE_TO) {
+					moveToX = x = s.points[0].x;
+					moveToY = y = s.points[0].y;
+					hasMoveTo = true;
+					sink.startSubpath();
+					sink.add(x, y);
+				} else if (!hasMoveTo) {
+					throw new IllegalStateException(
+							"This Path does not start with a MOVE_TO, therefore, no start position could be determined.");
+				} else if (type == Segment.CLOSE) {
+					x = moveToX;
+					y = moveToY;
+					sink.add(x, y);
+				} else {
+					Point[] points = s.points;
+					c[0] = x;
+					c[1] = y;
+					for (int i = 0; i < points.length; i++) {
+						c[2 * i + 2] = points[i].x;
+						c[2 * i + 3] = points[i].y;
+					}
+					BezierKernel.flatten(c, points.length + 1, tolerance,
+							sink);
+					x = points[points.length - 1].x;
+					y = points[points.length - 1].y;
+				}
+			}
+		} finally {
+			pool.release(mark);
+		}
+	}
+
 	@Override
 	public Rectangle getBounds() {
 		List<ICurve> outlines = getOutlines();
@@ -471,7 +573,8 @@ public class Path extends AbstractGeometry implements IGeometry {
 
 	@Override
 	public Path getCopy() {
-		return new Path(getWindingRule(), getSegments());
+		return new Path(getWindingRule(),
+				segments.toArray(new Segment[segments.size()]));
 	}
 
 	/**
@@ -486,7 +589,6 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 */
 	public List<ICurve> getOutlines() {
 		List<ICurve> curves = new ArrayList<>();
-		Segment[] segments = getSegments();
 		// save the segment start point as it is not contained within individual
 		// path segments
 		Point segmentStart = null;
@@ -546,6 +648,19 @@ public class Path extends AbstractGeometry implements IGeometry {
 		return segments;
 	}
 
+	/**
+	 * Returns an unmodifiable list of the segments that make up this path. In
+	 * contrast to {@link #getSegments()}, the segments are not copied. This is
+	 * safe, because a {@link Segment} cannot be changed after its
+	 * construction. However, the returned list reflects subsequent additions
+	 * to this path.
+	 *
+	 * @return an unmodifiable list of the {@link Segment}s of this path
+	 */
+	public List<Segment> getSegmentsUnmodifiable() {
+		return Collections.unmodifiableList(segments);
+	}
+
 	@Override
 	public Path getTransformed(AffineTransform t) {
 		return AWT2Geometry
@@ -221,6 +221,14 @@ public class PolyBezier extends AbstractGeometry
 		return false;
 	}
 
+	@Override
+	public void flatten(double tolerance, CoordinateBuffer sink) {
+		beziers[0].flatten(tolerance, sink);
+		for (int i = 1; i < beziers.length; i++) {
+			beziers[i].flattenTail(tolerance, sink);
+		}
+	}
+
 	@Override
 	public Rectangle getBounds() {
 		if (beziers == null || beziers.length == 0) {
@@ -76,7 +76,7 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 
 	private static Polygon clipEar(Polygon p, int[] ear,
 			ArrayList<Polygon> ears) {
-		Point[] points = p.getPoints();
+		Point[] points = p.points;
 		ears.add(new Polygon(points[ear[0]], points[ear[1]], points[ear[2]]));
 		return new Polygon(getPointsWithout(points, ear[1]));
 	}
@@ -92,8 +92,35 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 	 * @return
 	 */
 	private static int[] findEarVertex(Polygon p) {
-		Point[] points = p.getPoints();
+		Point[] points = p.points;
+
+		int orientation = getOrientation(points);
+		if (orientation != 0) {
+			// an ear has a convex mid vertex and its triangle does not contain
+			// any other vertex
+			for (int start = 0; start < points.length; start++) {
+				int mid = start == points.length - 1 ? 0 : start + 1;
+				int end = start == points.length - 2 ? 0
+						: start == points.length - 1 ? 1 : start + 2;
+				if (isEar(points, start, mid, end, orientation)) {
+					return new int[] { start, mid, end };
+				}
+			}
+
+			// collinear (or duplicate) vertices can be clipped off as a
+			// degenerated ear without changing the area
+			for (int start = 0; start < points.length; start++) {
+				int mid = start == points.length - 1 ? 0 : start + 1;
+				int end = start == points.length - 2 ? 0
+						: start == points.length - 1 ? 1 : start + 2;
+				if (orientation(points[start], points[mid],
+						points[end]) == 0) {
+					return new int[] { start, mid, end };
+				}
+			}
+		}
 
+		// fall back to testing the diagonals for containment
 		for (int start = 0; start < points.length; start++) {
 			int mid = start == points.length - 1 ? 0 : start + 1;
 			int end = start == points.length - 2 ? 0
@@ -108,6 +135,46 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 		return null;
 	}
 
+	/**
+	 * Determines the orientation of the given outline, i.e. <code>1</code>
+	 * if the cross products of its convex vertices are positive,
+	 * <code>-1</code> if they are negative, and <code>0</code> if all
+	 * vertices are collinear.
+	 */
+	private static int getOrientation(Point[] points) {
+		// the lexicographically smallest vertex is convex
+		int min = 0;
+		for (int i = 1; i < points.length; i++) {
+			if (points[i].x < points[min].x || points[i].x == points[min].x
+					&& points[i].y < points[min].y) {
+				min = i;
+			}
+		}
+
+		// skip duplicates of the smallest vertex
+		int prev = min;
+		do {
+			prev = prev == 0 ? points.length - 1 : prev - 1;
+		} while (prev != min && isDuplicate(points[prev], points[min]));
+		int next = min;
+		do {
+			next = next == points.length - 1 ? 0 : next + 1;
+		} while (next != min && isDuplicate(points[next], points[min]));
+
+		int orientation = orientation(points[prev], points[min], points[next]);
+		if (orientation == 0) {
+			// the outline folds back at the smallest vertex, therefore, use the
+			// sign of the area instead
+			double area = 0;
+			for (int i = 0; i < points.length; i++) {
+				Point q = points[i == points.length - 1 ? 0 : i + 1];
+				area += points[i].x * q.y - q.x * points[i].y;
+			}
+			orientation = area > 0 ? 1 : area < 0 ? -1 : 0;
+		}
+		return orientation;
+	}
+
 	private static Point[] getPointsWithout(Point[] points,
 			int... indicesToRemove) {
 		Point[] rest = new Point[points.length - indicesToRemove.length];
@@ -125,6 +192,43 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 		return rest;
 	}
 
+	private static boolean isDuplicate(Point p, Point q) {
+		return p.x == q.x && p.y == q.y;
+	}
+
+	/**
+	 * Tests if the triangle (start, mid, end) is an ear of the outline that is
+	 * specified by the given {@link Point}s, i.e. if its orientation matches
+	 * the given orientation of the outline and no other vertex lies inside or
+	 * on the border of the triangle.
+	 */
+	private static boolean isEar(Point[] points, int start, int mid, int end,
+			int orientation) {
+		Point a = points[start];
+		Point b = points[mid];
+		Point c = points[end];
+		if (orientation(a, b, c) != orientation) {
+			return false;
+		}
+		for (int i = 0; i < points.length; i++) {
+			Point v = points[i];
+			if (i == start || i == mid || i == end || isDuplicate(v, a)
+					|| isDuplicate(v, b) || isDuplicate(v, c)) {
+				continue;
+			}
+			if (orientation(a, b, v) != -orientation
+					&& orientation(b, c, v) != -orientation
+					&& orientation(c, a, v) != -orientation) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int orientation(Point a, Point b, Point c) {
+		return PrecisionUtils.orientation(a.x, a.y, b.x, b.y, c.x, c.y);
+	}
+
 	/**
 	 * Clips exactly one ear off of the given {@link Polygon} and adds it to the
 	 * list of ears. If the resulting {@link Polygon} is a triangle, this is
@@ -206,13 +310,16 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 					"A polygon can only be constructed of at least 3 vertices.");
 		}
 
-		for (Line e1 : getOutlineSegments()) {
-			for (Line e2 : getOutlineSegments()) {
-				if (!e1.getP1().equals(e2.getP1())
-						&& !e1.getP2().equals(e2.getP1())
-						&& !e1.getP1().equals(e2.getP2())
-						&& !e1.getP2().equals(e2.getP2())) {
-					if (e1.touches(e2)) {
+		for (int i = 0; i < points.length; i++) {
+			Point a = points[i];
+			Point b = points[i == points.length - 1 ? 0 : i + 1];
+			for (int j = i + 1; j < points.length; j++) {
+				Point c = points[j];
+				Point d = points[j == points.length - 1 ? 0 : j + 1];
+				if (!a.equals(c) && !b.equals(c) && !a.equals(d)
+						&& !b.equals(d)) {
+					if (PrecisionUtils.segmentsIntersect(a.x, a.y, b.x, b.y,
+							c.x, c.y, d.x, d.y)) {
 						throw new IllegalStateException(
 								"Only simple polygons allowed. A polygon without any self-intersections is considered to be simple. This polygon is not simple.");
 					}
@@ -462,7 +569,7 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 		}
 		if (o instanceof Polygon) {
 			Polygon p = (Polygon) o;
-			return equals(p.getPoints());
+			return equals(p.points);
 		}
 		return false;
 	}
@@ -528,7 +635,7 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 	 */
 	@Override
 	public Polygon getCopy() {
-		return new Polygon(getPoints());
+		return new Polygon(points);
 	}
 
 	@Override
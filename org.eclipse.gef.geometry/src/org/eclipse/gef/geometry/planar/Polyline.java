@@ -110,7 +110,7 @@ public class Polyline extends AbstractPointListBasedGeometry<Polyline>
 		}
 		if (o instanceof Polyline) {
 			Polyline p = (Polyline) o;
-			return equals(p.getPoints());
+			return equals(p.points);
 		}
 		return false;
 	}
@@ -135,9 +135,21 @@ public class Polyline extends AbstractPointListBasedGeometry<Polyline>
 				|| Arrays.equals(this.points, Point.getReverseCopy(points));
 	}
 
+	@Override
+	public void flatten(double tolerance, CoordinateBuffer sink) {
+		if (!(tolerance > 0)) {
+			throw new IllegalArgumentException(
+					"tolerance has to be positive: " + tolerance);
+		}
+		sink.ensureCapacity(sink.getPointCount() + points.length);
+		for (Point p : points) {
+			sink.add(p.x, p.y);
+		}
+	}
+
 	@Override
 	public Polyline getCopy() {
-		return new Polyline(getPoints());
+		return new Polyline(points);
 	}
 
 	/**
@@ -210,22 +222,22 @@ public class Polyline extends AbstractPointListBasedGeometry<Polyline>
 
 	@Override
 	public double getX1() {
-		return getP1().x;
+		return points[0].x;
 	}
 
 	@Override
 	public double getX2() {
-		return getP2().x;
+		return points[points.length - 1].x;
 	}
 
 	@Override
 	public double getY1() {
-		return getP1().y;
+		return points[0].y;
 	}
 
 	@Override
 	public double getY2() {
-		return getP2().y;
+		return points[points.length - 1].y;
 	}
 
 	@Override
@@ -0,0 +1,591 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.planar;
+
+import java.util.Arrays;
+
+import org.eclipse.gef.geometry.internal.utils.PrecisionUtils;
+
+/**
+ * <p>
+ * A {@link PreparedShape} is a read-only representation of the area of a
+ * {@link Polygon}, {@link Ring}, or {@link CurvedPolygon}, which is optimized
+ * for testing many points for containment against the same shape, as it is
+ * needed for marquee selection or snapping.
+ * </p>
+ * <p>
+ * On construction, the outline edges are sorted by their y coordinates and
+ * the plane is decomposed into horizontal slabs at the y coordinates of all
+ * vertices and edge crossings. Within each slab, no edges cross, so that they
+ * can be sorted from left to right. A containment test does then only need
+ * to locate the slab (binary search over the slab boundaries) and the
+ * position of the point within that slab (binary search over the sorted
+ * edges), i.e. it is answered in <code>O(log n)</code> without allocating any
+ * memory.
+ * </p>
+ * <p>
+ * Note that every slab stores the edges that span it, so that the memory
+ * needed by a {@link PreparedShape} (and the time needed to construct it) is
+ * proportional to the sum of the edges over all slabs. This is linear for
+ * typical outlines, but quadratic in the number of edges in the worst case,
+ * e.g. for a comb-like polygon where many long edges span the slabs that are
+ * introduced by the vertices of many short edges. The crossings between edges
+ * are detected by a sweep over the y-sorted edges, which is quadratic in the
+ * worst case as well.
+ * </p>
+ * <p>
+ * Like {@link Polygon#contains(Point)}, a {@link PreparedShape} regards
+ * points on the outline to be contained (with respect to the imprecision
+ * provided by {@link PrecisionUtils}). Changes to the shape from which a
+ * {@link PreparedShape} was created are not reflected by it.
+ * </p>
+ *
+ * @author agent
+ *
+ */
+public final class PreparedShape {
+
+	// layout of the per-edge values within the edges array
+	private static final int X1 = 0;
+	private static final int Y1 = 1;
+	private static final int X2 = 2;
+	private static final int Y2 = 3;
+	private static final int DXDY = 4;
+	private static final int EDGE_SIZE = 5;
+
+	private static double signedArea(Point[] points) {
+		double area = 0;
+		for (int i = 0; i < points.length; i++) {
+			Point p = points[i];
+			Point q = points[i + 1 < points.length ? i + 1 : 0];
+			area += p.x * q.y - q.x * p.y;
+		}
+		return area / 2;
+	}
+
+	private final boolean nonZero;
+	private final boolean empty;
+	private final double minX;
+	private final double minY;
+	private final double maxX;
+	private final double maxY;
+
+	/**
+	 * The edges in x1, y1, x2, y2, dx/dy order. Non-horizontal edges are
+	 * oriented upwards, i.e. y1 &lt; y2.
+	 */
+	private final double[] edges;
+
+	/**
+	 * The winding of each edge, i.e. <code>1</code> if the original edge was
+	 * oriented upwards, and <code>-1</code> otherwise.
+	 */
+	private final int[] windings;
+
+	/**
+	 * The sorted, distinct y coordinates at which the plane is divided into
+	 * slabs. Slab <i>k</i> spans <code>[slabYs[k];slabYs[k+1])</code>.
+	 */
+	private double[] slabYs;
+
+	/**
+	 * The index into {@link #slabEdges} at which the edges of each slab
+	 * start, plus one trailing entry.
+	 */
+	private int[] slabStarts;
+
+	/**
+	 * The non-horizontal edges that span each slab, sorted from left to right
+	 * within each slab.
+	 */
+	private int[] slabEdges;
+
+	/**
+	 * The sum of the windings of the edges from the respective entry of
+	 * {@link #slabEdges} to the end of its slab.
+	 */
+	private int[] slabWindings;
+
+	/**
+	 * The index into {@link #horizontalEdges} at which the horizontal edges
+	 * at each of the {@link #slabYs} start, plus one trailing entry.
+	 */
+	private int[] horizontalStarts;
+
+	/**
+	 * The horizontal (and degenerated) edges, grouped by their y coordinate.
+	 */
+	private int[] horizontalEdges;
+
+	/**
+	 * Constructs a new {@link PreparedShape} for the given
+	 * {@link CurvedPolygon}. The outline of the {@link CurvedPolygon} is
+	 * approximated by flattening it with the given tolerance (see
+	 * {@link ICurve#flatten(double, CoordinateBuffer)}), so that containment
+	 * is only decided exactly up to that tolerance.
+	 *
+	 * @param curvedPolygon
+	 *            The {@link CurvedPolygon} to prepare.
+	 * @param tolerance
+	 *            The maximum distance between the outline of the given
+	 *            {@link CurvedPolygon} and its approximation.
+	 */
+	public PreparedShape(CurvedPolygon curvedPolygon, double tolerance) {
+		this(flatten(curvedPolygon, tolerance), true);
+	}
+
+	/**
+	 * Constructs a new {@link PreparedShape} for the given {@link Polygon}.
+	 * Containment is decided by the even-odd rule, as done by
+	 * {@link Polygon#contains(Point)}.
+	 *
+	 * @param polygon
+	 *            The {@link Polygon} to prepare.
+	 */
+	public PreparedShape(Polygon polygon) {
+		this(toCoordinateBuffer(false, polygon), false);
+	}
+
+	/**
+	 * Constructs a new {@link PreparedShape} for the given {@link Ring}, i.e.
+	 * for the union of the {@link Polygon}s of which the {@link Ring} is
+	 * composed.
+	 *
+	 * @param ring
+	 *            The {@link Ring} to prepare.
+	 */
+	public PreparedShape(Ring ring) {
+		this(toCoordinateBuffer(true, ring.getShapes()), true);
+	}
+
+	private PreparedShape(CoordinateBuffer rings, boolean nonZero) {
+		this.nonZero = nonZero;
+		int pointCount = rings.getPointCount();
+		empty = pointCount == 0;
+
+		double minX = Double.POSITIVE_INFINITY;
+		double minY = Double.POSITIVE_INFINITY;
+		double maxX = Double.NEGATIVE_INFINITY;
+		double maxY = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < pointCount; i++) {
+			minX = Math.min(minX, rings.getX(i));
+			minY = Math.min(minY, rings.getY(i));
+			maxX = Math.max(maxX, rings.getX(i));
+			maxY = Math.max(maxY, rings.getY(i));
+		}
+		this.minX = minX;
+		this.minY = minY;
+		this.maxX = maxX;
+		this.maxY = maxY;
+
+		// build the edge table
+		edges = new double[EDGE_SIZE * pointCount];
+		windings = new int[pointCount];
+		int subpathCount = Math.max(1, rings.getSubpathCount());
+		int edgeCount = 0;
+		for (int s = 0; s < subpathCount; s++) {
+			int start = rings.getSubpathCount() == 0 ? 0
+					: rings.getSubpathStart(s);
+			int end = s + 1 < subpathCount ? rings.getSubpathStart(s + 1)
+					: pointCount;
+			for (int i = start; i < end; i++) {
+				int j = i + 1 < end ? i + 1 : start;
+				setEdge(edgeCount++, rings.getX(i), rings.getY(i),
+						rings.getX(j), rings.getY(j));
+			}
+		}
+
+		prepareSlabs(edgeCount);
+	}
+
+	private static CoordinateBuffer flatten(CurvedPolygon curvedPolygon,
+			double tolerance) {
+		CoordinateBuffer rings = new CoordinateBuffer();
+		BezierCurve[] segments = curvedPolygon.getOutlineSegments();
+		if (segments.length > 0) {
+			segments[0].flatten(tolerance, rings);
+			for (int i = 1; i < segments.length; i++) {
+				segments[i].flattenTail(tolerance, rings);
+			}
+		}
+		return rings;
+	}
+
+	private static CoordinateBuffer toCoordinateBuffer(boolean orient,
+			Polygon... polygons) {
+		CoordinateBuffer rings = new CoordinateBuffer();
+		for (Polygon polygon : polygons) {
+			Point[] points = polygon.points;
+			rings.startSubpath();
+			if (orient && signedArea(points) < 0) {
+				for (int i = points.length - 1; i >= 0; i--) {
+					rings.add(points[i].x, points[i].y);
+				}
+			} else {
+				for (Point p : points) {
+					rings.add(p.x, p.y);
+				}
+			}
+		}
+		return rings;
+	}
+
+	/**
+	 * Tests if the point specified by the given coordinates is contained
+	 * within the shape that is represented by this {@link PreparedShape}.
+	 *
+	 * @param x
+	 *            The x coordinate of the point to test.
+	 * @param y
+	 *            The y coordinate of the point to test.
+	 * @return <code>true</code> if the specified point is contained,
+	 *         otherwise <code>false</code>.
+	 */
+	public boolean contains(double x, double y) {
+		// perform a quick rejection test via the bounds
+		if (empty || !PrecisionUtils.greaterEqual(x, minX)
+				|| !PrecisionUtils.smallerEqual(x, maxX)
+				|| !PrecisionUtils.greaterEqual(y, minY)
+				|| !PrecisionUtils.smallerEqual(y, maxY)) {
+			return false;
+		}
+
+		int k = findSlab(y);
+		if (k >= 0 && k < slabYs.length - 1) {
+			int j = findFirstRightOf(k, x, y);
+			int end = slabStarts[k + 1];
+			if (nonZero ? j < end && slabWindings[j] != 0
+					: (end - j) % 2 == 1) {
+				return true;
+			}
+		}
+		return touchesOutline(k, x, y);
+	}
+
+	/**
+	 * Tests if the given {@link Point} is contained within the shape that is
+	 * represented by this {@link PreparedShape}.
+	 *
+	 * @param p
+	 *            The {@link Point} to test.
+	 * @return <code>true</code> if the given {@link Point} is contained,
+	 *         otherwise <code>false</code>.
+	 * @see #contains(double, double)
+	 */
+	public boolean contains(Point p) {
+		return contains(p.x, p.y);
+	}
+
+	/**
+	 * Returns the index of the first edge within the given slab that is
+	 * right of the given point, or the end index of the slab if no such edge
+	 * exists.
+	 */
+	private int findFirstRightOf(int slab, double x, double y) {
+		int lo = slabStarts[slab];
+		int hi = slabStarts[slab + 1];
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (getX(slabEdges[mid], y) > x) {
+				hi = mid;
+			} else {
+				lo = mid + 1;
+			}
+		}
+		return lo;
+	}
+
+	/**
+	 * Returns the index of the last slab boundary that is smaller than or
+	 * equal to the given y coordinate, or <code>-1</code> if no such boundary
+	 * exists.
+	 */
+	private int findSlab(double y) {
+		int lo = 0;
+		int hi = slabYs.length;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (slabYs[mid] > y) {
+				hi = mid;
+			} else {
+				lo = mid + 1;
+			}
+		}
+		return lo - 1;
+	}
+
+	/**
+	 * Returns the bounds of the shape that is represented by this
+	 * {@link PreparedShape}.
+	 *
+	 * @return A new {@link Rectangle} representing the bounds.
+	 */
+	public Rectangle getBounds() {
+		if (empty) {
+			return new Rectangle();
+		}
+		return new Rectangle(minX, minY, maxX - minX, maxY - minY);
+	}
+
+	private double getX(int edge, double y) {
+		int o = EDGE_SIZE * edge;
+		return edges[o + X1] + (y - edges[o + Y1]) * edges[o + DXDY];
+	}
+
+	private boolean onEdge(int edge, double x, double y) {
+		int o = EDGE_SIZE * edge;
+		double x1 = edges[o + X1], y1 = edges[o + Y1];
+		double x2 = edges[o + X2], y2 = edges[o + Y2];
+		if (PrecisionUtils.equal(x, x1) && PrecisionUtils.equal(y, y1)
+				|| PrecisionUtils.equal(x, x2)
+						&& PrecisionUtils.equal(y, y2)) {
+			return true;
+		}
+		double dx = x2 - x1, dy = y2 - y1;
+		double length = Math.sqrt(dx * dx + dy * dy);
+		if (length == 0) {
+			return false;
+		}
+		double distance = Math.abs(dx * (y - y1) - dy * (x - x1)) / length;
+		return PrecisionUtils.equal(distance, 0)
+				&& PrecisionUtils.greaterEqual(x, Math.min(x1, x2))
+				&& PrecisionUtils.smallerEqual(x, Math.max(x1, x2))
+				&& PrecisionUtils.greaterEqual(y, Math.min(y1, y2))
+				&& PrecisionUtils.smallerEqual(y, Math.max(y1, y2));
+	}
+
+	private void prepareSlabs(int edgeCount) {
+		// distinct y coordinates of all vertices and crossings
+		double[] ys = new double[2 * edgeCount];
+		int yCount = 0;
+		for (int i = 0; i < edgeCount; i++) {
+			ys[yCount++] = edges[EDGE_SIZE * i + Y1];
+			ys[yCount++] = edges[EDGE_SIZE * i + Y2];
+		}
+
+		// y-sorted edge table of the non-horizontal edges
+		int[] sorted = new int[edgeCount];
+		int sortedCount = 0;
+		int horizontalCount = 0;
+		for (int i = 0; i < edgeCount; i++) {
+			if (edges[EDGE_SIZE * i + Y1] < edges[EDGE_SIZE * i + Y2]) {
+				sorted[sortedCount++] = i;
+			} else {
+				horizontalCount++;
+			}
+		}
+		sortEdges(sorted, sortedCount, Y1, 0);
+
+		// add the y coordinates of all crossings, so that the edges do not
+		// cross within a slab
+		for (int a = 0; a < sortedCount; a++) {
+			int i = sorted[a];
+			double iy2 = edges[EDGE_SIZE * i + Y2];
+			for (int b = a + 1; b < sortedCount
+					&& edges[EDGE_SIZE * sorted[b] + Y1] < iy2; b++) {
+				int j = sorted[b];
+				double lo = edges[EDGE_SIZE * j + Y1];
+				double hi = Math.min(iy2, edges[EDGE_SIZE * j + Y2]);
+				double dlo = getX(i, lo) - getX(j, lo);
+				double dhi = getX(i, hi) - getX(j, hi);
+				if (dlo < 0 && dhi > 0 || dlo > 0 && dhi < 0) {
+					double y = lo + (hi - lo) * dlo / (dlo - dhi);
+					if (lo < y && y < hi) {
+						if (yCount == ys.length) {
+							ys = Arrays.copyOf(ys, 2 * ys.length);
+						}
+						ys[yCount++] = y;
+					}
+				}
+			}
+		}
+		Arrays.sort(ys, 0, yCount);
+		int distinct = 0;
+		for (int i = 0; i < yCount; i++) {
+			if (distinct == 0 || ys[i] != ys[distinct - 1]) {
+				ys[distinct++] = ys[i];
+			}
+		}
+		slabYs = Arrays.copyOf(ys, distinct);
+
+		// group the horizontal edges by their y coordinate
+		horizontalEdges = new int[horizontalCount];
+		horizontalStarts = new int[distinct + 1];
+		for (int i = 0; i < edgeCount; i++) {
+			if (edges[EDGE_SIZE * i + Y1] == edges[EDGE_SIZE * i + Y2]) {
+				horizontalStarts[findSlab(edges[EDGE_SIZE * i + Y1]) + 1]++;
+			}
+		}
+		for (int k = 0; k < distinct; k++) {
+			horizontalStarts[k + 1] += horizontalStarts[k];
+		}
+		int[] fill = Arrays.copyOf(horizontalStarts, distinct);
+		for (int i = 0; i < edgeCount; i++) {
+			if (edges[EDGE_SIZE * i + Y1] == edges[EDGE_SIZE * i + Y2]) {
+				int k = findSlab(edges[EDGE_SIZE * i + Y1]);
+				horizontalEdges[fill[k]++] = i;
+			}
+		}
+
+		// sweep the slabs, maintaining the edges that span the current slab
+		int slabCount = Math.max(0, distinct - 1);
+		slabStarts = new int[slabCount + 1];
+		slabEdges = new int[Math.max(16, sortedCount)];
+		int entryCount = 0;
+		int[] active = new int[sortedCount];
+		int activeCount = 0;
+		int next = 0;
+		for (int k = 0; k < slabCount; k++) {
+			double lo = slabYs[k];
+			int kept = 0;
+			for (int a = 0; a < activeCount; a++) {
+				if (edges[EDGE_SIZE * active[a] + Y2] > lo) {
+					active[kept++] = active[a];
+				}
+			}
+			activeCount = kept;
+			while (next < sortedCount
+					&& edges[EDGE_SIZE * sorted[next] + Y1] <= lo) {
+				active[activeCount++] = sorted[next++];
+			}
+
+			sortEdges(active, activeCount, -1, (lo + slabYs[k + 1]) / 2);
+
+			slabStarts[k] = entryCount;
+			if (entryCount + activeCount > slabEdges.length) {
+				slabEdges = Arrays.copyOf(slabEdges, Math.max(
+						2 * slabEdges.length, entryCount + activeCount));
+			}
+			System.arraycopy(active, 0, slabEdges, entryCount, activeCount);
+			entryCount += activeCount;
+		}
+		slabStarts[slabCount] = entryCount;
+		slabEdges = Arrays.copyOf(slabEdges, entryCount);
+
+		slabWindings = new int[entryCount];
+		for (int k = 0; k < slabCount; k++) {
+			int sum = 0;
+			for (int e = slabStarts[k + 1] - 1; e >= slabStarts[k]; e--) {
+				sum += windings[slabEdges[e]];
+				slabWindings[e] = sum;
+			}
+		}
+	}
+
+	private void setEdge(int edge, double x1, double y1, double x2,
+			double y2) {
+		int o = EDGE_SIZE * edge;
+		if (y1 <= y2) {
+			edges[o + X1] = x1;
+			edges[o + Y1] = y1;
+			edges[o + X2] = x2;
+			edges[o + Y2] = y2;
+			windings[edge] = 1;
+		} else {
+			edges[o + X1] = x2;
+			edges[o + Y1] = y2;
+			edges[o + X2] = x1;
+			edges[o + Y2] = y1;
+			windings[edge] = -1;
+		}
+		edges[o + DXDY] = y1 == y2 ? 0
+				: (edges[o + X2] - edges[o + X1])
+						/ (edges[o + Y2] - edges[o + Y1]);
+	}
+
+	/**
+	 * Sorts the first <i>n</i> of the given edges, either by the value at the
+	 * given offset within the edge data, or (if the offset is negative) by
+	 * their x coordinate at the given y coordinate.
+	 */
+	private void sortEdges(int[] indices, int n, int offset, double y) {
+		double[] keys = new double[n];
+		for (int i = 0; i < n; i++) {
+			keys[i] = offset < 0 ? getX(indices[i], y)
+					: edges[EDGE_SIZE * indices[i] + offset];
+		}
+		sortByKeys(indices, keys, 0, n, new int[n], new double[n]);
+	}
+
+	/**
+	 * Sorts the given indices within <code>[from;to)</code> by their
+	 * corresponding keys, using a stable merge sort that operates on the
+	 * primitive arrays, so that no boxing is needed.
+	 */
+	private static void sortByKeys(int[] indices, double[] keys, int from,
+			int to, int[] indicesTmp, double[] keysTmp) {
+		if (to - from < 2) {
+			return;
+		}
+		int mid = (from + to) >>> 1;
+		sortByKeys(indices, keys, from, mid, indicesTmp, keysTmp);
+		sortByKeys(indices, keys, mid, to, indicesTmp, keysTmp);
+		if (Double.compare(keys[mid - 1], keys[mid]) <= 0) {
+			// already in order
+			return;
+		}
+		System.arraycopy(indices, from, indicesTmp, from, to - from);
+		System.arraycopy(keys, from, keysTmp, from, to - from);
+		int a = from, b = mid;
+		for (int i = from; i < to; i++) {
+			if (b >= to || a < mid
+					&& Double.compare(keysTmp[a], keysTmp[b]) <= 0) {
+				indices[i] = indicesTmp[a];
+				keys[i] = keysTmp[a++];
+			} else {
+				indices[i] = indicesTmp[b];
+				keys[i] = keysTmp[b++];
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "PreparedShape(" + windings.length + " edges, "
+				+ Math.max(0, slabYs.length - 1) + " slabs)";
+	}
+
+	/**
+	 * Tests if the given point lies on one of the edges next to it, i.e. the
+	 * edges left and right of it within the given slab and its neighbors, and
+	 * the horizontal edges at the adjacent slab boundaries.
+	 */
+	private boolean touchesOutline(int k, double x, double y) {
+		for (int s = k - 1; s <= k + 1; s++) {
+			if (s < 0 || s >= slabYs.length - 1
+					|| !PrecisionUtils.greaterEqual(y, slabYs[s])
+					|| !PrecisionUtils.smallerEqual(y, slabYs[s + 1])) {
+				continue;
+			}
+			double sy = Math.max(slabYs[s], Math.min(slabYs[s + 1], y));
+			int j = findFirstRightOf(s, x, sy);
+			if (j > slabStarts[s] && onEdge(slabEdges[j - 1], x, y)
+					|| j < slabStarts[s + 1] && onEdge(slabEdges[j], x, y)) {
+				return true;
+			}
+		}
+		for (int i = Math.max(0, k); i <= k + 1 && i < slabYs.length; i++) {
+			if (!PrecisionUtils.equal(y, slabYs[i])) {
+				continue;
+			}
+			int end = horizontalStarts[i + 1];
+			for (int h = horizontalStarts[i]; h < end; h++) {
+				if (onEdge(horizontalEdges[h], x, y)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+}
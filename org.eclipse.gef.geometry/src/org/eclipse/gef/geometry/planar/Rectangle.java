@@ -592,7 +592,7 @@ public final class Rectangle extends
 	 * @return A {@link Polygon} representation for this {@link Rectangle}
 	 */
 	public Polygon toPolygon() {
-		return new Polygon(Point.getCopy(getPoints()));
+		return new Polygon(getPoints());
 	}
 
 	@Override
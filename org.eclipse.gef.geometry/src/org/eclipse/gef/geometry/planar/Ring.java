@@ -21,6 +21,7 @@ import java.util.Stack;
 import org.eclipse.gef.geometry.euclidean.Angle;
 import org.eclipse.gef.geometry.euclidean.Straight;
 import org.eclipse.gef.geometry.euclidean.Vector;
+import org.eclipse.gef.geometry.internal.utils.PrecisionUtils;
 
 /**
  * A combination of Polygons....
@@ -32,6 +33,54 @@ import org.eclipse.gef.geometry.euclidean.Vector;
 public class Ring extends AbstractMultiShape
 		implements ITranslatable<Ring>, IScalable<Ring>, IRotatable<Ring> {
 
+	/**
+	 * Tests if the given triangle ({@link Polygon}) is degenerated, i.e. if its
+	 * vertices are collinear. The test is exact, so that only triangles with
+	 * an area of zero are regarded to be degenerated.
+	 *
+	 * @param t
+	 *            the triangle ({@link Polygon}) to test
+	 * @return <code>true</code> if the vertices of the given triangle are
+	 *         collinear, otherwise <code>false</code>
+	 */
+	private static boolean isDegenerated(Polygon t) {
+		return PrecisionUtils.orientation(t.getX(0), t.getY(0), t.getX(1),
+				t.getY(1), t.getX(2), t.getY(2)) == 0;
+	}
+
+	/**
+	 * Tests if the given {@link Line} touches the given triangle
+	 * ({@link Polygon}), i.e. if it intersects the outline of the triangle or
+	 * lies inside of it. The test is exact (see
+	 * {@link PrecisionUtils#segmentsIntersect(double, double, double, double, double, double, double, double)}).
+	 *
+	 * @param t
+	 *            the triangle ({@link Polygon}) to test
+	 * @param l
+	 *            the {@link Line} to test
+	 * @return <code>true</code> if the {@link Line} touches the triangle,
+	 *         otherwise <code>false</code>
+	 */
+	private static boolean touches(Polygon t, Line l) {
+		for (int i = 0; i < 3; i++) {
+			int j = i == 2 ? 0 : i + 1;
+			if (PrecisionUtils.segmentsIntersect(t.getX(i), t.getY(i),
+					t.getX(j), t.getY(j), l.getX1(), l.getY1(), l.getX2(),
+					l.getY2())) {
+				return true;
+			}
+		}
+		// the line does not intersect the outline, so that it is either
+		// completely inside or completely outside of the triangle
+		int o0 = PrecisionUtils.orientation(t.getX(0), t.getY(0), t.getX(1),
+				t.getY(1), l.getX1(), l.getY1());
+		int o1 = PrecisionUtils.orientation(t.getX(1), t.getY(1), t.getX(2),
+				t.getY(2), l.getX1(), l.getY1());
+		int o2 = PrecisionUtils.orientation(t.getX(2), t.getY(2), t.getX(0),
+				t.getY(0), l.getX1(), l.getY1());
+		return o0 != 0 && o0 == o1 && o1 == o2;
+	}
+
 	/**
 	 * Triangulates the given triangle ({@link Polygon}) at the given
 	 * {@link Line}. The triangulation is done using the simpler
@@ -60,6 +109,12 @@ public class Ring extends AbstractMultiShape
 					"The given Line parameter may not be null.");
 		}
 
+		// quick rejection test: nothing to split if the line does not touch
+		// the triangle at all
+		if (!touches(p, l)) {
+			return new Polygon[] { p.getCopy() };
+		}
+
 		boolean intersecting = l.getIntersections(p.getOutline()).length == 2;
 
 		if (!intersecting) {
@@ -270,7 +325,7 @@ public class Ring extends AbstractMultiShape
 		Stack<Polygon> toAdd = new Stack<>();
 		for (Polygon triangleToAdd : p.getTriangulation()) {
 			// do not add "empty" triangles
-			if (triangleToAdd.getArea() != 0) {
+			if (!isDegenerated(triangleToAdd)) {
 				toAdd.push(triangleToAdd);
 			}
 		}
@@ -79,6 +79,7 @@ import org.eclipse.gef.mvc.fx.policies.ViewportPolicy;
 import org.eclipse.gef.mvc.fx.providers.TransformProvider;
 import org.eclipse.gef.mvc.fx.viewer.IViewer;
 import org.eclipse.gef.mvc.fx.viewer.InfiniteCanvasViewer;
+import org.eclipse.gef.mvc.fx.viewer.RefreshVisualScheduler;
 
 import com.google.inject.AbstractModule;
 import com.google.inject.Binder;
@@ -769,6 +770,7 @@ public class MvcFxModule extends AbstractModule {
 			MapBinder<AdapterKey<?>, Object> adapterMapBinder) {
 		bindIContentPartFactoryAsContentViewerAdapter(adapterMapBinder);
 		bindContentPartPoolAsContentViewerAdapter(adapterMapBinder);
+		bindRefreshVisualSchedulerAsContentViewerAdapter(adapterMapBinder);
 
 		bindGridModelAsContentViewerAdapter(adapterMapBinder);
 		bindFocusModelAsContentViewerAdapter(adapterMapBinder);
@@ -894,6 +896,24 @@ public class MvcFxModule extends AbstractModule {
 				.to(PinchSpreadGesture.class);
 	}
 
+	/**
+	 * Adds a binding for {@link RefreshVisualScheduler} to the adapter map
+	 * binder for {@link IViewer}.
+	 *
+	 * @param adapterMapBinder
+	 *            The {@link MapBinder} to be used for the binding registration.
+	 *            In this case, will be obtained from
+	 *            {@link AdapterMaps#getAdapterMapBinder(Binder, Class)} using
+	 *            {@link IViewer} as a key.
+	 *
+	 * @see AdapterMaps#getAdapterMapBinder(Binder, Class)
+	 */
+	protected void bindRefreshVisualSchedulerAsContentViewerAdapter(
+			MapBinder<AdapterKey<?>, Object> adapterMapBinder) {
+		adapterMapBinder.addBinding(AdapterKey.defaultRole())
+				.to(RefreshVisualScheduler.class);
+	}
+
 	/**
 	 * Adds a binding for {@link RevealPrimarySelectionBehavior}, parameterized
 	 * by {@link Node}, to the adapter map binder for {@link IRootPart}.
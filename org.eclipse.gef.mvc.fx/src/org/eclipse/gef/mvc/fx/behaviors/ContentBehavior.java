@@ -17,16 +17,20 @@ package org.eclipse.gef.mvc.fx.behaviors;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
 
 import org.eclipse.gef.common.collections.SetMultimapChangeListener;
 import org.eclipse.gef.common.dispose.IDisposable;
 import org.eclipse.gef.mvc.fx.parts.IContentPart;
 import org.eclipse.gef.mvc.fx.parts.IContentPartFactory;
+import org.eclipse.gef.mvc.fx.parts.IFeedbackPart;
+import org.eclipse.gef.mvc.fx.parts.IHandlePart;
 import org.eclipse.gef.mvc.fx.parts.IRootPart;
 import org.eclipse.gef.mvc.fx.parts.IVisualPart;
 import org.eclipse.gef.mvc.fx.parts.PartUtils;
@@ -73,24 +77,10 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 				ListChangeListener.Change<? extends Object> change) {
 			// System.out.println("Content changed " + change);
 			// XXX: An atomic operation (including setAll()) on the
-			// ObservableList will lead to an atomic change here; we do not have
-			// to iterate through the individual changes but may simply
-			// synchronize with the list as it emerges after the changes have
-			// been applied.
-			// while (change.next()) {
-			// if (change.wasRemoved()) {
-			// removeContentPartChildren(getHost(),
-			// ImmutableList.copyOf(change.getRemoved()));
-			// } else if (change.wasAdded()) {
-			// addContentPartChildren(getHost(),
-			// ImmutableList.copyOf(change.getAddedSubList()),
-			// change.getFrom());
-			// } else if (change.wasPermutated()) {
-			// throw new UnsupportedOperationException(
-			// "Reorder not yet implemented");
-			// }
-			// }
-			synchronizeContentPartChildren(getHost(), change.getList());
+			// ObservableList will lead to an atomic change here, which is
+			// applied incrementally if possible (see
+			// synchronizeContentPartChildren(IVisualPart, Change)).
+			synchronizeContentPartChildren(getHost(), change);
 		}
 	};
 
@@ -101,26 +91,12 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 				final ListChangeListener.Change<? extends Object> change) {
 			// System.out.println("Content children changed " + change);
 			// XXX: An atomic operation (including setAll()) on the
-			// ObservableList will lead to an atomic change here; we do not have
-			// to iterate through the individual changes but may simply
-			// synchronize with the list as it emerges after the changes have
-			// been applied.
+			// ObservableList will lead to an atomic change here, which is
+			// applied incrementally if possible (see
+			// synchronizeContentPartChildren(IVisualPart, Change)).
 			IContentPart<? extends Node> parent = (IContentPart<? extends Node>) ((ReadOnlyProperty<?>) change
 					.getList()).getBean();
-			// while (change.next()) {
-			// if (change.wasRemoved()) {
-			// removeContentPartChildren(parent,
-			// ImmutableList.copyOf(change.getRemoved()));
-			// } else if (change.wasAdded()) {
-			// addContentPartChildren(parent,
-			// ImmutableList.copyOf(change.getAddedSubList()),
-			// change.getFrom());
-			// } else if (change.wasPermutated()) {
-			// throw new UnsupportedOperationException(
-			// "Reorder not yet implemented");
-			// }
-			// }
-			synchronizeContentPartChildren(parent, change.getList());
+			synchronizeContentPartChildren(parent, change);
 		}
 	};
 
@@ -313,7 +289,10 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 	 * content {@link Object} can be found in the viewer's content-part-map,
 	 * then this part is returned. If an {@link IContentPart} for the given
 	 * content {@link Object} is stored in the {@link ContentPartPool}, then
-	 * this part is returned. Otherwise, the injected
+	 * this part is returned. If the {@link ContentPartPool} can recycle an
+	 * {@link IContentPart} that was used for other content of the same type
+	 * (see {@link ContentPartPool#recycle(Object)}), then this part is
+	 * re-targeted to the given content and returned. Otherwise, the injected
 	 * {@link IContentPartFactory} is used to create a new {@link IContentPart}
 	 * for the given content {@link Object}.
 	 *
@@ -333,6 +312,10 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 			// 'Revive' a content part, if it was removed before
 			IContentPart<? extends Node> contentPart = getContentPartPool()
 					.remove(content);
+			// Recycle a content part that was used for other content
+			if (contentPart == null) {
+				contentPart = getContentPartPool().recycle(content);
+			}
 			// If the part could not be revived, a new one is created
 			if (contentPart == null) {
 				// create part using the factory
@@ -355,6 +338,49 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 		}
 	}
 
+	/**
+	 * Returns the index within the children of the given parent that
+	 * corresponds to the given index within the content children, i.e. the
+	 * index of the child at the given index within the
+	 * {@link #getContentPartChildren(IVisualPart) content part children}, or
+	 * the index behind the last content part child if the given index equals
+	 * the number of content part children.
+	 */
+	private int getChildIndex(IVisualPart<? extends Node> parent,
+			int contentIndex) {
+		List<IVisualPart<? extends Node>> children = parent
+				.getChildrenUnmodifiable();
+		int count = 0;
+		int childIndex = 0;
+		for (int i = 0; i < children.size(); i++) {
+			if (isContentPartChild(children.get(i))) {
+				if (count == contentIndex) {
+					return i;
+				}
+				count++;
+				childIndex = i + 1;
+			}
+		}
+		return childIndex;
+	}
+
+	/**
+	 * Returns the children of the given parent that correspond to content
+	 * children, i.e. all children except for the {@link IFeedbackPart}s and
+	 * {@link IHandlePart}s, which are added to the root part by the behaviors.
+	 */
+	private List<IVisualPart<? extends Node>> getContentPartChildren(
+			IVisualPart<? extends Node> parent) {
+		List<IVisualPart<? extends Node>> contentPartChildren = new ArrayList<>();
+		for (IVisualPart<? extends Node> child : parent
+				.getChildrenUnmodifiable()) {
+			if (isContentPartChild(child)) {
+				contentPartChildren.add(child);
+			}
+		}
+		return contentPartChildren;
+	}
+
 	/**
 	 * Returns the {@link IContentPartFactory} of the current viewer.
 	 *
@@ -376,6 +402,201 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 				.getAdapter(ContentPartPool.class);
 	}
 
+	private boolean isContentPartChild(IVisualPart<? extends Node> child) {
+		return !(child instanceof IFeedbackPart)
+				&& !(child instanceof IHandlePart);
+	}
+
+	/**
+	 * Adds the given {@link IContentPart}s to their parents, processing the
+	 * parents in reverse order (so that the children of a newly added part are
+	 * added after the part itself), synchronizes the anchorages of the added
+	 * parts, and performs the given reorders.
+	 */
+	private void performAdditions(
+			LinkedHashMap<IVisualPart<? extends Node>, HashMultimap<Integer, IContentPart<? extends Node>>> addsPerParent,
+			List<ReorderData> reorders) {
+		ArrayList<IVisualPart<? extends Node>> parents = new ArrayList<IVisualPart<? extends Node>>(
+				addsPerParent.keySet());
+
+		for (int i = parents.size() - 1; i >= 0; i--) {
+			IVisualPart<? extends Node> parentContentPart = parents.get(i);
+			HashMultimap<Integer, IContentPart<? extends Node>> childContentParts = addsPerParent
+					.get(parentContentPart);
+			childContentParts.keySet().forEach(cp -> {
+				ArrayList<IContentPart<? extends Node>> children = Lists
+						.newArrayList(childContentParts.get(cp));
+				parentContentPart.addChildren(children, cp);
+				children.forEach(contentPart -> {
+					synchronizeContentPartAnchorages(contentPart,
+							contentPart.getContentAnchoragesUnmodifiable());
+				});
+			});
+		}
+
+		for (ReorderData rd : reorders) {
+			rd.parent.reorderChild(rd.child, rd.index);
+		}
+	}
+
+	/**
+	 * Removes the given {@link IContentPart}s from their parents and disposes
+	 * them if they are obsolete.
+	 */
+	private void performRemovals(List<IContentPart<? extends Node>> toRemove,
+			Map<IVisualPart<? extends Node>, List<IContentPart<? extends Node>>> removalsPerParent) {
+		removalsPerParent.forEach((removeFrom, removeUs) -> {
+			removeFrom.removeChildren(removeUs);
+		});
+		for (IContentPart<? extends Node> cp : toRemove) {
+			disposeIfObsolete(cp);
+		}
+	}
+
+	/**
+	 * Reorders the {@link IContentPart} children of the given parent so that
+	 * the parts for the given content children are located at the given
+	 * content index in the given order. Returns <code>false</code> if a part
+	 * for one of the content children is not a child of the given parent.
+	 */
+	private boolean reorderContentPartChildren(
+			IVisualPart<? extends Node> parent,
+			List<? extends Object> contentChildren, int index) {
+		Map<Object, IContentPart<? extends Node>> contentPartMap = getHost()
+				.getRoot().getViewer().getContentPartMap();
+		List<IContentPart<? extends Node>> children = new ArrayList<>();
+		for (Object content : contentChildren) {
+			IContentPart<? extends Node> contentPart = contentPartMap
+					.get(content);
+			if (contentPart == null || contentPart.getParent() != parent) {
+				return false;
+			}
+			children.add(contentPart);
+		}
+		List<IVisualPart<? extends Node>> contentPartChildren = getContentPartChildren(
+				parent);
+		for (int i = 0; i < children.size(); i++) {
+			IContentPart<? extends Node> child = children.get(i);
+			if (contentPartChildren.get(index + i) != child) {
+				// the child is located behind the given index, so that the
+				// index of the child that is replaced stays valid
+				parent.reorderChild(child, getChildIndex(parent, index + i));
+				contentPartChildren.remove(child);
+				contentPartChildren.add(index + i, child);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Replaces the {@link IContentPart} children of the given parent that
+	 * correspond to the given removed content children (starting at the given
+	 * index) with parts for the given added content children. Returns
+	 * <code>false</code> if the children of the parent do not correspond to
+	 * the removed content children, or if a part for an added content child is
+	 * controlled elsewhere.
+	 */
+	@SuppressWarnings("unchecked")
+	private boolean replaceContentPartChildren(
+			IVisualPart<? extends Node> parent, int index,
+			List<? extends Object> removed, List<? extends Object> added) {
+		// skip the common prefix and suffix, as setAll() reports all content
+		// children as replaced
+		int commonSize = Math.min(removed.size(), added.size());
+		int prefix = 0;
+		while (prefix < commonSize
+				&& removed.get(prefix) == added.get(prefix)) {
+			prefix++;
+		}
+		int suffix = 0;
+		while (suffix < commonSize - prefix
+				&& removed.get(removed.size() - 1 - suffix) == added
+						.get(added.size() - 1 - suffix)) {
+			suffix++;
+		}
+		List<? extends Object> removedContents = removed.subList(prefix,
+				removed.size() - suffix);
+		List<? extends Object> addedContents = added.subList(prefix,
+				added.size() - suffix);
+		int from = index + prefix;
+
+		// determine the parts that correspond to the removed content children
+		List<IVisualPart<? extends Node>> contentPartChildren = getContentPartChildren(
+				parent);
+		List<IContentPart<? extends Node>> childrenToRemove = new ArrayList<>();
+		for (int i = 0; i < removedContents.size(); i++) {
+			IVisualPart<? extends Node> child = contentPartChildren
+					.get(from + i);
+			if (!(child instanceof IContentPart)
+					|| !Objects.equals(((IContentPart<?>) child).getContent(),
+							removedContents.get(i))) {
+				return false;
+			}
+			childrenToRemove.add((IContentPart<? extends Node>) child);
+		}
+
+		// content children that are removed as well as added are moved
+		Set<Object> removedSet = new HashSet<>(removedContents);
+		Map<Object, IContentPart<? extends Node>> contentPartMap = getHost()
+				.getRoot().getViewer().getContentPartMap();
+		boolean moved = false;
+		for (Object content : addedContents) {
+			if (removedSet.contains(content)) {
+				moved = true;
+			} else if (contentPartMap.containsKey(content)) {
+				return false;
+			}
+		}
+		if (moved) {
+			// only pure reorders are handled incrementally
+			if (removedContents.size() != addedContents.size()
+					|| !removedSet.equals(new HashSet<>(addedContents))) {
+				return false;
+			}
+			return reorderContentPartChildren(parent, addedContents, from);
+		}
+
+		// remove the parts for the removed content children
+		if (!childrenToRemove.isEmpty()) {
+			List<IContentPart<? extends Node>> toRemove = new ArrayList<>();
+			Map<IVisualPart<? extends Node>, List<IContentPart<? extends Node>>> removalsPerParent = new LinkedHashMap<>();
+			for (IContentPart<? extends Node> contentPart : childrenToRemove) {
+				detachAll(contentPart, Collections.emptySet(), toRemove,
+						removalsPerParent);
+				toRemove.add(contentPart);
+				synchronizeContentPartAnchorages(contentPart,
+						HashMultimap.create());
+			}
+			removalsPerParent.put(parent, childrenToRemove);
+			performRemovals(toRemove, removalsPerParent);
+		}
+
+		// add parts for the added content children
+		if (!addedContents.isEmpty()) {
+			List<IContentPart<? extends Node>> childrenToAdd = new ArrayList<>();
+			LinkedHashMap<IVisualPart<? extends Node>, HashMultimap<Integer, IContentPart<? extends Node>>> addsPerParent = new LinkedHashMap<IVisualPart<? extends Node>, HashMultimap<Integer, IContentPart<? extends Node>>>();
+			List<IContentPart<? extends Node>> addedParts = Lists.newArrayList();
+			List<ReorderData> reorders = Lists.newArrayList();
+			for (Object content : addedContents) {
+				IContentPart<? extends Node> contentPart = findOrCreatePartFor(
+						content);
+				contentPart.setParent(parent);
+				childrenToAdd.add(contentPart);
+				addedParts.add(contentPart);
+				addAll(contentPart,
+						contentPart.getContentChildrenUnmodifiable(),
+						addedParts, addsPerParent, reorders);
+			}
+			parent.addChildren(childrenToAdd, getChildIndex(parent, from));
+			for (IContentPart<? extends Node> contentPart : childrenToAdd) {
+				synchronizeContentPartAnchorages(contentPart,
+						contentPart.getContentAnchoragesUnmodifiable());
+			}
+			performAdditions(addsPerParent, reorders);
+		}
+		return true;
+	}
+
 	/**
 	 * Updates the host {@link IVisualPart}'s {@link IContentPart} anchorages
 	 * (see {@link IVisualPart#getAnchoragesUnmodifiable()}) so that it is in
@@ -476,38 +697,93 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 		Map<IVisualPart<? extends Node>, List<IContentPart<? extends Node>>> removalsPerParent = new LinkedHashMap<>();
 		detachAll(parent, Sets.newHashSet(contentChildren), toRemove,
 				removalsPerParent);
-		removalsPerParent.forEach((removeFrom, removeUs) -> {
-			removeFrom.removeChildren(removeUs);
-		});
-		for (IContentPart<? extends Node> cp : toRemove) {
-			disposeIfObsolete(cp);
-		}
+		performRemovals(toRemove, removalsPerParent);
 
 		LinkedHashMap<IVisualPart<? extends Node>, HashMultimap<Integer, IContentPart<? extends Node>>> addsPerParent = new LinkedHashMap<IVisualPart<? extends Node>, HashMultimap<Integer, IContentPart<? extends Node>>>();
 		List<IContentPart<? extends Node>> added = Lists.newArrayList();
 		List<ReorderData> reorders = Lists.newArrayList();
 		addAll(parent, contentChildren, added, addsPerParent, reorders);
+		performAdditions(addsPerParent, reorders);
+	}
 
-		ArrayList<IVisualPart<? extends Node>> parents = new ArrayList<IVisualPart<? extends Node>>(
-				addsPerParent.keySet());
-
-		for (int i = parents.size() - 1; i >= 0; i--) {
-			IVisualPart<? extends Node> parentContentPart = parents.get(i);
-			HashMultimap<Integer, IContentPart<? extends Node>> childContentParts = addsPerParent
-					.get(parentContentPart);
-			childContentParts.keySet().forEach(cp -> {
-				ArrayList<IContentPart<? extends Node>> children = Lists
-						.newArrayList(childContentParts.get(cp));
-				parentContentPart.addChildren(children, cp);
-				children.forEach(contentPart -> {
-					synchronizeContentPartAnchorages(contentPart,
-							contentPart.getContentAnchoragesUnmodifiable());
-				});
-			});
+	/**
+	 * Updates the host {@link IVisualPart}'s {@link IContentPart} children (see
+	 * {@link IVisualPart#getChildrenUnmodifiable()}) so that it is in sync with
+	 * the content children after the given change. The change is applied
+	 * incrementally, i.e. only the {@link IContentPart}s that correspond to
+	 * added, removed, or permuted content children are created, removed, or
+	 * reordered. If the change cannot be applied incrementally, e.g. because
+	 * the children of the given parent were not in sync with the content
+	 * children before the change, this method falls back to
+	 * {@link #synchronizeContentPartChildren(IVisualPart, List)}.
+	 *
+	 * @param parent
+	 *            The parent {@link IVisualPart} whose content part children to
+	 *            synchronize.
+	 *
+	 * @param change
+	 *            The {@link javafx.collections.ListChangeListener.Change} of
+	 *            the list of content children.
+	 */
+	public void synchronizeContentPartChildren(
+			IVisualPart<? extends Node> parent,
+			ListChangeListener.Change<? extends Object> change) {
+		if (change == null) {
+			throw new IllegalArgumentException("change may not be null");
+		}
+		if (!synchronizeIncrementally(parent, change)) {
+			synchronizeContentPartChildren(parent, change.getList());
 		}
+	}
 
-		for (ReorderData rd : reorders) {
-			rd.parent.reorderChild(rd.child, rd.index);
+	/**
+	 * Applies the given change to the {@link IContentPart} children of the
+	 * given parent. Returns <code>false</code> if the change could not be
+	 * (completely) applied, so that a full synchronization is needed.
+	 */
+	private boolean synchronizeIncrementally(IVisualPart<? extends Node> parent,
+			ListChangeListener.Change<? extends Object> change) {
+		try {
+			// the children have to correspond to the previous content
+			// children; feedback and handle parts (which are added to the
+			// root part) are ignored, so that content indices are mapped onto
+			// the content part children
+			int previousSize = change.getList().size();
+			change.reset();
+			while (change.next()) {
+				previousSize += change.getRemovedSize()
+						- change.getAddedSize();
+			}
+			List<IVisualPart<? extends Node>> contentPartChildren = getContentPartChildren(
+					parent);
+			if (contentPartChildren.size() != previousSize) {
+				return false;
+			}
+			for (IVisualPart<? extends Node> child : contentPartChildren) {
+				if (!(child instanceof IContentPart)) {
+					return false;
+				}
+			}
+			// apply the sub-changes in order, so that their indices are valid
+			change.reset();
+			while (change.next()) {
+				if (change.wasPermutated()) {
+					if (!reorderContentPartChildren(parent,
+							change.getList().subList(change.getFrom(),
+									change.getTo()),
+							change.getFrom())) {
+						return false;
+					}
+				} else if (change.wasAdded() || change.wasRemoved()) {
+					if (!replaceContentPartChildren(parent, change.getFrom(),
+							change.getRemoved(), change.getAddedSubList())) {
+						return false;
+					}
+				}
+			}
+			return true;
+		} finally {
+			change.reset();
 		}
 	}
 }
@@ -14,10 +14,15 @@ package org.eclipse.gef.mvc.fx.behaviors;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.gef.common.dispose.IDisposable;
 import org.eclipse.gef.mvc.fx.parts.IContentPart;
+import org.eclipse.gef.mvc.fx.parts.IContentPartFactory;
 
 import javafx.scene.Node;
 
@@ -31,6 +36,17 @@ import javafx.scene.Node;
  * motivation behind recycling {@link IContentPart}s is that after an undo the
  * viewer is in the exact same state as before the execution of an operation
  * (which may be important for feedback or handles).
+ * <p>
+ * By default, the number of pooled {@link IContentPart}s is not limited.
+ * Optionally, a {@link #setCapacity(int) capacity} may be set. If it is
+ * exceeded, the least recently added {@link IContentPart} is evicted from the
+ * pool and disposed, so that an undo that restores its content element leads
+ * to the creation of a new {@link IContentPart}. Therefore, a capacity should
+ * only be set if the {@link IContentPart}s do not need to be preserved across
+ * undo and redo. Optionally, pooled {@link IContentPart}s may also be
+ * {@link #recycle(Object) recycled} for other content elements of the same
+ * type (see {@link #setRecycling(boolean)}), so that their visuals and
+ * adapters are re-used instead of creating new {@link IContentPart}s.
  *
  * @author mwienand
  * @author anyssen
@@ -38,13 +54,25 @@ import javafx.scene.Node;
  */
 public class ContentPartPool implements IDisposable {
 
-	private Map<Object, IContentPart<? extends Node>> pool = new HashMap<>();
+	/**
+	 * The default capacity of a {@link ContentPartPool}, which does not limit
+	 * the number of pooled {@link IContentPart}s.
+	 */
+	public static final int DEFAULT_CAPACITY = Integer.MAX_VALUE;
+
+	// insertion order is used for eviction
+	private Map<Object, IContentPart<? extends Node>> pool = new LinkedHashMap<>();
+	private Map<Class<?>, Set<Object>> pooledContentsPerType = new HashMap<>();
+	private int capacity = DEFAULT_CAPACITY;
+	private boolean recycling = false;
 
 	/**
 	 * Adds an {@link IContentPart} to this pool. The {@link IContentPart} will
 	 * be stored under its content element ({@link IContentPart#getContent()})
 	 * and may later be retrieved back via this content element (see
-	 * {@link #remove(Object)}.
+	 * {@link #remove(Object)}. If a {@link #setCapacity(int) capacity} was set
+	 * and is exceeded, the least recently added {@link IContentPart} is
+	 * evicted and disposed.
 	 *
 	 * @param part
 	 *            The {@link IContentPart} to add to the pool.
@@ -54,7 +82,20 @@ public class ContentPartPool implements IDisposable {
 		// registered for the same content element in case we will enable this
 		// in the viewer (e.g. by adding context information to the content part
 		// map).
-		pool.put(part.getContent(), part);
+		Object content = part.getContent();
+		// re-insert so that the part is evicted last
+		remove(content);
+		pool.put(content, part);
+		if (content != null) {
+			Set<Object> pooledContents = pooledContentsPerType
+					.get(content.getClass());
+			if (pooledContents == null) {
+				pooledContents = new LinkedHashSet<>();
+				pooledContentsPerType.put(content.getClass(), pooledContents);
+			}
+			pooledContents.add(content);
+		}
+		evict();
 	}
 
 	/**
@@ -62,6 +103,7 @@ public class ContentPartPool implements IDisposable {
 	 */
 	public void clear() {
 		pool.clear();
+		pooledContentsPerType.clear();
 	}
 
 	@Override
@@ -72,6 +114,32 @@ public class ContentPartPool implements IDisposable {
 		clear();
 	}
 
+	/**
+	 * Evicts and disposes the least recently added {@link IContentPart}s until
+	 * the {@link #getCapacity() capacity} is no longer exceeded.
+	 */
+	private void evict() {
+		Iterator<Object> iterator = pool.keySet().iterator();
+		while (pool.size() > capacity) {
+			Object content = iterator.next();
+			IContentPart<? extends Node> evicted = pool.get(content);
+			iterator.remove();
+			removeFromPooledContentsPerType(content);
+			evicted.dispose();
+		}
+	}
+
+	/**
+	 * Returns the maximum number of {@link IContentPart}s that are kept in
+	 * this pool. Defaults to {@link #DEFAULT_CAPACITY}, i.e. the pool is
+	 * unbounded.
+	 *
+	 * @return The capacity of this pool.
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
 	/**
 	 * Returns the {@link IContentPart}'s that are contained in this pool.
 	 *
@@ -82,6 +150,45 @@ public class ContentPartPool implements IDisposable {
 		return Collections.unmodifiableCollection(pool.values());
 	}
 
+	/**
+	 * Returns whether pooled {@link IContentPart}s are recycled for other
+	 * content elements of the same type (see {@link #recycle(Object)}).
+	 *
+	 * @return <code>true</code> if pooled {@link IContentPart}s are recycled,
+	 *         <code>false</code> otherwise.
+	 */
+	public boolean isRecycling() {
+		return recycling;
+	}
+
+	/**
+	 * Retrieves an {@link IContentPart} that was pooled for a content element
+	 * of the same type as the given content element and removes it from the
+	 * pool, so that it can be re-targeted to the given content element (using
+	 * {@link IContentPart#setContent(Object)}). The least recently added
+	 * {@link IContentPart} is returned, i.e. the one that would be evicted
+	 * next. Returns <code>null</code> if recycling is disabled (see
+	 * {@link #setRecycling(boolean)}) or if no such {@link IContentPart} is
+	 * contained in this pool.
+	 *
+	 * @param content
+	 *            The content element for which to recycle an
+	 *            {@link IContentPart}.
+	 * @return The {@link IContentPart} that can be re-targeted to the given
+	 *         content element, or <code>null</code> if none could be found.
+	 */
+	public IContentPart<? extends Node> recycle(Object content) {
+		if (!recycling || content == null) {
+			return null;
+		}
+		Set<Object> pooledContents = pooledContentsPerType
+				.get(content.getClass());
+		if (pooledContents == null) {
+			return null;
+		}
+		return remove(pooledContents.iterator().next());
+	}
+
 	/**
 	 * Retrieves an {@link IContentPart} for the given content element and
 	 * removes it from the pool.
@@ -94,7 +201,65 @@ public class ContentPartPool implements IDisposable {
 	 *         <code>null</code> if none could be found.
 	 */
 	public IContentPart<? extends Node> remove(Object content) {
-		return pool.remove(content);
+		IContentPart<? extends Node> part = pool.remove(content);
+		if (part != null) {
+			removeFromPooledContentsPerType(content);
+		}
+		return part;
+	}
+
+	private void removeFromPooledContentsPerType(Object content) {
+		if (content == null) {
+			return;
+		}
+		Set<Object> pooledContents = pooledContentsPerType
+				.get(content.getClass());
+		if (pooledContents != null) {
+			pooledContents.remove(content);
+			if (pooledContents.isEmpty()) {
+				pooledContentsPerType.remove(content.getClass());
+			}
+		}
+	}
+
+	/**
+	 * Sets the maximum number of {@link IContentPart}s that are kept in this
+	 * pool. If the pool contains more {@link IContentPart}s, the least
+	 * recently added ones are evicted and disposed. As evicted
+	 * {@link IContentPart}s cannot be restored by an undo, a capacity should
+	 * only be set if the {@link IContentPart}s do not need to be preserved
+	 * across undo and redo.
+	 *
+	 * @param capacity
+	 *            The new capacity, which may not be smaller than 1.
+	 */
+	public void setCapacity(int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException(
+					"capacity may not be smaller than 1.");
+		}
+		this.capacity = capacity;
+		evict();
+	}
+
+	/**
+	 * Enables or disables recycling of pooled {@link IContentPart}s for other
+	 * content elements of the same type (see {@link #recycle(Object)}).
+	 * Recycling is disabled by default. It should only be enabled if the
+	 * {@link IContentPartFactory} creates {@link IContentPart}s of the same
+	 * type for all content elements of the same type, and if the
+	 * {@link IContentPart}s can be re-targeted to other content elements. As
+	 * recycled {@link IContentPart}s are re-bound to other content elements,
+	 * the original {@link IContentPart} of a content element cannot be
+	 * revived by an undo, so that recycling should only be enabled if the
+	 * {@link IContentPart}s do not need to be preserved across undo and redo.
+	 *
+	 * @param recycling
+	 *            <code>true</code> to enable recycling, <code>false</code> to
+	 *            disable it.
+	 */
+	public void setRecycling(boolean recycling) {
+		this.recycling = recycling;
 	}
 
-}
\ No newline at end of file
+}
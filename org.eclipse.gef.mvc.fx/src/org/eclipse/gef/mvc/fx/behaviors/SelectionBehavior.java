@@ -13,11 +13,21 @@
 package org.eclipse.gef.mvc.fx.behaviors;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
-import org.eclipse.gef.common.collections.CollectionUtils;
 import org.eclipse.gef.mvc.fx.models.SelectionModel;
+import org.eclipse.gef.mvc.fx.parts.AggregateSelectionFeedbackPart;
+import org.eclipse.gef.mvc.fx.parts.DefaultSelectionFeedbackPartFactory;
 import org.eclipse.gef.mvc.fx.parts.IContentPart;
+import org.eclipse.gef.mvc.fx.parts.IFeedbackPart;
 import org.eclipse.gef.mvc.fx.parts.IFeedbackPartFactory;
 import org.eclipse.gef.mvc.fx.parts.IHandlePartFactory;
 import org.eclipse.gef.mvc.fx.viewer.IViewer;
@@ -28,6 +38,16 @@ import javafx.scene.Node;
 /**
  * The default selection behavior is responsible for creating and removing
  * selection feedback and handles.
+ * <p>
+ * If the size of the selection exceeds the
+ * {@link #getAggregateFeedbackThreshold() aggregate feedback threshold},
+ * individual feedback (and handles) are only created for the primary
+ * selection, while the feedback for all other selected parts is aggregated
+ * into a single {@link AggregateSelectionFeedbackPart} (see
+ * {@link DefaultSelectionFeedbackPartFactory#AGGREGATE_FEEDBACK}). If the
+ * feedback part factory does not create a single
+ * {@link AggregateSelectionFeedbackPart} in that case, individual feedback is
+ * created for all selected parts instead.
  *
  * @author anyssen
  * @author mwienand
@@ -47,26 +67,74 @@ public class SelectionBehavior extends AbstractBehavior {
 	 */
 	public static final String SELECTION_HANDLE_PART_FACTORY = "SELECTION_HANDLE_PART_FACTORY";
 
+	/**
+	 * The default {@link #getAggregateFeedbackThreshold() aggregate feedback
+	 * threshold}.
+	 */
+	public static final int DEFAULT_AGGREGATE_FEEDBACK_THRESHOLD = 100;
+
+	private int aggregateFeedbackThreshold = DEFAULT_AGGREGATE_FEEDBACK_THRESHOLD;
+
+	// whether the feedback part factory failed to create aggregate feedback
+	// for the current selection, so that individual feedback is used instead
+	private boolean aggregateFeedbackUnsupported = false;
+
+	// aggregate feedback parts (null if feedback is not aggregated), the parts
+	// whose feedback they render, and the primary selection, for which
+	// individual feedback is created
+	private List<IFeedbackPart<? extends Node>> aggregateFeedbackParts;
+	private Set<IContentPart<? extends Node>> aggregateFeedbackTargets = new HashSet<>();
+	private IContentPart<? extends Node> primaryFeedbackTarget;
+
+	// the head of the selection, whose feedback is rendered differently
+	private IContentPart<? extends Node> selectionHead;
+
 	private ListChangeListener<IContentPart<? extends Node>> selectionObserver = new ListChangeListener<IContentPart<? extends Node>>() {
 		@Override
 		public void onChanged(
 				ListChangeListener.Change<? extends IContentPart<? extends Node>> c) {
-			// order of selection should not be relevant for feedback and
-			// handles, as such we ignore permutations
-			List<IContentPart<? extends Node>> newSelection = new ArrayList<>(
-					c.getList());
-			List<? extends IContentPart<? extends Node>> oldSelection = CollectionUtils
-					.getPreviousContents(c);
-			removeFeedbackAndHandles(oldSelection);
-			addFeedbackAndHandles(newSelection);
+			// determine the deselected and selected parts from the change,
+			// ignoring parts that were only moved within the selection
+			Set<IContentPart<? extends Node>> deselected = new LinkedHashSet<>();
+			Set<IContentPart<? extends Node>> selected = new LinkedHashSet<>();
+			while (c.next()) {
+				if (c.wasRemoved()) {
+					deselected.addAll(c.getRemoved());
+				}
+				if (c.wasAdded()) {
+					selected.addAll(c.getAddedSubList());
+				}
+			}
+			for (Iterator<IContentPart<? extends Node>> it = selected
+					.iterator(); it.hasNext();) {
+				if (deselected.remove(it.next())) {
+					it.remove();
+				}
+			}
+			updateFeedbackAndHandles(deselected, selected,
+					new ArrayList<>(c.getList()));
 		}
 	};
 
 	/**
+	 * Adds feedback for each of the given {@link IContentPart}s and handles
+	 * for the given selection.
+	 *
 	 * @param selected
 	 *            List of {@link IContentPart}s for which to add feedback and
 	 *            handles.
+	 *
+	 * @deprecated Will be removed in 6.0.0. This method is no longer called,
+	 *             because the feedback and handles are updated incrementally
+	 *             by
+	 *             {@link #updateFeedbackAndHandles(Collection, Collection, List)}.
+	 *             Please override
+	 *             {@link #updateFeedbackAndHandles(Collection, Collection, List)}
+	 *             instead, or customize the parts that are created by the
+	 *             {@link #SELECTION_FEEDBACK_PART_FACTORY} and
+	 *             {@link #SELECTION_HANDLE_PART_FACTORY}.
 	 */
+	@Deprecated
 	protected void addFeedbackAndHandles(
 			List<? extends IContentPart<? extends Node>> selected) {
 		if (!selected.isEmpty()) {
@@ -77,14 +145,64 @@ public class SelectionBehavior extends AbstractBehavior {
 			// XXX: For a multi selection, handles are generated for the whole
 			// selection and not for each part individually. For a single
 			// selection, handles are generated for the only selected part.
-			if (selected.size() == 1) {
-				// add handles for the single selection
-				addHandles(selected.get(0));
-			} else {
-				// add handles for the whole multi selection
-				addHandles(selected);
+			addSelectionHandles(selected);
+		}
+	}
+
+	/**
+	 * Adds individual feedback for the primary selection and aggregate feedback
+	 * for all other selected parts. Returns <code>false</code> (without adding
+	 * any feedback) if the feedback part factory does not create a single
+	 * {@link AggregateSelectionFeedbackPart} for the
+	 * {@link DefaultSelectionFeedbackPartFactory#AGGREGATE_FEEDBACK} context.
+	 */
+	private boolean addAggregateFeedback(
+			List<? extends IContentPart<? extends Node>> selection) {
+		// aggregate feedback for all but the primary selection
+		List<? extends IContentPart<? extends Node>> targets = selection
+				.subList(1, selection.size());
+		IFeedbackPartFactory factory = getFeedbackPartFactory(
+				getHost().getRoot().getViewer());
+		List<IFeedbackPart<? extends Node>> feedbackParts = null;
+		if (factory != null) {
+			Map<Object, Object> contextMap = new HashMap<>();
+			contextMap.put(
+					DefaultSelectionFeedbackPartFactory.AGGREGATE_FEEDBACK,
+					Boolean.TRUE);
+			feedbackParts = factory.createFeedbackParts(targets, contextMap);
+			if (feedbackParts == null || feedbackParts.size() != 1
+					|| !(feedbackParts
+							.get(0) instanceof AggregateSelectionFeedbackPart)) {
+				// the factory does not support aggregate feedback, so that
+				// its parts would be anchored on all targets
+				if (feedbackParts != null) {
+					for (IFeedbackPart<? extends Node> fp : feedbackParts) {
+						fp.dispose();
+					}
+				}
+				return false;
 			}
 		}
+		aggregateFeedbackParts = feedbackParts == null ? new ArrayList<>()
+				: new ArrayList<>(feedbackParts);
+		aggregateFeedbackTargets.addAll(targets);
+		addAnchoreds(targets, aggregateFeedbackParts);
+
+		// individual feedback for the primary selection
+		primaryFeedbackTarget = selection.get(0);
+		addFeedback(primaryFeedbackTarget);
+		return true;
+	}
+
+	private void addSelectionHandles(
+			List<? extends IContentPart<? extends Node>> selection) {
+		if (selection.size() == 1) {
+			// add handles for the single selection
+			addHandles(selection.get(0));
+		} else {
+			// add handles for the whole multi selection
+			addHandles(selection);
+		}
 	}
 
 	@Override
@@ -95,7 +213,26 @@ public class SelectionBehavior extends AbstractBehavior {
 				.addListener(selectionObserver);
 
 		// create feedback and handles if we are already selected
-		addFeedbackAndHandles(selectionModel.getSelectionUnmodifiable());
+		List<IContentPart<? extends Node>> selection = new ArrayList<>(
+				selectionModel.getSelectionUnmodifiable());
+		updateFeedbackAndHandles(
+				Collections.<IContentPart<? extends Node>> emptyList(),
+				selection, selection);
+	}
+
+	private void attachToAggregateFeedback(IContentPart<? extends Node> part) {
+		aggregateFeedbackTargets.add(part);
+		for (IFeedbackPart<? extends Node> fp : aggregateFeedbackParts) {
+			fp.attachToAnchorage(part);
+		}
+	}
+
+	private void detachFromAggregateFeedback(
+			IContentPart<? extends Node> part) {
+		aggregateFeedbackTargets.remove(part);
+		for (IFeedbackPart<? extends Node> fp : aggregateFeedbackParts) {
+			fp.detachFromAnchorage(part);
+		}
 	}
 
 	@Override
@@ -103,13 +240,28 @@ public class SelectionBehavior extends AbstractBehavior {
 		final SelectionModel selectionModel = getSelectionModel();
 
 		// remove any pending feedback
-		removeFeedbackAndHandles(selectionModel.getSelectionUnmodifiable());
+		removeAggregateFeedback();
+		clearFeedback();
+		clearHandles();
+		selectionHead = null;
+		aggregateFeedbackUnsupported = false;
 
 		// unregister
 		selectionModel.getSelectionUnmodifiable()
 				.removeListener(selectionObserver);
 	}
 
+	/**
+	 * Returns the size of a selection above which the selection feedback is
+	 * aggregated. Defaults to {@link #DEFAULT_AGGREGATE_FEEDBACK_THRESHOLD}.
+	 *
+	 * @return The size of a selection above which the selection feedback is
+	 *         aggregated.
+	 */
+	public int getAggregateFeedbackThreshold() {
+		return aggregateFeedbackThreshold;
+	}
+
 	@Override
 	protected IFeedbackPartFactory getFeedbackPartFactory(IViewer viewer) {
 		return getFeedbackPartFactory(viewer, SELECTION_FEEDBACK_PART_FACTORY);
@@ -134,10 +286,59 @@ public class SelectionBehavior extends AbstractBehavior {
 	}
 
 	/**
+	 * Returns <code>true</code> if the feedback for the current selection is
+	 * aggregated, i.e. if the size of the selection exceeds the
+	 * {@link #getAggregateFeedbackThreshold() aggregate feedback threshold}
+	 * and the feedback part factory supports aggregate feedback. Otherwise
+	 * returns <code>false</code>.
+	 *
+	 * @return <code>true</code> if the feedback is aggregated, otherwise
+	 *         <code>false</code>.
+	 */
+	public boolean isFeedbackAggregated() {
+		return aggregateFeedbackParts != null;
+	}
+
+	private void refreshFeedback(IContentPart<? extends Node> part) {
+		if (part != null) {
+			for (IFeedbackPart<? extends Node> fp : getFeedback(part)) {
+				fp.refreshVisual();
+			}
+		}
+	}
+
+	private void removeAggregateFeedback() {
+		if (aggregateFeedbackParts == null) {
+			return;
+		}
+		removeAnchoreds(aggregateFeedbackTargets, aggregateFeedbackParts);
+		for (IFeedbackPart<? extends Node> fp : aggregateFeedbackParts) {
+			fp.dispose();
+		}
+		aggregateFeedbackParts = null;
+		aggregateFeedbackTargets.clear();
+		primaryFeedbackTarget = null;
+	}
+
+	/**
+	 * Removes the feedback of each of the given {@link IContentPart}s and the
+	 * handles of the given selection.
+	 *
 	 * @param selected
 	 *            List of {@link IContentPart}s for which to remove feedback and
 	 *            handles.
+	 *
+	 * @deprecated Will be removed in 6.0.0. This method is no longer called,
+	 *             because the feedback and handles are updated incrementally
+	 *             by
+	 *             {@link #updateFeedbackAndHandles(Collection, Collection, List)}.
+	 *             Please override
+	 *             {@link #updateFeedbackAndHandles(Collection, Collection, List)}
+	 *             instead, or customize the parts that are created by the
+	 *             {@link #SELECTION_FEEDBACK_PART_FACTORY} and
+	 *             {@link #SELECTION_HANDLE_PART_FACTORY}.
 	 */
+	@Deprecated
 	protected void removeFeedbackAndHandles(
 			List<? extends IContentPart<? extends Node>> selected) {
 		if (!selected.isEmpty()) {
@@ -157,4 +358,127 @@ public class SelectionBehavior extends AbstractBehavior {
 			}
 		}
 	}
+
+	/**
+	 * Sets the size of a selection above which the selection feedback is
+	 * aggregated. The threshold is evaluated when the selection changes.
+	 *
+	 * @param aggregateFeedbackThreshold
+	 *            The size of a selection above which the selection feedback is
+	 *            aggregated. Has to be at least <code>1</code>.
+	 */
+	public void setAggregateFeedbackThreshold(int aggregateFeedbackThreshold) {
+		if (aggregateFeedbackThreshold < 1) {
+			throw new IllegalArgumentException(
+					"aggregateFeedbackThreshold may not be less than 1.");
+		}
+		this.aggregateFeedbackThreshold = aggregateFeedbackThreshold;
+	}
+
+	private void updateAggregateFeedback(
+			Collection<? extends IContentPart<? extends Node>> deselected,
+			Collection<? extends IContentPart<? extends Node>> selected,
+			List<? extends IContentPart<? extends Node>> selection) {
+		IContentPart<? extends Node> primary = selection.get(0);
+		for (IContentPart<? extends Node> sel : deselected) {
+			if (sel == primaryFeedbackTarget) {
+				removeFeedback(sel);
+				primaryFeedbackTarget = null;
+			} else if (aggregateFeedbackTargets.contains(sel)) {
+				detachFromAggregateFeedback(sel);
+			}
+		}
+		if (primaryFeedbackTarget != null && primaryFeedbackTarget != primary) {
+			// the previous primary selection is now rendered by the aggregate
+			removeFeedback(primaryFeedbackTarget);
+			attachToAggregateFeedback(primaryFeedbackTarget);
+			primaryFeedbackTarget = null;
+		}
+		for (IContentPart<? extends Node> sel : selected) {
+			if (sel != primary) {
+				attachToAggregateFeedback(sel);
+			}
+		}
+		if (primaryFeedbackTarget == null) {
+			if (aggregateFeedbackTargets.contains(primary)) {
+				detachFromAggregateFeedback(primary);
+			}
+			addFeedback(primary);
+			primaryFeedbackTarget = primary;
+		}
+	}
+
+	/**
+	 * Updates the feedback and handles in response to a selection change.
+	 * Feedback is only removed for the deselected parts and added for the
+	 * newly selected parts, while the handles (which are generated for the
+	 * whole selection) are re-generated. If the selection exceeds the
+	 * {@link #getAggregateFeedbackThreshold() aggregate feedback threshold},
+	 * the feedback is aggregated and handles are only generated for the
+	 * primary selection. When the head of the selection changes, the feedback
+	 * of the previous and of the new head is refreshed.
+	 *
+	 * @param deselected
+	 *            The {@link IContentPart}s that were removed from the
+	 *            selection.
+	 * @param selected
+	 *            The {@link IContentPart}s that were added to the selection.
+	 * @param selection
+	 *            The new selection.
+	 */
+	protected void updateFeedbackAndHandles(
+			Collection<? extends IContentPart<? extends Node>> deselected,
+			Collection<? extends IContentPart<? extends Node>> selected,
+			List<? extends IContentPart<? extends Node>> selection) {
+		boolean aggregate = selection.size() > aggregateFeedbackThreshold;
+		if (!aggregate) {
+			// try to aggregate the feedback when the threshold is exceeded
+			// again
+			aggregateFeedbackUnsupported = false;
+		}
+		boolean aggregateFeedback = aggregate && !aggregateFeedbackUnsupported;
+		if (aggregateFeedback != isFeedbackAggregated()) {
+			// re-create the feedback for the whole selection when switching
+			// between individual and aggregate feedback
+			removeAggregateFeedback();
+			clearFeedback();
+			if (aggregateFeedback && !addAggregateFeedback(selection)) {
+				aggregateFeedbackUnsupported = true;
+			}
+			if (!isFeedbackAggregated()) {
+				for (IContentPart<? extends Node> sel : selection) {
+					addFeedback(sel);
+				}
+			}
+		} else if (aggregateFeedback) {
+			updateAggregateFeedback(deselected, selected, selection);
+		} else {
+			for (IContentPart<? extends Node> sel : deselected) {
+				removeFeedback(sel);
+			}
+			for (IContentPart<? extends Node> sel : selected) {
+				addFeedback(sel);
+			}
+		}
+
+		// the feedback of the (old and new) head of the selection has to be
+		// refreshed when the head changes, because it depends on the order
+		IContentPart<? extends Node> head = selection.isEmpty() ? null
+				: selection.get(0);
+		if (head != selectionHead) {
+			refreshFeedback(selectionHead);
+			refreshFeedback(head);
+			selectionHead = head;
+		}
+
+		// XXX: The handles depend on the whole selection (and its order), so
+		// they are always re-generated.
+		clearHandles();
+		if (aggregate) {
+			// only add handles for the primary selection
+			addHandles(selection.get(0));
+		} else if (!selection.isEmpty()) {
+			addSelectionHandles(selection);
+		}
+	}
 }
@@ -49,8 +49,15 @@ import javafx.scene.Node;
 public class DefaultHandlerResolver extends IAdaptable.Bound.Impl<IDomain>
 		implements IHandlerResolver {
 
+	// the type key is created once, because the creation of a TypeToken for a
+	// generic type requires reflection, while the resolution of the gestures
+	// is cached by the domain
+	@SuppressWarnings("serial")
+	private static final TypeToken<IGesture> GESTURE_TYPE = new TypeToken<IGesture>() {
+	};
+
 	@Override
-	@SuppressWarnings({ "serial", "unchecked" })
+	@SuppressWarnings("unchecked")
 	public <T extends IHandler> List<? extends T> resolve(IGesture gesture,
 			Node target, IViewer viewer, Class<T> handlerType) {
 		// System.out.println("\n=== determine target handlers ===");
@@ -63,8 +70,7 @@ public class DefaultHandlerResolver extends IAdaptable.Bound.Impl<IDomain>
 		// System.out.println("Outer target handlers:");
 		List<T> outerTargetHandlers = new ArrayList<>();
 		Collection<IGesture> gestures = viewer.getDomain()
-				.getAdapters(new TypeToken<IGesture>() {
-				}).values();
+				.getAdapters(GESTURE_TYPE).values();
 		for (IGesture g : gestures) {
 			// System.out.println("[find active handlers of " + gesture + "]");
 			if (g != gesture) {
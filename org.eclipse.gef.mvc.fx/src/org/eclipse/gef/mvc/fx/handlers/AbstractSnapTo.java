@@ -12,6 +12,7 @@
 package org.eclipse.gef.mvc.fx.handlers;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -24,6 +25,7 @@ import org.eclipse.gef.mvc.fx.parts.PartUtils;
 import org.eclipse.gef.mvc.fx.providers.ISnappingLocationProvider;
 import org.eclipse.gef.mvc.fx.viewer.IViewer;
 
+import javafx.geometry.Orientation;
 import javafx.scene.Node;
 
 /**
@@ -31,6 +33,15 @@ import javafx.scene.Node;
  * {@link ISnapToStrategy} implementation, i.e. storage for the
  * {@link SnappingLocation}s and the currently snapped part, and filtering of
  * {@link IContentPart}s to determine the snapping-relevant parts.
+ * <p>
+ * The target {@link SnappingLocation}s are determined once when the snapped
+ * part is {@link #setSnappedPart(IContentPart) set}. Sorted copies of these
+ * locations are maintained, so that the locations closest to a given position
+ * can be determined using binary search (see
+ * {@link #getClosestTargetLocation(Orientation, double)}), while the lists that
+ * are returned by {@link #getHorizontalTargetLocations()} and
+ * {@link #getVerticalTargetLocations()} keep the order in which the locations
+ * were determined.
  */
 public abstract class AbstractSnapTo implements ISnapToStrategy {
 
@@ -42,6 +53,55 @@ public abstract class AbstractSnapTo implements ISnapToStrategy {
 	private IContentPart<? extends Node> snappedPart;
 	private List<SnappingLocation> xLocations = new ArrayList<>();
 	private List<SnappingLocation> yLocations = new ArrayList<>();
+	// copies of the x and y locations, sorted by position, and their positions
+	// (in the same order)
+	private List<SnappingLocation> xSortedLocations = new ArrayList<>();
+	private List<SnappingLocation> ySortedLocations = new ArrayList<>();
+	private double[] xPositions = new double[0];
+	private double[] yPositions = new double[0];
+
+	private static List<SnappingLocation> getSortedCopy(
+			List<SnappingLocation> locations) {
+		// a stable sort, so that locations at the same position keep the
+		// order in which they were determined
+		List<SnappingLocation> sorted = new ArrayList<>(locations);
+		Collections.sort(sorted, (l1, l2) -> Double
+				.compare(l1.getPositionInScene(), l2.getPositionInScene()));
+		return sorted;
+	}
+
+	private static int getClosestIndex(double[] positions, double position) {
+		if (positions.length == 0) {
+			return -1;
+		}
+		int index = Arrays.binarySearch(positions, position);
+		if (index < 0) {
+			// compare the neighbors of the insertion point, preferring the
+			// lower position if both are equally close
+			int next = -index - 1;
+			if (next == 0) {
+				return next;
+			}
+			if (next < positions.length && position
+					- positions[next - 1] > positions[next] - position) {
+				return next;
+			}
+			index = next - 1;
+		}
+		// return the first of all locations at the closest position
+		while (index > 0 && positions[index - 1] == positions[index]) {
+			index--;
+		}
+		return index;
+	}
+
+	private static double[] getPositions(List<SnappingLocation> locations) {
+		double[] positions = new double[locations.size()];
+		for (int i = 0; i < positions.length; i++) {
+			positions[i] = locations.get(i).getPositionInScene();
+		}
+		return positions;
+	}
 
 	/**
 	 * Determines the horizontal {@link SnappingLocation}s for the given
@@ -89,6 +149,35 @@ public abstract class AbstractSnapTo implements ISnapToStrategy {
 		return snappingLocationProvider.getVerticalSnappingLocations(rp);
 	}
 
+	/**
+	 * Returns the target {@link SnappingLocation} of the given
+	 * {@link Orientation} that is closest to the given position (within the
+	 * coordinate system of the scene), or <code>null</code> if no target
+	 * locations are available. If two target locations are equally close to
+	 * the given position, the one with the lower position is returned. If
+	 * multiple target locations share the closest position, the one that was
+	 * determined first is returned.
+	 *
+	 * @param orientation
+	 *            The {@link Orientation} of the target location.
+	 * @param positionInScene
+	 *            The position coordinate within the coordinate system of the
+	 *            scene.
+	 * @return The target {@link SnappingLocation} that is closest to the given
+	 *         position, or <code>null</code>.
+	 */
+	protected SnappingLocation getClosestTargetLocation(
+			Orientation orientation, double positionInScene) {
+		boolean horizontal = orientation == Orientation.HORIZONTAL;
+		int index = getClosestIndex(horizontal ? xPositions : yPositions,
+				positionInScene);
+		if (index < 0) {
+			return null;
+		}
+		return horizontal ? xSortedLocations.get(index)
+				: ySortedLocations.get(index);
+	}
+
 	@Override
 	public List<SnappingLocation> getHorizontalTargetLocations() {
 		return xLocations;
@@ -119,6 +208,29 @@ public abstract class AbstractSnapTo implements ISnapToStrategy {
 		return slp;
 	}
 
+	@Override
+	public List<SnappingLocation> getTargetLocations(Orientation orientation,
+			double positionInScene) {
+		boolean horizontal = orientation == Orientation.HORIZONTAL;
+		double[] positions = horizontal ? xPositions : yPositions;
+		List<SnappingLocation> locations = horizontal ? xSortedLocations
+				: ySortedLocations;
+		int index = Arrays.binarySearch(positions, positionInScene);
+		if (index < 0) {
+			return Collections.emptyList();
+		}
+		// determine the range of locations at the given position
+		int from = index;
+		while (from > 0 && positions[from - 1] == positionInScene) {
+			from--;
+		}
+		int to = index + 1;
+		while (to < positions.length && positions[to] == positionInScene) {
+			to++;
+		}
+		return new ArrayList<>(locations.subList(from, to));
+	}
+
 	/**
 	 * Returns the role for the adapter binding providing the
 	 * {@link ISnappingLocationProvider} for this {@link ISnapToStrategy}.
@@ -171,5 +283,9 @@ public abstract class AbstractSnapTo implements ISnapToStrategy {
 				yLocations.addAll(determineVerticalTargetLocations(rp));
 			}
 		}
+		xSortedLocations = getSortedCopy(xLocations);
+		ySortedLocations = getSortedCopy(yLocations);
+		xPositions = getPositions(xSortedLocations);
+		yPositions = getPositions(ySortedLocations);
 	}
 }
@@ -407,6 +407,8 @@ public class BendFirstAnchorageOnSegmentHandleDragHandler
 
 		bendPolicy = determineBendPolicy();
 		init(bendPolicy);
+		// apply intermediate changes directly to the visual while dragging
+		bendPolicy.setPreview(true);
 
 		prepareBend(e.isShiftDown(), bendPolicy);
 		// move initially so that the initial positions for the selected
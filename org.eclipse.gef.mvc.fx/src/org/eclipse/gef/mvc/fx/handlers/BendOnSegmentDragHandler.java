@@ -251,6 +251,8 @@ public class BendOnSegmentDragHandler extends AbstractHandler
 
 		bendPolicy = determineBendPolicy();
 		init(bendPolicy);
+		// apply intermediate changes directly to the visual while dragging
+		bendPolicy.setPreview(true);
 		updateHandles();
 
 		prepareBend(bendPolicy);
@@ -155,6 +155,7 @@ public class ConnectedSupport extends IAdaptable.Bound.Impl<IViewer> {
 			parts[i].setRefreshVisual(false);
 			policies[i] = parts[i].getAdapter(BendConnectionPolicy.class);
 			policies[i].init();
+			policies[i].setPreview(true);
 			policies[i].move(new Point(), new Point());
 		}
 
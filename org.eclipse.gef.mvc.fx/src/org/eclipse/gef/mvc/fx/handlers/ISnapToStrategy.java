@@ -11,6 +11,7 @@
  *******************************************************************************/
 package org.eclipse.gef.mvc.fx.handlers;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.gef.geometry.planar.Dimension;
@@ -74,6 +75,34 @@ public interface ISnapToStrategy {
 	 */
 	public String getSourceLocationProviderRole();
 
+	/**
+	 * Returns the target {@link SnappingLocation}s of the given
+	 * {@link Orientation} that are located at the given position (within the
+	 * coordinate system of the scene). The default implementation tests all
+	 * {@link #getHorizontalTargetLocations() horizontal} or
+	 * {@link #getVerticalTargetLocations() vertical} target locations.
+	 *
+	 * @param orientation
+	 *            The {@link Orientation} of the target locations.
+	 * @param positionInScene
+	 *            The position coordinate within the coordinate system of the
+	 *            scene.
+	 * @return The target {@link SnappingLocation}s at the given position.
+	 */
+	public default List<SnappingLocation> getTargetLocations(
+			Orientation orientation, double positionInScene) {
+		List<SnappingLocation> candidates = orientation == Orientation.HORIZONTAL
+				? getHorizontalTargetLocations()
+				: getVerticalTargetLocations();
+		List<SnappingLocation> locations = new ArrayList<>();
+		for (SnappingLocation sl : candidates) {
+			if (sl.getPositionInScene() == positionInScene) {
+				locations.add(sl);
+			}
+		}
+		return locations;
+	}
+
 	/**
 	 * Returns the vertical {@link SnappingLocation}s that are applicable for
 	 * the currently snapped part.
@@ -11,7 +11,6 @@
  *******************************************************************************/
 package org.eclipse.gef.mvc.fx.handlers;
 
-import java.util.List;
 import java.util.function.Predicate;
 
 import org.eclipse.gef.fx.nodes.InfiniteCanvas;
@@ -89,26 +88,13 @@ public class SnapToGeometry extends AbstractSnapTo implements ISnapToStrategy {
 
 	@Override
 	public Dimension snap(Orientation orientation, double positionInScene) {
-		double minDistance = 0d;
-		SnappingLocation snappingLocation = null;
 		if (orientation != Orientation.HORIZONTAL
 				&& orientation != Orientation.VERTICAL) {
 			throw new IllegalArgumentException("Wrong Orientation");
 		}
 		boolean horizontal = orientation == Orientation.HORIZONTAL;
-		List<SnappingLocation> testLocations = horizontal
-				? getHorizontalTargetLocations()
-				: getVerticalTargetLocations();
-		// TODO: binary search
-		for (SnappingLocation sl : testLocations) {
-			double location = sl.getPositionInScene();
-			double distance = positionInScene - location;
-			if (snappingLocation == null
-					|| Math.abs(distance) < Math.abs(minDistance)) {
-				minDistance = distance;
-				snappingLocation = sl;
-			}
-		}
+		SnappingLocation snappingLocation = getClosestTargetLocation(
+				orientation, positionInScene);
 		if (snappingLocation == null) {
 			return null;
 		}
@@ -236,25 +236,14 @@ public class SnapToSupport extends IAdaptable.Bound.Impl<IViewer> {
 		List<SnappingLocation> matchingHSLs = new ArrayList<>();
 		List<SnappingLocation> matchingVSLs = new ArrayList<>();
 		for (ISnapToStrategy snapper : supportedSnapToStrategies) {
-			List<SnappingLocation> horizontalSnappingLocations = snapper
-					.getHorizontalTargetLocations();
-			List<SnappingLocation> verticalSnappingLocations = snapper
-					.getVerticalTargetLocations();
-
 			// 7. find matching SLs for translated source SLs
 			for (SnappingLocation mySL : hTranslated) {
-				for (SnappingLocation sl : horizontalSnappingLocations) {
-					if (mySL.getPositionInScene() == sl.getPositionInScene()) {
-						matchingHSLs.add(sl);
-					}
-				}
+				matchingHSLs.addAll(snapper.getTargetLocations(
+						Orientation.HORIZONTAL, mySL.getPositionInScene()));
 			}
 			for (SnappingLocation mySL : vTranslated) {
-				for (SnappingLocation sl : verticalSnappingLocations) {
-					if (mySL.getPositionInScene() == sl.getPositionInScene()) {
-						matchingVSLs.add(sl);
-					}
-				}
+				matchingVSLs.addAll(snapper.getTargetLocations(
+						Orientation.VERTICAL, mySL.getPositionInScene()));
 			}
 		}
 
@@ -319,6 +319,8 @@ public class TranslateSelectedOnDragHandler extends AbstractHandler
 			// init transaction policy
 			storeAndDisableRefreshVisuals(part);
 			init(policy);
+			// apply intermediate changes directly to the visual while dragging
+			policy.setPreview(true);
 			translationIndices.put(part, policy.createPostTransform());
 			// determine shape bounds
 			Rectangle shapeBounds = NodeUtils
@@ -17,7 +17,10 @@ package org.eclipse.gef.mvc.fx.models;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.gef.common.beans.property.ReadOnlyListWrapperEx;
 import org.eclipse.gef.common.collections.CollectionUtils;
@@ -38,6 +41,11 @@ import javafx.scene.Node;
  * It represents the selection as an ordered list of {@link IContentPart}s.
  * Thereby, it supports a multi-selection and allows to identify a primary
  * selection (the head element of the list) that may be treated specially.
+ * <p>
+ * In addition to the list, the selected {@link IContentPart}s are indexed by a
+ * set, so that {@link #isSelected(IContentPart)} does not depend on the size of
+ * the selection. All operations that change multiple elements of the selection
+ * (e.g. {@link #setSelection(List)}) only lead to a single change notification.
  *
  * @author anyssen
  * @author mwienand
@@ -57,6 +65,9 @@ public class SelectionModel
 
 	private ObservableList<IContentPart<? extends Node>> selection = CollectionUtils
 			.observableArrayList();
+	// index of the selection, which is updated before the selection is
+	// changed, so that listeners can use isSelected()
+	private Set<IContentPart<? extends Node>> selectionIndex = new HashSet<>();
 
 	private ObservableList<IContentPart<? extends Node>> selectionUnmodifiable = FXCollections
 			.unmodifiableObservableList(selection);
@@ -71,7 +82,8 @@ public class SelectionModel
 			if (change.wasRemoved()) {
 				IVisualPart<? extends Node> valueRemoved = change
 						.getValueRemoved();
-				if (selection.contains(valueRemoved)) {
+				if (selectionIndex.contains(valueRemoved)) {
+					selectionIndex.remove(valueRemoved);
 					selection.remove(valueRemoved);
 				}
 			}
@@ -114,26 +126,19 @@ public class SelectionModel
 	 */
 	public void appendToSelection(
 			List<? extends IContentPart<? extends Node>> toBeAppended) {
-		List<IContentPart<? extends Node>> newSelection = getSelectionCopy();
-		newSelection.removeAll(toBeAppended);
-		for (IContentPart<? extends Node> p : toBeAppended) {
-			if (newSelection.contains(p)) {
-				throw new IllegalArgumentException("The content part " + p
-						+ " is provided more than once in the given list.");
-			}
-			newSelection.add(p);
-		}
-		// XXX: ObservableList.setAll() is not properly guarded against not
-		// having an effect (and will always notify attached listeners)
-		if (!selection.equals(newSelection)) {
-			selection.setAll(newSelection);
-		}
+		Set<IContentPart<? extends Node>> appended = toSet(toBeAppended);
+		Set<IContentPart<? extends Node>> newSelection = new LinkedHashSet<>(
+				selection);
+		newSelection.removeAll(appended);
+		newSelection.addAll(appended);
+		updateSelection(newSelection);
 	}
 
 	/**
 	 * Clears the current selection.
 	 */
 	public void clearSelection() {
+		selectionIndex.clear();
 		selection.clear();
 	}
 
@@ -145,17 +150,6 @@ public class SelectionModel
 		// setAdaptable() already clears the selection
 	}
 
-	/**
-	 * Returns a modifiable list of the currently selected {@link IContentPart}
-	 * s.
-	 *
-	 * @return A modifiable list of the currently selected {@link IContentPart}
-	 *         s.
-	 */
-	private List<IContentPart<? extends Node>> getSelectionCopy() {
-		return new ArrayList<>(selection);
-	}
-
 	/**
 	 * Returns an unmodifiable observable list of the currently selected
 	 * {@link IContentPart}s.
@@ -177,7 +171,7 @@ public class SelectionModel
 	 *         current selection.
 	 */
 	public boolean isSelected(IContentPart<? extends Node> contentPart) {
-		return selection.contains(contentPart);
+		return selectionIndex.contains(contentPart);
 	}
 
 	/**
@@ -216,19 +210,10 @@ public class SelectionModel
 	 */
 	public void prependToSelection(
 			List<? extends IContentPart<? extends Node>> toBePrepended) {
-		List<IContentPart<? extends Node>> newSelection = getSelectionCopy();
-		newSelection.removeAll(toBePrepended);
-		int i = 0;
-		for (IContentPart<? extends Node> p : toBePrepended) {
-			if (newSelection.contains(p)) {
-				throw new IllegalArgumentException("The content part " + p
-						+ " is provided more than once in the given list.");
-			}
-			newSelection.add(i++, p);
-		}
-		if (!selection.equals(newSelection)) {
-			selection.setAll(newSelection);
-		}
+		Set<IContentPart<? extends Node>> newSelection = toSet(toBePrepended);
+		// already selected parts that are prepended keep their new position
+		newSelection.addAll(selection);
+		updateSelection(newSelection);
 	}
 
 	/**
@@ -242,7 +227,11 @@ public class SelectionModel
 	 */
 	public void removeFromSelection(
 			Collection<? extends IContentPart<? extends Node>> contentParts) {
-		selection.removeAll(contentParts);
+		Set<IContentPart<? extends Node>> newSelection = new LinkedHashSet<>(
+				selection);
+		newSelection.removeAll(contentParts instanceof Set ? contentParts
+				: new HashSet<>(contentParts));
+		updateSelection(newSelection);
 	}
 
 	/**
@@ -254,7 +243,9 @@ public class SelectionModel
 	 *            selection.
 	 */
 	public void removeFromSelection(IContentPart<? extends Node> contentPart) {
-		selection.remove(contentPart);
+		if (selectionIndex.remove(contentPart)) {
+			selection.remove(contentPart);
+		}
 	}
 
 	/**
@@ -305,17 +296,43 @@ public class SelectionModel
 	 */
 	public void setSelection(
 			List<? extends IContentPart<? extends Node>> selection) {
-		List<IContentPart<? extends Node>> newSelection = new ArrayList<>();
-		int i = 0;
-		for (IContentPart<? extends Node> p : selection) {
-			if (newSelection.contains(p)) {
+		updateSelection(toSet(selection));
+	}
+
+	/**
+	 * Returns an ordered {@link Set} containing the given
+	 * {@link IContentPart}s.
+	 *
+	 * @throws IllegalArgumentException
+	 *             if an {@link IContentPart} is contained more than once.
+	 */
+	private Set<IContentPart<? extends Node>> toSet(
+			List<? extends IContentPart<? extends Node>> contentParts) {
+		Set<IContentPart<? extends Node>> set = new LinkedHashSet<>();
+		for (IContentPart<? extends Node> p : contentParts) {
+			if (!set.add(p)) {
 				throw new IllegalArgumentException("The content part " + p
 						+ " is provided more than once in the given list.");
 			}
-			newSelection.add(i++, p);
 		}
-		if (!this.selection.equals(newSelection)) {
-			this.selection.setAll(newSelection);
+		return set;
+	}
+
+	/**
+	 * Replaces the current selection with the given (ordered) {@link Set} of
+	 * {@link IContentPart}s, firing a single change notification if the
+	 * selection changes.
+	 */
+	private void updateSelection(
+			Set<IContentPart<? extends Node>> newSelection) {
+		List<IContentPart<? extends Node>> newSelectionList = new ArrayList<>(
+				newSelection);
+		// XXX: ObservableList.setAll() is not properly guarded against not
+		// having an effect (and will always notify attached listeners)
+		if (!selection.equals(newSelectionList)) {
+			selectionIndex.clear();
+			selectionIndex.addAll(newSelection);
+			selection.setAll(newSelectionList);
 		}
 	}
 }
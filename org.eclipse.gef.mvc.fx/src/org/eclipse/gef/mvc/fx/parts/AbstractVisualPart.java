@@ -38,6 +38,7 @@ import org.eclipse.gef.mvc.fx.behaviors.IBehavior;
 import org.eclipse.gef.mvc.fx.handlers.IHandler;
 import org.eclipse.gef.mvc.fx.policies.IPolicy;
 import org.eclipse.gef.mvc.fx.viewer.IViewer;
+import org.eclipse.gef.mvc.fx.viewer.RefreshVisualScheduler;
 
 import com.google.common.collect.HashMultiset;
 import com.google.common.collect.Multiset;
@@ -648,10 +649,30 @@ public abstract class AbstractVisualPart<V extends Node>
 	/**
 	 * Refreshes this {@link IVisualPart}'s <i>visuals</i>. Delegates to
 	 * {@link #doRefreshVisual(Node)} in case {@link #isRefreshVisual()} is not
-	 * set to <code>false</code>.
+	 * set to <code>false</code>. If the {@link RefreshVisualScheduler} of the
+	 * {@link IViewer} defers refreshes (see
+	 * {@link RefreshVisualScheduler#setDeferred(boolean)}) and this part is
+	 * active, the refresh is performed within the next JavaFX pulse.
 	 */
 	@Override
 	public final void refreshVisual() {
+		if (visual != null && isRefreshVisual()) {
+			IViewer viewer = getViewer();
+			RefreshVisualScheduler scheduler = viewer == null ? null
+					: viewer.getAdapter(RefreshVisualScheduler.class);
+			if (scheduler != null && scheduler.isDeferred() && isActive()) {
+				scheduler.schedule(this, this::refreshVisualNow);
+			} else {
+				refreshVisualNow();
+			}
+		}
+	}
+
+	/**
+	 * Delegates to {@link #doRefreshVisual(Node)} in case
+	 * {@link #isRefreshVisual()} is (still) not set to <code>false</code>.
+	 */
+	private void refreshVisualNow() {
 		if (visual != null && isRefreshVisual()) {
 			// System.out.println("Refresh visual of " + this);
 			doRefreshVisual(visual);
@@ -761,6 +782,12 @@ public abstract class AbstractVisualPart<V extends Node>
 		IViewer oldViewer = viewerProperty.get();
 		if (oldViewer != null && viewer != oldViewer) {
 			unregister(oldViewer);
+			// drop a pending refresh
+			RefreshVisualScheduler scheduler = oldViewer
+					.getAdapter(RefreshVisualScheduler.class);
+			if (scheduler != null) {
+				scheduler.unschedule(this);
+			}
 		}
 		viewerProperty.set(viewer);
 		if (viewer != null && viewer != oldViewer) {
@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.fx.parts;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.gef.common.adapt.AdapterKey;
+import org.eclipse.gef.fx.utils.Geometry2Shape;
+import org.eclipse.gef.fx.utils.NodeUtils;
+import org.eclipse.gef.geometry.planar.IGeometry;
+import org.eclipse.gef.mvc.fx.behaviors.SelectionBehavior;
+
+import com.google.common.reflect.TypeToken;
+import com.google.inject.Provider;
+
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Path;
+import javafx.scene.shape.PathElement;
+
+/**
+ * The {@link AggregateSelectionFeedbackPart} is an {@link AbstractFeedbackPart}
+ * that renders the selection outlines of all its anchorages by a single
+ * {@link Path}. It is used by the {@link SelectionBehavior} for large
+ * multi-selections (see
+ * {@link SelectionBehavior#setAggregateFeedbackThreshold(int)}), so that the
+ * number of feedback visuals does not depend on the size of the selection.
+ * <p>
+ * The outlines are determined using the
+ * {@link DefaultSelectionFeedbackPartFactory#SELECTION_FEEDBACK_GEOMETRY_PROVIDER}
+ * of the anchorages. As a refresh of this part is triggered by a change of any
+ * of its anchorages, the outlines are not updated immediately, but within the
+ * next layout pass, so that all changes in between two pulses lead to a single
+ * update.
+ *
+ * @author agent
+ *
+ */
+public class AggregateSelectionFeedbackPart
+		extends AbstractFeedbackPart<Group> {
+
+	@SuppressWarnings("serial")
+	private static final TypeToken<Provider<? extends IGeometry>> GEOMETRY_PROVIDER_TYPE = new TypeToken<Provider<? extends IGeometry>>() {
+	};
+
+	private Path outlines;
+	private boolean outlinesDirty = false;
+
+	/**
+	 * Default constructor.
+	 */
+	public AggregateSelectionFeedbackPart() {
+	}
+
+	@Override
+	protected Group doCreateVisual() {
+		outlines = new Path();
+		outlines.setFill(null);
+		outlines.setStrokeWidth(SelectionFeedbackPart.DEFAULT_STROKE_WIDTH);
+		Group visual = new Group(outlines) {
+			@Override
+			protected void layoutChildren() {
+				super.layoutChildren();
+				updateOutlines();
+			}
+		};
+		visual.setAutoSizeChildren(false);
+		visual.setMouseTransparent(true);
+		visual.setManaged(false);
+		return visual;
+	}
+
+	@Override
+	protected void doDetachFromAnchorageVisual(
+			IVisualPart<? extends Node> anchorage, String role) {
+		super.doDetachFromAnchorageVisual(anchorage, role);
+		// in contrast to attaching, detaching does not refresh the visual, so
+		// that the outline of the detached anchorage has to be removed
+		// explicitly
+		doRefreshVisual(getVisual());
+	}
+
+	@Override
+	protected void doRefreshVisual(Group visual) {
+		// defer the update until the next layout pass
+		outlinesDirty = true;
+		visual.requestLayout();
+	}
+
+	/**
+	 * Returns the {@link Path} that renders the selection outlines.
+	 *
+	 * @return The {@link Path} that renders the selection outlines.
+	 */
+	public Path getOutlines() {
+		return outlines;
+	}
+
+	/**
+	 * Returns the secondary selection {@link Color}, which is used to render
+	 * the selection outlines.
+	 *
+	 * @return The secondary selection {@link Color}.
+	 */
+	protected Color getSecondarySelectionColor() {
+		@SuppressWarnings("serial")
+		Provider<Color> connectedColorProvider = getViewer()
+				.getAdapter(AdapterKey.get(new TypeToken<Provider<Color>>() {
+				}, DefaultSelectionFeedbackPartFactory.SECONDARY_SELECTION_FEEDBACK_COLOR_PROVIDER));
+		return connectedColorProvider == null
+				? DefaultSelectionFeedbackPartFactory.DEFAULT_SECONDARY_SELECTION_FEEDBACK_COLOR
+				: connectedColorProvider.get();
+	}
+
+	/**
+	 * Re-computes the selection outlines of all anchorages if a refresh was
+	 * requested since the last update. Called within the layout pass of the
+	 * visual, but may also be called to enforce an immediate update.
+	 */
+	public void updateOutlines() {
+		if (!outlinesDirty || getViewer() == null) {
+			return;
+		}
+		outlinesDirty = false;
+		List<PathElement> elements = new ArrayList<>();
+		for (IVisualPart<? extends Node> anchorage : getAnchoragesUnmodifiable()
+				.keySet()) {
+			Provider<? extends IGeometry> geometryProvider = anchorage
+					.getAdapter(AdapterKey.get(GEOMETRY_PROVIDER_TYPE,
+							DefaultSelectionFeedbackPartFactory.SELECTION_FEEDBACK_GEOMETRY_PROVIDER));
+			if (geometryProvider == null) {
+				continue;
+			}
+			IGeometry geometry = geometryProvider.get();
+			if (geometry == null) {
+				continue;
+			}
+			IGeometry geometryInLocal = NodeUtils.sceneToLocal(getVisual(),
+					NodeUtils.localToScene(anchorage.getVisual(), geometry));
+			elements.addAll(Arrays.asList(
+					Geometry2Shape.toPathElements(geometryInLocal.toPath())));
+		}
+		outlines.setStroke(getSecondarySelectionColor());
+		outlines.getElements().setAll(elements);
+	}
+
+}
@@ -12,6 +12,7 @@
 package org.eclipse.gef.mvc.fx.parts;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -45,6 +46,14 @@ import javafx.scene.paint.Color;
 public class DefaultSelectionFeedbackPartFactory
 		implements IFeedbackPartFactory {
 
+	/**
+	 * The key of a context map entry that indicates (if mapped to
+	 * {@link Boolean#TRUE}) that a single
+	 * {@link AggregateSelectionFeedbackPart} is to be created, which renders
+	 * the selection outlines of all targets.
+	 */
+	public static final String AGGREGATE_FEEDBACK = "AGGREGATE_FEEDBACK";
+
 	/**
 	 * The binding name for the primary selection color.
 	 */
@@ -93,6 +102,12 @@ public class DefaultSelectionFeedbackPartFactory
 					"Part factory is called without targets.");
 		}
 
+		// aggregate selection feedback for a large multi selection
+		if (Boolean.TRUE.equals(contextMap.get(AGGREGATE_FEEDBACK))) {
+			return Collections.<IFeedbackPart<? extends Node>> singletonList(
+					injector.getInstance(AggregateSelectionFeedbackPart.class));
+		}
+
 		// single selection, create selection feedback based on geometry
 		List<IFeedbackPart<? extends Node>> feedbackParts = new ArrayList<>();
 
@@ -20,6 +20,7 @@ import java.util.Set;
 import java.util.function.Predicate;
 
 import org.eclipse.gef.common.adapt.AdapterKey;
+import org.eclipse.gef.fx.nodes.InfiniteCanvas;
 import org.eclipse.gef.fx.utils.NodeUtils;
 import org.eclipse.gef.geometry.convert.fx.FX2Geometry;
 import org.eclipse.gef.geometry.planar.Rectangle;
@@ -186,7 +187,9 @@ public class PartUtils {
 	 * Returns the first {@link IVisualPart} in the visual hierarchy of the
 	 * given {@link Node}. If no {@link IVisualPart} can be found within the
 	 * visual hierarchy of the {@link Node}, the {@link IRootPart} of the given
-	 * {@link IViewer} is returned.
+	 * {@link IViewer} is returned. If a level-of-detail proxy (see
+	 * {@link InfiniteCanvas#setLevelOfDetailProxy(Node, Node)}) is
+	 * encountered, the search continues with its content {@link Node}.
 	 *
 	 * @param viewer
 	 *            The {@link IViewer} in which the {@link IVisualPart} is
@@ -204,7 +207,8 @@ public class PartUtils {
 		IVisualPart<? extends Node> targetPart = null;
 		while (targetPart == null && target != null) {
 			targetPart = viewer.getVisualPartMap().get(target);
-			target = target.getParent();
+			Node content = InfiniteCanvas.getLevelOfDetailContent(target);
+			target = content != null ? content : target.getParent();
 		}
 
 		// fallback to the root part if no target part was found
@@ -28,6 +28,7 @@ public abstract class AbstractPolicy extends
 
 	private ITransactionalOperation operation;
 	private boolean initialized;
+	private boolean preview;
 
 	/**
 	 * Checks whether this {@link AbstractPolicy} is initialized and throws an
@@ -72,6 +73,7 @@ public abstract class AbstractPolicy extends
 		} finally {
 			// after commit, we need to be re-initialized
 			initialized = false;
+			preview = false;
 			operation = null;
 		}
 		if (commit != null) {
@@ -128,6 +130,17 @@ public abstract class AbstractPolicy extends
 		return initialized;
 	}
 
+	/**
+	 * Returns whether this {@link AbstractPolicy} is in preview mode or not
+	 * (see {@link #setPreview(boolean)}).
+	 *
+	 * @return <code>true</code> if this {@link AbstractPolicy} is in preview
+	 *         mode, <code>false</code> otherwise.
+	 */
+	public boolean isPreview() {
+		return preview;
+	}
+
 	/**
 	 * Locally executes the {@link ITransactionalOperation} that is updated by
 	 * this policy, i.e. not on the operation history. Maybe used in the "work"
@@ -180,6 +193,7 @@ public abstract class AbstractPolicy extends
 	public void rollback() {
 		// after rollback, we need to be re-initialized
 		initialized = false;
+		preview = false;
 		// clear operation and return current one (and formerly pushed
 		// operations)
 		try {
@@ -190,4 +204,24 @@ public abstract class AbstractPolicy extends
 			operation = null;
 		}
 	}
+
+	/**
+	 * Enables or disables the preview mode of this {@link AbstractPolicy}. In
+	 * preview mode, the "work" methods of subclasses may apply intermediate
+	 * changes directly to the visuals, instead of updating and locally
+	 * executing the {@link ITransactionalOperation} each time. The operation
+	 * is brought up-to-date when {@link #commit() committing}, so that the
+	 * resulting operation (and therefore undo) is not affected. The preview
+	 * mode is intended for interactions that call the "work" methods for each
+	 * mouse event, e.g. dragging. It is reset by {@link #commit()} and
+	 * {@link #rollback()}.
+	 *
+	 * @param preview
+	 *            <code>true</code> to enable the preview mode,
+	 *            <code>false</code> to disable it.
+	 */
+	public void setPreview(boolean preview) {
+		checkInitialized();
+		this.preview = preview;
+	}
 }
@@ -706,9 +706,14 @@ public class BendConnectionPolicy extends AbstractPolicy {
 			getBendOperation().setFinalBendPoints(preMoveBendPoints);
 			// restore initial pre-move hints
 			setNewHints(preMoveStartHint, preMoveEndHint);
-			usePreMoveHints = true;
-			locallyExecuteOperation();
-			usePreMoveHints = false;
+			// XXX: In preview mode, the restored state does not need to be
+			// applied to the visual, because it is replaced by the moved state
+			// below, which does only depend on the saved initial positions.
+			if (!isPreview()) {
+				usePreMoveHints = true;
+				locallyExecuteOperation();
+				usePreMoveHints = false;
+			}
 		}
 		// showAnchors("After Restore:");
 
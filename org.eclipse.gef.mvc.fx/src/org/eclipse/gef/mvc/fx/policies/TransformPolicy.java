@@ -102,6 +102,12 @@ public class TransformPolicy extends AbstractPolicy {
 	 */
 	private List<AffineTransform> postTransforms = new ArrayList<>();
 
+	/**
+	 * The transformation that was applied in preview mode, but not yet
+	 * transferred to the operation.
+	 */
+	private AffineTransform previewTransform;
+
 	/**
 	 * Applies the given {@link AffineTransform} as the new transformation
 	 * matrix to the {@link #getHost() host}. All transformation changes are
@@ -113,6 +119,13 @@ public class TransformPolicy extends AbstractPolicy {
 	 *            The new transformation matrix for the {@link #getHost() host}.
 	 */
 	protected void applyTransform(AffineTransform finalTransform) {
+		if (isPreview()) {
+			// apply to the host directly, the operation is updated upon commit
+			previewTransform = finalTransform;
+			getHost()
+					.setVisualTransform(Geometry2FX.toFXAffine(finalTransform));
+			return;
+		}
 		updateTransformOperation(finalTransform);
 		// locally execute operation
 		locallyExecuteOperation();
@@ -120,6 +133,11 @@ public class TransformPolicy extends AbstractPolicy {
 
 	@Override
 	public ITransactionalOperation commit() {
+		if (previewTransform != null) {
+			// transfer the transformation that was applied in preview mode
+			updateTransformOperation(previewTransform);
+			previewTransform = null;
+		}
 		ITransactionalOperation commitOperation = super.commit();
 		if (commitOperation != null && !commitOperation.isNoOp()
 				&& isContentTransformable()) {
@@ -238,6 +256,7 @@ public class TransformPolicy extends AbstractPolicy {
 		preTransforms.clear();
 		postTransforms.clear();
 		initialTransform = getCurrentTransform();
+		previewTransform = null;
 		super.init();
 	}
 
@@ -251,6 +270,12 @@ public class TransformPolicy extends AbstractPolicy {
 		return getHost() instanceof ITransformableContentPart;
 	}
 
+	@Override
+	public void rollback() {
+		previewTransform = null;
+		super.rollback();
+	}
+
 	/**
 	 * Sets the specified post-transform to a rotation by the given angle.
 	 *
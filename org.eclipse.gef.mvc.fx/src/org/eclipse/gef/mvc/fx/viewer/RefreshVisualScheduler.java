@@ -0,0 +1,200 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.fx.viewer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.gef.common.dispose.IDisposable;
+import org.eclipse.gef.mvc.fx.operations.SetRefreshVisualOperation;
+import org.eclipse.gef.mvc.fx.parts.AbstractVisualPart;
+import org.eclipse.gef.mvc.fx.parts.IVisualPart;
+
+import javafx.animation.AnimationTimer;
+import javafx.scene.Node;
+
+/**
+ * The {@link RefreshVisualScheduler} is an adapter of an {@link IViewer} that
+ * coalesces the visual refreshes of the viewer's {@link IVisualPart}s per
+ * JavaFX pulse. If deferring is enabled (see {@link #setDeferred(boolean)}),
+ * {@link AbstractVisualPart#refreshVisual()} does not refresh the visual
+ * immediately, but {@link #schedule(IVisualPart, Runnable) schedules} the
+ * refresh instead. Within the next pulse, each scheduled part is refreshed
+ * once, no matter how often its refresh was requested until then, and
+ * parents are refreshed before their children.
+ * <p>
+ * The scheduler cooperates with {@link IVisualPart#refreshVisualProperty()}
+ * (and therefore with {@link SetRefreshVisualOperation}): A refresh is only
+ * scheduled if refreshing visuals is enabled for a part, and it is skipped if
+ * refreshing visuals was disabled for the part before the refresh is
+ * performed.
+ * <p>
+ * Only refreshes of active parts are deferred. A scheduled refresh is
+ * {@link #unschedule(IVisualPart) unscheduled} when the part is removed from
+ * the viewer, and it is skipped if the part was deactivated in the meantime.
+ *
+ * @author agent
+ *
+ */
+public class RefreshVisualScheduler implements IDisposable {
+
+	private Map<IVisualPart<? extends Node>, Runnable> scheduled = new LinkedHashMap<>();
+	private boolean deferred = false;
+	private boolean running = false;
+
+	private AnimationTimer timer = new AnimationTimer() {
+		@Override
+		public void handle(long now) {
+			if (scheduled.isEmpty()) {
+				// no refresh was requested since the last pulse
+				stop();
+				running = false;
+				return;
+			}
+			flush();
+		}
+	};
+
+	@Override
+	public void dispose() {
+		timer.stop();
+		running = false;
+		scheduled.clear();
+	}
+
+	/**
+	 * Performs all scheduled refreshes immediately, refreshing parents before
+	 * their children. Refreshes of parts that are no longer contained in a
+	 * viewer or that are no longer active are skipped. Refreshes that are
+	 * scheduled while flushing (e.g. when refreshing a part leads to a refresh
+	 * of an anchored part) are performed within the next pulse.
+	 */
+	public void flush() {
+		List<IVisualPart<? extends Node>> parts = new ArrayList<>(
+				scheduled.keySet());
+		Map<IVisualPart<? extends Node>, Runnable> refreshes = new IdentityHashMap<>(
+				scheduled);
+		scheduled.clear();
+		// sort by depth within the part hierarchy (stable)
+		final Map<IVisualPart<? extends Node>, Integer> depths = new IdentityHashMap<>();
+		for (IVisualPart<? extends Node> part : parts) {
+			depths.put(part, getDepth(part));
+		}
+		Collections.sort(parts, new Comparator<IVisualPart<? extends Node>>() {
+			@Override
+			public int compare(IVisualPart<? extends Node> p1,
+					IVisualPart<? extends Node> p2) {
+				return Integer.compare(depths.get(p1), depths.get(p2));
+			}
+		});
+		for (IVisualPart<? extends Node> part : parts) {
+			if (part.getViewer() != null && part.isActive()) {
+				refreshes.get(part).run();
+			}
+		}
+	}
+
+	private int getDepth(IVisualPart<? extends Node> part) {
+		int depth = 0;
+		for (IVisualPart<? extends Node> p = part.getParent(); p != null; p = p
+				.getParent()) {
+			depth++;
+		}
+		return depth;
+	}
+
+	/**
+	 * Returns whether visual refreshes are deferred to the next JavaFX pulse
+	 * or not.
+	 *
+	 * @return <code>true</code> if visual refreshes are deferred,
+	 *         <code>false</code> otherwise.
+	 */
+	public boolean isDeferred() {
+		return deferred;
+	}
+
+	/**
+	 * Returns whether a refresh is scheduled for the given
+	 * {@link IVisualPart}.
+	 *
+	 * @param part
+	 *            The {@link IVisualPart} to test.
+	 * @return <code>true</code> if a refresh is scheduled for the given
+	 *         {@link IVisualPart}, <code>false</code> otherwise.
+	 */
+	public boolean isScheduled(IVisualPart<? extends Node> part) {
+		return scheduled.containsKey(part);
+	}
+
+	/**
+	 * Schedules a refresh of the given {@link IVisualPart}, which is performed
+	 * within the next JavaFX pulse by running the given {@link Runnable}. If a
+	 * refresh is already scheduled for the part, the given {@link Runnable} is
+	 * ignored.
+	 *
+	 * @param part
+	 *            The {@link IVisualPart} whose visual is to be refreshed.
+	 * @param refresh
+	 *            The {@link Runnable} that refreshes the visual of the part.
+	 */
+	public void schedule(IVisualPart<? extends Node> part, Runnable refresh) {
+		if (part == null) {
+			throw new IllegalArgumentException("part may not be null.");
+		}
+		if (refresh == null) {
+			throw new IllegalArgumentException("refresh may not be null.");
+		}
+		if (!scheduled.containsKey(part)) {
+			scheduled.put(part, refresh);
+		}
+		if (!running) {
+			running = true;
+			timer.start();
+		}
+	}
+
+	/**
+	 * Removes the scheduled refresh of the given {@link IVisualPart} (if any),
+	 * so that it is not performed. Called when the part is removed from the
+	 * viewer.
+	 *
+	 * @param part
+	 *            The {@link IVisualPart} whose refresh is to be unscheduled.
+	 */
+	public void unschedule(IVisualPart<? extends Node> part) {
+		scheduled.remove(part);
+	}
+
+	/**
+	 * Specifies whether visual refreshes are deferred to the next JavaFX pulse
+	 * (see {@link #schedule(IVisualPart, Runnable)}), or performed
+	 * synchronously. If deferring is disabled while refreshes are scheduled,
+	 * they are performed immediately.
+	 *
+	 * @param deferred
+	 *            <code>true</code> to coalesce visual refreshes per JavaFX
+	 *            pulse, <code>false</code> to refresh synchronously.
+	 */
+	public void setDeferred(boolean deferred) {
+		this.deferred = deferred;
+		if (!deferred && !scheduled.isEmpty()) {
+			flush();
+		}
+	}
+
+}
@@ -16,20 +16,26 @@ package org.eclipse.gef.mvc.tests.fx;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.gef.common.adapt.AdapterKey;
 import org.eclipse.gef.mvc.fx.MvcFxModule;
 import org.eclipse.gef.mvc.fx.behaviors.ContentBehavior;
+import org.eclipse.gef.mvc.fx.behaviors.ContentPartPool;
 import org.eclipse.gef.mvc.fx.domain.IDomain;
+import org.eclipse.gef.mvc.fx.parts.AbstractFeedbackPart;
 import org.eclipse.gef.mvc.fx.parts.IContentPart;
 import org.eclipse.gef.mvc.fx.parts.IContentPartFactory;
+import org.eclipse.gef.mvc.fx.parts.IFeedbackPart;
 import org.eclipse.gef.mvc.fx.parts.IRootPart;
 import org.eclipse.gef.mvc.fx.parts.IVisualPart;
 import org.eclipse.gef.mvc.fx.viewer.IViewer;
@@ -43,7 +49,9 @@ import org.junit.Test;
 
 import com.google.inject.Guice;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import javafx.scene.Group;
 import javafx.scene.Node;
 
 /**
@@ -54,6 +62,20 @@ import javafx.scene.Node;
  */
 public class ContentSynchronizationTests {
 
+	/**
+	 * {@link CellContentPartFactory} that counts the created parts.
+	 */
+	public static class CountingCellContentPartFactory extends CellContentPartFactory {
+
+		private int createCount = 0;
+
+		@Override
+		public IContentPart<Node> createContentPart(Object content, Map<Object, Object> contextMap) {
+			createCount++;
+			return super.createContentPart(content, contextMap);
+		}
+	}
+
 	private static IDomain domain;
 	private static IViewer viewer;
 
@@ -67,7 +89,7 @@ public class ContentSynchronizationTests {
 
 				@Override
 				protected void configure() {
-					binder().bind(IContentPartFactory.class).to(CellContentPartFactory.class);
+					binder().bind(IContentPartFactory.class).to(CountingCellContentPartFactory.class);
 					super.configure();
 				}
 			}).getInstance(IDomain.class);
@@ -114,6 +136,97 @@ public class ContentSynchronizationTests {
 		});
 	}
 
+	/**
+	 * This scenario tests if the parts of unaffected content elements are
+	 * retained when content elements are added, removed, and reordered, also
+	 * in case feedback parts are children of the root part.
+	 */
+	@Test
+	public void incrementalChangesRetainParts() throws Throwable {
+		List<Cell> cells = createCells(4);
+		setContents(cells);
+		Map<Object, IContentPart<? extends Node>> contentPartMap = viewer.getContentPartMap();
+		List<IContentPart<? extends Node>> parts = new ArrayList<>();
+		for (Cell c : cells) {
+			parts.add(contentPartMap.get(c));
+		}
+
+		// add feedback to the root part, which is located behind the content
+		// parts
+		IRootPart<? extends Node> root = viewer.getRootPart();
+		IFeedbackPart<Group> feedbackPart = new AbstractFeedbackPart<Group>() {
+			@Override
+			protected Group doCreateVisual() {
+				return new Group();
+			}
+
+			@Override
+			protected void doRefreshVisual(Group visual) {
+			}
+		};
+		ctx.runAndWait(() -> {
+			root.addChildren(Collections.singletonList(feedbackPart));
+		});
+
+		// record the changes of the root part's children
+		List<IVisualPart<? extends Node>> addedChildren = new ArrayList<>();
+		List<IVisualPart<? extends Node>> removedChildren = new ArrayList<>();
+		ListChangeListener<IVisualPart<? extends Node>> childrenObserver = (change) -> {
+			while (change.next()) {
+				addedChildren.addAll(change.getAddedSubList());
+				removedChildren.addAll(change.getRemoved());
+			}
+		};
+		root.getChildrenUnmodifiable().addListener(childrenObserver);
+		CountingCellContentPartFactory factory = (CountingCellContentPartFactory) viewer
+				.getAdapter(IContentPartFactory.class);
+
+		try {
+			// insert
+			Cell inserted = new Cell("C4");
+			cells.add(2, inserted);
+			int createCount = factory.createCount;
+			ctx.runAndWait(() -> {
+				viewer.getContents().add(2, inserted);
+				verifyPartsAndOrder(cells);
+			});
+			// test that only the part for the inserted cell was created and
+			// added
+			assertEquals(createCount + 1, factory.createCount);
+			assertEquals(Collections.singletonList(contentPartMap.get(inserted)), addedChildren);
+			assertEquals(Collections.emptyList(), removedChildren);
+			assertEquals(feedbackPart, root.getChildrenUnmodifiable().get(root.getChildrenUnmodifiable().size() - 1));
+
+			// remove
+			Cell removed = cells.remove(0);
+			IContentPart<? extends Node> removedPart = contentPartMap.get(removed);
+			addedChildren.clear();
+			setContents(cells);
+			assertNull(contentPartMap.get(removed));
+			// test that only the part for the removed cell was removed
+			assertEquals(Collections.emptyList(), addedChildren);
+			assertEquals(Collections.singletonList(removedPart), removedChildren);
+
+			// reorder
+			createCount = factory.createCount;
+			Collections.reverse(cells);
+			setContents(cells);
+			// test that no part was created
+			assertEquals(createCount, factory.createCount);
+			assertEquals(feedbackPart, root.getChildrenUnmodifiable().get(root.getChildrenUnmodifiable().size() - 1));
+		} finally {
+			root.getChildrenUnmodifiable().removeListener(childrenObserver);
+			ctx.runAndWait(() -> {
+				root.removeChildren(Collections.singletonList(feedbackPart));
+			});
+		}
+
+		// test that the parts of the remaining cells were retained
+		for (int i = 1; i < parts.size(); i++) {
+			assertEquals(parts.get(i), contentPartMap.get(parts.get(i).getContent()));
+		}
+	}
+
 	@Test
 	public void positionalRemoveUndo() throws Throwable {
 		for (int position = 0; position < 3; position++) {
@@ -162,6 +275,35 @@ public class ContentSynchronizationTests {
 		}
 	}
 
+	/**
+	 * This scenario tests if pooled parts are recycled for other content elements
+	 * when recycling is enabled.
+	 */
+	@Test
+	public void recycleContentParts() throws Throwable {
+		ContentPartPool pool = viewer.getAdapter(ContentPartPool.class);
+		ctx.runAndWait(() -> {
+			pool.clear();
+			pool.setRecycling(true);
+		});
+		try {
+			setContents(createCells(3));
+			Set<IContentPart<? extends Node>> parts = new HashSet<>(viewer.getContentPartMap().values());
+			// replace all cells
+			List<Cell> otherCells = createCells(3);
+			setContents(otherCells);
+			// test that the parts were recycled
+			for (Cell c : otherCells) {
+				assertTrue(parts.contains(viewer.getContentPartMap().get(c)));
+			}
+			assertTrue(pool.getPooled().isEmpty());
+		} finally {
+			ctx.runAndWait(() -> {
+				pool.setRecycling(false);
+			});
+		}
+	}
+
 	/**
 	 * This scenario tests if the synchronization works correctly, when the contents
 	 * are replaced with a previously nested content element.
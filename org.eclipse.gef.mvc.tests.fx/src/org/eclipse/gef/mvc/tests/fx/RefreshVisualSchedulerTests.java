@@ -0,0 +1,200 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.tests.fx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.gef.common.adapt.AdapterKey;
+import org.eclipse.gef.mvc.fx.MvcFxModule;
+import org.eclipse.gef.mvc.fx.domain.IDomain;
+import org.eclipse.gef.mvc.fx.operations.SetRefreshVisualOperation;
+import org.eclipse.gef.mvc.fx.parts.AbstractContentPart;
+import org.eclipse.gef.mvc.fx.parts.IContentPart;
+import org.eclipse.gef.mvc.fx.parts.IContentPartFactory;
+import org.eclipse.gef.mvc.fx.parts.IVisualPart;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+import org.eclipse.gef.mvc.fx.viewer.RefreshVisualScheduler;
+import org.eclipse.gef.mvc.tests.fx.rules.FXApplicationThreadRule;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.SetMultimap;
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+
+import javafx.embed.swing.JFXPanel;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+
+public class RefreshVisualSchedulerTests {
+
+	static class CountingPart extends AbstractContentPart<Group> {
+		private int refreshCount = 0;
+
+		@Override
+		protected Group doCreateVisual() {
+			return new Group();
+		}
+
+		@Override
+		protected SetMultimap<? extends Object, String> doGetContentAnchorages() {
+			return HashMultimap.create();
+		}
+
+		@Override
+		protected List<? extends Object> doGetContentChildren() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		protected void doRefreshVisual(Group visual) {
+			refreshCount++;
+		}
+	}
+
+	static class CountingContentPartFactory implements IContentPartFactory {
+		@Inject
+		private Injector injector;
+
+		@Override
+		public IContentPart<? extends Node> createContentPart(Object content,
+				Map<Object, Object> contextMap) {
+			return injector.getInstance(CountingPart.class);
+		}
+	}
+
+	/**
+	 * Ensure all tests are executed on the JavaFX application thread (and the
+	 * JavaFX toolkit is properly initialized).
+	 */
+	@Rule
+	public FXApplicationThreadRule fxApplicationThreadRule = new FXApplicationThreadRule();
+
+	@Inject
+	private IDomain domain;
+
+	private IViewer viewer;
+	private RefreshVisualScheduler scheduler;
+	private CountingPart part;
+
+	@After
+	public void tearDown() {
+		scheduler.setDeferred(false);
+	}
+
+	@Before
+	public void setUp() {
+		Injector injector = Guice.createInjector(new MvcFxModule() {
+			@Override
+			protected void configure() {
+				super.configure();
+				binder().bind(IContentPartFactory.class)
+						.to(CountingContentPartFactory.class);
+			}
+		});
+		injector.injectMembers(this);
+		viewer = domain.getAdapter(
+				AdapterKey.get(IViewer.class, IDomain.CONTENT_VIEWER_ROLE));
+		Scene scene = new Scene(viewer.getCanvas(), 100, 100);
+		JFXPanel panel = new JFXPanel();
+		panel.setScene(scene);
+		viewer.getContents().setAll(Arrays.asList("content"));
+		domain.activate();
+		part = (CountingPart) viewer.getContentPartMap().get("content");
+		scheduler = viewer.getAdapter(RefreshVisualScheduler.class);
+		scheduler.setDeferred(true);
+	}
+
+	@Test
+	public void flushCoalescesAndOrders() {
+		IVisualPart<? extends Node> root = viewer.getRootPart();
+		List<IVisualPart<? extends Node>> refreshed = new ArrayList<>();
+		// schedule child before parent, and both multiple times
+		scheduler.schedule(part, () -> refreshed.add(part));
+		scheduler.schedule(root, () -> refreshed.add(root));
+		scheduler.schedule(part, () -> refreshed.add(part));
+		scheduler.schedule(root, () -> refreshed.add(root));
+		assertTrue(scheduler.isScheduled(root));
+		assertTrue(scheduler.isScheduled(part));
+		assertTrue(refreshed.isEmpty());
+		// test that each part is refreshed once, parents before children
+		scheduler.flush();
+		assertEquals(Arrays.asList(root, part), refreshed);
+		assertFalse(scheduler.isScheduled(root));
+		assertFalse(scheduler.isScheduled(part));
+	}
+
+	@Test
+	public void refreshVisualIsDeferred() {
+		int refreshCount = part.refreshCount;
+		part.refreshVisual();
+		part.refreshVisual();
+		part.refreshVisual();
+		assertTrue(scheduler.isScheduled(part));
+		assertEquals(refreshCount, part.refreshCount);
+		// test that the refreshes are coalesced
+		scheduler.flush();
+		assertEquals(refreshCount + 1, part.refreshCount);
+		assertFalse(scheduler.isScheduled(part));
+	}
+
+	@Test
+	public void removalUnschedulesRefresh() {
+		part.refreshVisual();
+		assertTrue(scheduler.isScheduled(part));
+		int refreshCount = part.refreshCount;
+		// test that removing the part from the viewer drops its refresh
+		viewer.getContents().clear();
+		assertFalse(scheduler.isScheduled(part));
+		scheduler.flush();
+		assertEquals(refreshCount, part.refreshCount);
+	}
+
+	@Test
+	public void setDeferredFlushes() {
+		int refreshCount = part.refreshCount;
+		part.refreshVisual();
+		assertEquals(refreshCount, part.refreshCount);
+		// test that disabling deferring performs the scheduled refreshes
+		scheduler.setDeferred(false);
+		assertEquals(refreshCount + 1, part.refreshCount);
+	}
+
+	@Test
+	public void setRefreshVisualOperationCancelsRefresh() throws Exception {
+		int refreshCount = part.refreshCount;
+		part.refreshVisual();
+		assertTrue(scheduler.isScheduled(part));
+		// test that disabling refreshes skips the pending refresh
+		new SetRefreshVisualOperation(part, true, false).execute(null, null);
+		scheduler.flush();
+		assertEquals(refreshCount, part.refreshCount);
+		// test that no refresh is scheduled while refreshes are disabled
+		part.refreshVisual();
+		assertFalse(scheduler.isScheduled(part));
+		new SetRefreshVisualOperation(part, false, true).execute(null, null);
+	}
+
+}
@@ -0,0 +1,310 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.tests.fx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.gef.common.adapt.AdapterKey;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.eclipse.gef.mvc.fx.MvcFxModule;
+import org.eclipse.gef.mvc.fx.behaviors.SelectionBehavior;
+import org.eclipse.gef.mvc.fx.domain.IDomain;
+import org.eclipse.gef.mvc.fx.models.SelectionModel;
+import org.eclipse.gef.mvc.fx.parts.AbstractContentPart;
+import org.eclipse.gef.mvc.fx.parts.AggregateSelectionFeedbackPart;
+import org.eclipse.gef.mvc.fx.parts.DefaultSelectionFeedbackPartFactory;
+import org.eclipse.gef.mvc.fx.parts.IContentPart;
+import org.eclipse.gef.mvc.fx.parts.IContentPartFactory;
+import org.eclipse.gef.mvc.fx.parts.IFeedbackPart;
+import org.eclipse.gef.mvc.fx.parts.IFeedbackPartFactory;
+import org.eclipse.gef.mvc.fx.parts.IVisualPart;
+import org.eclipse.gef.mvc.fx.parts.SelectionFeedbackPart;
+import org.eclipse.gef.mvc.fx.providers.ShapeOutlineProvider;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+import org.eclipse.gef.mvc.tests.fx.rules.FXApplicationThreadRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.SetMultimap;
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+import com.google.inject.multibindings.MapBinder;
+
+import javafx.embed.swing.JFXPanel;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.shape.Path;
+
+/**
+ * Tests the feedback that is generated by the
+ * {@link org.eclipse.gef.mvc.fx.behaviors.SelectionBehavior}.
+ *
+ * @author agent
+ *
+ */
+public class SelectionBehaviorTests {
+
+	static class RectanglePart
+			extends AbstractContentPart<javafx.scene.shape.Rectangle> {
+		@Override
+		protected javafx.scene.shape.Rectangle doCreateVisual() {
+			return new javafx.scene.shape.Rectangle();
+		}
+
+		@Override
+		protected SetMultimap<? extends Object, String> doGetContentAnchorages() {
+			return HashMultimap.create();
+		}
+
+		@Override
+		protected List<? extends Object> doGetContentChildren() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		protected void doRefreshVisual(javafx.scene.shape.Rectangle visual) {
+			visual.setX(getContent().getX());
+			visual.setY(getContent().getY());
+			visual.setWidth(getContent().getWidth());
+			visual.setHeight(getContent().getHeight());
+		}
+
+		@Override
+		public Rectangle getContent() {
+			return (Rectangle) super.getContent();
+		}
+	}
+
+	static class RectangleContentPartFactory implements IContentPartFactory {
+		@Inject
+		private Injector injector;
+
+		@Override
+		public IContentPart<? extends Node> createContentPart(Object content,
+				Map<Object, Object> contextMap) {
+			if (content instanceof Rectangle) {
+				return injector.getInstance(RectanglePart.class);
+			} else {
+				throw new IllegalArgumentException(
+						content.getClass().toString());
+			}
+		}
+	}
+
+	/**
+	 * Selection feedback part factory that ignores the
+	 * {@link DefaultSelectionFeedbackPartFactory#AGGREGATE_FEEDBACK} context.
+	 */
+	static class NonAggregatingSelectionFeedbackPartFactory
+			extends DefaultSelectionFeedbackPartFactory {
+		@Override
+		public List<IFeedbackPart<? extends Node>> createFeedbackParts(
+				List<? extends IVisualPart<? extends Node>> targets,
+				Map<Object, Object> contextMap) {
+			contextMap.remove(AGGREGATE_FEEDBACK);
+			return super.createFeedbackParts(targets, contextMap);
+		}
+	}
+
+	/**
+	 * Ensure all tests are executed on the JavaFX application thread (and the
+	 * JavaFX toolkit is properly initialized).
+	 */
+	@Rule
+	public FXApplicationThreadRule fxApplicationThreadRule = new FXApplicationThreadRule();
+
+	@Inject
+	private IDomain domain;
+
+	@Inject
+	private Injector injector;
+
+	private IViewer viewer;
+
+	private AggregateSelectionFeedbackPart getAggregateSelectionFeedbackPart(
+			IContentPart<? extends Node> part) {
+		for (IVisualPart<? extends Node> anchored : part
+				.getAnchoredsUnmodifiable()) {
+			if (anchored instanceof AggregateSelectionFeedbackPart) {
+				return (AggregateSelectionFeedbackPart) anchored;
+			}
+		}
+		return null;
+	}
+
+	private SelectionFeedbackPart getSelectionFeedbackPart(
+			IContentPart<? extends Node> part) {
+		for (IVisualPart<? extends Node> anchored : part
+				.getAnchoredsUnmodifiable()) {
+			if (anchored instanceof SelectionFeedbackPart) {
+				return (SelectionFeedbackPart) anchored;
+			}
+		}
+		return null;
+	}
+
+	@Before
+	public void setUp() {
+		Injector injector = Guice.createInjector(new MvcFxModule() {
+			@Override
+			protected void bindAbstractContentPartAdapters(
+					MapBinder<AdapterKey<?>, Object> adapterMapBinder) {
+				super.bindAbstractContentPartAdapters(adapterMapBinder);
+				adapterMapBinder
+						.addBinding(AdapterKey.role(
+								DefaultSelectionFeedbackPartFactory.SELECTION_FEEDBACK_GEOMETRY_PROVIDER))
+						.to(ShapeOutlineProvider.class);
+			}
+
+			@Override
+			protected void configure() {
+				super.configure();
+				binder().bind(IContentPartFactory.class)
+						.to(RectangleContentPartFactory.class);
+			}
+		});
+		injector.injectMembers(this);
+		viewer = domain.getAdapter(
+				AdapterKey.get(IViewer.class, IDomain.CONTENT_VIEWER_ROLE));
+		Scene scene = new Scene(viewer.getCanvas(), 400, 400);
+		JFXPanel panel = new JFXPanel();
+		panel.setScene(scene);
+		viewer.getContents()
+				.setAll(Arrays.asList(new Rectangle(0, 0, 10, 10),
+						new Rectangle(20, 0, 10, 10),
+						new Rectangle(40, 0, 10, 10)));
+		domain.activate();
+	}
+
+	@Test
+	public void individualFeedbackIfAggregateFeedbackIsNotSupported() {
+		IContentPart<? extends Node> a = viewer.getContentPartMap()
+				.get(viewer.getContents().get(0));
+		IContentPart<? extends Node> b = viewer.getContentPartMap()
+				.get(viewer.getContents().get(1));
+		IContentPart<? extends Node> c = viewer.getContentPartMap()
+				.get(viewer.getContents().get(2));
+		viewer.unsetAdapter(viewer.getAdapter(AdapterKey.get(
+				IFeedbackPartFactory.class,
+				SelectionBehavior.SELECTION_FEEDBACK_PART_FACTORY)));
+		viewer.setAdapter(
+				injector.getInstance(
+						NonAggregatingSelectionFeedbackPartFactory.class),
+				SelectionBehavior.SELECTION_FEEDBACK_PART_FACTORY);
+		SelectionBehavior selectionBehavior = viewer.getRootPart()
+				.getAdapter(SelectionBehavior.class);
+		selectionBehavior.setAggregateFeedbackThreshold(1);
+		SelectionModel selectionModel = viewer
+				.getAdapter(SelectionModel.class);
+		selectionModel.setSelection(Arrays.asList(a, b, c));
+
+		// test that the feedback is not aggregated, but each part has its own
+		// feedback, which is only anchored on that part
+		assertFalse(selectionBehavior.isFeedbackAggregated());
+		for (IContentPart<? extends Node> part : Arrays.asList(a, b, c)) {
+			SelectionFeedbackPart feedback = getSelectionFeedbackPart(part);
+			assertNotNull(feedback);
+			assertEquals(Collections.singleton(part),
+					feedback.getAnchoragesUnmodifiable().keySet());
+		}
+
+		// test that the feedback is updated individually
+		selectionModel.removeFromSelection(Collections.singletonList(c));
+		assertFalse(selectionBehavior.isFeedbackAggregated());
+		assertNull(getSelectionFeedbackPart(c));
+		assertNotNull(getSelectionFeedbackPart(b));
+	}
+
+	@Test
+	public void removeOutlineOfDeselectedPartFromAggregateFeedback() {
+		IContentPart<? extends Node> a = viewer.getContentPartMap()
+				.get(viewer.getContents().get(0));
+		IContentPart<? extends Node> b = viewer.getContentPartMap()
+				.get(viewer.getContents().get(1));
+		IContentPart<? extends Node> c = viewer.getContentPartMap()
+				.get(viewer.getContents().get(2));
+		SelectionBehavior selectionBehavior = viewer.getRootPart()
+				.getAdapter(SelectionBehavior.class);
+		selectionBehavior.setAggregateFeedbackThreshold(1);
+		SelectionModel selectionModel = viewer
+				.getAdapter(SelectionModel.class);
+		selectionModel.setSelection(Arrays.asList(a, b, c));
+		assertTrue(selectionBehavior.isFeedbackAggregated());
+
+		// the outlines of the secondary selection are aggregated
+		AggregateSelectionFeedbackPart aggregate = getAggregateSelectionFeedbackPart(
+				b);
+		assertNotNull(aggregate);
+		aggregate.updateOutlines();
+		Path outlines = aggregate.getOutlines();
+		int elementsPerOutline = outlines.getElements().size() / 2;
+		assertTrue(elementsPerOutline > 0);
+
+		// deselecting a part removes its outline from the aggregate
+		selectionModel.removeFromSelection(Collections.singletonList(c));
+		assertTrue(selectionBehavior.isFeedbackAggregated());
+		assertFalse(c.getAnchoredsUnmodifiable().contains(aggregate));
+		aggregate.updateOutlines();
+		assertEquals(elementsPerOutline, outlines.getElements().size());
+	}
+
+	@Test
+	public void updateFeedbackColorsWhenSelectionIsReordered() {
+		IContentPart<? extends Node> a = viewer.getContentPartMap()
+				.get(viewer.getContents().get(0));
+		IContentPart<? extends Node> b = viewer.getContentPartMap()
+				.get(viewer.getContents().get(1));
+		SelectionModel selectionModel = viewer
+				.getAdapter(SelectionModel.class);
+		selectionModel.setSelection(Arrays.asList(a, b));
+		SelectionFeedbackPart feedbackA = getSelectionFeedbackPart(a);
+		SelectionFeedbackPart feedbackB = getSelectionFeedbackPart(b);
+		assertNotNull(feedbackA);
+		assertNotNull(feedbackB);
+		assertEquals(
+				DefaultSelectionFeedbackPartFactory.DEFAULT_PRIMARY_SELECTION_FEEDBACK_COLOR,
+				feedbackA.getVisual().getStroke());
+		assertEquals(
+				DefaultSelectionFeedbackPartFactory.DEFAULT_SECONDARY_SELECTION_FEEDBACK_COLOR,
+				feedbackB.getVisual().getStroke());
+
+		// reordering the selection does not re-create the feedback, but has
+		// to update the colors of the previous and the new primary selection
+		selectionModel.setSelection(Arrays.asList(b, a));
+		assertEquals(
+				DefaultSelectionFeedbackPartFactory.DEFAULT_SECONDARY_SELECTION_FEEDBACK_COLOR,
+				getSelectionFeedbackPart(a).getVisual().getStroke());
+		assertEquals(
+				DefaultSelectionFeedbackPartFactory.DEFAULT_PRIMARY_SELECTION_FEEDBACK_COLOR,
+				getSelectionFeedbackPart(b).getVisual().getStroke());
+
+		// the same applies when the primary selection is deselected
+		selectionModel.removeFromSelection(Collections.singletonList(b));
+		assertEquals(
+				DefaultSelectionFeedbackPartFactory.DEFAULT_PRIMARY_SELECTION_FEEDBACK_COLOR,
+				getSelectionFeedbackPart(a).getVisual().getStroke());
+	}
+
+}
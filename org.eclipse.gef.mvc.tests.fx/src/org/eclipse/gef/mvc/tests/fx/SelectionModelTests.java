@@ -250,6 +250,35 @@ public class SelectionModelTests {
 		}
 	}
 
+	@Test
+	public void testRemoveMultiple() {
+		final SelectionModel selectionModel = new SelectionModel();
+		final IContentPart<Node> c1 = new ContentPartStub();
+		final IContentPart<Node> c2 = new ContentPartStub();
+		final IContentPart<Node> c3 = new ContentPartStub();
+		selectionModel.setSelection(Arrays.asList(c1, c2, c3));
+
+		// ensure multi remove raises a single event only, and that the
+		// selection state is consistent when listeners are notified
+		final int[] changes = new int[1];
+		selectionModel.getSelectionUnmodifiable().addListener(new ListChangeListener<IContentPart<? extends Node>>() {
+			@Override
+			public void onChanged(javafx.collections.ListChangeListener.Change<? extends IContentPart<? extends Node>> c) {
+				changes[0]++;
+				Assert.assertFalse(selectionModel.isSelected(c1));
+				Assert.assertTrue(selectionModel.isSelected(c2));
+				Assert.assertFalse(selectionModel.isSelected(c3));
+			}
+		});
+		selectionModel.removeFromSelection(Arrays.asList(c3, c1));
+		Assert.assertEquals(1, changes[0]);
+		Assert.assertEquals(Arrays.asList(c2), selectionModel.getSelectionUnmodifiable());
+
+		// no change if remove is without effect
+		selectionModel.removeFromSelection(Arrays.asList(c3, c1));
+		Assert.assertEquals(1, changes[0]);
+	}
+
 	@Test
 	public void testSelect() {
 		SelectionModel selectionModel = new SelectionModel();
@@ -0,0 +1,225 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.tests.fx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.gef.common.adapt.AdapterKey;
+import org.eclipse.gef.geometry.planar.Dimension;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.eclipse.gef.mvc.fx.MvcFxModule;
+import org.eclipse.gef.mvc.fx.domain.IDomain;
+import org.eclipse.gef.mvc.fx.handlers.SnapToGeometry;
+import org.eclipse.gef.mvc.fx.models.SnappingModel.SnappingLocation;
+import org.eclipse.gef.mvc.fx.parts.AbstractContentPart;
+import org.eclipse.gef.mvc.fx.parts.IContentPart;
+import org.eclipse.gef.mvc.fx.parts.IContentPartFactory;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+import org.eclipse.gef.mvc.tests.fx.rules.FXApplicationThreadRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.SetMultimap;
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+
+import javafx.embed.swing.JFXPanel;
+import javafx.geometry.Orientation;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+
+/**
+ * Tests the determination of the closest target {@link SnappingLocation} by
+ * the {@link SnapToGeometry} strategy.
+ *
+ * @author agent
+ *
+ */
+public class SnapToGeometryTests {
+
+	static class RectanglePart
+			extends AbstractContentPart<javafx.scene.shape.Rectangle> {
+		@Override
+		protected javafx.scene.shape.Rectangle doCreateVisual() {
+			return new javafx.scene.shape.Rectangle();
+		}
+
+		@Override
+		protected SetMultimap<? extends Object, String> doGetContentAnchorages() {
+			return HashMultimap.create();
+		}
+
+		@Override
+		protected List<? extends Object> doGetContentChildren() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		protected void doRefreshVisual(javafx.scene.shape.Rectangle visual) {
+			visual.setX(getContent().getX());
+			visual.setY(getContent().getY());
+			visual.setWidth(getContent().getWidth());
+			visual.setHeight(getContent().getHeight());
+		}
+
+		@Override
+		public Rectangle getContent() {
+			return (Rectangle) super.getContent();
+		}
+	}
+
+	static class RectangleContentPartFactory implements IContentPartFactory {
+		@Inject
+		private Injector injector;
+
+		@Override
+		public IContentPart<? extends Node> createContentPart(Object content,
+				Map<Object, Object> contextMap) {
+			if (content instanceof Rectangle) {
+				return injector.getInstance(RectanglePart.class);
+			} else {
+				throw new IllegalArgumentException(
+						content.getClass().toString());
+			}
+		}
+	}
+
+	/**
+	 * Provides a horizontal target location at the left side of each part, and
+	 * records the order in which the locations are determined.
+	 */
+	static class LeftSideSnapTo extends SnapToGeometry {
+		private List<SnappingLocation> determined = new ArrayList<>();
+
+		@Override
+		protected Collection<? extends SnappingLocation> determineHorizontalTargetLocations(
+				IContentPart<? extends Node> rp) {
+			SnappingLocation location = new SnappingLocation(rp,
+					Orientation.HORIZONTAL,
+					((Rectangle) rp.getContent()).getX());
+			determined.add(location);
+			return Collections.singletonList(location);
+		}
+
+		@Override
+		protected Collection<? extends SnappingLocation> determineVerticalTargetLocations(
+				IContentPart<? extends Node> rp) {
+			return Collections.emptyList();
+		}
+
+		public SnappingLocation getClosestTargetLocation(double position) {
+			return getClosestTargetLocation(Orientation.HORIZONTAL, position);
+		}
+	}
+
+	/**
+	 * Ensure all tests are executed on the JavaFX application thread (and the
+	 * JavaFX toolkit is properly initialized).
+	 */
+	@Rule
+	public FXApplicationThreadRule fxApplicationThreadRule = new FXApplicationThreadRule();
+
+	@Inject
+	private IDomain domain;
+
+	private LeftSideSnapTo snapTo;
+
+	@Before
+	public void setUp() {
+		Injector injector = Guice.createInjector(new MvcFxModule() {
+			@Override
+			protected void configure() {
+				super.configure();
+				binder().bind(IContentPartFactory.class)
+						.to(RectangleContentPartFactory.class);
+			}
+		});
+		injector.injectMembers(this);
+		IViewer viewer = domain.getAdapter(
+				AdapterKey.get(IViewer.class, IDomain.CONTENT_VIEWER_ROLE));
+		Scene scene = new Scene(viewer.getCanvas(), 400, 400);
+		JFXPanel panel = new JFXPanel();
+		panel.setScene(scene);
+		Rectangle snapped = new Rectangle(200, 200, 10, 10);
+		viewer.getContents()
+				.setAll(Arrays.asList(snapped, new Rectangle(30, 0, 10, 10),
+						new Rectangle(10, 0, 10, 10),
+						new Rectangle(0, 0, 10, 10),
+						new Rectangle(10, 50, 10, 10)));
+		domain.activate();
+		snapTo = new LeftSideSnapTo();
+		snapTo.setSnappedPart(viewer.getContentPartMap().get(snapped));
+	}
+
+	@Test
+	public void snapToClosestLocation() {
+		assertEquals(new Dimension(6, 0),
+				snapTo.snap(Orientation.HORIZONTAL, 24));
+		assertEquals(new Dimension(-2, 0),
+				snapTo.snap(Orientation.HORIZONTAL, 12));
+		assertEquals(new Dimension(0, 0),
+				snapTo.snap(Orientation.HORIZONTAL, 30));
+		// positions outside of the range of locations
+		assertEquals(new Dimension(5, 0),
+				snapTo.snap(Orientation.HORIZONTAL, -5));
+		assertEquals(new Dimension(-20, 0),
+				snapTo.snap(Orientation.HORIZONTAL, 50));
+		// no vertical locations
+		assertNull(snapTo.snap(Orientation.VERTICAL, 0));
+	}
+
+	@Test
+	public void snapToLowerLocationOnTie() {
+		// 10 and 30 are equally close, so that the lower position wins
+		assertEquals(new Dimension(-10, 0),
+				snapTo.snap(Orientation.HORIZONTAL, 20));
+		assertEquals(new Dimension(-5, 0),
+				snapTo.snap(Orientation.HORIZONTAL, 5));
+
+		// of the locations at the closest position, the one that was
+		// determined first is returned
+		List<SnappingLocation> atTen = snapTo
+				.getTargetLocations(Orientation.HORIZONTAL, 10);
+		assertEquals(2, atTen.size());
+		for (double position : new double[] { 9, 10, 11, 20 }) {
+			assertSame(atTen.get(0),
+					snapTo.getClosestTargetLocation(position));
+		}
+	}
+
+	@Test
+	public void targetLocationsKeepDeterminationOrder() {
+		// the target locations are not sorted in place
+		assertEquals(snapTo.determined,
+				snapTo.getHorizontalTargetLocations());
+		List<SnappingLocation> atTen = snapTo
+				.getTargetLocations(Orientation.HORIZONTAL, 10);
+		List<SnappingLocation> expected = new ArrayList<>(
+				snapTo.getHorizontalTargetLocations());
+		expected.retainAll(atTen);
+		assertEquals(expected, atTen);
+	}
+
+}
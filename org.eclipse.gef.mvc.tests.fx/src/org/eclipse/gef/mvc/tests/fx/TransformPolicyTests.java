@@ -13,6 +13,8 @@ package org.eclipse.gef.mvc.tests.fx;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import java.util.Collections;
 import java.util.List;
@@ -23,6 +25,7 @@ import org.eclipse.gef.geometry.planar.AffineTransform;
 import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.mvc.fx.MvcFxModule;
 import org.eclipse.gef.mvc.fx.domain.IDomain;
+import org.eclipse.gef.mvc.fx.operations.ITransactionalOperation;
 import org.eclipse.gef.mvc.fx.parts.AbstractContentPart;
 import org.eclipse.gef.mvc.fx.parts.IContentPart;
 import org.eclipse.gef.mvc.fx.parts.IContentPartFactory;
@@ -258,4 +261,32 @@ public class TransformPolicyTests {
 		assertEquals(0, firstIndex);
 	}
 
+	@Test
+	public void test_preview() throws Exception {
+		transformPolicy.setPreview(true);
+		assertTrue(transformPolicy.isPreview());
+		int index = transformPolicy.createPostTransform();
+		transformPolicy.setPostTranslate(index, 5, 5);
+		transformPolicy.setPostTranslate(index, 10, 10);
+		// test that the visual is changed in preview mode
+		assertEquals(new AffineTransform().setToTranslation(10, 10), transformPolicy.getCurrentTransform());
+		// test that the operation reflects the final transformation
+		ITransactionalOperation operation = transformPolicy.commit();
+		assertFalse(transformPolicy.isPreview());
+		assertEquals(new AffineTransform().setToTranslation(10, 10), transformPolicy.getCurrentTransform());
+		operation.undo(null, null);
+		assertEquals(new AffineTransform(), transformPolicy.getCurrentTransform());
+		operation.redo(null, null);
+		assertEquals(new AffineTransform().setToTranslation(10, 10), transformPolicy.getCurrentTransform());
+		// test that rollback restores the initial transformation
+		transformPolicy.init();
+		transformPolicy.setPreview(true);
+		index = transformPolicy.createPostTransform();
+		transformPolicy.setPostTranslate(index, 10, 10);
+		transformPolicy.rollback();
+		assertEquals(new AffineTransform().setToTranslation(10, 10), transformPolicy.getCurrentTransform());
+		transformPolicy.init();
+		assertNull(transformPolicy.commit());
+	}
+
 }